@@ -13,6 +13,7 @@
  *
  * Copyright 2009 Sun Microsystems, Inc.
  * Portions Copyright 2013-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.api;
 
@@ -191,6 +192,22 @@ public class CompressedSchema
    */
   public final Attribute decodeAttribute(final ByteSequenceReader reader)
       throws DirectoryException
+  {
+    return decodeAttributeValues(reader, decodeAttributeDescription(reader));
+  }
+
+  /**
+   * Decodes the attribute description of the attribute at the current position, so that the values of the
+   * attribute can then be decoded with {@link #decodeAttributeValues} or skipped with {@link #skipAttributeValues}.
+   *
+   * @param reader
+   *          The byte string reader containing the encoded entry.
+   * @return The decoded attribute description.
+   * @throws DirectoryException
+   *           If the attribute description could not be decoded properly for some reason.
+   */
+  public final AttributeDescription decodeAttributeDescription(final ByteSequenceReader reader)
+      throws DirectoryException
   {
     // First decode the encoded attribute description id.
     final int adId = decodeId(reader);
@@ -203,7 +220,20 @@ public class CompressedSchema
       throw new DirectoryException(DirectoryServer.getCoreConfigManager().getServerErrorResultCode(),
           ERR_COMPRESSEDSCHEMA_UNRECOGNIZED_AD_TOKEN.get(adId));
     }
+    return ad;
+  }
 
+  /**
+   * Decodes the values of the attribute at the current position, following its attribute description.
+   *
+   * @param reader
+   *          The byte string reader containing the encoded entry.
+   * @param ad
+   *          The decoded attribute description of the attribute.
+   * @return The decoded attribute.
+   */
+  public final Attribute decodeAttributeValues(final ByteSequenceReader reader, final AttributeDescription ad)
+  {
     AttributeType attrType = ad.getAttributeType();
 
     // Determine the number of values for the attribute.
@@ -227,6 +257,22 @@ public class CompressedSchema
     }
   }
 
+  /**
+   * Skips the values of the attribute at the current position, following its attribute description, without
+   * decoding them.
+   *
+   * @param reader
+   *          The byte string reader containing the encoded entry.
+   */
+  public final void skipAttributeValues(final ByteSequenceReader reader)
+  {
+    final int numValues = reader.readBERLength();
+    for (int i = 0; i < numValues; i++)
+    {
+      reader.skip(reader.readBERLength());
+    }
+  }
+
   private ByteString readValue(final ByteSequenceReader reader)
   {
     return reader.readByteSequence(reader.readBERLength()).toByteString();
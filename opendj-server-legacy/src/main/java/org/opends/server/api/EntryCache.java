@@ -13,9 +13,11 @@
  *
  * Copyright 2006-2008 Sun Microsystems, Inc.
  * Portions Copyright 2013-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.api;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -308,6 +310,23 @@ public abstract class EntryCache<T extends EntryCacheCfg>
    */
   public abstract void handleLowMemory();
 
+  /**
+   * Retrieves the IDs of the most recently used entries of the
+   * provided backend held by the cache, so that they can be loaded
+   * again when the server restarts.  The default implementation does
+   * not retrieve any entry ID.
+   *
+   * @param  backendID   ID of the backend for which to retrieve the
+   *                     entry IDs.
+   * @param  maxEntries  The maximum number of entry IDs to retrieve.
+   *
+   * @return  The entry IDs, the most recently used first.
+   */
+  public List<Long> getHotEntryIDs(String backendID, int maxEntries)
+  {
+    return Collections.emptyList();
+  }
+
   /**
    * Retrieves the monitor that is associated with this entry
    * cache.
@@ -567,6 +567,25 @@ public abstract class LocalBackend<C extends Configuration> extends Backend<C>
         ERR_INDEXES_NOT_SUPPORTED.get(getBackendID()));
   }
 
+  /**
+   * Rebuilds indexes in the backend instance while it remains online, if they can be rebuilt without taking the
+   * backend offline. The backend is initialized and opened before calling this method.
+   *
+   * @param rebuildConfig
+   *          The rebuild configuration.
+   * @return {@code true} if the indexes have been rebuilt, {@code false} if they must be rebuilt offline with
+   *         {@link #rebuildBackend(RebuildConfig, ServerContext)}
+   * @throws InitializationException
+   *           If the indexes to rebuild cannot be found.
+   * @throws DirectoryException
+   *           If a Directory Server error occurs.
+   */
+  public boolean rebuildBackendOnline(RebuildConfig rebuildConfig)
+      throws InitializationException, DirectoryException
+  {
+    return false;
+  }
+
   /**
    * Creates a backup of the contents of this backend in a form that may be restored at a later date
    * if necessary. This method should only be called if {@link #supports(BackendOperation)} with
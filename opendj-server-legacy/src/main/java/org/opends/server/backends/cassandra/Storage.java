@@ -11,7 +11,7 @@
  * Header, with the fields enclosed by brackets [] replaced by your own identifying
  * information: "Portions Copyright [year] [name of copyright owner]".
  *
- * Copyright 2023-2024 3A Systems, LLC.
+ * Copyright 2023-2026 3A Systems, LLC.
  */
 package org.opends.server.backends.cassandra;
 
@@ -21,12 +21,14 @@ import static org.opends.server.util.StaticUtils.stackTraceToSingleLineString;
 
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.Deque;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.forgerock.i18n.LocalizableMessage;
 import org.forgerock.i18n.slf4j.LocalizedLogger;
@@ -58,6 +60,8 @@ import org.opends.server.util.BackupManager;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -123,6 +127,13 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		}
 		return session.execute(statement);
 	}
+
+	CompletionStage<AsyncResultSet> executeAsync(Statement<?> statement) {
+		if (logger.isTraceEnabled()) {
+			logger.trace(LocalizableMessage.raw("cassandra async: %s", statement));
+		}
+		return session.executeAsync(statement);
+	}
 	
 	AccessMode accessMode=null;
 	@Override
@@ -187,7 +198,18 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 
 	@Override
 	public void write(WriteOperation writeOperation) throws Exception {
-		writeOperation.run(new TransactionImpl(accessMode));
+		final TransactionImpl txn=new TransactionImpl(accessMode);
+		try {
+			writeOperation.run(txn);
+		} catch (Exception e) {
+			try {
+				txn.pipeline.await();
+			} catch (StorageRuntimeException e2) {
+				e.addSuppressed(e2);
+			}
+			throw e;
+		}
+		txn.pipeline.await();
 	}
 
 	final static String profile="ddl";
@@ -202,6 +224,9 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 	private final class TransactionImpl implements ReadableTransaction,WriteableTransaction {
 		
 		final AccessMode accessMode;
+		/** Writes of the transaction, sent asynchronously and waited for when it ends. */
+		final WritePipeline pipeline=new WritePipeline(Storage.this);
+
 		public TransactionImpl(AccessMode accessMode) {
 			super();
 			this.accessMode=accessMode;
@@ -221,6 +246,10 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		
 		@Override
 		public ByteString read(TreeName treeName, ByteSequence key) {
+			final WritePipeline.Write write=pipeline.get(treeName, key.toByteString());
+			if (write!=null) {
+				return write.value;
+			}
 			final Row row=execute(
 					prepared.getUnchecked("SELECT value FROM "+getTableName()+" WHERE baseDN=:baseDN and indexId=:indexId and key=:key").bind()
 						.setString("baseDN", treeName.getBaseDN()).setString("indexId", treeName.getIndexId()) 
@@ -231,11 +260,13 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 
 		@Override
 		public Cursor<ByteString, ByteString> openCursor(TreeName treeName) {
+			pipeline.await();
 			return new CursorImpl(this,treeName);
 		}
 
 		@Override
 		public long getRecordCount(TreeName treeName) {
+			pipeline.await();
 			return execute(
 					prepared.getUnchecked("SELECT count(*) FROM "+getTableName()+" WHERE baseDN=:baseDN and indexId=:indexId").bind()
 						.setString("baseDN", treeName.getBaseDN()).setString("indexId", treeName.getIndexId()) 
@@ -246,6 +277,7 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		public void deleteTree(TreeName treeName) {
 			checkReadOnly();
 			openTree(treeName,true);
+			pipeline.await();
 			execute(
 					prepared.getUnchecked("DELETE FROM "+getTableName()+" WHERE baseDN=:baseDN and indexId=:indexId").bind()
 						.setString("baseDN", treeName.getBaseDN()).setString("indexId", treeName.getIndexId()) 
@@ -255,7 +287,7 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		@Override
 		public void put(TreeName treeName, ByteSequence key, ByteSequence value) {
 			checkReadOnly();
-			execute(
+			pipeline.add(treeName, key.toByteString(), value.toByteString(),
 				prepared.getUnchecked("INSERT INTO "+getTableName()+" (baseDN,indexId,key,value) VALUES (:baseDN,:indexId,:key,:value)").bind()
 					.setString("baseDN", treeName.getBaseDN()).setString("indexId", treeName.getIndexId()) 
 					.setByteBuffer("key", ByteBuffer.wrap(key.toByteArray()))
@@ -284,7 +316,7 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		@Override
 		public boolean delete(TreeName treeName, ByteSequence key) {
 			checkReadOnly();
-			execute(
+			pipeline.add(treeName, key.toByteString(), null,
 					prepared.getUnchecked("DELETE FROM "+getTableName()+" WHERE baseDN=:baseDN and indexId=:indexId and key=:key").bind()
 						.setString("baseDN", treeName.getBaseDN()).setString("indexId", treeName.getIndexId()) 
 						.setByteBuffer("key", ByteBuffer.wrap(key.toByteArray()))
@@ -299,42 +331,104 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		}
 	}
 	
+	/** Largest number of rows a cursor fetches in a single page. */
+	static final int CURSOR_PAGE_SIZE=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.cassandra.cursor.page","1024"));
+	/** Number of rows fetched by the first page of a cursor, doubled on each next page up to {@link #CURSOR_PAGE_SIZE}. */
+	static final int CURSOR_FIRST_PAGE_SIZE=Math.min(16,CURSOR_PAGE_SIZE);
+
+	String cursorQuery(String where, String order) {
+		return "SELECT key,value FROM "+getTableName()+" WHERE baseDN=:baseDN and indexId=:indexId"+where+" ORDER BY key"+order;
+	}
+
+	/**
+	 * Cursor seeking with {@code key>=:key} range queries on the clustering key: rows are fetched page by page
+	 * with the paging state of the driver, so the cost of a cursor depends on the number of rows visited and not
+	 * on the size of the partition of the tree.
+	 */
 	private final class CursorImpl implements Cursor<ByteString, ByteString> {
 		final TreeName treeName;
 		final TransactionImpl tx;
 
-		ResultSet rc;
-		Iterator<Row> iterator;
-		Row current=null;
-		
+		/** Rows of the current page which have not been visited yet. */
+		final Deque<ByteString[]> page=new ArrayDeque<>();
+		/** Query of the next page, {@code null} if the cursor was not positioned yet. */
+		BoundStatement statement=null;
+		/** Paging state of the next page of the query, {@code null} before its first page. */
+		ByteBuffer pagingState=null;
+		/** Whether the last fetched page was the last one of the query. */
+		boolean exhausted=false;
+		int pageSize=CURSOR_FIRST_PAGE_SIZE;
+
+		ByteString currentKey=null;
+		ByteString currentValue=null;
+
 		public CursorImpl(TransactionImpl tx,TreeName treeName) {
 			this.treeName=treeName;
 			this.tx=tx;
-			rc=full();
-			iterator=rc.iterator();
 		}
 
-		ResultSet full(){
-			return execute(
-						prepared.getUnchecked("SELECT key,value FROM "+getTableName()+" WHERE baseDN=:baseDN and indexId=:indexId ORDER BY key").bind()
-							.setString("baseDN", treeName.getBaseDN()).setString("indexId", treeName.getIndexId()) 
-						);
+		BoundStatement bind(String query) {
+			return prepared.getUnchecked(query).bind()
+					.setString("baseDN", treeName.getBaseDN()).setString("indexId", treeName.getIndexId());
 		}
-		
+
+		BoundStatement bind(String query, ByteSequence key) {
+			return bind(query).setByteBuffer("key", ByteBuffer.wrap(key.toByteArray()));
+		}
+
+		/** Forgets the current position, the next fetched page is the first one of the provided query. */
+		void reset(BoundStatement statement) {
+			page.clear();
+			this.statement=statement;
+			pagingState=null;
+			exhausted=false;
+			pageSize=CURSOR_FIRST_PAGE_SIZE;
+			currentKey=null;
+			currentValue=null;
+		}
+
+		/** Fetches the next page of the query, growing the page size up to its maximum. */
+		void fetchNextPage() {
+			if (statement==null) {
+				statement=bind(cursorQuery("",""));
+			}
+			BoundStatement next=statement.setPageSize(pageSize);
+			if (pagingState!=null) {
+				next=next.setPagingState(pagingState);
+			}
+			final ResultSet rc=execute(next);
+			for (int i=rc.getAvailableWithoutFetching();i>0;i--) { //only the rows of this page
+				final Row row=rc.one();
+				page.add(new ByteString[] {ByteString.wrap(row.getByteBuffer("key").array()),ByteString.wrap(row.getByteBuffer("value").array())});
+			}
+			pagingState=rc.getExecutionInfo().getPagingState();
+			exhausted=pagingState==null;
+			pageSize=Math.min(pageSize*2,CURSOR_PAGE_SIZE);
+		}
+
+		boolean moveToNextRow() {
+			final ByteString[] row=page.pollFirst();
+			if (row==null) {
+				currentKey=null;
+				currentValue=null;
+				return false;
+			}
+			currentKey=row[0];
+			currentValue=row[1];
+			return true;
+		}
+
 		@Override
 		public boolean next() {
-			try {
-				current=iterator.next();
-				return true;
-			}catch (NoSuchElementException e) {
-				current=null;
+			while (page.isEmpty() && !exhausted) { //a page can be empty even if it is not the last one
+				fetchNextPage();
 			}
-			return false;
+			return moveToNextRow();
 		}
 
 		@Override
 		public boolean isDefined() {
-			return current!=null;
+			return currentKey!=null;
 		}
 
 		@Override
@@ -342,7 +436,7 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 			if (!isDefined()) {
 				throw new NoSuchElementException();
 			}
-			return ByteString.wrap(current.getByteBuffer("key").array());
+			return currentKey;
 		}
 
 		@Override
@@ -350,7 +444,7 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 			if (!isDefined()) {
 				throw new NoSuchElementException();
 			}
-			return ByteString.wrap(current.getByteBuffer("value").array());
+			return currentValue;
 		}
 
 		@Override
@@ -363,70 +457,55 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 
 		@Override
 		public void close() {
-			iterator=null;
-			current=null;
-			rc=null;
+			reset(null);
+			exhausted=true;
 		}
 
-
 		@Override
 		public boolean positionToKeyOrNext(ByteSequence key) {
-			if (!isDefined() || key.compareTo(getKey())<0) { //restart iterator
-				iterator=rc.iterator();
-			}
-			while (iterator.hasNext()) {
-				current=iterator.next();
-				if (key.compareTo(getKey())<=0) {
-					return true;
-				}
-			}
-			current=null;
-			return false;
+			reset(bind(cursorQuery(" and key>=:key",""),key));
+			return next();
 		}
 		
 		@Override
 		public boolean positionToKey(ByteSequence key) {
-			if (!isDefined() || key.compareTo(getKey())<0) {  //restart iterator
-				iterator=rc.iterator();
-			}
-			if (isDefined() && key.compareTo(getKey())==0) {
-				return true;
-			}
-			while (iterator.hasNext()) {
-				current=iterator.next();
-				if (key.compareTo(getKey())==0) {
-					return true;
-				}
+			final ByteString value=tx.read(treeName, key);
+			reset(bind(cursorQuery(" and key>:key",""),key)); //fetched by the next call to next()
+			if (value==null) {
+				return false;
 			}
-			current=null;
-			return false;
+			currentKey=key.toByteString();
+			currentValue=value;
+			return true;
 		}
 
-		
 		@Override
 		public boolean positionToLastKey() {
-			while (iterator.hasNext()) {
-				current=iterator.next();
-			}
-			if (current!=null) {
-				return true;
+			reset(null);
+			final Row row=execute(bind(cursorQuery(""," DESC LIMIT 1"))).one();
+			if (row==null) {
+				exhausted=true;
+				return false;
 			}
-			return false;
+			currentKey=ByteString.wrap(row.getByteBuffer("key").array());
+			currentValue=ByteString.wrap(row.getByteBuffer("value").array());
+			statement=bind(cursorQuery(" and key>:key",""),currentKey);
+			return true;
 		}
 
 		@Override
 		public boolean positionToIndex(int index) {
-			iterator=rc.iterator();  //restart iterator
-			int ct=0;
-			while(iterator.hasNext()){
-				current=iterator.next();
-				if (ct==index) {
-					return true;
+			reset(null);
+			if (index<0) {
+				return false;
+			}
+			pageSize=Math.max(CURSOR_FIRST_PAGE_SIZE,Math.min(index+1,CURSOR_PAGE_SIZE));
+			for (int skipped=0;skipped<index;skipped++) {
+				if (!next()) {
+					return false;
 				}
-				ct++;
-		    }
-			current=null;
-			return false;
+			}
+			return next();
 		}
 	}
 	
@@ -456,8 +535,12 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		
 		@Override
 		public void close() {
-			if (!isOpen) {
-				Storage.this.close();
+			try {
+				tx.pipeline.await();
+			} finally {
+				if (!isOpen) {
+					Storage.this.close();
+				}
 			}
 		}
 		
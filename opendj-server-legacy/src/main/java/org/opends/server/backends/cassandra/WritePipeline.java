@@ -0,0 +1,185 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.cassandra;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.opends.server.backends.pluggable.spi.StorageRuntimeException;
+import org.opends.server.backends.pluggable.spi.TreeName;
+
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Asynchronous writes of a transaction of a Cassandra storage, so a transaction or an import does not wait
+ * for a network round trip per record.
+ * <p>
+ * Writes are buffered per tree, which is a partition of the table, and sent as unlogged batches of up to
+ * {@link #BATCH_SIZE} statements or {@link #BATCH_BYTES} bytes. At most {@link #MAX_IN_FLIGHT} batches are
+ * waiting for their response at the same time: a writer waits for a permit beyond. A batch holds the last write
+ * of each of its keys and the batches are sent in order, so the client timestamps of the writes of a key follow
+ * their order. The writes which were not acknowledged yet are visible to the reads of the transaction.
+ * <p>
+ * {@link #await()} sends the buffered writes, waits for all of them and throws the first failure.
+ */
+final class WritePipeline {
+	/** Maximum number of batches waiting for their response. */
+	static final int MAX_IN_FLIGHT=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.cassandra.inflight","128"));
+	/** Maximum number of statements of a batch. */
+	static final int BATCH_SIZE=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.cassandra.batch","64"));
+	/** Size of the keys and values of a batch beyond which it is sent, below the batch size failure threshold of the server. */
+	static final int BATCH_BYTES=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.cassandra.batch.bytes","32768"));
+
+	/** A buffered or in flight write. */
+	static final class Write {
+		final BoundStatement statement;
+		/** Value written, {@code null} for a delete. */
+		final ByteString value;
+		final int size;
+
+		Write(BoundStatement statement, ByteString key, ByteString value) {
+			this.statement=statement;
+			this.value=value;
+			this.size=key.length()+(value!=null ? value.length() : 0);
+		}
+	}
+
+	private final Storage storage;
+	private final Semaphore permits=new Semaphore(MAX_IN_FLIGHT);
+	/** Writes not sent yet, by tree in order. */
+	private final Map<TreeName,LinkedHashMap<ByteString,Write>> pending=new HashMap<>();
+	private final Map<TreeName,Integer> pendingBytes=new HashMap<>();
+	/** Writes sent and not acknowledged yet. */
+	private final ConcurrentMap<TreeName,ConcurrentMap<ByteString,Write>> inFlight=new ConcurrentHashMap<>();
+	private final AtomicReference<Throwable> failure=new AtomicReference<>();
+
+	WritePipeline(Storage storage) {
+		this.storage=storage;
+	}
+
+	/**
+	 * Buffers a write, sending the batch of its tree if it is full.
+	 *
+	 * @param treeName the tree of the record
+	 * @param key the key of the record
+	 * @param value the value of the record, {@code null} for a delete
+	 * @param statement the statement writing the record
+	 * @throws StorageRuntimeException if a previous write failed
+	 */
+	synchronized void add(TreeName treeName, ByteString key, ByteString value, BoundStatement statement) {
+		checkFailure();
+		final LinkedHashMap<ByteString,Write> writes=pending.computeIfAbsent(treeName, k -> new LinkedHashMap<>());
+		final Write write=new Write(statement,key,value);
+		final Write previous=writes.remove(key);
+		writes.put(key, write);
+		final int bytes=pendingBytes.getOrDefault(treeName,0)+write.size-(previous!=null ? previous.size : 0);
+		if (writes.size()>=BATCH_SIZE || bytes>=BATCH_BYTES) {
+			send(treeName);
+		} else {
+			pendingBytes.put(treeName, bytes);
+		}
+	}
+
+	/**
+	 * Returns the last write of a record which is not acknowledged yet.
+	 *
+	 * @param treeName the tree of the record
+	 * @param key the key of the record
+	 * @return the last write of the record, {@code null} if the record has no pending write
+	 */
+	synchronized Write get(TreeName treeName, ByteString key) {
+		final Map<ByteString,Write> writes=pending.get(treeName);
+		final Write write=writes!=null ? writes.get(key) : null;
+		if (write!=null) {
+			return write;
+		}
+		final Map<ByteString,Write> sent=inFlight.get(treeName);
+		return sent!=null ? sent.get(key) : null;
+	}
+
+	private void send(TreeName treeName) {
+		final LinkedHashMap<ByteString,Write> writes=pending.remove(treeName);
+		pendingBytes.remove(treeName);
+		if (writes==null || writes.isEmpty()) {
+			return;
+		}
+		final ConcurrentMap<ByteString,Write> sent=inFlight.computeIfAbsent(treeName, k -> new ConcurrentHashMap<>());
+		sent.putAll(writes);
+		final Statement<?> statement;
+		if (writes.size()==1) {
+			statement=writes.values().iterator().next().statement;
+		} else {
+			final List<BatchableStatement<?>> statements=new ArrayList<>(writes.size());
+			for (final Write write : writes.values()) {
+				statements.add(write.statement);
+			}
+			statement=BatchStatement.newInstance(DefaultBatchType.UNLOGGED, statements);
+		}
+		permits.acquireUninterruptibly();
+		try {
+			storage.executeAsync(statement).whenComplete((rc,e) -> {
+				if (e!=null) {
+					failure.compareAndSet(null, e);
+				}
+				for (final Map.Entry<ByteString,Write> write : writes.entrySet()) {
+					sent.remove(write.getKey(), write.getValue());
+				}
+				permits.release();
+			});
+		} catch (RuntimeException e) {
+			failure.compareAndSet(null, e);
+			permits.release();
+		}
+	}
+
+	/** Sends the buffered writes of all the trees. */
+	synchronized void flush() {
+		for (final TreeName treeName : new ArrayList<>(pending.keySet())) {
+			send(treeName);
+		}
+	}
+
+	/**
+	 * Sends the buffered writes and waits for all the writes in flight.
+	 *
+	 * @throws StorageRuntimeException if a write failed
+	 */
+	void await() {
+		flush();
+		permits.acquireUninterruptibly(MAX_IN_FLIGHT);
+		permits.release(MAX_IN_FLIGHT);
+		checkFailure();
+	}
+
+	private void checkFailure() {
+		final Throwable e=failure.get();
+		if (e!=null) {
+			throw e instanceof StorageRuntimeException ? (StorageRuntimeException) e : new StorageRuntimeException(e);
+		}
+	}
+}
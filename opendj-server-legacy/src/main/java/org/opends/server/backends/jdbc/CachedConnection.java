@@ -11,79 +11,96 @@
  * Header, with the fields enclosed by brackets [] replaced by your own identifying
  * information: "Portions Copyright [year] [name of copyright owner]".
  *
- * Copyright 2024-2025 3A Systems, LLC.
+ * Copyright 2024-2026 3A Systems, LLC.
  */
 package org.opends.server.backends.jdbc;
 
-import com.google.common.cache.*;
-
 import java.sql.*;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Queue;
-import java.util.concurrent.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class CachedConnection implements Connection {
     final Connection parent;
 
-    static LoadingCache<String, BlockingQueue<CachedConnection>> cached= CacheBuilder.newBuilder()
-            .expireAfterAccess(Long.parseLong(System.getProperty("org.openidentityplatform.opendj.jdbc.ttl","15000")), TimeUnit.MILLISECONDS)
-            .removalListener(new RemovalListener<String, BlockingQueue<CachedConnection>>() {
-                @Override
-                public void onRemoval(RemovalNotification<String, BlockingQueue<CachedConnection>> notification) {
-                    assert notification.getValue() != null;
-                    for (CachedConnection con: notification.getValue()) {
-                            try {
-                                if (!con.isClosed()) {
-                                    con.parent.close();
-                                }
-                            } catch (SQLException e) {
-                            }
-                        }
-                }
-            })
-            .build(new CacheLoader<String, BlockingQueue<CachedConnection>>() {
-                @Override
-                public BlockingQueue<CachedConnection> load(String connectionString) throws Exception {
-                    return new LinkedBlockingQueue<>();
-                }
-            });
-
-    final String connectionString;
-    public CachedConnection(String connectionString,Connection parent) {
-        this.connectionString=connectionString;
+    /** Maximum number of prepared statements kept open by a connection. */
+    static final int STATEMENT_CACHE_SIZE=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.jdbc.statements","256"));
+
+    /** Incremented on every table creation or removal: statements prepared before may refer to a dropped table. */
+    static final AtomicLong ddlGeneration=new AtomicLong();
+
+    /** The pool this connection is returned to when closed. */
+    final ConnectionPool pool;
+
+    /** Time this connection was last returned to its pool. */
+    volatile long lastUsed;
+
+    /** Whether this connection has been returned to its pool since it was borrowed. */
+    volatile boolean returned;
+
+    /** The thread which borrowed this connection from its pool. */
+    volatile Thread borrower;
+
+    /** Prepared statements of this connection by SQL text, least recently used first. */
+    final Map<String,PreparedStatement> statements=new LinkedHashMap<String,PreparedStatement>(16,0.75f,true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size()>STATEMENT_CACHE_SIZE) {
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+    long statementsGeneration=ddlGeneration.get();
+
+    public CachedConnection(ConnectionPool pool,Connection parent) {
+        this.pool=pool;
         this.parent = parent;
     }
 
-    static Connection getConnection(String connectionString) throws Exception {
-        return getConnection(connectionString,0);
-    }
-
-    static Connection getConnection(String connectionString, final int waitTime) throws Exception {
-        CachedConnection con=cached.get(connectionString).poll(waitTime,TimeUnit.MILLISECONDS);
-        while(con!=null) {
-            if (!con.isValid(0)) {
-                try {
-                    con.parent.close();
-                } catch (SQLException e) {
-                    con=null;
-                }
-                con=cached.get(connectionString).poll();
-            }else{
-                return con;
-            }
+    /**
+     * Returns a prepared statement of this connection for the provided SQL, reusing the one prepared by
+     * a previous call if any. The returned statement must not be closed by the caller.
+     *
+     * @param sql the SQL statement
+     * @return the prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    PreparedStatement prepareCachedStatement(String sql) throws SQLException {
+        final long generation=ddlGeneration.get();
+        if (statementsGeneration!=generation) {
+            clearStatements();
+            statementsGeneration=generation;
+        }
+        PreparedStatement statement=statements.get(sql);
+        if (statement==null || statement.isClosed()) {
+            statement=parent.prepareStatement(sql);
+            statements.put(sql,statement);
+        }
+        return statement;
+    }
+
+    void clearStatements() {
+        for (PreparedStatement statement : statements.values()) {
+            closeQuietly(statement);
         }
+        statements.clear();
+    }
+
+    static void closeQuietly(Statement statement) {
         try {
-            final Connection conNew= DriverManager.getConnection(connectionString);
-            conNew.setAutoCommit(false);
-            conNew.setTransactionIsolation(TRANSACTION_READ_COMMITTED);
-            return new CachedConnection(connectionString, conNew);
-        }catch (SQLException e) { //max_connection server error: try recursion for reuse connection
-            return getConnection(connectionString,(waitTime==0)?1:waitTime*2);
+            statement.close();
+        } catch (SQLException e) {
         }
     }
 
+    static Connection getConnection(String connectionString) throws Exception {
+        return ConnectionPool.get(connectionString).borrow();
+    }
+
     @Override
     public Statement createStatement() throws SQLException {
         return parent.createStatement();
@@ -126,12 +143,17 @@ public class CachedConnection implements Connection {
 
     @Override
     public void close() throws SQLException {
-        rollback();
+        if (returned) {
+            return;
+        }
+        returned=true;
         try {
-            cached.get(connectionString).add(this);
-        } catch (ExecutionException e) {
-            throw new RuntimeException(e);
+            rollback();
+        } catch (SQLException e) {
+            pool.release(this,false);
+            throw e;
         }
+        pool.release(this,true);
     }
 
     @Override
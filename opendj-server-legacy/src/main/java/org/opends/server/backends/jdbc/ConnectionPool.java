@@ -0,0 +1,287 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opends.server.api.MonitorData;
+
+/**
+ * Bounded pool of the connections to a database, shared by all the backends using the same connection string.
+ * <p>
+ * At most {@code db-pool-size} threads hold connections at the same time: a thread borrowing its first connection
+ * waits up to {@code db-pool-borrow-timeout} milliseconds for another thread to return its connections, while a
+ * thread already holding a connection borrows more without waiting, so an operation needing a second connection
+ * cannot deadlock with the others. Idle connections are reused most recently returned first, validated when they
+ * have been idle for more than {@link #VALIDATION_INTERVAL} milliseconds and closed once idle for more than
+ * {@link #IDLE_TIMEOUT} milliseconds.
+ */
+final class ConnectionPool {
+	/** Default maximum number of threads holding connections, until the pool is configured. */
+	static final int DEFAULT_MAX_SIZE=64;
+	/** Default borrow timeout in milliseconds, until the pool is configured. */
+	static final long DEFAULT_BORROW_TIMEOUT=30000;
+	static final long IDLE_TIMEOUT=Long.parseLong(System.getProperty("org.openidentityplatform.opendj.jdbc.ttl","15000"));
+	static final long VALIDATION_INTERVAL=Long.parseLong(System.getProperty("org.openidentityplatform.opendj.jdbc.pool.validate","5000"));
+	/** Replication lag of a replica measured at most once per interval. */
+	static final long LAG_CHECK_INTERVAL=1000;
+
+	private static final ConcurrentMap<String,ConnectionPool> pools=new ConcurrentHashMap<>();
+
+	final String connectionString;
+	/** One permit per thread holding connections. */
+	private final Permits permits=new Permits(DEFAULT_MAX_SIZE);
+	/** Number of connections held by each thread holding a permit. */
+	private final ConcurrentMap<Thread,Integer> borrowers=new ConcurrentHashMap<>();
+	private volatile int maxSize=DEFAULT_MAX_SIZE;
+	private volatile long borrowTimeout=DEFAULT_BORROW_TIMEOUT;
+	/** Idle connections, most recently returned first. */
+	private final LinkedBlockingDeque<CachedConnection> idle=new LinkedBlockingDeque<>();
+
+	private final AtomicInteger activeCount=new AtomicInteger();
+	private final AtomicLong borrowCount=new AtomicLong();
+	private final AtomicLong borrowNanos=new AtomicLong();
+	private final AtomicLong borrowTimeoutCount=new AtomicLong();
+	private final AtomicLong createdCount=new AtomicLong();
+	private final AtomicLong evictedCount=new AtomicLong();
+
+	private volatile long replicationLag;
+	private volatile long replicationLagCheckTime;
+
+	private ConnectionPool(String connectionString) {
+		this.connectionString=connectionString;
+	}
+
+	/**
+	 * Returns the pool of a connection string.
+	 *
+	 * @param connectionString the JDBC connection string
+	 * @return the pool of the connection string
+	 */
+	static ConnectionPool get(String connectionString) {
+		return pools.computeIfAbsent(connectionString,ConnectionPool::new);
+	}
+
+	/**
+	 * Sets the size and the borrow timeout of this pool, the connections already borrowed are kept.
+	 *
+	 * @param maxSize the maximum number of threads holding connections at the same time
+	 * @param borrowTimeout the maximum time in milliseconds a thread waits for its first connection
+	 */
+	synchronized void configure(int maxSize,long borrowTimeout) {
+		if (maxSize>this.maxSize) {
+			permits.release(maxSize-this.maxSize);
+		} else if (maxSize<this.maxSize) {
+			permits.reducePermits(this.maxSize-maxSize);
+		}
+		this.maxSize=maxSize;
+		this.borrowTimeout=borrowTimeout;
+	}
+
+	/**
+	 * Borrows a connection, which is returned to the pool when closed.
+	 *
+	 * @return a connection without auto-commit
+	 * @throws SQLException if no connection is available before the borrow timeout
+	 */
+	Connection borrow() throws SQLException {
+		final long start=System.nanoTime();
+		final long timeout=borrowTimeout;
+		final long deadline=start+TimeUnit.MILLISECONDS.toNanos(timeout);
+		final Thread borrower=Thread.currentThread();
+		if (borrowers.merge(borrower,1,Integer::sum)==1) {
+			acquirePermit(borrower,timeout);
+		}
+		try {
+			final CachedConnection con=take(deadline);
+			con.borrower=borrower;
+			con.returned=false;
+			activeCount.incrementAndGet();
+			borrowCount.incrementAndGet();
+			borrowNanos.addAndGet(System.nanoTime()-start);
+			return con;
+		} catch (SQLException|RuntimeException e) {
+			releaseBorrower(borrower);
+			throw e;
+		}
+	}
+
+	/** Waits for the permit of a thread borrowing its first connection. */
+	private void acquirePermit(Thread borrower,long timeout) throws SQLException {
+		try {
+			if (permits.tryAcquire(timeout,TimeUnit.MILLISECONDS)) {
+				return;
+			}
+			borrowTimeoutCount.incrementAndGet();
+			borrowers.remove(borrower);
+			throw new SQLTransientConnectionException("no connection available in "+timeout+" ms: all the "+maxSize+" connections are in use");
+		} catch (InterruptedException e) {
+			borrowers.remove(borrower);
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException(e);
+		}
+	}
+
+	/** Releases the permit of a thread once it no longer holds any connection. */
+	private void releaseBorrower(Thread borrower) {
+		if (borrowers.computeIfPresent(borrower,(thread,count)->count>1 ? count-1 : null)==null) {
+			permits.release();
+		}
+	}
+
+	private CachedConnection take(long deadline) throws SQLException {
+		evictIdle();
+		CachedConnection con;
+		while ((con=idle.pollFirst())!=null) {
+			if (System.currentTimeMillis()-con.lastUsed<VALIDATION_INTERVAL || con.isValid(1)) {
+				return con;
+			}
+			discard(con);
+		}
+		try {
+			final Connection conNew=DriverManager.getConnection(connectionString);
+			conNew.setAutoCommit(false);
+			conNew.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+			createdCount.incrementAndGet();
+			return new CachedConnection(this,conNew);
+		} catch (SQLException e) { //max_connection server error: wait for a connection returned by another borrower
+			try {
+				con=idle.pollFirst(Math.max(0,deadline-System.nanoTime()),TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e2) {
+				Thread.currentThread().interrupt();
+			}
+			if (con==null) {
+				throw e;
+			}
+			return con;
+		}
+	}
+
+	/**
+	 * Returns a borrowed connection to the pool.
+	 *
+	 * @param con the borrowed connection, rolled back
+	 * @param reusable {@code false} if the connection is broken and must be closed
+	 */
+	void release(CachedConnection con,boolean reusable) {
+		try {
+			if (reusable) {
+				con.lastUsed=System.currentTimeMillis();
+				idle.offerFirst(con);
+			} else {
+				discard(con);
+			}
+		} finally {
+			activeCount.decrementAndGet();
+			releaseBorrower(con.borrower);
+		}
+		evictIdle();
+	}
+
+	/** Closes the connections idle for more than {@link #IDLE_TIMEOUT} milliseconds, least recently used first. */
+	private void evictIdle() {
+		final long now=System.currentTimeMillis();
+		CachedConnection con;
+		while ((con=idle.peekLast())!=null && now-con.lastUsed>IDLE_TIMEOUT) {
+			if (idle.removeLastOccurrence(con)) {
+				evictedCount.incrementAndGet();
+				discard(con);
+			}
+		}
+	}
+
+	private static void discard(CachedConnection con) {
+		con.clearStatements();
+		try {
+			con.parent.close();
+		} catch (SQLException e) {
+		}
+	}
+
+	/**
+	 * Returns the replication lag of the database, measured at most every {@link #LAG_CHECK_INTERVAL} milliseconds.
+	 *
+	 * @param dialect the dialect of the database
+	 * @return the replication lag in milliseconds, 0 if the dialect cannot measure it
+	 *         or {@link Long#MAX_VALUE} if the database is not reachable
+	 */
+	long getReplicationLag(SqlDialect dialect) {
+		final String sql=dialect.replicationLag();
+		if (sql==null) {
+			return 0;
+		}
+		if (System.currentTimeMillis()-replicationLagCheckTime>LAG_CHECK_INTERVAL) {
+			synchronized (this) {
+				if (System.currentTimeMillis()-replicationLagCheckTime>LAG_CHECK_INTERVAL) {
+					long lag=Long.MAX_VALUE;
+					try (final Connection con=borrow(); final Statement statement=con.createStatement(); final ResultSet rc=statement.executeQuery(sql)) {
+						if (rc.next()) {
+							lag=rc.getLong(1);
+						}
+					} catch (SQLException e) {
+					}
+					replicationLag=lag;
+					replicationLagCheckTime=System.currentTimeMillis();
+				}
+			}
+		}
+		return replicationLag;
+	}
+
+	/**
+	 * Adds the statistics of this pool to monitor data.
+	 *
+	 * @param monitorData the monitor data
+	 * @param prefix the prefix of the attribute names
+	 */
+	void addMonitorData(MonitorData monitorData,String prefix) {
+		final long borrows=borrowCount.get();
+		monitorData.add(prefix+"-max-size",maxSize);
+		monitorData.add(prefix+"-active-count",activeCount.get());
+		monitorData.add(prefix+"-idle-count",idle.size());
+		monitorData.add(prefix+"-borrow-count",borrows);
+		monitorData.add(prefix+"-borrow-average-latency-micros",borrows==0 ? 0 : TimeUnit.NANOSECONDS.toMicros(borrowNanos.get()/borrows));
+		monitorData.add(prefix+"-borrow-timeout-count",borrowTimeoutCount.get());
+		monitorData.add(prefix+"-created-count",createdCount.get());
+		monitorData.add(prefix+"-evicted-count",evictedCount.get());
+	}
+
+	/** Semaphore whose number of permits follows the configured size of the pool. */
+	private static final class Permits extends Semaphore {
+		private static final long serialVersionUID=1L;
+
+		Permits(int permits) {
+			super(permits,true);
+		}
+
+		@Override
+		protected void reducePermits(int reduction) {
+			super.reducePermits(reduction);
+		}
+	}
+}
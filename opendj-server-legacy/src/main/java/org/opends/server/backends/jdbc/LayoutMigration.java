@@ -0,0 +1,197 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.opends.server.backends.jdbc.Storage.db2real;
+import static org.opends.server.backends.jdbc.Storage.prepare;
+import static org.opends.server.util.StaticUtils.stackTraceToSingleLineString;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.forgerock.i18n.LocalizableMessage;
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+import org.forgerock.opendj.ldap.ByteString;
+
+/**
+ * Online migration of the trees of a JDBC storage from the version 1 layout ({@link Table#LAYOUT_HASHED})
+ * to the version 2 layout ({@link Table#LAYOUT_ORDERED}), enabled with the
+ * {@code org.openidentityplatform.opendj.jdbc.migrate} system property.
+ * <p>
+ * Trees are migrated one at a time while the backend keeps serving requests:
+ * <ol>
+ * <li>the table in the version 2 layout is created and every write to the tree is applied to both tables,</li>
+ * <li>the rows of the version 1 table are copied page by page in primary key order. The rows of a page are locked
+ * while they are copied so a concurrent write either happens before the copy or is applied to both tables after,</li>
+ * <li>the tree switches to the version 2 table and the version 1 table is dropped once the statements
+ * started before the switch are over.</li>
+ * </ol>
+ * If the server stops during a migration, both tables are kept in sync until the migration is run again.
+ * All the servers writing to the database must run a version supporting the version 2 layout and
+ * must be restarted once the migration has completed. The trees of the databases which do not support the
+ * version 2 layout, see {@link SqlDialect#isOrderedLayoutSupported()}, are not migrated.
+ */
+final class LayoutMigration {
+	private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+	/** Delay before dropping a migrated table, longer than any statement started before the switch. */
+	private static final long DROP_DELAY_MS = 60000;
+
+	private final Storage storage;
+	private final ScheduledExecutorService executor;
+
+	LayoutMigration(Storage storage) {
+		this.storage = storage;
+		this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+			final Thread thread = new Thread(r, "JDBC layout migration");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Queues the migration of a table in the version 1 layout.
+	 *
+	 * @param source the table to migrate
+	 */
+	void submit(Table source) {
+		executor.execute(() -> migrate(source));
+	}
+
+	/** Stops the migration in progress, which can be resumed when the storage is opened again. */
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void migrate(Table source) {
+		try {
+			Table target = source.migrationTarget;
+			try (final Connection con = storage.getConnection()) {
+				if (target == null) {
+					target = new Table(source.treeName, Table.LAYOUT_ORDERED, storage.dialect);
+					if (!storage.existingTables.contains(target.name.toLowerCase())) {
+						storage.createTable(con, target);
+						con.commit();
+					}
+					source.migrationTarget = target;
+					// wait for the write transactions started before they could see the target
+					storage.writeTransactions.unlockWrite(storage.writeTransactions.writeLock());
+				}
+				logger.info(LocalizableMessage.raw("jdbc: migrating tree %s from table %s to table %s",
+						source.treeName, source, target));
+				final long count = copy(con, source, target);
+				if (Thread.currentThread().isInterrupted()) {
+					return;
+				}
+				storage.tables.replace(source.treeName, source, target);
+				logger.info(LocalizableMessage.raw("jdbc: migrated %d records of tree %s to table %s",
+						count, source.treeName, target));
+			}
+			executor.schedule(() -> drop(source), DROP_DELAY_MS, TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			logger.error(LocalizableMessage.raw("jdbc: migration of tree %s from table %s failed: %s",
+					source.treeName, source, stackTraceToSingleLineString(e)));
+		}
+	}
+
+	/** Copies the rows of the source table page by page in (h,k) primary key order. */
+	private long copy(Connection con, Table source, Table target) throws SQLException {
+		final SqlDialect dialect = storage.dialect;
+		final String firstKeys = "select h from " + source.name + " order by h";
+		final String nextKeys = "select h from " + source.name + " where h>? order by h";
+		final String firstRows = dialect.selectForUpdate(source.name, "h<=?");
+		final String nextRows = dialect.selectForUpdate(source.name, "h>? and h<=?");
+		String last = null;
+		long count = 0;
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				final PreparedStatement keys = prepare(con, last == null ? firstKeys : nextKeys);
+				if (last != null) {
+					keys.setString(1, last);
+				}
+				keys.setMaxRows(Storage.BATCH_SIZE);
+				keys.setFetchSize(Storage.BATCH_SIZE);
+				String next = null;
+				try (final ResultSet rc = storage.executeResultSet(keys)) {
+					while (rc.next()) {
+						next = rc.getString(1);
+					}
+				}
+				if (next == null) {
+					con.commit();
+					return count;
+				}
+
+				final PreparedStatement rows = prepare(con, last == null ? firstRows : nextRows);
+				int index = 1;
+				if (last != null) {
+					rows.setString(index++, last);
+				}
+				rows.setString(index, next);
+				final PreparedStatement upsert = prepare(con, target.upsert != null ? target.upsert : target.update);
+				final PreparedStatement insert = target.upsert != null ? null : prepare(con, target.insert);
+				upsert.clearBatch();
+				if (insert != null) {
+					insert.clearBatch();
+				}
+				try (final ResultSet rc = storage.executeResultSet(rows)) {
+					while (rc.next()) {
+						final ByteString key = ByteString.wrap(db2real(rc.getBytes("k")));
+						final ByteString value = ByteString.wrap(rc.getBytes("v"));
+						if (insert == null) {
+							target.bindRow(upsert, 1, key, value);
+						} else { // ANSI SQL: update then insert if not exists
+							upsert.setBytes(1, value.toByteArray());
+							target.bindKey(upsert, 2, key);
+							target.bindKey(insert, target.bindRow(insert, 1, key, value), key);
+							insert.addBatch();
+						}
+						upsert.addBatch();
+						count++;
+					}
+				}
+				storage.executeBatch(upsert);
+				if (insert != null) {
+					storage.executeBatch(insert);
+				}
+				con.commit();
+				last = next;
+			} catch (SQLException e) {
+				try {
+					con.rollback();
+				} catch (SQLException e2) {}
+				throw e;
+			}
+		}
+		return count;
+	}
+
+	private void drop(Table source) {
+		try (final Connection con = storage.getConnection()) {
+			storage.dropTable(con, source);
+			con.commit();
+			logger.info(LocalizableMessage.raw("jdbc: dropped table %s of migrated tree %s", source, source.treeName));
+		} catch (Exception e) {
+			logger.error(LocalizableMessage.raw("jdbc: cannot drop table %s of migrated tree %s: %s",
+					source, source.treeName, stackTraceToSingleLineString(e)));
+		}
+	}
+}
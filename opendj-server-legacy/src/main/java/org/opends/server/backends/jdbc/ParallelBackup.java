@@ -0,0 +1,370 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.opends.server.backends.jdbc.Storage.db2real;
+import static org.opends.server.backends.jdbc.Storage.prepare;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.forgerock.i18n.LocalizableMessage;
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+import org.forgerock.opendj.ldap.ByteString;
+import org.opends.server.backends.pluggable.spi.TreeName;
+
+/**
+ * Native backup and restore of the trees of a JDBC storage.
+ * <p>
+ * The backup splits every tree table in key ranges of {@link #CHUNK_SIZE} rows and dumps the ranges in parallel,
+ * each with its own connection, to chunk files of length prefixed key/value records, optionally gzip compressed.
+ * The {@value #MANIFEST} file maps the chunk file prefixes to the tree names. On PostgreSQL all the connections
+ * read the same exported snapshot so the backup is consistent. The other databases cannot share a snapshot between
+ * connections: the write transactions are held back until the dump ends, so that the ranges dumped in their own
+ * transactions are consistent with each other.
+ * <p>
+ * The restore clears the trees of the backup and loads the chunk files in parallel with batched upserts.
+ */
+final class ParallelBackup {
+	private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+	/** Number of threads dumping or loading chunks. */
+	static final int THREADS=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.jdbc.backup.threads",
+			String.valueOf(Runtime.getRuntime().availableProcessors())));
+	/** Number of rows of a chunk file. */
+	static final int CHUNK_SIZE=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.jdbc.backup.chunk","100000"));
+	/** Name of the file listing the trees of a backup, one {@code <prefix> <tree name>} line per tree. */
+	static final String MANIFEST="trees";
+
+	private static final String CHUNK_SUFFIX=".dat";
+	private static final String COMPRESSED_SUFFIX=".dat.gz";
+	private static final int FETCH_SIZE=1000;
+	private static final int BUFFER_SIZE=64*1024;
+	private static final int END=-1;
+
+	private final Storage storage;
+	/** Number of rows of a chunk file, package private and not final for testing. */
+	int chunkSize=CHUNK_SIZE;
+
+	ParallelBackup(Storage storage) {
+		this.storage=storage;
+	}
+
+	/**
+	 * Dumps trees to chunk files.
+	 *
+	 * @param trees the trees to dump
+	 * @param directory the empty directory of the chunk files
+	 * @param compress whether the chunk files are gzip compressed
+	 * @param isCancelled tells whether the backup has been cancelled
+	 * @throws Exception if a tree cannot be dumped
+	 */
+	void dump(Set<TreeName> trees, File directory, boolean compress, BooleanSupplier isCancelled) throws Exception {
+		final ExecutorService executor=newExecutor("JDBC backup %d");
+		long stamp=0;
+		try (final Connection snapshotCon=storage.getConnection()) {
+			final String snapshot=exportSnapshot(snapshotCon);
+			if (snapshot==null) {
+				logger.info(LocalizableMessage.raw("jdbc: holding back the writes of %d trees while they are dumped", trees.size()));
+				stamp=storage.writeTransactions.writeLock();
+			}
+			final List<String> manifest=new ArrayList<>();
+			final Map<Table,Future<List<Object>>> boundaries=new HashMap<>();
+			for (final TreeName treeName : trees) {
+				final Table table=storage.getTable(treeName);
+				manifest.add(table.countKey+" "+treeName);
+				boundaries.put(table, executor.submit(() -> getBoundaries(table, snapshot)));
+			}
+			Files.write(new File(directory,MANIFEST).toPath(), manifest, StandardCharsets.UTF_8);
+
+			final List<Future<Long>> chunks=new ArrayList<>();
+			for (final Map.Entry<Table,Future<List<Object>>> entry : boundaries.entrySet()) {
+				final Table table=entry.getKey();
+				final List<Object> bounds=get(entry.getValue());
+				for (int i=0;i<=bounds.size();i++) {
+					final Object from=i==0 ? null : bounds.get(i-1);
+					final Object to=i==bounds.size() ? null : bounds.get(i);
+					final File file=new File(directory,String.format("%s-%06d%s",table.countKey,i,compress ? COMPRESSED_SUFFIX : CHUNK_SUFFIX));
+					chunks.add(executor.submit(() -> isCancelled.getAsBoolean() ? 0L : dumpChunk(table, snapshot, from, to, file, compress)));
+				}
+			}
+			long count=0;
+			for (final Future<Long> chunk : chunks) {
+				count+=get(chunk);
+			}
+			logger.info(LocalizableMessage.raw("jdbc: dumped %d records of %d trees in %d chunks", count, trees.size(), chunks.size()));
+		} finally {
+			executor.shutdownNow();
+			if (stamp!=0) {
+				storage.writeTransactions.unlockWrite(stamp);
+			}
+		}
+	}
+
+	/**
+	 * Loads the trees of chunk files, replacing the records of the trees.
+	 *
+	 * @param directory the directory of the chunk files
+	 * @throws Exception if a tree cannot be loaded
+	 */
+	void load(File directory) throws Exception {
+		final Map<String,Table> tables=new HashMap<>();
+		for (final String line : Files.readAllLines(new File(directory,MANIFEST).toPath(), StandardCharsets.UTF_8)) {
+			final int separator=line.indexOf(' ');
+			if (separator>0) {
+				tables.put(line.substring(0,separator), storage.getTable(TreeName.valueOf(line.substring(separator+1))));
+			}
+		}
+		try (final Connection con=storage.getConnection()) {
+			final Storage.WriteableTransactionTransactionImpl txn=storage.new WriteableTransactionTransactionImpl(con);
+			for (final Table table : tables.values()) {
+				txn.openTree(table.treeName, true);
+				txn.clearTree(table.treeName);
+			}
+		}
+
+		final Map<Table,AtomicLong> counts=new ConcurrentHashMap<>();
+		final ExecutorService executor=newExecutor("JDBC restore %d");
+		try {
+			final List<Future<Long>> chunks=new ArrayList<>();
+			final File[] files=directory.listFiles((dir, name) -> name.endsWith(CHUNK_SUFFIX) || name.endsWith(COMPRESSED_SUFFIX));
+			for (final File file : files!=null ? files : new File[0]) {
+				final Table table=tables.get(file.getName().substring(0,file.getName().lastIndexOf('-')));
+				if (table==null) {
+					throw new IOException("chunk file "+file.getName()+" of no tree of the manifest");
+				}
+				chunks.add(executor.submit(() -> {
+					final long count=loadChunk(table, file);
+					counts.computeIfAbsent(table, t -> new AtomicLong()).addAndGet(count);
+					return count;
+				}));
+			}
+			long count=0;
+			for (final Future<Long> chunk : chunks) {
+				count+=get(chunk);
+			}
+			try (final Connection con=storage.getConnection()) {
+				for (final Table table : tables.values()) {
+					final AtomicLong tableCount=counts.get(table);
+					storage.counts.reset(con, table, tableCount!=null ? tableCount.get() : 0);
+				}
+				con.commit();
+			}
+			logger.info(LocalizableMessage.raw("jdbc: loaded %d records of %d trees from %d chunks", count, tables.size(), chunks.size()));
+		} finally {
+			executor.shutdownNow();
+			storage.cache.invalidateAll();
+		}
+	}
+
+	/** Returns every {@link #chunkSize}th value of the chunking column of a table, in order. */
+	private List<Object> getBoundaries(Table table, String snapshot) throws Exception {
+		final String column=getChunkColumn(table);
+		final List<Object> boundaries=new ArrayList<>();
+		try (final Connection con=storage.getConnection()) {
+			importSnapshot(con, snapshot);
+			final PreparedStatement statement=prepare(con,"select "+column+" from "+table.name+" order by "+column);
+			statement.setFetchSize(FETCH_SIZE*10);
+			try (final ResultSet rc=storage.executeResultSet(statement)) {
+				long row=0;
+				while (rc.next()) {
+					if (++row%chunkSize==0) {
+						boundaries.add(rc.getObject(1));
+					}
+				}
+			}
+		}
+		return boundaries;
+	}
+
+	/** Dumps the rows of a table from the {@code from} boundary included to the {@code to} boundary excluded. */
+	private long dumpChunk(Table table, String snapshot, Object from, Object to, File file, boolean compress) throws Exception {
+		final String column=getChunkColumn(table);
+		final StringBuilder sql=new StringBuilder("select k,v from ").append(table.name);
+		if (from!=null) {
+			sql.append(" where ").append(column).append(">=?");
+		}
+		if (to!=null) {
+			sql.append(from!=null ? " and " : " where ").append(column).append("<?");
+		}
+		long count=0;
+		try (final Connection con=storage.getConnection()) {
+			importSnapshot(con, snapshot);
+			final PreparedStatement statement=prepare(con,sql.toString());
+			int index=1;
+			if (from!=null) {
+				statement.setObject(index++,from);
+			}
+			if (to!=null) {
+				statement.setObject(index,to);
+			}
+			statement.setFetchSize(FETCH_SIZE);
+			try (final ResultSet rc=storage.executeResultSet(statement);
+					final DataOutputStream out=new DataOutputStream(openOutput(file, compress))) {
+				while (rc.next()) {
+					write(out,db2real(rc.getBytes(1)));
+					write(out,rc.getBytes(2));
+					count++;
+				}
+				out.writeInt(END);
+			}
+		}
+		return count;
+	}
+
+	/** Loads a chunk file with batched upserts, committed every {@link Storage#IMPORT_COMMIT_SIZE} records. */
+	private long loadChunk(Table table, File file) throws Exception {
+		long count=0;
+		try (final DataInputStream in=new DataInputStream(openInput(file));
+				final Connection con=storage.getConnection()) {
+			final Storage.WriteableTransactionTransactionImpl txn=storage.new WriteableTransactionTransactionImpl(con);
+			txn.counting=false;
+			txn.invalidating=false;
+			final long stamp=storage.writeTransactions.readLock();
+			try {
+				byte[] key;
+				while ((key=read(in))!=null) {
+					final byte[] value=read(in);
+					if (value==null) {
+						throw new EOFException("truncated chunk file "+file.getName());
+					}
+					txn.put(table.treeName, ByteString.wrap(key), ByteString.wrap(value));
+					if (++count%Storage.IMPORT_COMMIT_SIZE==0) {
+						txn.flush();
+						con.commit();
+					}
+				}
+				txn.flush();
+				con.commit();
+			} finally {
+				storage.writeTransactions.unlockRead(stamp);
+			}
+		}
+		return count;
+	}
+
+	/** Rows are chunked on the primary key: the hash of the key in the version 1 layout. */
+	private static String getChunkColumn(Table table) {
+		return table.layout==Table.LAYOUT_HASHED ? "h" : "k";
+	}
+
+	private String exportSnapshot(Connection con) throws SQLException {
+		final String sql=storage.dialect.exportSnapshot();
+		if (sql==null) {
+			return null;
+		}
+		try (final Statement statement=con.createStatement()) {
+			statement.execute(SqlDialect.REPEATABLE_READ);
+			try (final ResultSet rc=statement.executeQuery(sql)) {
+				return rc.next() ? rc.getString(1) : null;
+			}
+		}
+	}
+
+	private void importSnapshot(Connection con, String snapshot) throws SQLException {
+		if (snapshot!=null) {
+			try (final Statement statement=con.createStatement()) {
+				statement.execute(SqlDialect.REPEATABLE_READ);
+				statement.execute(storage.dialect.importSnapshot(snapshot));
+			}
+		}
+	}
+
+	private static OutputStream openOutput(File file, boolean compress) throws IOException {
+		final OutputStream os=new FileOutputStream(file);
+		try {
+			return new BufferedOutputStream(compress ? new GZIPOutputStream(os,BUFFER_SIZE) : os,BUFFER_SIZE);
+		} catch (IOException e) {
+			os.close();
+			throw e;
+		}
+	}
+
+	private static InputStream openInput(File file) throws IOException {
+		final InputStream is=new FileInputStream(file);
+		try {
+			return new BufferedInputStream(file.getName().endsWith(COMPRESSED_SUFFIX) ? new GZIPInputStream(is,BUFFER_SIZE) : is,BUFFER_SIZE);
+		} catch (IOException e) {
+			is.close();
+			throw e;
+		}
+	}
+
+	private static void write(DataOutputStream out, byte[] bytes) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/** Returns the next byte array of a chunk file, {@code null} at its end. */
+	private static byte[] read(DataInputStream in) throws IOException {
+		final int length=in.readInt();
+		if (length==END) {
+			return null;
+		}
+		final byte[] bytes=new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	/** Returns the dump or load threads, named by the format of their number. */
+	private static ExecutorService newExecutor(String nameFormat) {
+		final AtomicInteger threadNumber=new AtomicInteger();
+		return Executors.newFixedThreadPool(THREADS, r -> {
+			final Thread thread=new Thread(r, String.format(nameFormat, threadNumber.incrementAndGet()));
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static <T> T get(Future<T> future) throws Exception {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+	}
+}
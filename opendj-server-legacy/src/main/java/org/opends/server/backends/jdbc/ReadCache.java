@@ -0,0 +1,275 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.opends.server.backends.pluggable.SuffixContainer.DN2ID_INDEX_NAME;
+import static org.opends.server.backends.pluggable.SuffixContainer.ID2ENTRY_INDEX_NAME;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.server.config.server.JDBCBackendCfg;
+import org.opends.server.api.MonitorData;
+import org.opends.server.backends.pluggable.spi.TreeName;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Local read-through cache of the records of a JDBC storage, sparing the database round trip of the records
+ * read again and again such as the dn2id records of the parent entries, the state records or the id2entry records
+ * of the entries returned by searches.
+ * <p>
+ * Each type of tree has its own cache bounded by the size in bytes of its keys and values, disabled unless the size
+ * is set with the {@code db-read-cache-dn2id-size}, {@code db-read-cache-id2entry-size} and
+ * {@code db-read-cache-index-size} backend properties, {@code index} covering every other tree. The absence of a
+ * record is cached too.
+ * <p>
+ * A write transaction invalidates the records it wrote once it is over. A reader only caches the record it read if
+ * no invalidation happened during the read, so a record read before a concurrent write is committed is never cached
+ * after the invalidation of the write. Records written by the other servers of the database are not invalidated:
+ * every record expires {@code db-read-cache-ttl} after it was cached.
+ */
+final class ReadCache {
+	/** Cached absence of a record, compared by identity. */
+	static final ByteString ABSENT=ByteString.wrap(new byte[0]);
+
+	/** Estimated memory used by a cached record besides its key and value. */
+	private static final int RECORD_OVERHEAD=96;
+
+	private final long dn2idSize;
+	private final long id2entrySize;
+	private final long indexSize;
+	private final Cache<Key,ByteString> dn2id;
+	private final Cache<Key,ByteString> id2entry;
+	private final Cache<Key,ByteString> index;
+
+	/** Incremented by each invalidation, checked by the readers before they cache a record. */
+	private final AtomicLong generation=new AtomicLong();
+	/** Write locked by an invalidation, read locked by the readers while they check the generation and cache a record. */
+	private final ReadWriteLock invalidation=new ReentrantReadWriteLock();
+
+	/**
+	 * Creates the caches sized by the backend configuration.
+	 *
+	 * @param cfg the configuration of the backend
+	 */
+	ReadCache(JDBCBackendCfg cfg) {
+		this(cfg.getDBReadCacheDn2idSize(),cfg.getDBReadCacheId2entrySize(),cfg.getDBReadCacheIndexSize(),cfg.getDBReadCacheTTL());
+	}
+
+	/**
+	 * Creates the caches, package private for testing.
+	 *
+	 * @param dn2idSize the size in bytes of the cache of the dn2id trees, 0 to disable it
+	 * @param id2entrySize the size in bytes of the cache of the id2entry trees, 0 to disable it
+	 * @param indexSize the size in bytes of the cache of the other trees, 0 to disable it
+	 * @param ttl the time in milliseconds after which a cached record expires
+	 */
+	ReadCache(long dn2idSize, long id2entrySize, long indexSize, long ttl) {
+		this.dn2idSize=dn2idSize;
+		this.id2entrySize=id2entrySize;
+		this.indexSize=indexSize;
+		dn2id=newCache(dn2idSize,ttl);
+		id2entry=newCache(id2entrySize,ttl);
+		index=newCache(indexSize,ttl);
+	}
+
+	private static Cache<Key,ByteString> newCache(long size, long ttl) {
+		if (size<=0) {
+			return null;
+		}
+		return CacheBuilder.newBuilder()
+				.maximumWeight(size)
+				.weigher((Key key, ByteString value) -> RECORD_OVERHEAD+key.key.length()+value.length())
+				.expireAfterWrite(ttl,TimeUnit.MILLISECONDS)
+				.recordStats()
+				.build();
+	}
+
+	private Cache<Key,ByteString> getCache(TreeName treeName) {
+		switch (treeName.getIndexId()) {
+		case DN2ID_INDEX_NAME:
+			return dn2id;
+		case ID2ENTRY_INDEX_NAME:
+			return id2entry;
+		default:
+			return index;
+		}
+	}
+
+	/**
+	 * Returns whether the records of a tree are cached.
+	 *
+	 * @param treeName the tree
+	 * @return {@code true} if the cache of the type of the tree is enabled
+	 */
+	boolean isEnabled(TreeName treeName) {
+		return getCache(treeName)!=null;
+	}
+
+	/**
+	 * Returns the generation to pass to {@link #put(TreeName, ByteString, ByteString, long)}, read before
+	 * reading a record from the database.
+	 *
+	 * @return the current generation
+	 */
+	long getGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * Returns a cached record.
+	 *
+	 * @param treeName the tree of the record
+	 * @param key the key of the record
+	 * @return the value of the record, {@link #ABSENT} if the record does not exist
+	 *         or {@code null} if the record is not cached
+	 */
+	ByteString get(TreeName treeName, ByteString key) {
+		final Cache<Key,ByteString> cache=getCache(treeName);
+		return cache!=null ? cache.getIfPresent(new Key(treeName,key)) : null;
+	}
+
+	/**
+	 * Caches a record read from the database, unless an invalidation happened since the read started.
+	 *
+	 * @param treeName the tree of the record
+	 * @param key the key of the record
+	 * @param value the value of the record, {@code null} if the record does not exist
+	 * @param generation the {@link #getGeneration() generation} before the record was read
+	 */
+	void put(TreeName treeName, ByteString key, ByteString value, long generation) {
+		final Cache<Key,ByteString> cache=getCache(treeName);
+		if (cache==null) {
+			return;
+		}
+		invalidation.readLock().lock();
+		try {
+			if (this.generation.get()==generation) {
+				cache.put(new Key(treeName,key),value!=null ? value : ABSENT);
+			}
+		} finally {
+			invalidation.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Invalidates the records written by a transaction, once it is committed or rolled back.
+	 *
+	 * @param written the keys of the records written by tree
+	 * @param cleared the trees cleared or deleted, all their records are invalidated
+	 */
+	void invalidate(Map<TreeName,? extends Collection<ByteString>> written, Set<TreeName> cleared) {
+		if (written.isEmpty() && cleared.isEmpty()) {
+			return;
+		}
+		invalidation.writeLock().lock();
+		try {
+			generation.incrementAndGet();
+			for (final Map.Entry<TreeName,? extends Collection<ByteString>> entry : written.entrySet()) {
+				final Cache<Key,ByteString> cache=getCache(entry.getKey());
+				if (cache!=null) {
+					for (final ByteString key : entry.getValue()) {
+						cache.invalidate(new Key(entry.getKey(),key));
+					}
+				}
+			}
+			for (final TreeName treeName : cleared) {
+				final Cache<Key,ByteString> cache=getCache(treeName);
+				if (cache!=null) {
+					cache.asMap().keySet().removeIf(key -> key.treeName.equals(treeName));
+				}
+			}
+		} finally {
+			invalidation.writeLock().unlock();
+		}
+	}
+
+	/** Invalidates all the records, when the storage is opened, closed or restored. */
+	void invalidateAll() {
+		invalidation.writeLock().lock();
+		try {
+			generation.incrementAndGet();
+			for (final Cache<Key,ByteString> cache : new Cache[] {dn2id,id2entry,index}) {
+				if (cache!=null) {
+					cache.invalidateAll();
+				}
+			}
+		} finally {
+			invalidation.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Adds the statistics of the enabled caches to monitor data.
+	 *
+	 * @param monitorData the monitor data
+	 */
+	void addMonitorData(MonitorData monitorData) {
+		addMonitorData(monitorData,"db-cache-dn2id",dn2id,dn2idSize);
+		addMonitorData(monitorData,"db-cache-id2entry",id2entry,id2entrySize);
+		addMonitorData(monitorData,"db-cache-index",index,indexSize);
+	}
+
+	private static void addMonitorData(MonitorData monitorData,String prefix,Cache<Key,ByteString> cache,long size) {
+		if (cache==null) {
+			return;
+		}
+		final CacheStats stats=cache.stats();
+		monitorData.add(prefix+"-max-size-bytes",size);
+		monitorData.add(prefix+"-entry-count",cache.size());
+		monitorData.add(prefix+"-hit-count",stats.hitCount());
+		monitorData.add(prefix+"-miss-count",stats.missCount());
+		monitorData.add(prefix+"-hit-ratio",stats.hitRate());
+		monitorData.add(prefix+"-eviction-count",stats.evictionCount());
+	}
+
+	/** Key of a cached record. */
+	private static final class Key {
+		final TreeName treeName;
+		final ByteString key;
+
+		Key(TreeName treeName, ByteString key) {
+			this.treeName=treeName;
+			this.key=key;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this==obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			final Key other=(Key) obj;
+			return key.equals(other.key) && treeName.equals(other.treeName);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31*treeName.hashCode()+key.hashCode();
+		}
+	}
+}
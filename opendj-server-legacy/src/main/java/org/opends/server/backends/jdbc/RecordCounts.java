@@ -0,0 +1,192 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.opends.server.backends.jdbc.Storage.prepare;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.forgerock.i18n.LocalizableMessage;
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+
+/**
+ * Number of records of the trees of a JDBC storage, kept in the {@value #TABLE} table so
+ * {@link org.opends.server.backends.pluggable.spi.ReadableTransaction#getRecordCount(org.opends.server.backends.pluggable.spi.TreeName)}
+ * does not scan the tree table.
+ * <p>
+ * Each tree has {@link #SHARDS} counter rows: a write transaction adds the change of the number of records of a tree
+ * to the row of the shard of its thread in the same database transaction as the records, so concurrent
+ * transactions seldom wait for each other's counter row locks. The count of a tree is the sum of its rows.
+ * <p>
+ * Counters are keyed by the {@link Table#LAYOUT_ORDERED} table name of the tree, which does not change when a tree
+ * is migrated. They are initialized with a full count of the tree table when a storage is first opened for writing.
+ */
+final class RecordCounts {
+	private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+	static final String TABLE="opendj_count";
+	static final int SHARDS=16;
+
+	private static final Pattern TREE_TABLE=Pattern.compile("opendj_[0-9a-f]{56}|opendj2_[0-9a-f]{54}");
+
+	private static final String ADD="update "+TABLE+" set n=n+? where t=? and s=?";
+	private static final String SUM="select sum(n) from "+TABLE+" where t=?";
+	private static final String DELETE="delete from "+TABLE+" where t=?";
+	private static final String INSERT="insert into "+TABLE+" (t,s,n) values (?,?,?)";
+
+	private final Storage storage;
+
+	RecordCounts(Storage storage) {
+		this.storage=storage;
+	}
+
+	/**
+	 * Creates the counters table if needed and initializes the counters of the tree tables which have none.
+	 *
+	 * @param con a connection to the primary database
+	 * @throws SQLException if the counters cannot be initialized
+	 */
+	void initialize(Connection con) throws SQLException {
+		if (!storage.existingTables.contains(TABLE)) {
+			try (final PreparedStatement statement=con.prepareStatement("create table "+TABLE+" ("+storage.dialect.getCountColumns()+")")) {
+				storage.execute(statement);
+			}
+			con.commit();
+			storage.existingTables.add(TABLE);
+		}
+		final Set<String> counted=new HashSet<>();
+		try (final ResultSet rc=storage.executeResultSet(prepare(con,"select distinct t from "+TABLE))) {
+			while (rc.next()) {
+				counted.add(rc.getString(1));
+			}
+		}
+		// table to count by counter key, the version 1 table of a tree being migrated is the complete one
+		final Map<String,String> uncounted=new HashMap<>();
+		for (final String name : storage.existingTables) {
+			if (!TREE_TABLE.matcher(name).matches()) {
+				continue;
+			}
+			final String key=name.startsWith("opendj2_") ? name : "opendj2_"+name.substring(7,61);
+			if (!counted.contains(key) && (name.startsWith("opendj_") || !uncounted.containsKey(key))) {
+				uncounted.put(key,name);
+			}
+		}
+		for (final Map.Entry<String,String> entry : uncounted.entrySet()) {
+			final long count;
+			try (final ResultSet rc=storage.executeResultSet(prepare(con,"select count(*) from "+entry.getValue()))) {
+				count=rc.next() ? rc.getLong(1) : 0;
+			}
+			reset(con,entry.getKey(),count);
+			con.commit();
+			logger.info(LocalizableMessage.raw("jdbc: initialized the record count of table %s: %d", entry.getValue(), count));
+		}
+	}
+
+	/**
+	 * Adds the changes of the number of records of trees, in the current transaction.
+	 *
+	 * @param con the connection of the transaction
+	 * @param deltas the change of the number of records by counter key
+	 * @throws SQLException if the counters cannot be updated
+	 */
+	void add(Connection con, Map<String,Long> deltas) throws SQLException {
+		final PreparedStatement statement=prepare(con,ADD);
+		statement.clearBatch();
+		final int shard=(int) (Thread.currentThread().getId()%SHARDS);
+		for (final Map.Entry<String,Long> delta : deltas.entrySet()) {
+			if (delta.getValue()!=0) {
+				statement.setLong(1,delta.getValue());
+				statement.setString(2,delta.getKey());
+				statement.setInt(3,shard);
+				statement.addBatch();
+			}
+		}
+		storage.executeBatch(statement);
+	}
+
+	/**
+	 * Returns the number of records of a table.
+	 *
+	 * @param con a connection to the database
+	 * @param table the table
+	 * @return the number of records of the table, or -1 if the table has no counters
+	 * @throws SQLException if the counters cannot be read
+	 */
+	long get(Connection con, Table table) throws SQLException {
+		if (!storage.existingTables.contains(TABLE)) {
+			return -1;
+		}
+		final PreparedStatement statement=prepare(con,SUM);
+		statement.setString(1,table.countKey);
+		try (final ResultSet rc=storage.executeResultSet(statement)) {
+			if (rc.next()) {
+				final long count=rc.getLong(1);
+				return rc.wasNull() ? -1 : count;
+			}
+			return -1;
+		}
+	}
+
+	/**
+	 * Sets the number of records of a table, in the current transaction.
+	 *
+	 * @param con the connection of the transaction
+	 * @param table the table
+	 * @param count the number of records of the table
+	 * @throws SQLException if the counters cannot be updated
+	 */
+	void reset(Connection con, Table table, long count) throws SQLException {
+		reset(con,table.countKey,count);
+	}
+
+	private void reset(Connection con, String key, long count) throws SQLException {
+		remove(con,key);
+		final PreparedStatement statement=prepare(con,INSERT);
+		statement.clearBatch();
+		for (int shard=0;shard<SHARDS;shard++) {
+			statement.setString(1,key);
+			statement.setInt(2,shard);
+			statement.setLong(3,shard==0 ? count : 0);
+			statement.addBatch();
+		}
+		storage.executeBatch(statement);
+	}
+
+	/**
+	 * Removes the counters of a table, in the current transaction.
+	 *
+	 * @param con the connection of the transaction
+	 * @param table the table
+	 * @throws SQLException if the counters cannot be removed
+	 */
+	void remove(Connection con, Table table) throws SQLException {
+		remove(con,table.countKey);
+	}
+
+	private void remove(Connection con, String key) throws SQLException {
+		final PreparedStatement statement=prepare(con,DELETE);
+		statement.setString(1,key);
+		storage.execute(statement);
+	}
+}
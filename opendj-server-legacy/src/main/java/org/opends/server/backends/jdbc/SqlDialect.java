@@ -0,0 +1,263 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import java.sql.Connection;
+
+/**
+ * SQL flavour of the database behind a JDBC backend, resolved once when the storage is opened.
+ */
+enum SqlDialect {
+	POSTGRES("h char(128),k bytea,v bytea,primary key(h,k)", "k bytea,v bytea,primary key(k)") {
+		@Override
+		String upsert(String table, int rows, int layout) {
+			return "insert into " + table + " (" + columns(layout) + ") values " + rows(rows, layout)
+					+ " ON CONFLICT (" + keyColumns(layout) + ") DO UPDATE set v=excluded.v";
+		}
+
+		@Override
+		boolean isMultiRowUpsert() {
+			return true;
+		}
+
+		/** The row version of an inserted row was never locked, an updated row is locked by the upsert. */
+		@Override
+		String countingUpsert(String table, int rows, int layout) {
+			return upsert(table, rows, layout) + " returning (xmax=0)";
+		}
+
+		@Override
+		String exportSnapshot() {
+			return "select pg_export_snapshot()";
+		}
+
+		@Override
+		String importSnapshot(String snapshot) {
+			return "set transaction snapshot '" + snapshot.replace("'", "''") + "'";
+		}
+
+		@Override
+		String replicationLag() {
+			return "select case when not pg_is_in_recovery() or pg_last_wal_receive_lsn()=pg_last_wal_replay_lsn() then 0"
+					+ " else cast(extract(epoch from now()-pg_last_xact_replay_timestamp())*1000 as bigint) end";
+		}
+	},
+	MYSQL("h char(128),k tinyblob,v longblob,primary key(h(128),k(255))", "k varbinary(3072),v longblob,primary key(k)") {
+		@Override
+		String upsert(String table, int rows, int layout) {
+			return "insert into " + table + " (" + columns(layout) + ") values " + rows(rows, layout)
+					+ " as new ON DUPLICATE KEY UPDATE v=new.v";
+		}
+
+		@Override
+		boolean isMultiRowUpsert() {
+			return true;
+		}
+	},
+	/** ANSI MERGE without ; */
+	ORACLE("h char(128),k raw(2000),v blob,primary key(h,k)", "k raw(2000),v blob,primary key(k)") {
+		@Override
+		String upsert(String table, int rows, int layout) {
+			return merge(table, " from dual", layout);
+		}
+
+		@Override
+		String getCountColumns() {
+			return "t varchar2(64),s number(10),n number(19),primary key(t,s)";
+		}
+	},
+	/**
+	 * ANSI MERGE with ; SQL Server limits the index keys to 900 bytes, so the trees stay in the version 1 layout
+	 * whose primary key is the hash of the key: the keys are not limited, the cursors sort them without index.
+	 */
+	MSSQL("h char(128),k varbinary(max),v image,primary key(h)", null) {
+		@Override
+		String upsert(String table, int rows, int layout) {
+			return merge(table, "", layout) + ";";
+		}
+
+		@Override
+		String selectForUpdate(String table, String where) {
+			return "select h,k,v from " + table + " with (updlock,rowlock) where " + where;
+		}
+	},
+	/** ANSI SQL: update before insert with not exists. */
+	ANSI("h char(128),k bytea,v bytea,primary key(h,k)", "k bytea,v bytea,primary key(k)");
+
+	/** Starts a transaction reading a consistent snapshot of the database. */
+	static final String REPEATABLE_READ = "set transaction isolation level repeatable read";
+
+	private final String hashedColumns;
+	private final String orderedColumns;
+
+	SqlDialect(String hashedColumns, String orderedColumns) {
+		this.hashedColumns = hashedColumns;
+		this.orderedColumns = orderedColumns;
+	}
+
+	/**
+	 * Returns the columns definition of a tree table.
+	 *
+	 * @param layout the layout of the table, {@link Table#LAYOUT_HASHED} or {@link Table#LAYOUT_ORDERED}
+	 * @return the columns definition of a tree table
+	 */
+	String getColumns(int layout) {
+		return layout == Table.LAYOUT_HASHED ? hashedColumns : orderedColumns;
+	}
+
+	/**
+	 * Returns whether the trees can be stored in the {@link Table#LAYOUT_ORDERED} layout, whose primary key is
+	 * the key itself.
+	 *
+	 * @return {@code false} if the database cannot index keys as long as the ones of the trees
+	 */
+	boolean isOrderedLayoutSupported() {
+		return orderedColumns != null;
+	}
+
+	/**
+	 * Returns the columns definition of the {@link RecordCounts#TABLE} table.
+	 *
+	 * @return the columns definition of the counters table
+	 */
+	String getCountColumns() {
+		return "t varchar(64),s int,n bigint,primary key(t,s)";
+	}
+
+	/**
+	 * Returns the statement inserting or updating {@code rows} rows of a table.
+	 *
+	 * @param table the table name
+	 * @param rows the number of rows, always 1 unless {@link #isMultiRowUpsert()}
+	 * @param layout the layout of the table
+	 * @return the upsert statement, or {@code null} if the database has no upsert statement
+	 */
+	String upsert(String table, int rows, int layout) {
+		return null;
+	}
+
+	/**
+	 * Returns whether a single upsert statement can insert or update several rows.
+	 *
+	 * @return {@code true} if {@link #upsert(String, int, int)} accepts several rows
+	 */
+	boolean isMultiRowUpsert() {
+		return false;
+	}
+
+	/**
+	 * Returns the query inserting or updating {@code rows} rows of a table which returns a row per inserted or updated
+	 * row, with a boolean column telling whether the row was inserted.
+	 *
+	 * @param table the table name
+	 * @param rows the number of rows
+	 * @param layout the layout of the table
+	 * @return the upsert query, or {@code null} if the database cannot tell the inserted rows from the updated ones
+	 */
+	String countingUpsert(String table, int rows, int layout) {
+		return null;
+	}
+
+	/**
+	 * Returns the query exporting the snapshot of the current transaction so other connections can read
+	 * the same data, run after {@link #REPEATABLE_READ}.
+	 *
+	 * @return the query returning the snapshot identifier, or {@code null} if snapshots cannot be shared
+	 */
+	String exportSnapshot() {
+		return null;
+	}
+
+	/**
+	 * Returns the statement making the current transaction read an exported snapshot, run after {@link #REPEATABLE_READ}.
+	 *
+	 * @param snapshot the snapshot identifier returned by {@link #exportSnapshot()}
+	 * @return the statement importing the snapshot
+	 */
+	String importSnapshot(String snapshot) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Returns the query measuring the replication lag of a read replica.
+	 *
+	 * @return the query returning the replication lag in milliseconds, or {@code null} if the lag cannot be measured
+	 */
+	String replicationLag() {
+		return null;
+	}
+
+	/**
+	 * Returns the statement selecting and locking the rows of a {@link Table#LAYOUT_HASHED} table
+	 * until the end of the transaction.
+	 *
+	 * @param table the table name
+	 * @param where the condition of the selected rows
+	 * @return the select statement
+	 */
+	String selectForUpdate(String table, String where) {
+		return "select h,k,v from " + table + " where " + where + " for update";
+	}
+
+	static String columns(int layout) {
+		return layout == Table.LAYOUT_HASHED ? "h,k,v" : "k,v";
+	}
+
+	static String keyColumns(int layout) {
+		return layout == Table.LAYOUT_HASHED ? "h, k" : "k";
+	}
+
+	static String rows(int rows, int layout) {
+		final String row = layout == Table.LAYOUT_HASHED ? "(?,?,?)" : "(?,?)";
+		final StringBuilder sb = new StringBuilder(rows * (row.length() + 1));
+		for (int i = 0; i < rows; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append(row);
+		}
+		return sb.toString();
+	}
+
+	static String merge(String table, String from, int layout) {
+		if (layout == Table.LAYOUT_HASHED) {
+			return "merge into " + table + " old using (select ? h,? k,? v" + from + ") new on (old.h=new.h and old.k=new.k)"
+					+ " WHEN MATCHED THEN UPDATE SET old.v=new.v WHEN NOT MATCHED THEN INSERT (h,k,v) VALUES (new.h,new.k,new.v)";
+		}
+		return "merge into " + table + " old using (select ? k,? v" + from + ") new on (old.k=new.k)"
+				+ " WHEN MATCHED THEN UPDATE SET old.v=new.v WHEN NOT MATCHED THEN INSERT (k,v) VALUES (new.k,new.v)";
+	}
+
+	/**
+	 * Resolves the dialect from the driver of a connection.
+	 *
+	 * @param con a connection to the database
+	 * @return the dialect of the database
+	 */
+	static SqlDialect of(Connection con) {
+		final String driverName = (con instanceof CachedConnection ? ((CachedConnection) con).parent : con).getClass().getName();
+		if (driverName.contains("postgres")) {
+			return POSTGRES;
+		} else if (driverName.contains("mysql")) {
+			return MYSQL;
+		} else if (driverName.contains("oracle")) {
+			return ORACLE;
+		} else if (driverName.contains("microsoft")) {
+			return MSSQL;
+		}
+		return ANSI;
+	}
+}
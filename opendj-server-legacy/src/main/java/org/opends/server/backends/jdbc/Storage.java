@@ -11,13 +11,10 @@
  * Header, with the fields enclosed by brackets [] replaced by your own identifying
  * information: "Portions Copyright [year] [name of copyright owner]".
  *
- * Copyright 2024-2025 3A Systems, LLC.
+ * Copyright 2024-2026 3A Systems, LLC.
  */
 package org.opends.server.backends.jdbc;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import org.forgerock.i18n.LocalizableMessage;
 import org.forgerock.i18n.slf4j.LocalizedLogger;
 import org.forgerock.opendj.config.server.ConfigChangeResult;
@@ -26,7 +23,11 @@ import org.forgerock.opendj.config.server.ConfigurationChangeListener;
 import org.forgerock.opendj.ldap.ByteSequence;
 import org.forgerock.opendj.ldap.ByteString;
 import org.forgerock.opendj.server.config.server.JDBCBackendCfg;
+import org.forgerock.opendj.ldap.ResultCode;
+import org.opends.server.api.Backupable;
+import org.opends.server.api.MonitorData;
 import org.opends.server.backends.pluggable.spi.*;
+import org.opends.server.core.DirectoryServer;
 import org.opends.server.core.ServerContext;
 import org.opends.server.types.BackupConfig;
 import org.opends.server.types.BackupDirectory;
@@ -34,23 +35,31 @@ import org.opends.server.types.DirectoryException;
 import org.opends.server.types.RestoreConfig;
 import org.opends.server.util.BackupManager;
 
-import java.nio.ByteBuffer;
-import java.security.MessageDigest;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.*;
 import java.util.*;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
 
 import static org.opends.server.backends.pluggable.spi.StorageUtils.addErrorMessage;
+import static org.opends.server.util.StaticUtils.getFileForPath;
+import static org.opends.server.util.StaticUtils.recursiveDelete;
 import static org.opends.server.util.StaticUtils.stackTraceToSingleLineString;
 
-public class Storage implements org.opends.server.backends.pluggable.spi.Storage, ConfigurationChangeListener<JDBCBackendCfg>{
+public class Storage implements org.opends.server.backends.pluggable.spi.Storage, Backupable, ConfigurationChangeListener<JDBCBackendCfg>{
 	
 	private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
 
     private JDBCBackendCfg config;
+    private final ServerContext serverContext;
 	  
 	public Storage(JDBCBackendCfg cfg, ServerContext serverContext) {
         this.config = cfg;
+        this.serverContext = serverContext;
+        this.cache = new ReadCache(cfg);
 	    cfg.addJDBCChangeListener(this);
 	}
 
@@ -66,6 +75,7 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 	    try
 	    {
 	    	this.config = cfg;
+	    	configurePools();
 	    }
 	    catch (Exception e)
 	    {
@@ -88,16 +98,103 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		return statement.executeUpdate();
 	}
 
+	int[] executeBatch(PreparedStatement statement) throws SQLException {
+		if (logger.isTraceEnabled()) {
+			logger.trace(LocalizableMessage.raw("jdbc batch: %s",statement));
+		}
+		return statement.executeBatch();
+	}
+
     Connection getConnection() throws Exception {
 		return CachedConnection.getConnection(config.getDBDirectory());
 	}
 
+	/** Applies the pool size and borrow timeout of the configuration to the pools of the primary and the replicas. */
+	void configurePools() {
+		ConnectionPool.get(config.getDBDirectory()).configure(config.getDBPoolSize(), config.getDBPoolBorrowTimeout());
+		for (ConnectionPool replica : replicas) {
+			replica.configure(config.getDBPoolSize(), config.getDBPoolBorrowTimeout());
+		}
+	}
+
+	/**
+	 * Returns whether a failure is caused by the connection to the database rather than by the statement,
+	 * so the operation can be run again against another database.
+	 */
+	static boolean isConnectionFailure(Throwable e) {
+		for (Throwable cause=e; cause!=null; cause=cause.getCause()) {
+			if (cause instanceof SQLTransientConnectionException || cause instanceof SQLNonTransientConnectionException
+					|| cause instanceof SQLRecoverableException) {
+				return true;
+			}
+			if (cause instanceof SQLException) {
+				final String state=((SQLException) cause).getSQLState();
+				if (state!=null && state.startsWith("08")) { //connection exception class of SQLSTATE
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/** Pools of the read replicas, loaded when the storage is opened. */
+	volatile List<ConnectionPool> replicas=Collections.emptyList();
+	final AtomicInteger nextReplica=new AtomicInteger();
+
+	/**
+	 * Returns the pool of the next read replica in round robin order, skipping the replicas lagging
+	 * more than the configured maximum.
+	 *
+	 * @return the pool of a read replica, or {@code null} if none is available
+	 */
+	ConnectionPool getReadReplica() {
+		final List<ConnectionPool> replicas=this.replicas;
+		final long maxLag=config.getDBReadReplicaMaxLag();
+		final int start=nextReplica.getAndIncrement()&Integer.MAX_VALUE;
+		for (int i=0;i<replicas.size();i++) {
+			final ConnectionPool replica=replicas.get((start+i)%replicas.size());
+			if (maxLag<0 || replica.getReplicationLag(dialect)<=maxLag) {
+				return replica;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the statement prepared by the connection for the SQL, prepared once per connection and kept open:
+	 * callers must close the result sets but not the statement.
+	 */
+	static PreparedStatement prepare(Connection con, String sql) throws SQLException {
+		return ((CachedConnection) con).prepareCachedStatement(sql);
+	}
 
 	AccessMode accessMode=AccessMode.READ_ONLY;
+	SqlDialect dialect=SqlDialect.ANSI;
 	@Override
 	public void open(AccessMode accessMode) throws Exception {
 		try (final Connection con=getConnection()) {
 			this.accessMode = accessMode;
+			dialect=SqlDialect.of(con);
+			existingTables.clear();
+			try (final ResultSet rs = con.getMetaData().getTables(null, null, null, new String[]{"TABLE"})) {
+				while (rs.next()) {
+					existingTables.add(rs.getString("TABLE_NAME").toLowerCase());
+				}
+			}
+			if (accessMode.isWriteable()) {
+				counts.initialize(con);
+			}
+			if (MIGRATE && accessMode.isWriteable() && dialect.isOrderedLayoutSupported()) {
+				migration=new LayoutMigration(this);
+			}
+			tables.replaceAll((treeName, table) -> newTable(treeName));
+			final List<ConnectionPool> replicas=new ArrayList<>();
+			for (String replica : config.getDBReadReplica()) {
+				replicas.add(ConnectionPool.get(replica));
+			}
+			this.replicas=replicas;
+			configurePools();
+			cache=new ReadCache(config);
 			storageStatus = StorageStatus.working();
 		}
 	}
@@ -107,35 +204,82 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 	public StorageStatus getStorageStatus() {
 		return storageStatus;
 	}
+
+	@Override
+	public void addMonitorData(MonitorData monitorData) {
+		ConnectionPool.get(config.getDBDirectory()).addMonitorData(monitorData, "db-pool-primary");
+		final List<ConnectionPool> replicas=this.replicas;
+		for (int i=0;i<replicas.size();i++) {
+			replicas.get(i).addMonitorData(monitorData, "db-pool-replica-"+(i+1));
+		}
+		cache.addMonitorData(monitorData);
+	}
 	
 	@Override
 	public void close() {
 		storageStatus = StorageStatus.lockedDown(LocalizableMessage.raw("closed"));
+		cache.invalidateAll();
+		if (migration!=null) {
+			migration.shutdown();
+			migration=null;
+		}
 	}
 
-	final LoadingCache<TreeName,String> tree2table= CacheBuilder.newBuilder()
-			.build(new CacheLoader<TreeName, String>() {
-				@Override
-				public String load(TreeName treeName) throws Exception {
-					final MessageDigest md = MessageDigest.getInstance("SHA-224");
-					final byte[] messageDigest = md.digest(treeName.toString().getBytes());
-					final StringBuilder hashtext = new StringBuilder(56);
-					for (byte b : messageDigest) {
-						String hex = Integer.toHexString(0xff & b);
-						if (hex.length() == 1) hashtext.append('0');
-						hashtext.append(hex);
-					}
-					return "opendj_"+hashtext;
-				}
-			});
+	/** Whether the trees stored in the version 1 layout are copied to the version 2 layout in the background. */
+	static final boolean MIGRATE=Boolean.parseBoolean(System.getProperty("org.openidentityplatform.opendj.jdbc.migrate","false"));
+
+	/** Lower case names of the tables of the database, loaded when the storage is opened. */
+	final Set<String> existingTables=ConcurrentHashMap.newKeySet();
+
+	final Map<TreeName,Table> tables=new ConcurrentHashMap<>();
+
+	final RecordCounts counts=new RecordCounts(this);
+
+	/**
+	 * Records read from the database, sized by the configuration when the storage is opened,
+	 * package private and not final for testing.
+	 */
+	ReadCache cache;
+
+	/**
+	 * Read locked by every write transaction until it commits and write locked by the layout migration
+	 * when it needs that no write is in progress.
+	 */
+	final StampedLock writeTransactions=new StampedLock();
+
+	volatile LayoutMigration migration;
+
+	Table getTable(TreeName treeName) {
+		final Table table=tables.get(treeName);
+		return table!=null?table:tables.computeIfAbsent(treeName, this::newTable);
+	}
+
+	/**
+	 * Returns the table of a tree: the version 1 layout if the tree was created with it or if the database
+	 * does not support the version 2 layout, the version 2 layout otherwise.
+	 */
+	Table newTable(TreeName treeName) {
+		final Table hashed=new Table(treeName, Table.LAYOUT_HASHED, dialect);
+		if (!dialect.isOrderedLayoutSupported()) {
+			return hashed;
+		}
+		final Table ordered=new Table(treeName, Table.LAYOUT_ORDERED, dialect);
+		if (!existingTables.contains(hashed.name.toLowerCase())) {
+			return ordered;
+		}
+		if (existingTables.contains(ordered.name.toLowerCase())) { //interrupted migration: keep both tables in sync
+			hashed.migrationTarget=ordered;
+		}
+		final LayoutMigration migration=this.migration;
+		if (migration!=null) {
+			migration.submit(hashed);
+		}
+		return hashed;
+	}
 
 	String getTableName(TreeName treeName) {
-        try {
-            return tree2table.get(treeName);
-        } catch (ExecutionException e) {
-            throw new RuntimeException(e);
-        }
-    }
+		return getTable(treeName).name;
+	}
 
 	@Override
 	public void removeStorageFiles() throws StorageRuntimeException {
@@ -152,8 +296,13 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 			try (final Connection con = getConnection()) {
 				try {
 					for (final TreeName treeName : trees) {
-						try (final PreparedStatement statement = con.prepareStatement("drop table " + getTableName(treeName))) {
-							execute(statement);
+						final Table table=getTable(treeName);
+						dropTable(con, table);
+						if (table.migrationTarget!=null) {
+							dropTable(con, table.migrationTarget);
+						}
+						if (existingTables.contains(RecordCounts.TABLE)) {
+							counts.remove(con, table);
 						}
 					}
 					con.commit();
@@ -165,6 +314,8 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 				}
 			} catch (Exception e) {
 				throw new StorageRuntimeException(e);
+			} finally {
+				cache.invalidateAll();
 			}
 		}
 		if (!isOpen) {
@@ -172,9 +323,48 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		}
 	}
 	
+	void createTable(Connection con, Table table) throws SQLException {
+		try (final PreparedStatement statement=con.prepareStatement("create table "+table.name+" ("+table.columns+")")){
+			execute(statement);
+		}
+		existingTables.add(table.name.toLowerCase());
+		CachedConnection.ddlGeneration.incrementAndGet();
+	}
+
+	void dropTable(Connection con, Table table) throws SQLException {
+		if (existingTables.contains(table.name.toLowerCase())) {
+			try (final PreparedStatement statement = con.prepareStatement("drop table " + table.name)) {
+				execute(statement);
+			}
+			existingTables.remove(table.name.toLowerCase());
+			CachedConnection.ddlGeneration.incrementAndGet();
+		}
+	}
+
 	//operation
 	@Override
 	public <T> T read(ReadOperation<T> readOperation) throws Exception {
+		final ConnectionPool replica=getReadReplica();
+		if (replica!=null) {
+			Connection replicaCon=null;
+			try {
+				replicaCon=replica.borrow();
+			} catch (SQLException e) { //replica not available: read the primary
+				logger.traceException(e);
+			}
+			if (replicaCon!=null) {
+				try(final Connection con=replicaCon) {
+					final ReadableTransactionImpl txn=new ReadableTransactionImpl(con);
+					txn.populateCache=false; //the records of a lagging replica could outlive their invalidation
+					return readOperation.run(txn);
+				} catch (Exception e) {
+					if (!isConnectionFailure(e)) {
+						throw e;
+					}
+					logger.traceException(e); //connection to the replica lost: read the primary
+				}
+			}
+		}
 		try(final Connection con=getConnection()) {
 			return readOperation.run(new ReadableTransactionImpl(con));
 		}
@@ -182,16 +372,25 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 
 	@Override
 	public void write(WriteOperation writeOperation) throws Exception {
+		final long stamp=writeTransactions.readLock();
 		try (final Connection con=getConnection()) {
 			try {
-				writeOperation.run(new WriteableTransactionTransactionImpl(con));
-				con.commit();
+				final WriteableTransactionTransactionImpl txn=new WriteableTransactionTransactionImpl(con);
+				try {
+					writeOperation.run(txn);
+					txn.flush();
+					con.commit();
+				} finally {
+					txn.invalidateCache();
+				}
 			} catch (Exception e) {
 				try {
 					con.rollback();
 				} catch (SQLException ex) {}
 				throw e;
 			}
+		} finally {
+			writeTransactions.unlockRead(stamp);
 		}
 	}
 
@@ -204,97 +403,89 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		return Arrays.equals(NULL,db)?new byte[0]:db;
 	}
 
-	final LoadingCache<ByteBuffer,String> key2hash= CacheBuilder.newBuilder()
-			.softValues()
-			.build(new CacheLoader<ByteBuffer, String>() {
-				@Override
-				public String load(ByteBuffer key) throws Exception {
-					final MessageDigest md = MessageDigest.getInstance("SHA-512");
-					final byte[] messageDigest = md.digest(key.array());
-					final StringBuilder hashtext = new StringBuilder(128);
-					for (byte b : messageDigest) {
-						String hex = Integer.toHexString(0xff & b);
-						if (hex.length() == 1) hashtext.append('0');
-						hashtext.append(hex);
-					}
-					return hashtext.toString();
-				}
-			});
 	private class ReadableTransactionImpl implements ReadableTransaction {
 		final Connection con;
-		boolean isReadOnly=true;
+		/** Whether the records read from the database are put in the {@link #cache}. */
+		boolean populateCache=true;
 
 		public ReadableTransactionImpl(Connection con) {
 			this.con=con;
 		}
 
+		/** Sends the buffered writes of this transaction to the database, nothing to do for a read-only transaction. */
+		void flush() {
+		}
+
 		@Override
 		public ByteString read(TreeName treeName, ByteSequence key) {
-			try (final PreparedStatement statement=con.prepareStatement("select v from "+getTableName(treeName)+" where h=? and k=?")){
-				statement.setString(1,key2hash.get(ByteBuffer.wrap(key.toByteArray())));
-				statement.setBytes(2,real2db(key.toByteArray()));
+			final ByteString cacheKey=key.toByteString();
+			final ByteString cached=cache.get(treeName,cacheKey);
+			if (cached!=null) {
+				return cached==ReadCache.ABSENT ? null : cached;
+			}
+			final long generation=cache.getGeneration();
+			final ByteString value=readDatabase(treeName,key);
+			if (populateCache) {
+				cache.put(treeName,cacheKey,value,generation);
+			}
+			return value;
+		}
+
+		ByteString readDatabase(TreeName treeName, ByteSequence key) {
+			try {
+				final Table table=getTable(treeName);
+				final PreparedStatement statement=prepare(con,table.read);
+				table.bindKey(statement,1,key);
 				try(ResultSet rc=executeResultSet(statement)) {
 					return rc.next() ? ByteString.wrap(rc.getBytes("v")) : null;
 				}
-			}catch (SQLException|ExecutionException e) {
+			}catch (SQLException e) {
 				throw new StorageRuntimeException(e);
 			}
 		}
 
 		@Override
 		public Cursor<ByteString, ByteString> openCursor(TreeName treeName) {
-			return new CursorImpl(isReadOnly,con,treeName);
+			return new CursorImpl(this,treeName);
 		}
 
 		@Override
 		public long getRecordCount(TreeName treeName) {
-			try (final PreparedStatement statement=con.prepareStatement("select count(*) from "+getTableName(treeName));
-				 final ResultSet rc=executeResultSet(statement)){
-				return rc.next() ? rc.getLong(1) : 0;
+			flush();
+			final Table table=getTable(treeName);
+			try {
+				final long count=counts.get(con,table);
+				if (count>=0) {
+					return count;
+				}
+				try (final ResultSet rc=executeResultSet(prepare(con,table.count))){ //not counted yet: read-only storage
+					return rc.next() ? rc.getLong(1) : 0;
+				}
 			}catch (SQLException e) {
 				throw new StorageRuntimeException(e);
 			}
 		}
 	}
-	private final class WriteableTransactionTransactionImpl extends ReadableTransactionImpl implements WriteableTransaction {
+	final class WriteableTransactionTransactionImpl extends ReadableTransactionImpl implements WriteableTransaction {
 
 		public WriteableTransactionTransactionImpl(Connection con) {
 			super(con);
 			if (!accessMode.isWriteable()) {
 				throw new ReadOnlyStorageException();
 			}
-			isReadOnly = false;
 		}
 
 		boolean isExistsTable(TreeName treeName) {
-			try (final ResultSet rs = con.getMetaData().getTables(null, null, null, new String[]{"TABLE"})) {
-				while (rs.next()) {
-					if (tree2table.get(treeName).equalsIgnoreCase(rs.getString("TABLE_NAME"))) {
-						return true;
-					}
-				}
-			} catch (Exception e) {
-				throw new StorageRuntimeException(e);
-			}
-			return false;
-		}
-
-		String getTableDialect() {
-			if (((CachedConnection) con).parent.getClass().getName().contains("oracle")) {
-				return "h char(128),k raw(2000),v blob,primary key(h,k)";
-			}else if (((CachedConnection) con).parent.getClass().getName().contains("mysql")) {
-				return "h char(128),k tinyblob,v longblob,primary key(h(128),k(255))";
-			}else if (((CachedConnection) con).parent.getClass().getName().contains("microsoft")) {
-				return "h char(128),k varbinary(max),v image,primary key(h)";
-			}
-			return "h char(128),k bytea,v bytea,primary key(h,k)";
+			return existingTables.contains(getTableName(treeName).toLowerCase());
 		}
 
 		@Override
 		public void openTree(TreeName treeName, boolean createOnDemand) {
 			if (createOnDemand && !isExistsTable(treeName)) {
-				try (final PreparedStatement statement=con.prepareStatement("create table "+getTableName(treeName)+" ("+getTableDialect()+")")){
-					execute(statement);
+				try {
+					final Table table=getTable(treeName);
+					createTable(con, table);
+					counts.reset(con, table, 0);
 					con.commit();
 				}catch (SQLException e) {
 					throw new StorageRuntimeException(e);
@@ -303,9 +494,17 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		}
 		
 		public void clearTree(TreeName treeName) {
-			try (final PreparedStatement statement=con.prepareStatement("delete from "+getTableName(treeName))){
-				execute(statement);
+			discardPending(treeName);
+			final Table table=getTable(treeName);
+			try {
+				execute(prepare(con,table.deleteAll));
+				if (table.migrationTarget!=null) {
+					execute(prepare(con,table.migrationTarget.deleteAll));
+				}
+				countDeltas.remove(table.countKey);
+				counts.reset(con, table, 0);
 				con.commit();
+				cleared.add(treeName);
 			}catch (SQLException e) {
 				throw new StorageRuntimeException(e);
 			}
@@ -313,78 +512,391 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 
 		@Override
 		public void deleteTree(TreeName treeName) {
-			if (isExistsTable(treeName)) {
-				try (final PreparedStatement statement = con.prepareStatement("drop table " + getTableName(treeName))) {
-					execute(statement);
-					con.commit();
-				} catch (SQLException e) {
-					throw new StorageRuntimeException(e);
+			discardPending(treeName);
+			final Table table=getTable(treeName);
+			try {
+				dropTable(con, table);
+				if (table.migrationTarget!=null) {
+					dropTable(con, table.migrationTarget);
 				}
+				countDeltas.remove(table.countKey);
+				counts.remove(con, table);
+				con.commit();
+				cleared.add(treeName);
+			} catch (SQLException e) {
+				throw new StorageRuntimeException(e);
 			}
+			tables.remove(treeName); //created again in the version 2 layout if supported
 		}
 
-		@Override
-		public void put(TreeName treeName, ByteSequence key, ByteSequence value) {
-			try {
-				upsert(treeName, key, value);
-			} catch (SQLException|ExecutionException e) {
-				throw new RuntimeException(e);
+		/** Writes buffered per tree in key order until the next flush, a {@code null} value stands for a delete. */
+		final Map<TreeName,TreeMap<ByteString,ByteString>> pending=new TreeMap<>();
+		int pendingCount=0;
+		/**
+		 * Whether keys exist in the database, for the keys read by this transaction and the keys of the last flush, so the
+		 * writes of these keys change the number of records without looking them up.
+		 */
+		final Map<TreeName,Map<ByteString,Boolean>> existing=new HashMap<>();
+		/** Number of keys read since the last flush whose existence is kept in {@link #existing}. */
+		int knownReads=0;
+		/** Changes of the number of records by {@link Table#countKey} not yet added to the {@link RecordCounts}. */
+		final Map<String,Long> countDeltas=new HashMap<>();
+		/** Whether the changes of the number of records are counted, the importer counts the trees when it ends. */
+		boolean counting=true;
+		/** Keys written by this transaction in the cached trees, invalidated from the {@link #cache} when it is over. */
+		final Map<TreeName,Set<ByteString>> written=new HashMap<>();
+		/** Trees cleared or deleted by this transaction. */
+		final Set<TreeName> cleared=new HashSet<>();
+		/**
+		 * Whether the written keys are tracked to be invalidated, bulk loads do not use the cache
+		 * and invalidate all of it instead.
+		 */
+		boolean invalidating=true;
+
+		synchronized void written(TreeName treeName, ByteString key) {
+			if (invalidating && cache.isEnabled(treeName)) {
+				written.computeIfAbsent(treeName, k -> new HashSet<>()).add(key);
+			}
+		}
+
+		/** Whether a read must skip the cache, which can hold a value older than a write of this transaction. */
+		synchronized boolean isWritten(TreeName treeName, ByteString key) {
+			if (!invalidating || cleared.contains(treeName)) {
+				return true;
+			}
+			final Set<ByteString> keys=written.get(treeName);
+			return keys!=null && keys.contains(key);
+		}
+
+		/** Invalidates the records written by this transaction, once it is committed or rolled back. */
+		synchronized void invalidateCache() {
+			cache.invalidate(written, cleared);
+			written.clear();
+			cleared.clear();
+		}
+
+		Map<ByteString,ByteString> getPending(TreeName treeName) {
+			return pending.computeIfAbsent(treeName, k -> new TreeMap<>());
+		}
+
+		synchronized void discardPending(TreeName treeName) {
+			final Map<ByteString,ByteString> records=pending.remove(treeName);
+			if (records!=null) {
+				pendingCount-=records.size();
 			}
+			existing.remove(treeName);
+		}
+
+		synchronized void buffer(TreeName treeName, ByteString key, ByteString value) {
+			buffer(treeName, key, value, null);
 		}
 
-		boolean upsert(TreeName treeName, ByteSequence key, ByteSequence value) throws SQLException, ExecutionException {
-			final String driverName=((CachedConnection) con).parent.getClass().getName();
-			if (driverName.contains("postgres")) { //postgres upsert
-				try (final PreparedStatement statement = con.prepareStatement("insert into " + getTableName(treeName) + " (h,k,v) values (?,?,?) ON CONFLICT (h, k) DO UPDATE set v=excluded.v")) {
-					statement.setString(1, key2hash.get(ByteBuffer.wrap(key.toByteArray())));
-					statement.setBytes(2, real2db(key.toByteArray()));
-					statement.setBytes(3, value.toByteArray());
-					return (execute(statement) == 1 && statement.getUpdateCount() > 0);
+		/**
+		 * Buffers a write.
+		 *
+		 * @param existed whether the key exists in the database if it was just read from it, {@code null} if unknown
+		 */
+		synchronized void buffer(TreeName treeName, ByteString key, ByteString value, Boolean existed) {
+			final Map<ByteString,ByteString> records=getPending(treeName);
+			if (!records.containsKey(key)) {
+				pendingCount++;
+				written(treeName, key);
+				if (existed!=null && counting) {
+					existing.computeIfAbsent(treeName, k -> new HashMap<>()).put(key, existed);
 				}
-			}else if (driverName.contains("mysql")) { //mysql upsert
-				try (final PreparedStatement statement = con.prepareStatement("insert into " + getTableName(treeName) + " (h,k,v) values (?,?,?) as new ON DUPLICATE KEY UPDATE v=new.v")) {
-					statement.setString(1, key2hash.get(ByteBuffer.wrap(key.toByteArray())));
-					statement.setBytes(2, real2db(key.toByteArray()));
-					statement.setBytes(3, value.toByteArray());
-					return (execute(statement) == 1 && statement.getUpdateCount() > 0);
+			}
+			records.put(key, value);
+			if (pendingCount>=BATCH_SIZE) {
+				flush();
+			}
+		}
+
+		/** Keeps whether a key read from the database exists, up to {@link #BATCH_SIZE} keys between two flushes. */
+		synchronized void known(TreeName treeName, ByteString key, boolean exists) {
+			if (counting && knownReads<BATCH_SIZE) {
+				existing.computeIfAbsent(treeName, k -> new HashMap<>()).put(key, exists);
+				knownReads++;
+			}
+		}
+
+		void addCountDelta(Table table, long delta) {
+			if (counting && delta!=0) {
+				countDeltas.merge(table.countKey, delta, Long::sum);
+			}
+		}
+
+		/**
+		 * Applies the pending writes of a table and returns the change of its number of records. The existence of the keys
+		 * is told by the database if the dialect counts the inserted rows, known if the keys were read or flushed before,
+		 * or else looked up before the writes.
+		 */
+		long writeCounting(Table table, List<ByteString> deletes, Map<ByteString,ByteString> upserts, Map<ByteString,Boolean> known) throws SQLException {
+			long delta=0;
+			final List<ByteString> lookups=new ArrayList<>();
+			for (final ByteString key : deletes) {
+				final Boolean existed=known!=null ? known.get(key) : null;
+				if (existed==null) {
+					lookups.add(key);
+				} else if (existed) {
+					delta--;
+				}
+			}
+			//upsert in a single pass in key order whatever the keys known, so concurrent transactions lock rows in the same order
+			final boolean countedByDatabase=table.upsert==null || (table.countingUpserts!=null && !isKnown(upserts.keySet(), known));
+			if (!countedByDatabase) {
+				for (final ByteString key : upserts.keySet()) {
+					final Boolean existed=known!=null ? known.get(key) : null;
+					if (existed==null) {
+						lookups.add(key);
+						delta++;
+					} else if (!existed) {
+						delta++;
+					}
+				}
+			}
+			delta-=countExisting(table, lookups);
+			deleteBatch(table,deletes);
+			if (table.upsert==null) {
+				delta+=updateInsertBatch(table,upserts);
+			} else if (countedByDatabase) {
+				delta+=countingUpsert(table,upserts);
+			} else {
+				upsertBatch(table,upserts);
+			}
+			return delta;
+		}
+
+		boolean isKnown(Set<ByteString> keys, Map<ByteString,Boolean> known) {
+			return known!=null && known.keySet().containsAll(keys);
+		}
+
+		/** Returns how many of the keys exist in the table, looked up {@link #MULTI_ROW_SIZE} keys per query. */
+		int countExisting(Table table, List<ByteString> keys) throws SQLException {
+			if (keys.isEmpty()) {
+				return 0;
+			}
+			final Set<ByteString> found=new HashSet<>();
+			final PreparedStatement statement=prepare(con,table.exists);
+			for (int i=0;i<keys.size();i+=MULTI_ROW_SIZE) {
+				for (int j=0;j<MULTI_ROW_SIZE;j++) { //the last key repeated up to the number of parameters
+					table.bindLookupKey(statement,j+1,keys.get(Math.min(i+j,keys.size()-1)));
 				}
-			}else if (driverName.contains("oracle")) { //ANSI MERGE without ;
-				try (final PreparedStatement statement = con.prepareStatement("merge into " + getTableName(treeName) + " old using (select ? h,? k,? v from dual) new on (old.h=new.h and old.k=new.k) WHEN MATCHED THEN UPDATE SET old.v=new.v WHEN NOT MATCHED THEN INSERT (h,k,v) VALUES (new.h,new.k,new.v)")) {
-					statement.setString(1, key2hash.get(ByteBuffer.wrap(key.toByteArray())));
-					statement.setBytes(2, real2db(key.toByteArray()));
-					statement.setBytes(3, value.toByteArray());
-					return (execute(statement) == 1 && statement.getUpdateCount() > 0);
+				try (final ResultSet rc=executeResultSet(statement)) {
+					while (rc.next()) {
+						found.add(ByteString.wrap(db2real(rc.getBytes(1))));
+					}
 				}
-			}else if (driverName.contains("microsoft")) { //ANSI MERGE with ;
-				try (final PreparedStatement statement = con.prepareStatement("merge into " + getTableName(treeName) + " old using (select ? h,? k,? v) new on (old.h=new.h and old.k=new.k) WHEN MATCHED THEN UPDATE SET old.v=new.v WHEN NOT MATCHED THEN INSERT (h,k,v) VALUES (new.h,new.k,new.v);")) {
-					statement.setString(1, key2hash.get(ByteBuffer.wrap(key.toByteArray())));
-					statement.setBytes(2, real2db(key.toByteArray()));
-					statement.setBytes(3, value.toByteArray());
-					return (execute(statement) == 1 && statement.getUpdateCount() > 0);
+			}
+			int count=0;
+			for (final ByteString key : keys) {
+				if (found.contains(key)) {
+					count++;
 				}
-			}else { //ANSI SQL: try update before insert with not exists
-				return update(treeName,key,value) || insert(treeName,key,value);
 			}
+			return count;
 		}
 
-		boolean insert(TreeName treeName, ByteSequence key, ByteSequence value) throws SQLException, ExecutionException {
-			try (final PreparedStatement statement = con.prepareStatement("insert into " + getTableName(treeName) + " (h,k,v) select ?,?,? where not exists (select 1 from "+getTableName(treeName)+" where  h=? and k=? )")) {
-				statement.setString(1, key2hash.get(ByteBuffer.wrap(key.toByteArray())));
-				statement.setBytes(2, real2db(key.toByteArray()));
-				statement.setBytes(3, value.toByteArray());
-				statement.setString(4, key2hash.get(ByteBuffer.wrap(key.toByteArray())));
-				statement.setBytes(5, real2db(key.toByteArray()));
-				return (execute(statement)==1 && statement.getUpdateCount()>0);
+		@Override
+		synchronized void flush() {
+			if (pendingCount==0 && countDeltas.isEmpty()) {
+				return;
 			}
+			try {
+				for (final Map.Entry<TreeName,TreeMap<ByteString,ByteString>> entry : pending.entrySet()) {
+					final List<ByteString> deletes=new ArrayList<>();
+					final Map<ByteString,ByteString> upserts=new TreeMap<>();
+					for (final Map.Entry<ByteString,ByteString> record : entry.getValue().entrySet()) {
+						if (record.getValue()==null) {
+							deletes.add(record.getKey());
+						}else {
+							upserts.put(record.getKey(),record.getValue());
+						}
+					}
+					final Table table=getTable(entry.getKey());
+					if (counting) {
+						addCountDelta(table, writeCounting(table, deletes, upserts, existing.get(entry.getKey())));
+					} else {
+						deleteBatch(table,deletes);
+						upsertBatch(table,upserts);
+					}
+					final Table target=table.migrationTarget;
+					if (target!=null) {
+						deleteBatch(target,deletes);
+						upsertBatch(target,upserts);
+					}
+				}
+				if (!countDeltas.isEmpty()) {
+					counts.add(con, countDeltas);
+				}
+				existing.clear();
+				if (counting) { //the flushed keys are known until the next flush
+					for (final Map.Entry<TreeName,TreeMap<ByteString,ByteString>> entry : pending.entrySet()) {
+						final Map<ByteString,Boolean> known=new HashMap<>();
+						for (final Map.Entry<ByteString,ByteString> record : entry.getValue().entrySet()) {
+							known.put(record.getKey(), record.getValue()!=null);
+						}
+						existing.put(entry.getKey(), known);
+					}
+				}
+			} catch (SQLException e) {
+				existing.clear();
+				throw new StorageRuntimeException(e);
+			} finally {
+				pending.clear();
+				pendingCount=0;
+				knownReads=0;
+				countDeltas.clear();
+			}
+		}
+
+		synchronized boolean isPending(TreeName treeName, ByteSequence key) {
+			final Map<ByteString,ByteString> records=pending.get(treeName);
+			return records!=null && records.containsKey(key.toByteString());
 		}
 
-		boolean update(TreeName treeName, ByteSequence key, ByteSequence value) throws SQLException, ExecutionException {
-			try (final PreparedStatement statement=con.prepareStatement("update "+getTableName(treeName)+" set v=? where h=? and k=?")){
-				statement.setBytes(1,value.toByteArray());
-				statement.setString(2,key2hash.get(ByteBuffer.wrap(key.toByteArray())));
-				statement.setBytes(3,real2db(key.toByteArray()));
-				return (execute(statement)==1 && statement.getUpdateCount()>0);
+		@Override
+		public synchronized ByteString read(TreeName treeName, ByteSequence key) {
+			final Map<ByteString,ByteString> records=pending.get(treeName);
+			if (records!=null && records.containsKey(key.toByteString())) {
+				return records.get(key.toByteString());
 			}
+			final ByteString value=isWritten(treeName, key.toByteString()) ? readDatabase(treeName, key) : super.read(treeName, key);
+			known(treeName, key.toByteString(), value!=null);
+			return value;
+		}
+
+		@Override
+		public void put(TreeName treeName, ByteSequence key, ByteSequence value) {
+			buffer(treeName, key.toByteString(), value.toByteString());
+		}
+
+		void deleteBatch(Table table, List<ByteString> keys) throws SQLException {
+			if (keys.isEmpty()) {
+				return;
+			}
+			final PreparedStatement statement=prepare(con,table.delete);
+			statement.clearBatch(); //left over by a failed flush
+			for (final ByteString key : keys) {
+				table.bindKey(statement,1,key);
+				statement.addBatch();
+			}
+			executeBatch(statement);
+		}
+
+		void upsertBatch(Table table, Map<ByteString,ByteString> records) throws SQLException {
+			if (records.isEmpty()) {
+				return;
+			}
+			if (table.upsert!=null) {
+				upsert(table, records);
+			} else {
+				updateInsertBatch(table, records);
+			}
+		}
+
+		/**
+		 * ANSI SQL: batch update then batch insert of the records not updated.
+		 *
+		 * @return the number of records inserted
+		 */
+		int updateInsertBatch(Table table, Map<ByteString,ByteString> records) throws SQLException {
+			if (records.isEmpty()) {
+				return 0;
+			}
+			final List<Map.Entry<ByteString,ByteString>> entries=new ArrayList<>(records.entrySet());
+			PreparedStatement statement=prepare(con,table.update);
+			statement.clearBatch();
+			for (final Map.Entry<ByteString,ByteString> record : entries) {
+				statement.setBytes(1,record.getValue().toByteArray());
+				table.bindKey(statement,2,record.getKey());
+				statement.addBatch();
+			}
+			final int[] updated=executeBatch(statement);
+			final List<Integer> inserts=new ArrayList<>();
+			statement=prepare(con,table.insert);
+			statement.clearBatch();
+			for (int i=0;i<entries.size();i++) {
+				if (i>=updated.length || updated[i]<=0) { //not updated or unknown (SUCCESS_NO_INFO)
+					final Map.Entry<ByteString,ByteString> record=entries.get(i);
+					table.bindKey(statement,table.bindRow(statement,1,record.getKey(),record.getValue()),record.getKey());
+					statement.addBatch();
+					inserts.add(i);
+				}
+			}
+			if (inserts.isEmpty()) {
+				return 0;
+			}
+			final int[] inserted=executeBatch(statement);
+			int count=0;
+			for (int i=0;i<inserts.size();i++) {
+				//no information about the insert: inserted if the update told the record did not exist
+				if (i<inserted.length && (inserted[i]>0 || (inserted[i]==Statement.SUCCESS_NO_INFO && updated[inserts.get(i)]==0))) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * Batches the records with the multi-row upsert statement of the table, {@link #MULTI_ROW_SIZE} rows each,
+		 * if the dialect has one and the remaining records with the single row upsert statement.
+		 */
+		void upsert(Table table, Map<ByteString,ByteString> records) throws SQLException {
+			final Iterator<Map.Entry<ByteString,ByteString>> iterator=records.entrySet().iterator();
+			final int multiRowCount=table.multiRowUpsert==null?0:records.size()/MULTI_ROW_SIZE;
+			if (multiRowCount>0) {
+				final PreparedStatement statement=prepare(con,table.multiRowUpsert);
+				statement.clearBatch();
+				for (int batch=0;batch<multiRowCount;batch++) {
+					int index=1;
+					for (int i=0;i<MULTI_ROW_SIZE;i++) {
+						final Map.Entry<ByteString,ByteString> record=iterator.next();
+						index=table.bindRow(statement,index,record.getKey(),record.getValue());
+					}
+					statement.addBatch();
+				}
+				executeBatch(statement);
+			}
+			if (iterator.hasNext()) {
+				final PreparedStatement statement=prepare(con,table.upsert);
+				statement.clearBatch();
+				while (iterator.hasNext()) {
+					final Map.Entry<ByteString,ByteString> record=iterator.next();
+					table.bindRow(statement,1,record.getKey(),record.getValue());
+					statement.addBatch();
+				}
+				executeBatch(statement);
+			}
+		}
+
+		/**
+		 * Upserts the records with the {@link Table#countingUpserts} queries in key order, {@link #MULTI_ROW_SIZE} rows
+		 * per query and the remaining rows by powers of two.
+		 *
+		 * @return the number of records inserted
+		 */
+		int countingUpsert(Table table, Map<ByteString,ByteString> records) throws SQLException {
+			final Iterator<Map.Entry<ByteString,ByteString>> iterator=records.entrySet().iterator();
+			int remaining=records.size();
+			int count=0;
+			while (remaining>0) {
+				final int rows=Math.min(MULTI_ROW_SIZE,Integer.highestOneBit(remaining));
+				final PreparedStatement statement=prepare(con,table.countingUpserts.get(rows));
+				int index=1;
+				for (int i=0;i<rows;i++) {
+					final Map.Entry<ByteString,ByteString> record=iterator.next();
+					index=table.bindRow(statement,index,record.getKey(),record.getValue());
+				}
+				try (final ResultSet rc=executeResultSet(statement)) {
+					while (rc.next()) {
+						if (rc.getBoolean(1)) {
+							count++;
+						}
+					}
+				}
+				remaining-=rows;
+			}
+			return count;
 		}
 
 		@Override
@@ -395,61 +907,151 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 	        {
 				return false;
 	        }
-	        if (newValue == null)
-	        {
-				return delete(treeName, key);
-	        }
-	        put(treeName,key,newValue);
+	        final Boolean existed=isPending(treeName, key) ? null : oldValue!=null;
+	        buffer(treeName, key.toByteString(), newValue!=null ? newValue.toByteString() : null, existed);
 			return true;
 		}
 
 		@Override
-		public boolean delete(TreeName treeName, ByteSequence key) {
-			try (final PreparedStatement statement=con.prepareStatement("delete from "+getTableName(treeName)+" where h=? and k=?")){
-				statement.setString(1,key2hash.get(ByteBuffer.wrap(key.toByteArray())));
-				statement.setBytes(2,real2db(key.toByteArray()));
-				return (execute(statement)==1 && statement.getUpdateCount()>0);
-			}catch (SQLException|ExecutionException e) {
+		public synchronized boolean delete(TreeName treeName, ByteSequence key) {
+			final Map<ByteString,ByteString> records=pending.get(treeName);
+			if (records!=null && records.containsKey(key.toByteString())) { //the record is known: buffer its removal
+				final boolean exists=records.get(key.toByteString())!=null;
+				buffer(treeName, key.toByteString(), null);
+				return exists;
+			}
+			try {
+				final Table table=getTable(treeName);
+				final PreparedStatement statement=prepare(con,table.delete);
+				table.bindKey(statement,1,key);
+				final boolean deleted=execute(statement)>0;
+				if (deleted) {
+					addCountDelta(table, -1);
+				}
+				written(treeName, key.toByteString());
+				known(treeName, key.toByteString(), false);
+				final Table target=table.migrationTarget;
+				if (target!=null) {
+					final PreparedStatement targetStatement=prepare(con,target.delete);
+					target.bindKey(targetStatement,1,key);
+					execute(targetStatement);
+				}
+				return deleted;
+			}catch (SQLException e) {
 				throw new StorageRuntimeException(e);
 			}
 		}
 	}
 	
+	/** Maximum number of buffered writes of a transaction before they are flushed to the database. */
+	static final int BATCH_SIZE=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.jdbc.batch","1000"));
+	/** Number of rows inserted by a single multi-row upsert statement. */
+	static final int MULTI_ROW_SIZE=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.jdbc.batch.rows","64"));
+	/** Number of records an import writes between two commits. */
+	static final int IMPORT_COMMIT_SIZE=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.jdbc.import.commit","10000"));
+
+	/** Largest number of rows a cursor fetches from the database in a single page. */
+	static final int CURSOR_PAGE_SIZE=Integer.parseInt(System.getProperty("org.openidentityplatform.opendj.jdbc.cursor.page","1024"));
+	/** Number of rows fetched by the first page of a cursor, doubled on each next page up to {@link #CURSOR_PAGE_SIZE}. */
+	static final int CURSOR_FIRST_PAGE_SIZE=Math.min(16,CURSOR_PAGE_SIZE);
+
+	/**
+	 * Cursor seeking with bounded {@code k>=?} range queries: rows are fetched page by page in key order,
+	 * so the cost of a cursor depends on the number of rows visited and not on the size of the table.
+	 */
 	private final class CursorImpl implements Cursor<ByteString, ByteString> {
 		final TreeName treeName;
+		final ReadableTransactionImpl tx;
+
+		/** Rows of the current page which have not been visited yet. */
+		final Deque<ByteString[]> page=new ArrayDeque<>();
+		/** Greatest key read from the database so far, next page starts after it ({@code null} before the first key). */
+		ByteString lastFetchedKey=null;
+		/** Whether the last fetched page was the last one of the table. */
+		boolean exhausted=false;
+		int pageSize=CURSOR_FIRST_PAGE_SIZE;
 
-		final PreparedStatement statement;
-		final ResultSet rc;
-		final boolean isReadOnly;
-		public CursorImpl(boolean isReadOnly, Connection con, TreeName treeName) {
+		ByteString currentKey=null;
+		ByteString currentValue=null;
+
+		public CursorImpl(ReadableTransactionImpl tx, TreeName treeName) {
 			this.treeName=treeName;
-			this.isReadOnly=isReadOnly;
-			try {
-				statement=con.prepareStatement("select h,k,v from "+getTableName(treeName)+" order by k",
-						isReadOnly?ResultSet.TYPE_SCROLL_INSENSITIVE:ResultSet.TYPE_SCROLL_SENSITIVE,
-						isReadOnly?ResultSet.CONCUR_READ_ONLY:ResultSet.CONCUR_UPDATABLE);
-				rc=executeResultSet(statement);
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
+			this.tx=tx;
+		}
+
+		/**
+		 * Fetches the next page of rows in key order.
+		 *
+		 * @param fromKey the lower bound of the keys to fetch, {@code null} for the first key of the table
+		 * @param inclusive whether a row with the lower bound key must be fetched
+		 * @param limit the maximum number of rows to fetch
+		 */
+		void fetch(ByteSequence fromKey, boolean inclusive, int limit) {
+			page.clear();
+			tx.flush();
+			final Table table=getTable(treeName);
+			synchronized (tx) { //the statements of the connection are shared by the threads of an import
+				try {
+					final PreparedStatement statement=prepare(tx.con,fromKey==null?table.cursorFirst:(inclusive?table.cursorFrom:table.cursorAfter));
+					if (fromKey!=null) {
+						statement.setBytes(1,real2db(fromKey.toByteArray()));
+					}
+					statement.setMaxRows(limit);
+					statement.setFetchSize(limit);
+					try (ResultSet rc=executeResultSet(statement)) {
+						while (rc.next()) {
+							page.add(new ByteString[] {ByteString.wrap(db2real(rc.getBytes("k"))),ByteString.wrap(rc.getBytes("v"))});
+						}
+					}
+				}catch (SQLException e) {
+					throw new StorageRuntimeException(e);
+				}
+			}
+			exhausted=page.size()<limit;
+			if (!page.isEmpty()) {
+				lastFetchedKey=page.getLast()[0];
+			}
+		}
+
+		/** Fetches the next page after the greatest key read so far, growing the page size up to its maximum. */
+		void fetchNextPage() {
+			fetch(lastFetchedKey,false,pageSize);
+			pageSize=Math.min(pageSize*2,CURSOR_PAGE_SIZE);
+		}
+
+		/** Forgets the current position, the next fetched page starts after the provided key. */
+		void reset(ByteString fromKey) {
+			page.clear();
+			lastFetchedKey=fromKey;
+			exhausted=false;
+			pageSize=CURSOR_FIRST_PAGE_SIZE;
+			currentKey=null;
+			currentValue=null;
+		}
+
+		boolean moveToNextRow() {
+			final ByteString[] row=page.pollFirst();
+			if (row==null) {
+				currentKey=null;
+				currentValue=null;
+				return false;
 			}
+			currentKey=row[0];
+			currentValue=row[1];
+			return true;
 		}
 
 		@Override
 		public boolean next() {
-			try {
-				return rc.next();
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
+			if (page.isEmpty() && !exhausted) {
+				fetchNextPage();
 			}
+			return moveToNextRow();
 		}
 
 		@Override
 		public boolean isDefined() {
-			try{
-				return rc.getRow()>0;
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
-			}
+			return currentKey!=null;
 		}
 
 		@Override
@@ -457,11 +1059,7 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 			if (!isDefined()) {
 				throw new NoSuchElementException();
 			}
-			try{
-				return ByteString.wrap(db2real(rc.getBytes("k")));
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
-			}
+			return currentKey;
 		}
 
 		@Override
@@ -469,11 +1067,7 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 			if (!isDefined()) {
 				throw new NoSuchElementException();
 			}
-			try{
-				return ByteString.wrap(rc.getBytes("v"));
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
-			}
+			return currentValue;
 		}
 
 		@Override
@@ -481,119 +1075,91 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 			if (!isDefined()) {
 				throw new NoSuchElementException();
 			}
-			try{
-				rc.deleteRow();
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
+			if (!(tx instanceof WriteableTransactionTransactionImpl)) {
+				throw new UnsupportedOperationException();
 			}
+			((WriteableTransactionTransactionImpl) tx).delete(treeName,currentKey);
 		}
 
 		@Override
 		public void close() {
-			try{
-				rc.close();
-				statement.close();
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
-			}
+			reset(null);
 		}
 
-
 		@Override
 		public boolean positionToKeyOrNext(ByteSequence key) {
-			if (!isDefined() || key.compareTo(getKey())<0) { //restart iterator
-				try{
-					rc.first();
-				}catch (SQLException e) {
-					throw new StorageRuntimeException(e);
-				}
-			}
-			try{
-				if (!isDefined()){
-					return false;
-				}
-				do {
-					if (key.compareTo(getKey())<=0) {
-						return true;
-					}
-				}while(rc.next());
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
-			}
-			return false;
+			reset(null);
+			fetch(key,true,pageSize);
+			return moveToNextRow();
 		}
-		
+
 		@Override
 		public boolean positionToKey(ByteSequence key) {
-			if (!isDefined() || key.compareTo(getKey())<0) {  //restart iterator
-				try{
-					rc.first();
-				}catch (SQLException e) {
-					throw new StorageRuntimeException(e);
-				}
-			}
-			if (!isDefined()){
+			final ByteString value=tx.read(treeName,key);
+			reset(key.toByteString());
+			if (value==null) {
 				return false;
 			}
-			if (isDefined() && key.compareTo(getKey())==0) {
-				return true;
-			}
-			try{
-				do {
-					if (key.compareTo(getKey())==0) {
-						return true;
-					}
-				}while(rc.next());
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
-			}
-			return false;
+			currentKey=key.toByteString();
+			currentValue=value;
+			return true;
 		}
 
-		
 		@Override
 		public boolean positionToLastKey() {
-			try{
-				return rc.last();
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
+			reset(null);
+			tx.flush();
+			synchronized (tx) {
+				try {
+					final PreparedStatement statement=prepare(tx.con,getTable(treeName).cursorLast);
+					statement.setMaxRows(1);
+					statement.setFetchSize(1);
+					try (ResultSet rc=executeResultSet(statement)) {
+						if (rc.next()) {
+							currentKey=ByteString.wrap(db2real(rc.getBytes("k")));
+							currentValue=ByteString.wrap(rc.getBytes("v"));
+							lastFetchedKey=currentKey;
+						}
+					}
+				}catch (SQLException e) {
+					throw new StorageRuntimeException(e);
+				}
 			}
+			return isDefined();
 		}
 
 		@Override
 		public boolean positionToIndex(int index) {
-			try{
-				rc.first();
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
+			reset(null);
+			if (index<0) {
+				return false;
 			}
-			if (!isDefined()){
+			fetch(null,false,index+1);
+			if (page.size()<=index) {
+				page.clear();
 				return false;
 			}
-			int ct=0;
-			try{
-				do {
-					if (ct==index) {
-						return true;
-					}
-					ct++;
-				}while(rc.next());
-			}catch (SQLException e) {
-				throw new StorageRuntimeException(e);
+			for (int i=0;i<index;i++) {
+				page.pollFirst();
 			}
-			return false;
+			return moveToNextRow();
 		}
 	}
 	
 	@Override
 	public Set<TreeName> listTrees() {
-		return tree2table.asMap().keySet();
+		return tables.keySet();
 	}
 
 	private final class ImporterImpl implements Importer {
 		final Connection con;
-		final ReadableTransactionImpl txr;
 		final WriteableTransactionTransactionImpl txw;
+		/** Number of records put since the last commit. */
+		int uncommitted=0;
+		/** Read lock of {@link #writeTransactions} held while records are not committed, 0 if none. */
+		long stamp=0;
+		/** Trees written by the import, counted when it ends. */
+		final Set<TreeName> trees=new HashSet<>();
 
 		final Boolean isOpen;
 		
@@ -611,14 +1177,38 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 			}catch (Exception e){
 				throw new StorageRuntimeException(e);
 			}
-			txr =new ReadableTransactionImpl(con);
 			txw =new WriteableTransactionTransactionImpl(con);
+			txw.counting=false;
+			txw.invalidating=false;
+		}
+
+		void commit() throws SQLException {
+			try {
+				txw.flush();
+				con.commit();
+			} finally {
+				cache.invalidateAll();
+				uncommitted=0;
+				if (stamp!=0) {
+					writeTransactions.unlockRead(stamp);
+					stamp=0;
+				}
+			}
 		}
 		
 		@Override
 		public void close() {
 			try {
-				con.commit();
+				synchronized (txw) {
+					commit();
+					for (final TreeName treeName : trees) {
+						final Table table=getTable(treeName);
+						try (final ResultSet rc=executeResultSet(prepare(con,table.count))) {
+							counts.reset(con, table, rc.next() ? rc.getLong(1) : 0);
+						}
+						con.commit();
+					}
+				}
 				con.close();
 			} catch (SQLException e) {
 				throw new StorageRuntimeException(e);
@@ -630,22 +1220,37 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		
 		@Override
 		public void clearTree(TreeName name) {
-			txw.clearTree(name);
+			synchronized (txw) {
+				txw.clearTree(name);
+			}
 		}
 		
 		@Override
 		public void put(TreeName treeName, ByteSequence key, ByteSequence value) {
-			txw.put(treeName, key, value);
+			synchronized (txw) {
+				if (stamp==0) {
+					stamp=writeTransactions.readLock();
+				}
+				trees.add(treeName);
+				txw.put(treeName, key, value);
+				if (++uncommitted>=IMPORT_COMMIT_SIZE) {
+					try {
+						commit();
+					} catch (SQLException e) {
+						throw new StorageRuntimeException(e);
+					}
+				}
+			}
 		}
 		
 		@Override
 		public ByteString read(TreeName treeName, ByteSequence key) {
-			return txr.read(treeName, key);
+			return txw.read(treeName, key);
 		}
 		
 		@Override
 		public SequentialCursor<ByteString, ByteString> openCursor(TreeName treeName) {
-			return txr.openCursor(treeName);
+			return txw.openCursor(treeName);
 		}
 	}
 	
@@ -661,11 +1266,41 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 		return true;
 	}
 
+	/**
+	 * Dumps the trees in parallel to chunk files of the {@link #getDirectory() staging directory}, archived
+	 * by the {@link BackupManager}. The chunk files are compressed by the dump threads, not by the archive.
+	 * Unless the database shares a snapshot between connections, the writes wait for the end of the dump.
+	 * The trees are only known while the backend is online: it cannot be backed up offline.
+	 */
 	@Override
 	public void createBackup(BackupConfig backupConfig) throws DirectoryException
 	{
-		// TODO backup over snapshot or SQL export
-		//new BackupManager(config.getBackendId()).createBackup(this, backupConfig);
+		if (backupConfig.isIncremental()) {
+			throw new DirectoryException(ResultCode.UNWILLING_TO_PERFORM,
+					LocalizableMessage.raw("The JDBC backend %s does not support incremental backups", config.getBackendId()));
+		}
+		final Set<TreeName> trees=listTrees();
+		if (!getStorageStatus().isWorking() || trees.isEmpty()) {
+			throw new DirectoryException(ResultCode.UNWILLING_TO_PERFORM,
+					LocalizableMessage.raw("The JDBC backend %s must be online to be backed up", config.getBackendId()));
+		}
+		final File directory=getDirectory();
+		final boolean compress=backupConfig.compressData();
+		try {
+			recursiveDelete(directory);
+			Files.createDirectories(directory.toPath());
+			new ParallelBackup(this).dump(trees, directory, compress, backupConfig::isCancelled);
+			backupConfig.setCompressData(false);
+			new BackupManager(config.getBackendId()).createBackup(this, backupConfig);
+		} catch (DirectoryException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DirectoryException(DirectoryServer.getCoreConfigManager().getServerErrorResultCode(),
+					LocalizableMessage.raw("Cannot back up the JDBC backend %s: %s", config.getBackendId(), stackTraceToSingleLineString(e)), e);
+		} finally {
+			backupConfig.setCompressData(compress);
+			recursiveDelete(directory);
+		}
 	}
 
 	@Override
@@ -677,8 +1312,48 @@ public class Storage implements org.opends.server.backends.pluggable.spi.Storage
 	@Override
 	public void restoreBackup(RestoreConfig restoreConfig) throws DirectoryException
 	{
-		// TODO restore over snapshot or SQL export
-		//new BackupManager(config.getBackendId()).restoreBackup(this, restoreConfig);
+		new BackupManager(config.getBackendId()).restoreBackup(this, restoreConfig);
+	}
+
+	/** Staging directory of the chunk files of a backup, the restore directory is derived from it. */
+	@Override
+	public File getDirectory() {
+		return getFileForPath("db" + File.separator + config.getBackendId(), serverContext);
+	}
+
+	@Override
+	public ListIterator<Path> getFilesToBackup() throws DirectoryException {
+		return BackupManager.getFiles(getDirectory(), null, config.getBackendId()).listIterator();
+	}
+
+	@Override
+	public boolean isDirectRestore() {
+		return false;
+	}
+
+	@Override
+	public Path beforeRestore() throws DirectoryException {
+		return null;
+	}
+
+	/** Loads the restored chunk files in the database, the trees of the backup replace the existing ones. */
+	@Override
+	public void afterRestore(Path restoreDirectory, Path saveDirectory) throws DirectoryException {
+		final boolean isOpen=getStorageStatus().isWorking();
+		try {
+			if (!isOpen) {
+				open(AccessMode.READ_WRITE);
+			}
+			new ParallelBackup(this).load(restoreDirectory.toFile());
+		} catch (Exception e) {
+			throw new DirectoryException(DirectoryServer.getCoreConfigManager().getServerErrorResultCode(),
+					LocalizableMessage.raw("Cannot restore the JDBC backend %s: %s", config.getBackendId(), stackTraceToSingleLineString(e)), e);
+		} finally {
+			if (!isOpen) {
+				close();
+			}
+			recursiveDelete(restoreDirectory.toFile());
+		}
 	}
 
 }
@@ -0,0 +1,213 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.opends.server.backends.jdbc.Storage.real2db;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.forgerock.opendj.ldap.ByteSequence;
+import org.opends.server.backends.pluggable.spi.StorageRuntimeException;
+import org.opends.server.backends.pluggable.spi.TreeName;
+
+/**
+ * Table of a tree with the SQL text of the statements run against it, built once per tree.
+ * <p>
+ * Two layouts are supported:
+ * <ul>
+ * <li>{@link #LAYOUT_HASHED}, the format version 1: columns {@code (h,k,v)} with a primary key on the
+ * hex encoded SHA-512 hash of the key and the key.</li>
+ * <li>{@link #LAYOUT_ORDERED}, the format version 2: columns {@code (k,v)} with the key itself as the primary key,
+ * so point lookups do not hash the key and cursors are range scans of the primary key.</li>
+ * </ul>
+ */
+final class Table {
+	/** Format version 1: primary key on the hash of the key and the key. */
+	static final int LAYOUT_HASHED = 1;
+	/** Format version 2: the key is the ordered primary key. */
+	static final int LAYOUT_ORDERED = 2;
+
+	final TreeName treeName;
+	final int layout;
+	final String name;
+	/** Columns definition of the create table statement. */
+	final String columns;
+
+	final String read;
+	final String count;
+	final String delete;
+	final String deleteAll;
+	final String update;
+	final String insert;
+	/** Single row upsert, {@code null} if the dialect has none. */
+	final String upsert;
+	/** Upsert of {@link Storage#MULTI_ROW_SIZE} rows, {@code null} if the dialect has none. */
+	final String multiRowUpsert;
+	/**
+	 * Upserts returning whether each row was inserted by number of rows: {@link Storage#MULTI_ROW_SIZE} and the powers
+	 * of two below it. {@code null} if the dialect has none.
+	 */
+	final Map<Integer,String> countingUpserts;
+	final String cursorFirst;
+	final String cursorFrom;
+	final String cursorAfter;
+	final String cursorLast;
+	/** Selects the keys among {@link Storage#MULTI_ROW_SIZE} keys bound with {@link #bindLookupKey}. */
+	final String exists;
+	/** Key of the {@link RecordCounts} of the tree, the same in both layouts. */
+	final String countKey;
+
+	/**
+	 * Table in the {@link #LAYOUT_ORDERED} layout the rows of this table are being copied to: all the writes
+	 * to this table are also applied to the target until the migration completes. {@code null} if none.
+	 */
+	volatile Table migrationTarget;
+
+	Table(TreeName treeName, int layout, SqlDialect dialect) {
+		this.treeName = treeName;
+		this.layout = layout;
+		this.name = getTableName(treeName, layout);
+		this.columns = dialect.getColumns(layout);
+		final String keyCondition = layout == LAYOUT_HASHED ? "h=? and k=?" : "k=?";
+		read = "select v from " + name + " where " + keyCondition;
+		count = "select count(*) from " + name;
+		delete = "delete from " + name + " where " + keyCondition;
+		deleteAll = "delete from " + name;
+		update = "update " + name + " set v=? where " + keyCondition;
+		insert = "insert into " + name + " (" + (layout == LAYOUT_HASHED ? "h,k,v) select ?,?,?" : "k,v) select ?,?")
+				+ " where not exists (select 1 from " + name + " where " + keyCondition + ")";
+		upsert = dialect.upsert(name, 1, layout);
+		multiRowUpsert = dialect.isMultiRowUpsert() ? dialect.upsert(name, Storage.MULTI_ROW_SIZE, layout) : null;
+		if (dialect.countingUpsert(name, 1, layout) != null) {
+			countingUpserts = new HashMap<>();
+			countingUpserts.put(Storage.MULTI_ROW_SIZE, dialect.countingUpsert(name, Storage.MULTI_ROW_SIZE, layout));
+			for (int rows = 1; rows < Storage.MULTI_ROW_SIZE; rows *= 2) {
+				countingUpserts.put(rows, dialect.countingUpsert(name, rows, layout));
+			}
+		} else {
+			countingUpserts = null;
+		}
+		cursorFirst = "select k,v from " + name + " order by k";
+		cursorFrom = "select k,v from " + name + " where k>=? order by k";
+		cursorAfter = "select k,v from " + name + " where k>? order by k";
+		cursorLast = "select k,v from " + name + " order by k desc";
+		final StringBuilder keys = new StringBuilder();
+		for (int i = 0; i < Storage.MULTI_ROW_SIZE; i++) {
+			keys.append(i == 0 ? "?" : ",?");
+		}
+		exists = "select k from " + name + " where " + (layout == LAYOUT_HASHED ? "h" : "k") + " in (" + keys + ")";
+		countKey = getTableName(treeName, LAYOUT_ORDERED);
+	}
+
+	/**
+	 * Returns the number of parameters binding a row: the key columns and the value.
+	 *
+	 * @return the number of parameters of a row
+	 */
+	int getRowParameterCount() {
+		return layout == LAYOUT_HASHED ? 3 : 2;
+	}
+
+	/**
+	 * Binds the key columns of the table.
+	 *
+	 * @param statement the statement
+	 * @param index the index of the first key parameter
+	 * @param key the key
+	 * @return the index of the parameter following the key parameters
+	 * @throws SQLException if a parameter cannot be bound
+	 */
+	int bindKey(PreparedStatement statement, int index, ByteSequence key) throws SQLException {
+		final byte[] bytes = key.toByteArray();
+		if (layout == LAYOUT_HASHED) {
+			statement.setString(index++, hash(bytes));
+		}
+		statement.setBytes(index++, real2db(bytes));
+		return index;
+	}
+
+	/**
+	 * Binds a key of the {@link #exists} statement: the hash of the key in the {@link #LAYOUT_HASHED} layout,
+	 * so the statement may return keys with the same hash.
+	 *
+	 * @param statement the statement
+	 * @param index the index of the key parameter
+	 * @param key the key
+	 * @throws SQLException if the parameter cannot be bound
+	 */
+	void bindLookupKey(PreparedStatement statement, int index, ByteSequence key) throws SQLException {
+		final byte[] bytes = key.toByteArray();
+		if (layout == LAYOUT_HASHED) {
+			statement.setString(index, hash(bytes));
+		} else {
+			statement.setBytes(index, real2db(bytes));
+		}
+	}
+
+	/**
+	 * Binds the key columns and the value of a row.
+	 *
+	 * @param statement the statement
+	 * @param index the index of the first parameter of the row
+	 * @param key the key
+	 * @param value the value
+	 * @return the index of the parameter following the row parameters
+	 * @throws SQLException if a parameter cannot be bound
+	 */
+	int bindRow(PreparedStatement statement, int index, ByteSequence key, ByteSequence value) throws SQLException {
+		index = bindKey(statement, index, key);
+		statement.setBytes(index++, value.toByteArray());
+		return index;
+	}
+
+	static String getTableName(TreeName treeName, int layout) {
+		final String hash = hex(digest("SHA-224", treeName.toString().getBytes()));
+		// the version 2 prefix is one character longer: keep the name within the 63 characters of PostgreSQL
+		return layout == LAYOUT_HASHED ? "opendj_" + hash : "opendj2_" + hash.substring(0, 54);
+	}
+
+	static String hash(byte[] key) {
+		return hex(digest("SHA-512", key));
+	}
+
+	private static byte[] digest(String algorithm, byte[] bytes) {
+		try {
+			return MessageDigest.getInstance(algorithm).digest(bytes);
+		} catch (NoSuchAlgorithmException e) {
+			throw new StorageRuntimeException(e);
+		}
+	}
+
+	private static String hex(byte[] bytes) {
+		final StringBuilder hashtext = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			String hex = Integer.toHexString(0xff & b);
+			if (hex.length() == 1) hashtext.append('0');
+			hashtext.append(hex);
+		}
+		return hashtext.toString();
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
@@ -14,6 +14,7 @@
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2011-2016 ForgeRock AS.
  * Portions Copyright 2014 Manuel Gaupp
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -120,10 +121,10 @@ class AttributeIndex implements ConfigurationChangeListener<BackendIndexCfg>, Cl
     private final Indexer indexer;
 
     private MatchingRuleIndex(EntryContainer entryContainer, AttributeType attributeType, State state, Indexer indexer,
-        int indexEntryLimit, CryptoSuite cryptoSuite)
+        int indexEntryLimit, CryptoSuite cryptoSuite, boolean keySegmentation)
     {
       super(getIndexName(entryContainer, attributeType, indexer.getIndexID()),
-          state, indexEntryLimit, entryContainer, cryptoSuite);
+          state, indexEntryLimit, entryContainer, cryptoSuite, keySegmentation);
       this.attributeType = attributeType;
       this.indexer = indexer;
     }
@@ -337,7 +338,8 @@ class AttributeIndex implements ConfigurationChangeListener<BackendIndexCfg>, Cl
         throw noMatchingRuleForIndexType(attributeType, indexType);
       }
     }
-    return buildIndexesForIndexers(entryContainer, attributeType, state, indexEntryLimit, indexers, cryptoSuite);
+    return buildIndexesForIndexers(entryContainer, attributeType, state, indexEntryLimit, indexers, cryptoSuite,
+        config.isKeySegmentationEnabled());
   }
 
   private Map<Indexer, Boolean> buildBaseIndexers(boolean protectIndexKeys, boolean protectIndexValues,
@@ -381,7 +383,7 @@ class AttributeIndex implements ConfigurationChangeListener<BackendIndexCfg>, Cl
 
   private static Map<String, MatchingRuleIndex> buildIndexesForIndexers(EntryContainer entryContainer,
       AttributeType attributeType, State state, int indexEntryLimit, Map<Indexer, Boolean> indexers,
-      CryptoSuite cryptoSuite)
+      CryptoSuite cryptoSuite, boolean keySegmentation)
   {
     final Map<String, MatchingRuleIndex> indexes = new HashMap<>();
     for (Map.Entry<Indexer, Boolean> indexerEntry : indexers.entrySet())
@@ -391,7 +393,7 @@ class AttributeIndex implements ConfigurationChangeListener<BackendIndexCfg>, Cl
       {
         indexes.put(indexID,
             new MatchingRuleIndex(entryContainer, attributeType, state, indexerEntry.getKey(),
-                indexEntryLimit, cryptoSuite));
+                indexEntryLimit, cryptoSuite, keySegmentation));
       }
     }
     return indexes;
@@ -765,6 +767,30 @@ class AttributeIndex implements ConfigurationChangeListener<BackendIndexCfg>, Cl
     }
   }
 
+  /**
+   * Estimates the number of entry IDs that might match a filter from the statistics of the indexes, without reading
+   * them.
+   *
+   * @param indexQueryFactory the index query factory to use for the estimation
+   * @param indexFilterType the index type filter
+   * @param filter The filter.
+   * @return The estimated number of entry IDs, {@link IndexStatistics#UNKNOWN} if it cannot be estimated.
+   */
+  static long estimateFilter(IndexQueryFactory<IndexQuery> indexQueryFactory, IndexFilterType indexFilterType,
+      SearchFilter filter)
+  {
+    try
+    {
+      return getIndexQuery(indexQueryFactory, indexFilterType, filter).estimateSize();
+    }
+    catch (DecodeException e)
+    {
+      // evaluateFilter() returns an empty set
+      logger.traceException(e);
+      return 0;
+    }
+  }
+
   private static IndexQuery getIndexQuery(IndexQueryFactory<IndexQuery> indexQueryFactory,
       IndexFilterType indexFilterType, SearchFilter filter) throws DecodeException
   {
@@ -967,7 +993,7 @@ class AttributeIndex implements ConfigurationChangeListener<BackendIndexCfg>, Cl
         @Override
         public void run(WriteableTransaction txn) throws Exception
         {
-          for (final Index updatedIndex : updatedIndexes.values())
+          for (final MatchingRuleIndex updatedIndex : updatedIndexes.values())
           {
             updateIndex(updatedIndex, newConfiguration, ccr, txn);
           }
@@ -993,9 +1019,10 @@ class AttributeIndex implements ConfigurationChangeListener<BackendIndexCfg>, Cl
     }
   }
 
-  private static void updateIndex(Index updatedIndex, BackendIndexCfg newConfig, ConfigChangeResult ccr,
+  private static void updateIndex(MatchingRuleIndex updatedIndex, BackendIndexCfg newConfig, ConfigChangeResult ccr,
       WriteableTransaction txn)
   {
+    updatedIndex.setKeySegmentation(newConfig.isKeySegmentationEnabled());
     // This index could still be used since a new smaller index size limit doesn't impact validity of the results.
     boolean newLimitRequiresRebuild = updatedIndex.setIndexEntryLimit(newConfig.getIndexEntryLimit());
     if (newLimitRequiresRebuild)
@@ -13,7 +13,7 @@
  *
  * Copyright 2007-2010 Sun Microsystems, Inc.
  * Portions Copyright 2013-2016 ForgeRock AS.
- * Portions Copyright 2025 3A Systems, LLC
+ * Portions Copyright 2025-2026 3A Systems, LLC
  */
 package org.opends.server.backends.pluggable;
 
@@ -22,6 +22,7 @@ import static org.opends.messages.BackendMessages.*;
 import static org.opends.server.util.ServerConstants.*;
 import static org.opends.server.util.StaticUtils.*;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
@@ -100,6 +101,8 @@ public abstract class BackendImpl<C extends PluggableBackendCfg> extends LocalBa
   private Set<DN> baseDNs;
 
   private MonitorProvider<?> rootContainerMonitor;
+  /** Warms up the entry cache with the entries of this backend, {@code null} when disabled. */
+  private EntryCacheWarmer entryCacheWarmer;
 
   /** The underlying storage engine. */
   private Storage storage;
@@ -210,6 +213,13 @@ public abstract class BackendImpl<C extends PluggableBackendCfg> extends LocalBa
     rootContainerMonitor = rootContainer.getMonitorProvider();
     DirectoryServer.registerMonitorProvider(rootContainerMonitor);
 
+    if (EntryCacheWarmer.ENABLED)
+    {
+      entryCacheWarmer = new EntryCacheWarmer(cfg.getBackendId(), rootContainer, getEntryCacheSnapshotFile());
+      DirectoryServer.registerMonitorProvider(entryCacheWarmer);
+      entryCacheWarmer.start();
+    }
+
     // Register this backend as a change listener.
     cfg.addPluggableChangeListener(this);
   }
@@ -239,6 +249,14 @@ public abstract class BackendImpl<C extends PluggableBackendCfg> extends LocalBa
     // backend. We need to wait for them to finish.
     waitUntilQuiescent();
 
+    // Write the snapshot of the cached entries while they are still cached.
+    if (entryCacheWarmer != null)
+    {
+      DirectoryServer.deregisterMonitorProvider(entryCacheWarmer);
+      entryCacheWarmer.stop();
+      entryCacheWarmer = null;
+    }
+
     // Close RootContainer and Storage.
     try
     {
@@ -641,6 +659,8 @@ public abstract class BackendImpl<C extends PluggableBackendCfg> extends LocalBa
           serverContext.getCoreConfigManager().getServerErrorResultCode(), ERR_IMPORT_BACKEND_ONLINE.get());
     }
 
+    // The IDs of the cached entries are not the IDs of the imported entries
+    EntryCacheWarmer.deleteSnapshot(getEntryCacheSnapshotFile());
     try
     {
       try
@@ -777,6 +797,27 @@ public abstract class BackendImpl<C extends PluggableBackendCfg> extends LocalBa
     }
   }
 
+  @Override
+  public boolean rebuildBackendOnline(RebuildConfig rebuildConfig) throws InitializationException, DirectoryException
+  {
+    if (mustOpenRootContainer())
+    {
+      return false;
+    }
+    try
+    {
+      return getImportStrategy(rootContainer).rebuildIndexOnline(rebuildConfig);
+    }
+    catch (InitializationException e)
+    {
+      throw e;
+    }
+    catch (Exception e)
+    {
+      throw createDirectoryException(e);
+    }
+  }
+
   @Override
   public void createBackup(BackupConfig backupConfig) throws DirectoryException
   {
@@ -793,9 +834,17 @@ public abstract class BackendImpl<C extends PluggableBackendCfg> extends LocalBa
   @Override
   public void restoreBackup(RestoreConfig restoreConfig) throws DirectoryException
   {
+    // The IDs of the cached entries may not be the IDs of the restored entries
+    EntryCacheWarmer.deleteSnapshot(getEntryCacheSnapshotFile());
     storage.restoreBackup(restoreConfig);
   }
 
+  /** Returns the file holding the snapshot of the entries of this backend held by the entry cache. */
+  File getEntryCacheSnapshotFile()
+  {
+    return getFileForPath("db" + File.separator + cfg.getBackendId() + ".entrycache", serverContext);
+  }
+
   /**
    * Creates the storage engine which will be used by this pluggable backend. Implementations should
    * create and configure a new storage engine but not open it.
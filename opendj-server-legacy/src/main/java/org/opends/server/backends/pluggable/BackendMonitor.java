@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2014-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -28,6 +29,7 @@ import org.forgerock.i18n.LocalizableMessage;
 import org.forgerock.opendj.server.config.server.MonitorProviderCfg;
 import org.opends.server.api.MonitorData;
 import org.opends.server.api.MonitorProvider;
+import org.opends.server.backends.pluggable.spi.Storage;
 import org.opends.server.types.SearchFilter;
 import org.opends.server.util.TimeThread;
 
@@ -118,6 +120,12 @@ class BackendMonitor extends MonitorProvider<MonitorProviderCfg>
       monitorAttrs.add("filter-use-unindexed", unindexedSearchCount);
     }
 
+    final Storage storage = rootContainer.getStorage();
+    if (storage != null)
+    {
+      storage.addMonitorData(monitorAttrs);
+    }
+
     return monitorAttrs;
   }
 
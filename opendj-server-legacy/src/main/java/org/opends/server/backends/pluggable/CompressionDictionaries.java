@@ -0,0 +1,333 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.forgerock.util.Utils.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+import org.forgerock.opendj.ldap.ByteSequence;
+import org.forgerock.opendj.ldap.ByteString;
+
+/**
+ * The preset dictionaries used to compress the entries of an id2entry tree.
+ * <p>
+ * The dictionaries are identified by increasing IDs referenced by the compressed entries. Entries are compressed with
+ * the current dictionary, the last one trained, and the previous dictionaries are kept to read the entries compressed
+ * with them. Listing the referenced dictionaries requires reading all the entries, so the dictionaries which no entry
+ * references anymore are only deleted by {@link #prune(Set, Store)} after a full scan of the entries, such as the one
+ * of an index rebuild.
+ * <p>
+ * The dictionaries are trained in the background by {@link DictionaryTrainer} from a random sample of the entries
+ * written since the previous training: a first dictionary from the first {@link #SAMPLE_SIZE} written entries, then
+ * a new one about every {@link #RETRAIN_INTERVAL} written entries, kept only if it compresses the sample noticeably
+ * better than the current one. A new dictionary is stored before any entry is compressed with it.
+ * <p>
+ * Sampling takes no lock: once there is a dictionary, a written entry is sampled with a probability such that the
+ * sample is full after about {@link #RETRAIN_INTERVAL} entries. Nothing is copied while the sample is full or a
+ * training is running.
+ * <p>
+ * This class is thread safe.
+ */
+final class CompressionDictionaries
+{
+  private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+  /** Number of sampled entries, which must have been written before training the first dictionary. */
+  static final int SAMPLE_SIZE =
+      Integer.getInteger("org.openidentityplatform.opendj.id2entry.dictionary.samples", 1000);
+  /** Average number of written entries between two trainings. */
+  static final long RETRAIN_INTERVAL =
+      Long.getLong("org.openidentityplatform.opendj.id2entry.dictionary.retrainInterval", 100000);
+  /** Maximum number of bytes sampled from an entry. */
+  private static final int MAX_SAMPLE_LENGTH = 16 * 1024;
+  /** A new dictionary must make the sample this much smaller than the current dictionary, in percent. */
+  private static final int MIN_GAIN_PERCENT = 5;
+
+  /** Persists the dictionaries. */
+  interface Store
+  {
+    /**
+     * Stores a new dictionary, before it is used to compress entries.
+     *
+     * @param dictionaryID
+     *          the ID of the dictionary
+     * @param dictionary
+     *          the dictionary
+     * @throws Exception
+     *           if the dictionary could not be stored, in which case it is not used
+     */
+    void store(int dictionaryID, ByteString dictionary) throws Exception;
+
+    /**
+     * Deletes a dictionary which is not referenced by any stored entry anymore.
+     *
+     * @param dictionaryID
+     *          the ID of the dictionary
+     * @throws Exception
+     *           if the dictionary could not be deleted, in which case it is kept
+     */
+    void delete(int dictionaryID) throws Exception;
+  }
+
+  /** A dictionary and its ID. */
+  static final class Dictionary
+  {
+    final int id;
+    final byte[] bytes;
+
+    private Dictionary(int id, byte[] bytes)
+    {
+      this.id = id;
+      this.bytes = bytes;
+    }
+  }
+
+  /** Lazily created thread training the dictionaries of all the backends. */
+  private static final class Trainer
+  {
+    private static final ExecutorService EXECUTOR =
+        Executors.newSingleThreadExecutor(newThreadFactory(null, "ID2ENTRY-DICTIONARY-TRAINER", true));
+  }
+
+  private final Map<Integer, Dictionary> dictionaries = new ConcurrentHashMap<>();
+  private volatile Dictionary current;
+  private volatile Store store;
+  /** Incremented by each reset, so that the trainings started before are discarded. */
+  private volatile int generation;
+  private final AtomicBoolean training = new AtomicBoolean();
+
+  /** Sample of the entries written since the previous training. */
+  private final AtomicReferenceArray<byte[]> samples = new AtomicReferenceArray<>(SAMPLE_SIZE);
+  /** Number of claimed slots of the sample, only incremented until the sample is full. */
+  private final AtomicInteger sampled = new AtomicInteger();
+
+  /**
+   * Replaces the dictionaries, such as with the ones stored in the backend when it is opened.
+   *
+   * @param storedDictionaries
+   *          the stored dictionaries by ID
+   * @param store
+   *          persists the new dictionaries, or {@code null} if no dictionary should be trained
+   */
+  synchronized void reset(Map<Integer, ByteString> storedDictionaries, Store store)
+  {
+    generation++;
+    dictionaries.clear();
+    Dictionary last = null;
+    for (Map.Entry<Integer, ByteString> stored : storedDictionaries.entrySet())
+    {
+      final Dictionary dictionary = new Dictionary(stored.getKey(), stored.getValue().toByteArray());
+      dictionaries.put(dictionary.id, dictionary);
+      if (last == null || dictionary.id > last.id)
+      {
+        last = dictionary;
+      }
+    }
+    current = last;
+    this.store = store;
+    for (int i = 0; i < SAMPLE_SIZE; i++)
+    {
+      samples.set(i, null);
+    }
+    sampled.set(0);
+  }
+
+  /**
+   * Returns the dictionary with the provided ID.
+   *
+   * @param dictionaryID
+   *          the ID of the dictionary
+   * @return the dictionary, or {@code null} if there is no such dictionary
+   */
+  byte[] get(int dictionaryID)
+  {
+    final Dictionary dictionary = dictionaries.get(dictionaryID);
+    return dictionary != null ? dictionary.bytes : null;
+  }
+
+  /**
+   * Returns the dictionary compressing the entries.
+   *
+   * @return the current dictionary, or {@code null} if none has been trained yet
+   */
+  Dictionary getCurrent()
+  {
+    return current;
+  }
+
+  /**
+   * Samples a written entry and starts a training when enough entries have been written.
+   *
+   * @param encodedEntry
+   *          the entry, encoded but not compressed yet
+   */
+  void sample(ByteSequence encodedEntry)
+  {
+    final Store currentStore = store;
+    if (currentStore == null || training.get()
+        || (current != null && ThreadLocalRandom.current().nextLong(RETRAIN_INTERVAL) >= SAMPLE_SIZE))
+    {
+      return;
+    }
+    final int slot = sampled.get() < SAMPLE_SIZE ? sampled.getAndIncrement() : SAMPLE_SIZE;
+    if (slot >= SAMPLE_SIZE)
+    {
+      return;
+    }
+    samples.set(slot, encodedEntry.subSequence(0, Math.min(encodedEntry.length(), MAX_SAMPLE_LENGTH)).toByteArray());
+    if (slot < SAMPLE_SIZE - 1 || !training.compareAndSet(false, true))
+    {
+      return;
+    }
+    // The samples still being copied by other threads are left for the next training
+    final int trainingGeneration = generation;
+    final List<byte[]> trainingSamples = new ArrayList<>(SAMPLE_SIZE);
+    for (int i = 0; i < SAMPLE_SIZE; i++)
+    {
+      final byte[] sample = samples.getAndSet(i, null);
+      if (sample != null)
+      {
+        trainingSamples.add(sample);
+      }
+    }
+    sampled.set(0);
+    Trainer.EXECUTOR.submit(new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        try
+        {
+          train(trainingSamples, currentStore, trainingGeneration);
+        }
+        catch (Exception e)
+        {
+          logger.traceException(e);
+        }
+        finally
+        {
+          training.set(false);
+        }
+      }
+    });
+  }
+
+  /**
+   * Trains a new dictionary from the provided samples, and makes it the current one if it compresses them better.
+   *
+   * @param trainingSamples
+   *          the encoded entries to train the dictionary from
+   * @param dictionaryStore
+   *          persists the new dictionary
+   * @return {@code true} if the new dictionary is the current one
+   * @throws Exception
+   *           if the new dictionary could not be stored
+   */
+  boolean train(List<byte[]> trainingSamples, Store dictionaryStore) throws Exception
+  {
+    final int trainingGeneration = generation;
+    return train(trainingSamples, dictionaryStore, trainingGeneration);
+  }
+
+  private boolean train(List<byte[]> trainingSamples, Store dictionaryStore, int trainingGeneration)
+      throws Exception
+  {
+    final byte[] bytes = DictionaryTrainer.train(trainingSamples, DictionaryTrainer.MAX_DICTIONARY_SIZE);
+    if (bytes.length == 0)
+    {
+      return false;
+    }
+    final Dictionary previous = current;
+    final long previousSize = DictionaryTrainer.compressedSize(trainingSamples, previous != null ? previous.bytes : null);
+    final long size = DictionaryTrainer.compressedSize(trainingSamples, bytes);
+    logger.trace("Trained a compression dictionary of %d bytes: %d samples compress to %d bytes instead of %d",
+        bytes.length, trainingSamples.size(), size, previousSize);
+    if (size * 100 > previousSize * (100 - MIN_GAIN_PERCENT))
+    {
+      return false;
+    }
+    final Dictionary dictionary = new Dictionary(previous != null ? previous.id + 1 : 1, bytes);
+    synchronized (this)
+    {
+      if (trainingGeneration != generation)
+      {
+        // The dictionaries have been reset while training.
+        return false;
+      }
+      dictionaryStore.store(dictionary.id, ByteString.wrap(bytes));
+      dictionaries.put(dictionary.id, dictionary);
+      current = dictionary;
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether there are dictionaries, other than the current one, which no stored entry references.
+   *
+   * @param referencedDictionaries
+   *          the IDs of the dictionaries referenced by all the stored entries
+   * @return {@code true} if {@link #prune(Set, Store)} would delete dictionaries
+   */
+  boolean hasUnreferenced(Set<Integer> referencedDictionaries)
+  {
+    final Dictionary currentDictionary = current;
+    for (Integer dictionaryID : dictionaries.keySet())
+    {
+      if (dictionaryID != currentDictionary.id && !referencedDictionaries.contains(dictionaryID))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Deletes the dictionaries, other than the current one, which no stored entry references.
+   *
+   * @param referencedDictionaries
+   *          the IDs of the dictionaries referenced by all the stored entries, which must not be written meanwhile
+   * @param dictionaryStore
+   *          deletes the dictionaries
+   * @throws Exception
+   *           if a dictionary could not be deleted, in which case it and the following ones are kept
+   */
+  synchronized void prune(Set<Integer> referencedDictionaries, Store dictionaryStore) throws Exception
+  {
+    final Dictionary currentDictionary = current;
+    for (Integer dictionaryID : new TreeSet<>(dictionaries.keySet()))
+    {
+      if (dictionaryID != currentDictionary.id && !referencedDictionaries.contains(dictionaryID))
+      {
+        dictionaryStore.delete(dictionaryID);
+        dictionaries.remove(dictionaryID);
+        logger.trace("Deleted the compression dictionary %d, not referenced by any entry", dictionaryID);
+      }
+    }
+  }
+}
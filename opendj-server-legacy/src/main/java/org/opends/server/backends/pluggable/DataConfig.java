@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2008 Sun Microsystems, Inc.
  * Portions Copyright 2014-2016 ForgeRock AS
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -33,6 +34,7 @@ final class DataConfig
   static final class Builder
   {
     private boolean compressed;
+    private boolean compressedWithDictionary;
     private boolean encrypted;
     private boolean compactEncoding;
     private CompressedSchema compressedSchema;
@@ -55,6 +57,12 @@ final class DataConfig
       return this;
     }
 
+    public Builder compressWithDictionary(boolean enabled)
+    {
+      this.compressedWithDictionary = enabled;
+      return this;
+    }
+
     public Builder encrypt(boolean enabled)
     {
       this.encrypted = enabled;
@@ -81,6 +89,9 @@ final class DataConfig
   /** Indicates whether data should be compressed before writing to the storage. */
   private final boolean compressed;
 
+  /** Indicates whether compressed data should use a dictionary trained from the stored data. */
+  private final boolean compressedWithDictionary;
+
   /** The configuration to use when encoding entries in the tree. */
   private final EntryEncodeConfig encodeConfig;
 
@@ -95,6 +106,7 @@ final class DataConfig
   private DataConfig(Builder builder)
   {
     this.compressed = builder.compressed;
+    this.compressedWithDictionary = builder.compressedWithDictionary;
     this.encrypted = builder.encrypted;
     this.cryptoSuite = builder.cryptoSuite;
 
@@ -115,6 +127,11 @@ final class DataConfig
     return compressed;
   }
 
+  boolean isCompressedWithDictionary()
+  {
+    return compressed && compressedWithDictionary;
+  }
+
   boolean isEncrypted()
   {
     return encrypted;
@@ -136,6 +153,8 @@ final class DataConfig
     final StringBuilder builder = new StringBuilder();
     builder.append("DataConfig(compressed=");
     builder.append(compressed);
+    builder.append(", compressedWithDictionary=");
+    builder.append(compressedWithDictionary);
     builder.append(", encrypted=");
     builder.append(encrypted);
     builder.append(", ");
@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2012-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -21,11 +22,20 @@ import static org.opends.messages.BackendMessages.*;
 import static org.opends.server.backends.pluggable.EntryIDSet.*;
 import static org.opends.server.backends.pluggable.State.IndexFlag.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.forgerock.i18n.slf4j.LocalizedLogger;
 import org.forgerock.opendj.ldap.ByteSequence;
+import org.forgerock.opendj.ldap.ByteSequenceReader;
 import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.ldap.ByteStringBuilder;
 import org.forgerock.util.promise.NeverThrowsException;
 import org.opends.server.backends.pluggable.CursorTransformer.ValueTransformer;
 import org.opends.server.backends.pluggable.EntryIDSet.EntryIDSetCodec;
@@ -42,18 +52,41 @@ import org.opends.server.crypto.CryptoSuite;
  * Represents an index implemented by a tree in which each key maps to a set of entry IDs. The key
  * is a byte array, and is constructed from some normalized form of an attribute value (or fragment
  * of a value) appearing in the entry.
+ * <p>
+ * When the index entry limit allows keys of more than {@link #getSegmentThreshold(int)} IDs, the IDs of such keys are
+ * split in segments of consecutive IDs stored in a companion tree, and the value of the key only holds their number.
+ * Adding or deleting an ID then rewrites its segment instead of the whole set, and the segments are read in order.
  */
 class DefaultIndex extends AbstractTree implements Index
 {
   private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
 
+  /** Smallest number of IDs above which the keys are segmented. */
+  static final int MIN_SEGMENT_THRESHOLD =
+      Integer.getInteger("org.openidentityplatform.opendj.index.segmentThreshold", 1024);
+  /** The keys are segmented once they hold more than this fraction of the index entry limit. */
+  private static final int SEGMENT_LIMIT_FRACTION = 4;
+  /** The IDs of a segment only differ by their lowest bits. */
+  private static final int SEGMENT_BITS = 16;
+  /** First byte of the value of a segmented key, never the first byte of an encoded set of IDs. */
+  private static final byte SEGMENTED_KEY = (byte) 0xFD;
+
   private final State state;
   private final EntryContainer entryContainer;
   /** The limit on the number of entry IDs that may be indexed by one key. */
   private int indexEntryLimit;
 
   private EntryIDSetCodec codec;
+  /** Whether the values of this index use the bitmap encoding. */
+  private boolean bitmap;
   private CryptoSuite cryptoSuite;
+  private final IndexStatistics statistics = new IndexStatistics();
+  /** The companion tree holding the segments of the segmented keys. */
+  private final TreeName segmentsName;
+  /** Whether the keys holding too many IDs are segmented, creating the segments tree on demand. */
+  private volatile boolean keySegmentation;
+  /** Whether the segments tree is opened, because some keys were segmented. */
+  private volatile boolean segmented;
 
   /**
    * A flag to indicate if this index should be trusted to be consistent with the entries tree.
@@ -79,40 +112,142 @@ class DefaultIndex extends AbstractTree implements Index
    * @param entryContainer
    *          The entryContainer holding this index.
    * @param cryptoSuite
+   * @param keySegmentation
+   *          Whether the keys holding too many IDs are split in segments.
    * @throws StorageRuntimeException
    *           If an error occurs in the storage.
    */
-  DefaultIndex(TreeName name, State state, int indexEntryLimit, EntryContainer entryContainer, CryptoSuite cryptoSuite)
-      throws StorageRuntimeException
+  DefaultIndex(TreeName name, State state, int indexEntryLimit, EntryContainer entryContainer, CryptoSuite cryptoSuite,
+      boolean keySegmentation) throws StorageRuntimeException
   {
     super(name);
     this.indexEntryLimit = indexEntryLimit;
+    this.keySegmentation = keySegmentation;
     this.state = state;
     this.entryContainer = entryContainer;
     this.cryptoSuite = cryptoSuite;
+    this.segmentsName = new TreeName(name.getBaseDN(), "segments." + name.getIndexId());
   }
 
   @Override
   final void afterOpen(WriteableTransaction txn, boolean createOnDemand)
   {
     final EnumSet<IndexFlag> flags = state.getIndexFlags(txn, getName());
-    codec = flags.contains(COMPACTED) ? CODEC_V2 : CODEC_V1;
+    trusted = flags.contains(TRUSTED);
+    if (flags.contains(SEGMENTED))
+    {
+      txn.openTree(segmentsName, createOnDemand);
+      segmented = true;
+    }
+    if (createOnDemand && !(trusted && flags.contains(BITMAP)) && entryContainer.isEmpty(txn))
+    {
+      // If there are no entries in the entry container then there is no reason why this index
+      // can't be upgraded to trusted, nor why it can't use the bitmap encoding.
+      flags.add(BITMAP);
+      bitmap = true;
+      setTrusted(txn, true);
+    }
+    bitmap = flags.contains(BITMAP);
+    if (bitmap)
+    {
+      codec = CODEC_V4;
+    }
+    else
+    {
+      codec = flags.contains(COMPACTED) ? CODEC_V2 : CODEC_V1;
+    }
     if (cryptoSuite.isEncrypted())
     {
       codec = new EntryIDSet.EntryIDSetCodecV3(codec, cryptoSuite);
     }
-    trusted = flags.contains(TRUSTED);
-    if (createOnDemand && !trusted && entryContainer.isEmpty(txn))
+  }
+
+  /**
+   * Returns the number of IDs above which the keys of an index are segmented.
+   *
+   * @param indexEntryLimit
+   *          the index entry limit of the index, 0 if unlimited
+   * @return the number of IDs above which the keys are segmented
+   */
+  static int getSegmentThreshold(int indexEntryLimit)
+  {
+    return Math.max(MIN_SEGMENT_THRESHOLD, indexEntryLimit / SEGMENT_LIMIT_FRACTION);
+  }
+
+  private static boolean isSegmentable(int indexEntryLimit)
+  {
+    return indexEntryLimit == 0 || indexEntryLimit > getSegmentThreshold(indexEntryLimit);
+  }
+
+  /** Whether a key may be segmented, either because some already are, or because the segmentation is enabled. */
+  private boolean canSegment()
+  {
+    return segmented || (keySegmentation && isSegmentable(indexEntryLimit) && !cryptoSuite.isEncrypted());
+  }
+
+  /**
+   * Creates the segments tree of this index and marks it as segmented before its first key is segmented, so that
+   * the indexes which never hold large keys keep the format of the previous releases.
+   */
+  private synchronized void openSegments(WriteableTransaction txn)
+  {
+    if (!segmented)
     {
-      // If there are no entries in the entry container then there
-      // is no reason why this index can't be upgraded to trusted.
-      setTrusted(txn, true);
+      txn.openTree(segmentsName, true);
+      state.addFlagsToIndex(txn, getName(), SEGMENTED);
+      segmented = true;
+    }
+  }
+
+  @Override
+  void beforeDelete(WriteableTransaction txn) throws StorageRuntimeException
+  {
+    if (segmented)
+    {
+      /*
+       * Still segmented afterwards: a rebuild deletes the trees of the index by clearing them, and keeps using it
+       * with its flags. An index deleted for good is dropped, and segmented again from its flags if it is reopened.
+       */
+      txn.deleteTree(segmentsName);
+    }
+  }
+
+  /**
+   * Removes all the keys of this index, which remains open with its flags, such as before it is rebuilt online. The
+   * keys are deleted one by one, since not all the storages can delete and reopen a tree in the same transaction.
+   *
+   * @param txn
+   *          a non null transaction
+   * @throws StorageRuntimeException
+   *           If an error occurs in the storage.
+   */
+  final void clear(WriteableTransaction txn) throws StorageRuntimeException
+  {
+    clear(txn, getName());
+    if (segmented)
+    {
+      clear(txn, segmentsName);
+    }
+  }
+
+  private static void clear(WriteableTransaction txn, TreeName treeName)
+  {
+    try (Cursor<ByteString, ByteString> cursor = txn.openCursor(treeName))
+    {
+      while (cursor.next())
+      {
+        cursor.delete();
+      }
     }
   }
 
   @Override
   public String valueToString(ByteString value)
   {
+    if (isSegmentedKey(value))
+    {
+      return "[SEGMENTED:COUNT:" + segmentedKeySize(value) + "]";
+    }
     StringBuilder sb = new StringBuilder();
     final EntryIDSet eIDSet = decodeValue(ByteString.empty(), value);
     eIDSet.toString(sb);
@@ -128,7 +263,7 @@ class DefaultIndex extends AbstractTree implements Index
   }
 
   @Override
-  public final Cursor<ByteString, EntryIDSet> openCursor(ReadableTransaction txn)
+  public final Cursor<ByteString, EntryIDSet> openCursor(final ReadableTransaction txn)
   {
     checkNotNull(txn, "txn must not be null");
     return CursorTransformer.transformValues(txn.openCursor(getName()),
@@ -137,7 +272,7 @@ class DefaultIndex extends AbstractTree implements Index
           @Override
           public EntryIDSet transform(ByteString key, ByteString value) throws NeverThrowsException
           {
-            return decodeValue(key, value);
+            return isSegmentedKey(value) ? readSegments(txn, key, value) : decodeValue(key, value);
           }
         });
   }
@@ -174,6 +309,10 @@ class DefaultIndex extends AbstractTree implements Index
     {
       return;
     }
+    if (segmented && updateSegments(txn, key, deletedIDs, addedIDs))
+    {
+      return;
+    }
 
     /*
      * Avoid taking a write lock on a record which has hit all IDs because it is likely to be a
@@ -185,35 +324,273 @@ class DefaultIndex extends AbstractTree implements Index
     }
 
     // The record is going to be changed in some way.
+    updateKey(txn, key, deletedIDs, addedIDs, false);
+  }
+
+  /**
+   * Updates a key of this index while it is built online. Unlike {@link #update}, the added IDs are written to the
+   * missing keys even though this index is not trusted yet, and the deleted IDs of the missing keys are ignored.
+   *
+   * @param txn
+   *          a non null transaction
+   * @param key
+   *          the key to update
+   * @param deletedIDs
+   *          the IDs to delete from the key, or {@code null}
+   * @param addedIDs
+   *          the IDs to add to the key, or {@code null}
+   * @throws StorageRuntimeException
+   *           If an error occurs in the storage.
+   */
+  final void build(final WriteableTransaction txn, final ByteString key, final EntryIDSet deletedIDs,
+      final EntryIDSet addedIDs) throws StorageRuntimeException
+  {
+    if (isNullOrEmpty(deletedIDs) && isNullOrEmpty(addedIDs))
+    {
+      return;
+    }
+    if (segmented && updateSegments(txn, key, deletedIDs, addedIDs))
+    {
+      return;
+    }
+    updateKey(txn, key, deletedIDs, addedIDs, true);
+  }
+
+  /** Updates a key which is not segmented, and segments it if it holds too many IDs. */
+  private void updateKey(final WriteableTransaction txn, final ByteString key, final EntryIDSet deletedIDs,
+      final EntryIDSet addedIDs, final boolean building)
+  {
+    final EntryIDSet[] toSegment = new EntryIDSet[1];
     txn.update(getName(), key, new UpdateFunction()
     {
       @Override
       public ByteSequence computeNewValue(final ByteSequence oldValue)
       {
+        toSegment[0] = null;
         if (oldValue != null)
         {
           EntryIDSet entryIDSet = computeEntryIDSet(key, oldValue.toByteString(), deletedIDs, addedIDs);
+          statistics.record(entryIDSet);
           /*
            * If there are no more IDs then return null indicating that the record should be removed.
            * If index is not trusted then this will cause all subsequent reads for this key to
            * return undefined set.
            */
-          return entryIDSet.size() == 0 ? null : toValue(entryIDSet);
+          return entryIDSet.size() == 0 ? null : toValueOrSegment(entryIDSet);
         }
-        else if (trusted)
+        else if (trusted || building)
         {
-          if (deletedIDs != null)
+          if (deletedIDs != null && !building)
           {
             logIndexCorruptError(txn, key);
           }
           if (isNotEmpty(addedIDs))
           {
-            return toValue(addedIDs);
+            statistics.record(addedIDs);
+            return toValueOrSegment(addedIDs);
           }
         }
         return null; // no change.
       }
+
+      private ByteSequence toValueOrSegment(EntryIDSet entryIDSet)
+      {
+        if (canSegment() && entryIDSet.isDefined() && entryIDSet.size() > getSegmentThreshold(indexEntryLimit))
+        {
+          toSegment[0] = entryIDSet;
+          return segmentedKeyValue(entryIDSet.size());
+        }
+        return toValue(entryIDSet);
+      }
     });
+    if (toSegment[0] != null)
+    {
+      openSegments(txn);
+      for (Map.Entry<Long, EntryIDSet> segment : splitInSegments(toSegment[0]).entrySet())
+      {
+        txn.put(segmentsName, segmentKey(key, segment.getKey()), toValue(segment.getValue()));
+      }
+    }
+  }
+
+  /**
+   * Updates the segments of a key if it is segmented, while holding the lock of its value.
+   *
+   * @return {@code false} if the key is not segmented, and must be updated as usual
+   */
+  private boolean updateSegments(final WriteableTransaction txn, final ByteString key, final EntryIDSet deletedIDs,
+      final EntryIDSet addedIDs)
+  {
+    final ByteString value = txn.read(getName(), key);
+    if (value == null || !isSegmentedKey(value))
+    {
+      return false;
+    }
+    // Lock the value, which may have changed meanwhile
+    final ByteString[] lockedValue = new ByteString[1];
+    txn.update(getName(), key, new UpdateFunction()
+    {
+      @Override
+      public ByteSequence computeNewValue(ByteSequence oldValue)
+      {
+        lockedValue[0] = oldValue != null ? oldValue.toByteString() : null;
+        return oldValue;
+      }
+    });
+    if (lockedValue[0] == null || !isSegmentedKey(lockedValue[0]))
+    {
+      return false;
+    }
+
+    final Map<Long, EntryIDSet> deletedBySegment =
+        deletedIDs != null ? splitInSegments(deletedIDs) : new TreeMap<Long, EntryIDSet>();
+    final Map<Long, EntryIDSet> addedBySegment =
+        addedIDs != null ? splitInSegments(addedIDs) : new TreeMap<Long, EntryIDSet>();
+    final Set<Long> segments = new TreeSet<>(deletedBySegment.keySet());
+    segments.addAll(addedBySegment.keySet());
+    final long[] delta = new long[1];
+    for (final Long segment : segments)
+    {
+      final ByteString segmentKey = segmentKey(key, segment);
+      txn.update(segmentsName, segmentKey, new UpdateFunction()
+      {
+        @Override
+        public ByteSequence computeNewValue(ByteSequence oldValue)
+        {
+          final EntryIDSet entryIDSet =
+              oldValue != null ? decodeValue(segmentKey, oldValue.toByteString()) : newDefinedSet();
+          final long oldSize = entryIDSet.size();
+          final EntryIDSet segmentDeletedIDs = deletedBySegment.get(segment);
+          final EntryIDSet segmentAddedIDs = addedBySegment.get(segment);
+          if (segmentAddedIDs != null)
+          {
+            entryIDSet.addAll(segmentAddedIDs);
+          }
+          if (segmentDeletedIDs != null)
+          {
+            entryIDSet.removeAll(segmentDeletedIDs);
+          }
+          delta[0] += entryIDSet.size() - oldSize;
+          return entryIDSet.size() == 0 ? null : toValue(entryIDSet);
+        }
+      });
+    }
+
+    final long oldSize = segmentedKeySize(lockedValue[0]);
+    final long newSize = oldSize + delta[0];
+    if (indexEntryLimit > 0 && newSize >= indexEntryLimit)
+    {
+      deleteSegments(txn, key);
+      txn.put(getName(), key, toValue(newUndefinedSetWithKey(key)));
+      statistics.record(newUndefinedSet());
+      if (logger.isTraceEnabled())
+      {
+        logger.trace("Index entry exceeded in index %s. " + "Limit: %d. ID list size: %d.\nKey:%s", getName(),
+            indexEntryLimit, newSize, key.toHexPlusAsciiString(4));
+      }
+    }
+    else if (newSize == 0)
+    {
+      txn.delete(getName(), key);
+    }
+    else if (newSize != oldSize)
+    {
+      txn.put(getName(), key, segmentedKeyValue(newSize));
+    }
+    return true;
+  }
+
+  private void deleteSegments(WriteableTransaction txn, ByteString key)
+  {
+    final ByteString prefix = segmentKeyPrefix(key);
+    final List<ByteString> segmentKeys = new ArrayList<>();
+    try (final Cursor<ByteString, ByteString> cursor = txn.openCursor(segmentsName))
+    {
+      for (boolean found = cursor.positionToKeyOrNext(prefix); found && cursor.getKey().startsWith(prefix);
+          found = cursor.next())
+      {
+        segmentKeys.add(cursor.getKey());
+      }
+    }
+    for (ByteString segmentKey : segmentKeys)
+    {
+      txn.delete(segmentsName, segmentKey);
+    }
+  }
+
+  /**
+   * Reads the IDs of a segmented key in the order of the IDs. The segments are decoded one at a time as the cursor
+   * moves, straight into the IDs sized by the number recorded in the value of the key. The whole key is still
+   * returned as one set of IDs, since the searches combine the sets of their keys.
+   */
+  private EntryIDSet readSegments(ReadableTransaction txn, ByteSequence key, ByteString value)
+  {
+    final ByteString prefix = segmentKeyPrefix(key);
+    long[] ids = new long[(int) segmentedKeySize(value)];
+    int size = 0;
+    try (final Cursor<ByteString, ByteString> cursor = txn.openCursor(segmentsName))
+    {
+      for (boolean found = cursor.positionToKeyOrNext(prefix); found && cursor.getKey().startsWith(prefix);
+          found = cursor.next())
+      {
+        final long[] segment = decodeValue(cursor.getKey(), cursor.getValue()).toLongArray();
+        if (size + segment.length > ids.length)
+        {
+          ids = Arrays.copyOf(ids, size + segment.length);
+        }
+        System.arraycopy(segment, 0, ids, size, segment.length);
+        size += segment.length;
+      }
+    }
+    return newDefinedSet(size == ids.length ? ids : Arrays.copyOf(ids, size));
+  }
+
+  private static Map<Long, EntryIDSet> splitInSegments(EntryIDSet entryIDSet)
+  {
+    final Map<Long, EntryIDSet> segments = new TreeMap<>();
+    final long[] ids = entryIDSet.toLongArray();
+    int start = 0;
+    for (int i = 1; i <= ids.length; i++)
+    {
+      if (i == ids.length || ids[i] >>> SEGMENT_BITS != ids[start] >>> SEGMENT_BITS)
+      {
+        final long[] segmentIDs = new long[i - start];
+        System.arraycopy(ids, start, segmentIDs, 0, segmentIDs.length);
+        segments.put(ids[start] >>> SEGMENT_BITS, newDefinedSet(segmentIDs));
+        start = i;
+      }
+    }
+    return segments;
+  }
+
+  /** The keys of the segments of a key start with its length and itself, so that they cannot be mixed up. */
+  private static ByteString segmentKeyPrefix(ByteSequence key)
+  {
+    return new ByteStringBuilder(key.length() + 5).appendCompactUnsigned(key.length()).appendBytes(key)
+        .toByteString();
+  }
+
+  private static ByteString segmentKey(ByteSequence key, long segment)
+  {
+    return new ByteStringBuilder(key.length() + 13).appendCompactUnsigned(key.length()).appendBytes(key)
+        .appendLong(segment).toByteString();
+  }
+
+  private static boolean isSegmentedKey(ByteString value)
+  {
+    return value.length() > 1 && value.byteAt(0) == SEGMENTED_KEY;
+  }
+
+  private static ByteString segmentedKeyValue(long size)
+  {
+    return new ByteStringBuilder(6).appendByte(SEGMENTED_KEY).appendCompactUnsigned(size).toByteString();
+  }
+
+  private static long segmentedKeySize(ByteString value)
+  {
+    final ByteSequenceReader reader = value.asReader();
+    reader.skip(1);
+    return reader.readCompactUnsignedLong();
   }
 
   private static boolean isNullOrEmpty(EntryIDSet entryIDSet)
@@ -274,7 +651,9 @@ class DefaultIndex extends AbstractTree implements Index
       ByteString value = txn.read(getName(), key);
       if (value != null)
       {
-        return decodeValue(key, value);
+        final EntryIDSet entryIDSet = isSegmentedKey(value) ? readSegments(txn, key, value) : decodeValue(key, value);
+        statistics.record(entryIDSet);
+        return entryIDSet;
       }
       return trusted ? newDefinedSet() : newUndefinedSet();
     }
@@ -285,6 +664,27 @@ class DefaultIndex extends AbstractTree implements Index
     }
   }
 
+  /**
+   * Returns the key cardinality statistics of this index, refreshed by the updates and the lookups of its keys.
+   *
+   * @return the statistics of this index
+   */
+  final IndexStatistics getStatistics()
+  {
+    return statistics;
+  }
+
+  /**
+   * Returns the estimated number of entry IDs read by the lookup of a key of this index.
+   *
+   * @return the estimated number of entry IDs of a key, {@link IndexStatistics#UNKNOWN} if this index is not trusted
+   *         or if no key has been sampled yet
+   */
+  final long estimateKeySize()
+  {
+    return trusted ? statistics.estimateKeySize(indexEntryLimit) : IndexStatistics.UNKNOWN;
+  }
+
   @Override
   public final boolean setIndexEntryLimit(int indexEntryLimit)
   {
@@ -293,6 +693,18 @@ class DefaultIndex extends AbstractTree implements Index
     return rebuildRequired;
   }
 
+  /**
+   * Sets whether the keys holding too many IDs are split in segments. The keys already segmented stay segmented until
+   * this index is rebuilt.
+   *
+   * @param keySegmentation
+   *          whether the keys holding too many IDs are split in segments
+   */
+  final void setKeySegmentation(boolean keySegmentation)
+  {
+    this.keySegmentation = keySegmentation;
+  }
+
   @Override
   public boolean setConfidential(boolean indexConfidential)
   {
@@ -309,13 +721,21 @@ class DefaultIndex extends AbstractTree implements Index
   public final synchronized void setTrusted(WriteableTransaction txn, boolean trusted) throws StorageRuntimeException
   {
     this.trusted = trusted;
+    // The flags are written in a single update which always carries the encoding of the values: the importer
+    // cannot read back the flags it wrote, so each update of the record replaces it.
+    final EnumSet<IndexFlag> encodingFlags = bitmap ? EnumSet.of(BITMAP) : EnumSet.noneOf(IndexFlag.class);
+    if (segmented)
+    {
+      encodingFlags.add(SEGMENTED);
+    }
     if (trusted)
     {
-      state.addFlagsToIndex(txn, getName(), TRUSTED);
+      encodingFlags.add(TRUSTED);
+      state.updateIndexFlags(txn, getName(), encodingFlags, EnumSet.noneOf(IndexFlag.class));
     }
     else
     {
-      state.removeFlagsFromIndex(txn, getName(), TRUSTED);
+      state.updateIndexFlags(txn, getName(), encodingFlags, EnumSet.of(TRUSTED));
     }
   }
 
@@ -0,0 +1,235 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Trains a deflate preset dictionary from a sample of encoded entries.
+ * <p>
+ * The dictionary is made of the segments of the samples holding the most byte sequences shared by several samples,
+ * such as the common attribute descriptions and values of the entries. The samples are split in as many epochs as
+ * the dictionary has segments, and the best segment of each epoch is selected, not counting the sequences already
+ * held by the previously selected segments. The best segments are put last in the dictionary, closer to the
+ * compressed data, which makes their references shorter.
+ */
+final class DictionaryTrainer
+{
+  /** Maximum size of a deflate preset dictionary, which is the size of the deflate window. */
+  static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+  /** Length of the byte sequences counted in the samples. */
+  private static final int SEQUENCE_LENGTH = 8;
+  /** Length of the segments of the dictionary. */
+  private static final int SEGMENT_LENGTH = 128;
+  private static final int TABLE_BITS = 20;
+
+  private DictionaryTrainer()
+  {
+    // Prevent instantiation.
+  }
+
+  /** A segment selected for the dictionary. */
+  private static final class Segment
+  {
+    private final int offset;
+    private final long score;
+
+    private Segment(int offset, long score)
+    {
+      this.offset = offset;
+      this.score = score;
+    }
+  }
+
+  /**
+   * Trains a dictionary from the provided samples.
+   *
+   * @param samples
+   *          the samples, usually encoded entries
+   * @param maxSize
+   *          the maximum size of the dictionary
+   * @return the dictionary, empty if the samples share no byte sequences
+   */
+  static byte[] train(List<byte[]> samples, int maxSize)
+  {
+    final byte[] data = concat(samples);
+    if (data.length < SEGMENT_LENGTH)
+    {
+      return new byte[0];
+    }
+
+    // Count the number of samples holding each sequence, as the sequences of a single sample are useless.
+    final int[] sequenceHashes = new int[data.length - SEQUENCE_LENGTH + 1];
+    final int[] counts = new int[1 << TABLE_BITS];
+    final int[] lastSample = new int[1 << TABLE_BITS];
+    Arrays.fill(lastSample, -1);
+    int sampleStart = 0;
+    for (int sample = 0; sample < samples.size(); sample++)
+    {
+      final int sampleEnd = sampleStart + samples.get(sample).length;
+      for (int i = sampleStart; i < sampleEnd && i < sequenceHashes.length; i++)
+      {
+        final int hash = hash(data, i);
+        sequenceHashes[i] = hash;
+        if (lastSample[hash] != sample)
+        {
+          lastSample[hash] = sample;
+          counts[hash]++;
+        }
+      }
+      sampleStart = sampleEnd;
+    }
+    for (int i = 0; i < counts.length; i++)
+    {
+      if (counts[i] < 2)
+      {
+        counts[i] = 0;
+      }
+    }
+
+    final int nbSegments = Math.max(1, maxSize / SEGMENT_LENGTH);
+    final int epochLength = Math.max(SEGMENT_LENGTH, data.length / nbSegments);
+    final List<Segment> segments = new ArrayList<>(nbSegments);
+    for (int epochStart = 0; epochStart + SEGMENT_LENGTH <= data.length; epochStart += epochLength)
+    {
+      final Segment segment = selectSegment(sequenceHashes, counts, epochStart,
+          Math.min(data.length, epochStart + epochLength));
+      if (segment != null)
+      {
+        segments.add(segment);
+      }
+    }
+
+    // Keep the best segments fitting in the dictionary, the best ones last.
+    Collections.sort(segments, new Comparator<Segment>()
+    {
+      @Override
+      public int compare(Segment s1, Segment s2)
+      {
+        return Long.compare(s1.score, s2.score);
+      }
+    });
+    final int kept = Math.min(segments.size(), nbSegments);
+    final byte[] dictionary = new byte[kept * SEGMENT_LENGTH];
+    for (int i = 0; i < kept; i++)
+    {
+      System.arraycopy(data, segments.get(segments.size() - kept + i).offset, dictionary, i * SEGMENT_LENGTH,
+          SEGMENT_LENGTH);
+    }
+    return dictionary;
+  }
+
+  /** Selects the best segment of an epoch and forgets its sequences, or returns null if none is useful. */
+  private static Segment selectSegment(int[] sequenceHashes, int[] counts, int epochStart, int epochEnd)
+  {
+    final int sequencesPerSegment = SEGMENT_LENGTH - SEQUENCE_LENGTH + 1;
+    long score = 0;
+    for (int i = epochStart; i < epochStart + sequencesPerSegment; i++)
+    {
+      score += counts[sequenceHashes[i]];
+    }
+    long bestScore = score;
+    int bestOffset = epochStart;
+    for (int offset = epochStart + 1; offset + SEGMENT_LENGTH <= epochEnd; offset++)
+    {
+      score += counts[sequenceHashes[offset + sequencesPerSegment - 1]] - counts[sequenceHashes[offset - 1]];
+      if (score > bestScore)
+      {
+        bestScore = score;
+        bestOffset = offset;
+      }
+    }
+    if (bestScore == 0)
+    {
+      return null;
+    }
+    for (int i = bestOffset; i < bestOffset + sequencesPerSegment; i++)
+    {
+      counts[sequenceHashes[i]] = 0;
+    }
+    return new Segment(bestOffset, bestScore);
+  }
+
+  private static byte[] concat(List<byte[]> samples)
+  {
+    int length = 0;
+    for (byte[] sample : samples)
+    {
+      length += sample.length;
+    }
+    final byte[] data = new byte[length];
+    int offset = 0;
+    for (byte[] sample : samples)
+    {
+      System.arraycopy(sample, 0, data, offset, sample.length);
+      offset += sample.length;
+    }
+    return data;
+  }
+
+  private static int hash(byte[] data, int offset)
+  {
+    long sequence = 0;
+    for (int i = offset; i < offset + SEQUENCE_LENGTH; i++)
+    {
+      sequence = (sequence << 8) | (data[i] & 0xFF);
+    }
+    return (int) ((sequence * 0x9E3779B97F4A7C15L) >>> (64 - TABLE_BITS));
+  }
+
+  /**
+   * Returns the total size of the provided samples compressed one by one, with the provided dictionary if any.
+   *
+   * @param samples
+   *          the samples to compress
+   * @param dictionary
+   *          the preset dictionary, or {@code null} to compress the samples as the entries without a dictionary
+   * @return the total compressed size of the samples
+   */
+  static long compressedSize(List<byte[]> samples, byte[] dictionary)
+  {
+    final Deflater deflater = dictionary != null ? new Deflater(Deflater.DEFAULT_COMPRESSION, true) : new Deflater();
+    try
+    {
+      final byte[] buffer = new byte[4096];
+      long size = 0;
+      for (byte[] sample : samples)
+      {
+        deflater.reset();
+        if (dictionary != null)
+        {
+          deflater.setDictionary(dictionary);
+        }
+        deflater.setInput(sample);
+        deflater.finish();
+        while (!deflater.finished())
+        {
+          size += deflater.deflate(buffer);
+        }
+      }
+      return size;
+    }
+    finally
+    {
+      deflater.end();
+    }
+  }
+}
@@ -0,0 +1,455 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.forgerock.util.Utils.*;
+import static org.opends.messages.BackendMessages.*;
+import static org.opends.server.util.StaticUtils.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+import org.forgerock.opendj.ldap.ByteSequenceReader;
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.ldap.ByteStringBuilder;
+import org.forgerock.opendj.server.config.server.MonitorProviderCfg;
+import org.opends.server.api.EntryCache;
+import org.opends.server.api.MonitorData;
+import org.opends.server.api.MonitorProvider;
+import org.opends.server.backends.pluggable.spi.ReadOperation;
+import org.opends.server.backends.pluggable.spi.ReadableTransaction;
+import org.opends.server.backends.pluggable.spi.Storage;
+import org.opends.server.core.DirectoryServer;
+import org.opends.server.types.Entry;
+import org.opends.server.util.TimeThread;
+
+/**
+ * Warms up the entry cache with the entries of a backend which were cached before the backend was closed, and exposes
+ * the progress of the warm up in a monitor entry.
+ * <p>
+ * The IDs of the most recently used entries of the backend held by the entry cache, see
+ * {@link EntryCache#getHotEntryIDs(String, int)}, are written to a snapshot file when the backend is closed, and
+ * every {@link #SNAPSHOT_INTERVAL} seconds in case the server does not stop cleanly. Once the server has started, the
+ * entries of the snapshot are read in the background by {@link #THREADS} threads, at most {@link #ENTRIES_PER_SECOND}
+ * entries per second, and put in the entry cache. Reading the entries also loads in the cache of the storage the
+ * pages of id2entry and of dn2id used to find them. Until the warm up is done, the snapshots also keep the entries of
+ * the previous snapshot, which may not have been read yet. The snapshot is deleted when the entries of the backend
+ * are imported or restored, since their IDs change.
+ */
+final class EntryCacheWarmer extends MonitorProvider<MonitorProviderCfg>
+{
+  private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+  /** Whether the entry cache is warmed up when the backends are opened. */
+  static final boolean ENABLED =
+      Boolean.parseBoolean(System.getProperty("org.openidentityplatform.opendj.entryCache.warmRestart", "true"));
+  /** Maximum number of entry IDs written to a snapshot. */
+  private static final int SNAPSHOT_SIZE =
+      Integer.getInteger("org.openidentityplatform.opendj.entryCache.warmRestart.snapshotSize", 100000);
+  /** Number of seconds between the snapshots, or 0 to only write a snapshot when the backend is closed. */
+  private static final int SNAPSHOT_INTERVAL =
+      Integer.getInteger("org.openidentityplatform.opendj.entryCache.warmRestart.snapshotInterval", 600);
+  /** Number of threads reading the entries of a backend. */
+  private static final int THREADS =
+      Math.max(1, Integer.getInteger("org.openidentityplatform.opendj.entryCache.warmRestart.threads", 2));
+  /** Maximum number of entries read per second, or 0 to read them as fast as possible. */
+  private static final int ENTRIES_PER_SECOND =
+      Integer.getInteger("org.openidentityplatform.opendj.entryCache.warmRestart.entriesPerSecond", 10000);
+  /** Number of entries read in a transaction. */
+  private static final int BATCH_SIZE = 100;
+  /** The first bytes of a snapshot file, identifying its format. */
+  private static final int SNAPSHOT_MAGIC = 0x45435301;
+
+  /** Lazily created thread writing the snapshots of all the backends. */
+  private static final class Snapshots
+  {
+    private static final ScheduledExecutorService SCHEDULER =
+        Executors.newSingleThreadScheduledExecutor(newThreadFactory(null, "ENTRY-CACHE-SNAPSHOT", true));
+  }
+
+  /** The states of the warm up. */
+  private enum State
+  {
+    WAITING, LOADING, DONE, CANCELLED, FAILED
+  }
+
+  private final String backendID;
+  private final RootContainer rootContainer;
+  private final Storage storage;
+  private final File snapshotFile;
+  private final ExecutorService loaders;
+  /** Released when the backend is closed, which stops the warm up. */
+  private final CountDownLatch stopped = new CountDownLatch(1);
+
+  private volatile State state = State.WAITING;
+  private volatile int snapshotEntries;
+  private final AtomicLong loadedEntries = new AtomicLong();
+  private final AtomicLong missingEntries = new AtomicLong();
+  private volatile long startTime;
+  private volatile long endTime;
+  private volatile int lastSnapshotEntries;
+  private volatile String lastSnapshotTime;
+  /** The entry IDs of the previous snapshot, kept in the next snapshots until the warm up is done. */
+  private volatile List<Long> previousSnapshot = Collections.emptyList();
+  private ScheduledFuture<?> snapshotTask;
+
+  /**
+   * Creates a warmer of the entry cache for the entries of a backend.
+   *
+   * @param backendID
+   *          the ID of the backend
+   * @param rootContainer
+   *          the root container of the backend, opened
+   * @param snapshotFile
+   *          the file holding the snapshot of the cached entries of the backend
+   */
+  EntryCacheWarmer(String backendID, RootContainer rootContainer, File snapshotFile)
+  {
+    this.backendID = backendID;
+    this.rootContainer = rootContainer;
+    this.storage = rootContainer.getStorage();
+    this.snapshotFile = snapshotFile;
+    this.loaders = Executors.newFixedThreadPool(THREADS,
+        newThreadFactory(null, "ENTRY-CACHE-WARM-UP " + backendID + " %d", true));
+  }
+
+  /** Starts warming up the entry cache in the background, and writing the snapshots periodically. */
+  void start()
+  {
+    loaders.submit(new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        warmUp();
+      }
+    });
+    if (SNAPSHOT_INTERVAL > 0)
+    {
+      snapshotTask = Snapshots.SCHEDULER.scheduleWithFixedDelay(new Runnable()
+      {
+        @Override
+        public void run()
+        {
+          writeSnapshot();
+        }
+      }, SNAPSHOT_INTERVAL, SNAPSHOT_INTERVAL, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Stops warming up the entry cache, and writes a last snapshot. Must be called before the root container is closed,
+   * once the backend no longer processes operations.
+   */
+  void stop()
+  {
+    stopped.countDown();
+    if (snapshotTask != null)
+    {
+      snapshotTask.cancel(false);
+    }
+    // Do not interrupt the threads reading the storage
+    loaders.shutdown();
+    try
+    {
+      loaders.awaitTermination(1, TimeUnit.MINUTES);
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+    }
+    writeSnapshot();
+  }
+
+  private boolean isStopped()
+  {
+    return stopped.getCount() == 0;
+  }
+
+  private void warmUp()
+  {
+    try
+    {
+      // The entry cache is configured after the backends are opened
+      while (!DirectoryServer.isRunning())
+      {
+        if (stopped.await(100, TimeUnit.MILLISECONDS))
+        {
+          state = State.CANCELLED;
+          return;
+        }
+      }
+      startTime = System.currentTimeMillis();
+      state = State.LOADING;
+      final List<Long> entryIDs = readSnapshot();
+      snapshotEntries = entryIDs.size();
+      previousSnapshot = entryIDs;
+
+      final AtomicInteger nextBatch = new AtomicInteger();
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 1; i < THREADS; i++)
+      {
+        futures.add(loaders.submit(new Callable<Void>()
+        {
+          @Override
+          public Void call() throws Exception
+          {
+            load(entryIDs, nextBatch);
+            return null;
+          }
+        }));
+      }
+      load(entryIDs, nextBatch);
+      for (Future<Void> future : futures)
+      {
+        future.get();
+      }
+
+      endTime = System.currentTimeMillis();
+      if (isStopped())
+      {
+        state = State.CANCELLED;
+      }
+      else
+      {
+        state = State.DONE;
+        previousSnapshot = Collections.emptyList();
+        if (snapshotEntries > 0)
+        {
+          logger.info(NOTE_ENTRY_CACHE_WARM_UP_COMPLETED, backendID, loadedEntries.get(), snapshotEntries,
+              (endTime - startTime) / 1000);
+        }
+      }
+    }
+    catch (Exception e)
+    {
+      logger.traceException(e);
+      endTime = System.currentTimeMillis();
+      state = State.FAILED;
+      if (!isStopped())
+      {
+        logger.error(ERR_ENTRY_CACHE_WARM_UP_FAILED, backendID, stackTraceToSingleLineString(e));
+      }
+    }
+  }
+
+  /** Reads the batches of entries not read yet by the other threads, at the configured rate. */
+  private void load(List<Long> entryIDs, AtomicInteger nextBatch) throws Exception
+  {
+    final EntryCache<?> entryCache = DirectoryServer.getEntryCache();
+    for (int batch = nextBatch.getAndIncrement();
+        batch * BATCH_SIZE < entryIDs.size() && !isStopped();
+        batch = nextBatch.getAndIncrement())
+    {
+      final long batchStart = System.nanoTime();
+      // The entries are read in the order of the trees
+      final List<Long> batchIDs =
+          new ArrayList<>(entryIDs.subList(batch * BATCH_SIZE, Math.min(entryIDs.size(), (batch + 1) * BATCH_SIZE)));
+      Collections.sort(batchIDs);
+      storage.read(new ReadOperation<Void>()
+      {
+        @Override
+        public Void run(ReadableTransaction txn) throws Exception
+        {
+          for (Long entryID : batchIDs)
+          {
+            if (isStopped())
+            {
+              break;
+            }
+            load(txn, entryCache, entryID);
+          }
+          return null;
+        }
+      });
+      if (ENTRIES_PER_SECOND > 0)
+      {
+        final long remainingNanos = TimeUnit.SECONDS.toNanos(batchIDs.size()) * THREADS / ENTRIES_PER_SECOND
+            - (System.nanoTime() - batchStart);
+        if (remainingNanos > 0)
+        {
+          stopped.await(remainingNanos, TimeUnit.NANOSECONDS);
+        }
+      }
+    }
+  }
+
+  private void load(ReadableTransaction txn, EntryCache<?> entryCache, long id) throws Exception
+  {
+    if (entryCache.getEntryDN(backendID, id) != null)
+    {
+      loadedEntries.incrementAndGet();
+      return;
+    }
+    final EntryID entryID = new EntryID(id);
+    for (EntryContainer entryContainer : rootContainer.getEntryContainers())
+    {
+      final Entry entry = entryContainer.getID2Entry().get(txn, entryID);
+      if (entry != null)
+      {
+        // Also load the pages of dn2id used to find the entry by DN
+        entryContainer.getDN2ID().get(txn, entry.getName());
+        entryCache.putEntryIfAbsent(entry, backendID, id);
+        loadedEntries.incrementAndGet();
+        return;
+      }
+    }
+    missingEntries.incrementAndGet();
+  }
+
+  /** Returns the entry IDs of the snapshot, the most recently used first. */
+  private List<Long> readSnapshot()
+  {
+    final List<Long> entryIDs = new ArrayList<>();
+    if (!snapshotFile.exists())
+    {
+      return entryIDs;
+    }
+    try
+    {
+      final ByteSequenceReader reader = ByteString.wrap(Files.readAllBytes(snapshotFile.toPath())).asReader();
+      if (reader.remaining() < 4 || reader.readInt() != SNAPSHOT_MAGIC)
+      {
+        throw new IOException("unrecognized format");
+      }
+      for (int i = reader.readCompactUnsignedInt(); i > 0; i--)
+      {
+        entryIDs.add(reader.readCompactUnsignedLong());
+      }
+    }
+    catch (IOException | IndexOutOfBoundsException e)
+    {
+      logger.traceException(e);
+      logger.warn(WARN_ENTRY_CACHE_SNAPSHOT_READ_FAILED, backendID, snapshotFile, e.getMessage());
+      entryIDs.clear();
+    }
+    return entryIDs;
+  }
+
+  /**
+   * Writes the IDs of the most recently used entries of the backend held by the entry cache, followed by the ones of
+   * the previous snapshot if the warm up is not done, whatever its outcome. Nothing is written before the previous
+   * snapshot is read, or if there are no entry IDs.
+   */
+  private synchronized void writeSnapshot()
+  {
+    if (state == State.WAITING)
+    {
+      return;
+    }
+    final Set<Long> entryIDs =
+        new LinkedHashSet<>(DirectoryServer.getEntryCache().getHotEntryIDs(backendID, SNAPSHOT_SIZE));
+    for (Iterator<Long> it = previousSnapshot.iterator(); it.hasNext() && entryIDs.size() < SNAPSHOT_SIZE;)
+    {
+      entryIDs.add(it.next());
+    }
+    if (entryIDs.isEmpty())
+    {
+      return;
+    }
+    final ByteStringBuilder builder = new ByteStringBuilder();
+    builder.appendInt(SNAPSHOT_MAGIC);
+    builder.appendCompactUnsigned(entryIDs.size());
+    for (Long entryID : entryIDs)
+    {
+      builder.appendCompactUnsigned(entryID);
+    }
+
+    final File tmpFile = new File(snapshotFile.getPath() + ".tmp");
+    try
+    {
+      snapshotFile.getParentFile().mkdirs();
+      try (OutputStream os = new FileOutputStream(tmpFile))
+      {
+        builder.copyTo(os);
+      }
+      Files.move(tmpFile.toPath(), snapshotFile.toPath(),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      lastSnapshotEntries = entryIDs.size();
+      lastSnapshotTime = TimeThread.getGMTTime();
+    }
+    catch (IOException e)
+    {
+      logger.traceException(e);
+      logger.warn(WARN_ENTRY_CACHE_SNAPSHOT_WRITE_FAILED, backendID, snapshotFile, stackTraceToSingleLineString(e));
+    }
+  }
+
+  /**
+   * Deletes the snapshot of a backend, whose entries are replaced.
+   *
+   * @param snapshotFile
+   *          the file holding the snapshot of the cached entries of the backend
+   */
+  static void deleteSnapshot(File snapshotFile)
+  {
+    try
+    {
+      Files.deleteIfExists(snapshotFile.toPath());
+    }
+    catch (IOException e)
+    {
+      logger.traceException(e);
+    }
+  }
+
+  @Override
+  public String getMonitorInstanceName()
+  {
+    return backendID + " Entry Cache Warm-Up";
+  }
+
+  @Override
+  public MonitorData getMonitorData()
+  {
+    final MonitorData monitorAttrs = new MonitorData(7);
+    monitorAttrs.add("warm-up-state", state.name().toLowerCase());
+    monitorAttrs.add("warm-up-snapshot-entries", snapshotEntries);
+    monitorAttrs.add("warm-up-loaded-entries", loadedEntries.get());
+    monitorAttrs.add("warm-up-missing-entries", missingEntries.get());
+    if (startTime != 0)
+    {
+      monitorAttrs.add("warm-up-duration-ms", (endTime != 0 ? endTime : System.currentTimeMillis()) - startTime);
+    }
+    if (lastSnapshotTime != null)
+    {
+      monitorAttrs.add("last-snapshot-entries", lastSnapshotEntries);
+      monitorAttrs.add("last-snapshot-time", lastSnapshotTime);
+    }
+    return monitorAttrs;
+  }
+}
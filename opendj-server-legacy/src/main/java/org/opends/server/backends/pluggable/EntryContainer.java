@@ -14,6 +14,7 @@
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2011-2016 ForgeRock AS.
  * Portions copyright 2013 Manuel Gaupp
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -37,6 +38,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -66,6 +68,7 @@ import org.opends.server.api.EntryCache;
 import org.opends.server.api.VirtualAttributeProvider;
 import org.opends.server.api.plugin.PluginResult.SubordinateDelete;
 import org.opends.server.api.plugin.PluginResult.SubordinateModifyDN;
+import org.opends.server.backends.pluggable.AttributeIndex.MatchingRuleIndex;
 import org.opends.server.backends.pluggable.spi.AccessMode;
 import org.opends.server.backends.pluggable.spi.Cursor;
 import org.opends.server.backends.pluggable.spi.ReadOperation;
@@ -158,6 +161,8 @@ public class EntryContainer
   private final Map<AttributeType, CryptoSuite> attrCryptoMap = new HashMap<>();
   /** The set of VLV (Virtual List View) indexes. */
   private final Map<String, VLVIndex> vlvIndexMap = new HashMap<>();
+  /** The attribute indexes being built online, whose updates are captured by the write operations. */
+  private final List<OnlineIndexBuilder> onlineIndexBuilders = new CopyOnWriteArrayList<>();
 
   /**
    * Prevents name clashes for common indexes (like id2entry) across multiple suffixes.
@@ -194,6 +199,9 @@ public class EntryContainer
     public ConfigChangeResult applyConfigurationAdd(final BackendIndexCfg cfg)
     {
       final ConfigChangeResult ccr = new ConfigChangeResult();
+      // No write operation is running while the index is added, so that the entries written afterwards are either
+      // indexed by their write operation or scanned by the online build of the index.
+      exclusiveLock.lock();
       try
       {
         final CryptoSuite cryptoSuite = newCryptoSuite(cfg.isConfidentialityEnabled());
@@ -204,21 +212,35 @@ public class EntryContainer
           public void run(WriteableTransaction txn) throws Exception
           {
             index.open(txn, true);
-            if (!index.isTrusted())
-            {
-              ccr.setAdminActionRequired(true);
-              ccr.addMessage(NOTE_INDEX_ADD_REQUIRES_REBUILD.get(cfg.getAttribute().getNameOrOID()));
-            }
             attrIndexMap.put(cfg.getAttribute(), index);
             attrCryptoMap.put(cfg.getAttribute(), cryptoSuite);
           }
         });
+        if (!index.isTrusted())
+        {
+          if (OnlineIndexBuilder.ENABLED)
+          {
+            final OnlineIndexBuilder builder = new OnlineIndexBuilder(EntryContainer.this, storage, index);
+            onlineIndexBuilders.add(builder);
+            builder.start();
+            ccr.addMessage(NOTE_INDEX_ONLINE_BUILD_STARTED.get(cfg.getAttribute().getNameOrOID()));
+          }
+          else
+          {
+            ccr.setAdminActionRequired(true);
+            ccr.addMessage(NOTE_INDEX_ADD_REQUIRES_REBUILD.get(cfg.getAttribute().getNameOrOID()));
+          }
+        }
       }
       catch(Exception e)
       {
         ccr.setResultCode(DirectoryServer.getCoreConfigManager().getServerErrorResultCode());
         ccr.addMessage(LocalizableMessage.raw(e.getLocalizedMessage()));
       }
+      finally
+      {
+        exclusiveLock.unlock();
+      }
       return ccr;
     }
 
@@ -238,6 +260,7 @@ public class EntryContainer
       exclusiveLock.lock();
       try
       {
+        cancelOnlineIndexBuilds(attrIndexMap.get(cfg.getAttribute()));
         storage.write(new WriteOperation()
         {
           @Override
@@ -388,6 +411,7 @@ public class EntryContainer
   {
     return new DataConfig.Builder()
         .compress(config.isEntriesCompressed())
+        .compressWithDictionary(config.isEntriesCompressionDictionary())
         .encode(config.isCompactEncoding())
         .encrypt(config.isConfidentialityEnabled())
         .cryptoSuite(serverContext.getCryptoManager().newCryptoSuite(config.getCipherTransformation(),
@@ -420,6 +444,8 @@ public class EntryContainer
       dn2id.open(txn, shouldCreate);
       state.open(txn, shouldCreate);
       dn2uri.open(txn, shouldCreate);
+      id2entry.resetCompressionDictionaries(state.getCompressionDictionaries(txn, id2entry.getName()),
+          shouldCreate ? newCompressionDictionaryStore() : null);
 
       final boolean isNotEmpty = !isEmpty(txn);
       for (String idx : config.listBackendIndexes())
@@ -459,6 +485,65 @@ public class EntryContainer
     }
   }
 
+  /**
+   * Stores and deletes the compression dictionaries of id2entry in the state tree, in their own transaction.
+   */
+  private CompressionDictionaries.Store newCompressionDictionaryStore()
+  {
+    return new CompressionDictionaries.Store()
+    {
+      @Override
+      public void store(final int dictionaryID, final ByteString dictionary) throws Exception
+      {
+        storage.write(new WriteOperation()
+        {
+          @Override
+          public void run(WriteableTransaction txn) throws Exception
+          {
+            state.putCompressionDictionary(txn, id2entry.getName(), dictionaryID, dictionary);
+          }
+        });
+      }
+
+      @Override
+      public void delete(final int dictionaryID) throws Exception
+      {
+        storage.write(new WriteOperation()
+        {
+          @Override
+          public void run(WriteableTransaction txn) throws Exception
+          {
+            state.deleteCompressionDictionary(txn, id2entry.getName(), dictionaryID);
+          }
+        });
+      }
+    };
+  }
+
+  /**
+   * Stores and deletes the compression dictionaries of id2entry in the state tree, in the provided transaction.
+   *
+   * @param txn a non null transaction, which must remain usable from any thread while it is in use
+   * @return a store of the compression dictionaries of id2entry
+   */
+  CompressionDictionaries.Store newCompressionDictionaryStore(final WriteableTransaction txn)
+  {
+    return new CompressionDictionaries.Store()
+    {
+      @Override
+      public void store(int dictionaryID, ByteString dictionary)
+      {
+        state.putCompressionDictionary(txn, id2entry.getName(), dictionaryID, dictionary);
+      }
+
+      @Override
+      public void delete(int dictionaryID)
+      {
+        state.deleteCompressionDictionary(txn, id2entry.getName(), dictionaryID);
+      }
+    };
+  }
+
   boolean isEmpty(ReadableTransaction txn)
   {
     return getHighestEntryID(txn).longValue() == 0;
@@ -472,6 +557,7 @@ public class EntryContainer
   @Override
   public void close() throws StorageRuntimeException
   {
+    cancelOnlineIndexBuilds(null);
     closeSilently(attrIndexMap.values());
     closeSilently(vlvIndexMap.values());
 
@@ -760,6 +846,8 @@ public class EntryContainer
           // requires us to use an entryIDSet where the entryIDs are ordered
           // so further paging can restart where it previously stopped
           long[] reorderedCandidateEntryIDs;
+          // The entries kept by the sort, so they are not fetched again
+          Entry[] reorderedCandidateEntries = null;
           if (candidateEntryIDs == null)
           {
             if (processSearchWithVirtualAttributeRule(searchOperation, true))
@@ -798,7 +886,10 @@ public class EntryContainer
               try
               {
                 List<SortKey> sortKeys = sortRequest.getSortKeys();
-                reorderedCandidateEntryIDs = sort(txn, candidateEntryIDs, searchOperation, sortKeys, vlvRequest);
+                final Map<EntryID, Entry> sortedEntries = new HashMap<>();
+                reorderedCandidateEntryIDs =
+                    sort(txn, candidateEntryIDs, searchOperation, sortKeys, vlvRequest, pageRequest, sortedEntries);
+                reorderedCandidateEntries = toEntries(reorderedCandidateEntryIDs, sortedEntries);
               }
               catch (DirectoryException de)
               {
@@ -853,7 +944,8 @@ public class EntryContainer
           if (reorderedCandidateEntryIDs != null)
           {
             rootContainer.getMonitorProvider().incrementIndexedSearchCount();
-            searchIndexed(txn, reorderedCandidateEntryIDs, candidatesAreInScope, searchOperation, pageRequest);
+            searchIndexed(txn, reorderedCandidateEntryIDs, reorderedCandidateEntries, candidatesAreInScope,
+                searchOperation, pageRequest);
           }
           else
           {
@@ -1142,6 +1234,8 @@ public class EntryContainer
 
     int lookthroughCount = 0;
     int lookthroughLimit = searchOperation.getClientConnection().getLookthroughLimit();
+    final SearchFilter filter = searchOperation.getFilter();
+    final Collection<AttributeType> matchingAttributes = MatchingAttributes.of(filter);
 
     try (final Cursor<ByteString, ByteString> cursor = txn.openCursor(dn2id.getName()))
     {
@@ -1167,14 +1261,16 @@ public class EntryContainer
                 || findDNKeyParent(cursor.getKey()) == baseDNKey.length();
         if (isInScope)
         {
-          // Process the candidate entry.
-          final Entry entry = getEntry(txn, entryID);
+          // Process the candidate entry, which is partially decoded unless cached.
+          final Entry cacheEntry = getEntryCache().getEntry(backendID, entryID.longValue());
+          final ByteString record = cacheEntry == null ? txn.read(id2entry.getName(), entryID.toByteString()) : null;
+          final Entry entry = cacheEntry != null ? cacheEntry : decodeEntry(entryID, record, matchingAttributes);
           if (entry != null)
           {
             lookthroughCount++;
 
             if ((manageDsaIT || entry.getReferralURLs() == null)
-                && searchOperation.getFilter().matchesEntry(entry))
+                && filter.matchesEntry(entry))
             {
               if (isPageFull(searchOperation, pageRequest))
               {
@@ -1183,7 +1279,10 @@ public class EntryContainer
                 return;
               }
 
-              if (!searchOperation.returnEntry(entry, null))
+              // Only the matching entries are fully decoded, from the record already read.
+              final Entry matchingEntry =
+                  cacheEntry == null && matchingAttributes != null ? decodeEntry(entryID, record, null) : entry;
+              if (matchingEntry != null && !searchOperation.returnEntry(matchingEntry, null))
               {
                 // We have been told to discontinue processing of the search.
                 // This could be due to size limit exceeded or operation cancelled
@@ -1251,6 +1350,37 @@ public class EntryContainer
     return entry;
   }
 
+  /**
+   * Decodes an entry from its record read from the entry tree, or a partial entry holding only the provided attributes.
+   * Full entries are put in the entry cache, partial entries are not.
+   *
+   * @param entryID
+   *          the id of the entry
+   * @param record
+   *          the record read from the entry tree, or {@code null} if there is no such record
+   * @param attributeTypes
+   *          the types of the attributes to decode, or {@code null} to decode the full entry
+   * @return the decoded entry, or {@code null} if there is no such record
+   * @throws DirectoryException
+   *           If the entry could not be decoded
+   */
+  private Entry decodeEntry(EntryID entryID, ByteString record, Collection<AttributeType> attributeTypes)
+      throws DirectoryException
+  {
+    if (attributeTypes != null)
+    {
+      return id2entry.decode(entryID, record, attributeTypes);
+    }
+    final Entry entry = id2entry.decode(entryID, record);
+    if (entry != null)
+    {
+      // Put the entry in the cache making sure not to overwrite a newer copy
+      // that may have been inserted since the time we read the cache.
+      getEntryCache().putEntryIfAbsent(entry, backendID, entryID.longValue());
+    }
+    return entry;
+  }
+
   /**
    * We were able to obtain a set of candidate entry IDs for the search from the indexes.
    * <p>
@@ -1262,9 +1392,12 @@ public class EntryContainer
    * <li>discard entries that are not in scope
    * <li>return entry if it matches the filter
    * </ul>
+   * The entries are fetched, decoded and matched ahead of the search by an {@link EntryFetchPipeline}.
    *
    * @param entryIDReorderedSet
    *          The candidate entry IDs.
+   * @param entriesReorderedSet
+   *          The candidate entries already fetched by the sort, or null if none were.
    * @param candidatesAreInScope
    *          true if it is certain that every candidate entry is in the search scope.
    * @param searchOperation
@@ -1274,9 +1407,9 @@ public class EntryContainer
    * @throws DirectoryException
    *           If an error prevented the search from being processed.
    */
-  private void searchIndexed(ReadableTransaction txn, long[] entryIDReorderedSet, boolean candidatesAreInScope,
-      SearchOperation searchOperation, PagedResultsControl pageRequest) throws DirectoryException,
-      CanceledOperationException
+  private void searchIndexed(ReadableTransaction txn, long[] entryIDReorderedSet, Entry[] entriesReorderedSet,
+      boolean candidatesAreInScope, SearchOperation searchOperation, PagedResultsControl pageRequest)
+      throws DirectoryException, CanceledOperationException
   {
     SearchScope searchScope = searchOperation.getScope();
     DN aBaseDN = searchOperation.getBaseDN();
@@ -1319,40 +1452,36 @@ public class EntryContainer
     if (continueSearch)
     {
       final SearchFilter filter = searchOperation.getFilter();
-      for (int i = findStartIndex(beginEntryID, entryIDReorderedSet); i < entryIDReorderedSet.length; i++)
+      final EntryFetchPipeline.EntryMatcher matcher = new EntryFetchPipeline.EntryMatcher()
       {
-        EntryID entryID = new EntryID(entryIDReorderedSet[i]);
-        Entry entry;
-        try
+        @Override
+        public boolean matches(Entry entry) throws DirectoryException
         {
-          entry = getEntry(txn, entryID);
+          return isInScope(candidatesAreInScope, searchScope, aBaseDN, entry)
+              && (manageDsaIT || entry.getReferralURLs() == null)
+              && filter.matchesEntry(entry);
         }
-        catch (Exception e)
+      };
+      try (final EntryFetchPipeline candidates = new EntryFetchPipeline(txn, id2entry, getEntryCache(), backendID,
+          rootContainer.getSearchPrefetchExecutor(), entryIDReorderedSet, entriesReorderedSet,
+          findStartIndex(beginEntryID, entryIDReorderedSet), matcher, MatchingAttributes.of(filter), false))
+      {
+        while (candidates.next())
         {
-          logger.traceException(e);
-          continue;
-        }
-
-        // Process the candidate entry.
-        if (entry != null
-              && isInScope(candidatesAreInScope, searchScope, aBaseDN, entry)
-              && (manageDsaIT || entry.getReferralURLs() == null)
-              && filter.matchesEntry(entry))
+          if (isPageFull(searchOperation, pageRequest))
           {
-            if (isPageFull(searchOperation, pageRequest))
-            {
-              // Set the cookie to remember where we were.
-              addPagedResultsControl(searchOperation, pageRequest, entryID.toByteString());
-              return;
-            }
+            // Set the cookie to remember where we were.
+            addPagedResultsControl(searchOperation, pageRequest, candidates.getEntryID().toByteString());
+            return;
+          }
 
-            if (!searchOperation.returnEntry(entry, null))
-            {
-              // We have been told to discontinue processing of the search.
-              // This could be due to size limit exceeded or operation cancelled
-              break;
-            }
+          if (!searchOperation.returnEntry(candidates.getEntry(), null))
+          {
+            // We have been told to discontinue processing of the search.
+            // This could be due to size limit exceeded or operation cancelled
+            break;
           }
+        }
       }
       searchOperation.checkIfCanceled(false);
     }
@@ -1510,6 +1639,7 @@ public class EntryContainer
           }
         }
       });
+      captureIndexUpdates(indexBuffer);
     }
     catch (Exception e)
     {
@@ -1524,6 +1654,96 @@ public class EntryContainer
     }
   }
 
+  /**
+   * Captures the committed updates of the indexes being built online, before the locks of the written entries are
+   * released.
+   */
+  private void captureIndexUpdates(IndexBuffer indexBuffer)
+  {
+    for (OnlineIndexBuilder builder : onlineIndexBuilders)
+    {
+      builder.capture(indexBuffer);
+    }
+  }
+
+  /**
+   * Cancels the online builds of an attribute index, or of all the attribute indexes. Must be called while holding
+   * the exclusive lock.
+   */
+  private void cancelOnlineIndexBuilds(AttributeIndex index)
+  {
+    for (OnlineIndexBuilder builder : onlineIndexBuilders)
+    {
+      if (index == null || builder.getAttributeIndex() == index)
+      {
+        builder.cancel();
+        onlineIndexBuilders.remove(builder);
+      }
+    }
+  }
+
+  void removeOnlineIndexBuilder(OnlineIndexBuilder builder)
+  {
+    onlineIndexBuilders.remove(builder);
+  }
+
+  /**
+   * Rebuilds the untrusted indexes of attribute indexes while the backend remains online: their keys are removed,
+   * then they are built in the background as when they are added, and this method waits until they are trusted.
+   *
+   * @param attributeIndexes
+   *          the attribute indexes whose untrusted indexes are rebuilt
+   * @throws Exception
+   *           if the build has failed or has been cancelled
+   */
+  void rebuildIndexesOnline(final Collection<AttributeIndex> attributeIndexes) throws Exception
+  {
+    final List<OnlineIndexBuilder> builders = new ArrayList<>();
+    // No write operation is running while the indexes are cleared, so that the entries written afterwards are either
+    // indexed by their write operation or scanned by the online build of the indexes.
+    exclusiveLock.lock();
+    try
+    {
+      for (AttributeIndex attributeIndex : attributeIndexes)
+      {
+        // The builds in progress start again from the cleared indexes
+        cancelOnlineIndexBuilds(attributeIndex);
+      }
+      storage.write(new WriteOperation()
+      {
+        @Override
+        public void run(WriteableTransaction txn) throws Exception
+        {
+          for (AttributeIndex attributeIndex : attributeIndexes)
+          {
+            for (MatchingRuleIndex index : attributeIndex.getNameToIndexes().values())
+            {
+              if (!index.isTrusted())
+              {
+                index.clear(txn);
+              }
+            }
+          }
+        }
+      });
+      for (AttributeIndex attributeIndex : attributeIndexes)
+      {
+        final OnlineIndexBuilder builder = new OnlineIndexBuilder(this, storage, attributeIndex);
+        onlineIndexBuilders.add(builder);
+        builders.add(builder);
+        builder.start();
+      }
+    }
+    finally
+    {
+      exclusiveLock.unlock();
+    }
+    for (OnlineIndexBuilder builder : builders)
+    {
+      builder.await();
+    }
+  }
+
   private void writeTrustState(final IndexBuffer indexBuffer)
   {
     // Transaction modifying the index has been rolled back.
@@ -1723,6 +1943,7 @@ public class EntryContainer
           }
         }
       });
+      captureIndexUpdates(indexBuffer);
     }
     catch (Exception e)
     {
@@ -1920,6 +2141,7 @@ public class EntryContainer
           }
         }
       });
+      captureIndexUpdates(indexBuffer);
     }
     catch (Exception e)
     {
@@ -2162,6 +2384,7 @@ public class EntryContainer
           return modifications;
         }
       });
+      captureIndexUpdates(indexBuffer);
     }
     catch (Exception e)
     {
@@ -2304,10 +2527,12 @@ public class EntryContainer
    */
   void delete(WriteableTransaction txn) throws StorageRuntimeException
   {
+    cancelOnlineIndexBuilds(null);
     for (Tree tree : listTrees())
     {
       tree.delete(txn);
     }
+    id2entry.resetCompressionDictionaries(Collections.<Integer, ByteString> emptyMap(), null);
   }
 
   /**
@@ -2449,6 +2674,7 @@ public class EntryContainer
    */
   public void clear() throws StorageRuntimeException
   {
+    cancelOnlineIndexBuilds(null);
     try
     {
       storage.write(new WriteOperation()
@@ -2462,6 +2688,8 @@ public class EntryContainer
           }
         }
       });
+      id2entry.resetCompressionDictionaries(Collections.<Integer, ByteString> emptyMap(),
+          newCompressionDictionaryStore());
     }
     catch (Exception e)
     {
@@ -2536,8 +2764,20 @@ public class EntryContainer
     return baseEntry;
   }
 
-  private long[] sort(ReadableTransaction txn, EntryIDSet entryIDSet, SearchOperation searchOperation,
-      List<SortKey> sortKeys, VLVRequestControl vlvRequest) throws DirectoryException
+  /**
+   * Sorts the candidate entries matching the search.
+   * <p>
+   * When only the first sorted entries may be returned, as for a VLV request by offset, the first page of paged
+   * results or a size limit, only these are kept while sorting, together with their entry so that it is not fetched
+   * again when all of them are returned.
+   *
+   * @param sortedEntries
+   *          receives the entries of the returned IDs kept by the sort
+   * @return the sorted IDs of the entries to return, or null if the candidates are not defined
+   */
+  private long[] sort(ReadableTransaction txn, EntryIDSet entryIDSet, final SearchOperation searchOperation,
+      List<SortKey> sortKeys, VLVRequestControl vlvRequest, PagedResultsControl pageRequest,
+      Map<EntryID, Entry> sortedEntries) throws DirectoryException
   {
     if (!entryIDSet.isDefined())
     {
@@ -2547,22 +2787,50 @@ public class EntryContainer
     final DN baseDN = searchOperation.getBaseDN();
     final SearchScope scope = searchOperation.getScope();
     final SearchFilter filter = searchOperation.getFilter();
+    final int windowSize = getSortWindowSize(entryIDSet, searchOperation, vlvRequest, pageRequest);
+    final boolean keepEntries = windowSize != 0 && isWindowReturned(vlvRequest);
 
     final TreeMap<ByteString, EntryID> sortMap = new TreeMap<>();
-    for (EntryID id : entryIDSet)
+    int contentCount = 0;
+    final EntryFetchPipeline.EntryMatcher matcher = new EntryFetchPipeline.EntryMatcher()
     {
-      try
+      @Override
+      public boolean matches(Entry entry) throws DirectoryException
       {
-        Entry e = getEntry(txn, id);
-        if (e.matchesBaseAndScope(baseDN, scope) && filter.matchesEntry(e))
-        {
-          sortMap.put(encodeVLVKey(sortKeys, e, id.longValue()), id);
-        }
+        return entry.matchesBaseAndScope(baseDN, scope) && filter.matchesEntry(entry);
       }
-      catch (Exception e)
+    };
+    try (final EntryFetchPipeline candidates = new EntryFetchPipeline(txn, id2entry, getEntryCache(), backendID,
+        rootContainer.getSearchPrefetchExecutor(), entryIDSet.toLongArray(), null, 0, matcher,
+        MatchingAttributes.of(filter), true))
+    {
+      while (nextCandidate(candidates))
       {
-        LocalizableMessage message = ERR_ENTRYIDSORTER_CANNOT_EXAMINE_ENTRY.get(id, getExceptionMessage(e));
-        throw new DirectoryException(DirectoryServer.getCoreConfigManager().getServerErrorResultCode(), message, e);
+        final EntryID id = candidates.getEntryID();
+        final Entry e = candidates.getEntry();
+        final ByteString sortKey = encodeSortKey(sortKeys, e, id);
+        contentCount++;
+        if (windowSize == 0)
+        {
+          sortMap.put(sortKey, id);
+        }
+        else if (sortMap.size() < windowSize || sortKey.compareTo(sortMap.lastKey()) < 0)
+        {
+          // Only keep the first sorted entries of the window.
+          sortMap.put(sortKey, id);
+          if (keepEntries)
+          {
+            sortedEntries.put(id, e);
+          }
+          if (sortMap.size() > windowSize)
+          {
+            final EntryID evictedID = sortMap.pollLastEntry().getValue();
+            if (keepEntries)
+            {
+              sortedEntries.remove(evictedID);
+            }
+          }
+        }
       }
     }
 
@@ -2575,11 +2843,101 @@ public class EntryContainer
 
     if (vlvRequest.getTargetType() == VLVRequestControl.TYPE_TARGET_BYOFFSET)
     {
-      return sortByOffset(searchOperation, vlvRequest, sortMap);
+      return sortByOffset(searchOperation, vlvRequest, sortMap, contentCount);
     }
     return sortByGreaterThanOrEqualAssertion(searchOperation, vlvRequest, sortKeys, sortMap);
   }
 
+  private static boolean nextCandidate(EntryFetchPipeline candidates) throws DirectoryException
+  {
+    try
+    {
+      return candidates.next();
+    }
+    catch (DirectoryException e)
+    {
+      throw cannotExamineEntry(candidates.getEntryID(), e);
+    }
+  }
+
+  private static ByteString encodeSortKey(List<SortKey> sortKeys, Entry entry, EntryID id) throws DirectoryException
+  {
+    try
+    {
+      return encodeVLVKey(sortKeys, entry, id.longValue());
+    }
+    catch (Exception e)
+    {
+      throw cannotExamineEntry(id, e);
+    }
+  }
+
+  private static DirectoryException cannotExamineEntry(EntryID id, Exception e)
+  {
+    LocalizableMessage message = ERR_ENTRYIDSORTER_CANNOT_EXAMINE_ENTRY.get(id, getExceptionMessage(e));
+    return new DirectoryException(DirectoryServer.getCoreConfigManager().getServerErrorResultCode(), message, e);
+  }
+
+  /**
+   * Returns the number of first sorted entries which may be returned by a sorted search, 0 if any may be.
+   * A VLV request by offset returns entries up to its target offset plus its after count, the first page of paged
+   * results needs the first entry of the next page for its cookie, and a size limit needs the first entry beyond
+   * the limit to report that it was exceeded. The size limit applies to the page of a VLV request, not to the
+   * sorted entries before its target offset.
+   */
+  private static int getSortWindowSize(EntryIDSet entryIDSet, SearchOperation searchOperation,
+      VLVRequestControl vlvRequest, PagedResultsControl pageRequest)
+  {
+    final int lookthroughLimit = searchOperation.getClientConnection().getLookthroughLimit();
+    if (lookthroughLimit > 0 && entryIDSet.size() > lookthroughLimit)
+    {
+      // Let the search report the lookthrough limit on all the sorted candidates.
+      return 0;
+    }
+    long windowSize = Long.MAX_VALUE;
+    if (vlvRequest != null)
+    {
+      if (vlvRequest.getTargetType() != VLVRequestControl.TYPE_TARGET_BYOFFSET || vlvRequest.getOffset() < 0)
+      {
+        return 0;
+      }
+      windowSize = Math.max(vlvRequest.getOffset(), 1) + (long) vlvRequest.getAfterCount();
+    }
+    if (pageRequest != null && pageRequest.getCookie().length() == 0)
+    {
+      windowSize = Math.min(windowSize, pageRequest.getSize() + 1L);
+    }
+    if (vlvRequest == null && searchOperation.getSizeLimit() > 0)
+    {
+      windowSize = Math.min(windowSize, searchOperation.getSizeLimit() + 1L);
+    }
+    return windowSize != Long.MAX_VALUE ? (int) Math.min(windowSize, entryIDSet.size()) : 0;
+  }
+
+  /**
+   * Returns whether all the first sorted entries kept by the sort are returned, which is not the case of a VLV
+   * request by offset with entries before the ones it returns. Their entries are then not kept while sorting, the
+   * search fetches the few returned entries again.
+   */
+  private static boolean isWindowReturned(VLVRequestControl vlvRequest)
+  {
+    return vlvRequest == null || vlvRequest.getOffset() - 1 <= vlvRequest.getBeforeCount();
+  }
+
+  private static Entry[] toEntries(long[] entryIDs, Map<EntryID, Entry> entries)
+  {
+    if (entryIDs == null || entries.isEmpty())
+    {
+      return null;
+    }
+    final Entry[] array = new Entry[entryIDs.length];
+    for (int i = 0; i < entryIDs.length; i++)
+    {
+      array[i] = entries.get(new EntryID(entryIDs[i]));
+    }
+    return array;
+  }
+
   private static final long[] toArray(Collection<EntryID> entryIDs)
   {
     final long[] array = new long[entryIDs.size()];
@@ -2651,13 +3009,13 @@ public class EntryContainer
   }
 
   private static final long[] sortByOffset(SearchOperation searchOperation, VLVRequestControl vlvRequest,
-      TreeMap<ByteString, EntryID> sortMap) throws DirectoryException
+      TreeMap<ByteString, EntryID> sortMap, int contentCount) throws DirectoryException
   {
     int targetOffset = vlvRequest.getOffset();
     if (targetOffset < 0)
     {
       // The client specified a negative target offset. This should never be allowed.
-      addVLVResponseControl(searchOperation, targetOffset, sortMap.size(), OFFSET_RANGE_ERROR);
+      addVLVResponseControl(searchOperation, targetOffset, contentCount, OFFSET_RANGE_ERROR);
 
       LocalizableMessage message = ERR_ENTRYIDSORTER_NEGATIVE_START_POS.get();
       throw new DirectoryException(ResultCode.VIRTUAL_LIST_VIEW_ERROR, message);
@@ -2678,12 +3036,12 @@ public class EntryContainer
       startPos = 0;
       beforeCount = listOffset;
     }
-    else if (startPos >= sortMap.size())
+    else if (startPos >= contentCount)
     {
       // The start position is beyond the end of the list. In this case, we'll assume that the start position was
       // one greater than the size of the list and will only return the beforeCount entries.
-      targetOffset = sortMap.size() + 1;
-      listOffset = sortMap.size();
+      targetOffset = contentCount + 1;
+      listOffset = contentCount;
       startPos = listOffset - beforeCount;
       afterCount = 0;
     }
@@ -2712,7 +3070,7 @@ public class EntryContainer
       sortedIDs = Arrays.copyOf(sortedIDs, arrayPos);
     }
 
-    addVLVResponseControl(searchOperation, targetOffset, sortMap.size(), SUCCESS);
+    addVLVResponseControl(searchOperation, targetOffset, contentCount, SUCCESS);
     return sortedIDs;
   }
 
@@ -0,0 +1,479 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.forgerock.util.Utils.*;
+import static org.opends.messages.BackendMessages.*;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.ldap.schema.AttributeType;
+import org.opends.server.api.EntryCache;
+import org.opends.server.backends.pluggable.spi.Cursor;
+import org.opends.server.backends.pluggable.spi.ReadableTransaction;
+import org.opends.server.backends.pluggable.spi.StorageRuntimeException;
+import org.opends.server.core.DirectoryServer;
+import org.opends.server.types.DirectoryException;
+import org.opends.server.types.Entry;
+
+/**
+ * Fetches the candidate entries of an indexed search, returning the ones matching the search in candidate order.
+ * <p>
+ * When there are more candidates than {@link #BATCH_SIZE}, the candidates are read by the thread of the search
+ * through a single id2entry cursor, which steps from one candidate to the next when the candidates are in ID order,
+ * and the read values are decoded and matched by the helper threads of the backend, by batches, up to
+ * {@link #BATCHES_AHEAD_PER_THREAD} batches per helper thread ahead of the search. The helper threads never access the
+ * transaction. Fewer candidates are read with point lookups and decoded by the thread of the search.
+ * <p>
+ * Candidates already fetched by the search, such as the sorted ones, are matched without being read again. When the
+ * search provides its {@link MatchingAttributes}, the read candidates are first matched on a partial entry and only
+ * the matching ones are fully decoded and put in the entry cache.
+ * A failure to match a candidate is thrown when the search reaches it, after the previous matching candidates have
+ * been returned. Candidates missing from the entry tree or which cannot be read or decoded are logged and skipped, as
+ * the searches always did, or reported the same way as failures when every candidate must be examined, as for
+ * sorting. Closing the pipeline discards the batches ahead of the search.
+ */
+final class EntryFetchPipeline implements Closeable
+{
+  private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+  /** Decides whether a candidate entry is returned, called by the helper threads. */
+  interface EntryMatcher
+  {
+    /**
+     * Returns whether the provided candidate entry is returned by the search.
+     *
+     * @param entry
+     *          the candidate entry
+     * @return {@code true} if the entry is returned by the search
+     * @throws DirectoryException
+     *           if the entry could not be matched
+     */
+    boolean matches(Entry entry) throws DirectoryException;
+  }
+
+  /** Number of candidates decoded by a task of the helper threads. */
+  static final int BATCH_SIZE = 8;
+  /** Number of batches read ahead of the search for each helper thread. */
+  static final int BATCHES_AHEAD_PER_THREAD = 4;
+
+  private final ReadableTransaction txn;
+  private final ID2Entry id2entry;
+  private final EntryCache<?> entryCache;
+  private final String backendID;
+  private final long[] entryIDs;
+  private final Entry[] fetchedEntries;
+  private final EntryMatcher matcher;
+  private final Collection<AttributeType> matchingAttributes;
+  /** Whether a candidate missing from the entry tree, or which cannot be read or decoded, is a failure. */
+  private final boolean unreadableCandidateFails;
+  /** The helper threads of the backend, {@code null} if the candidates are decoded by the thread of the search. */
+  private final ThreadPoolExecutor executor;
+  private final int maxBatchesAhead;
+  private final boolean pipelined;
+  private final boolean ascending;
+
+  /** Index of the next candidate to read. */
+  private int position;
+  private Cursor<ByteString, ByteString> cursor;
+  private boolean cursorExhausted;
+  private final Queue<Future<Batch>> batchesAhead = new ArrayDeque<>();
+  private Batch batch;
+  private EntryID currentEntryID;
+  private Entry currentEntry;
+
+  /**
+   * Creates a pipeline fetching the matching candidates.
+   *
+   * @param txn
+   *          the transaction of the search
+   * @param id2entry
+   *          the entry tree
+   * @param entryCache
+   *          the entry cache looked up before reading the entry tree
+   * @param backendID
+   *          the backend ID of the entries in the entry cache
+   * @param executor
+   *          the helper threads of the backend, or {@code null} to decode the candidates on the thread of the search
+   * @param entryIDs
+   *          the candidate entry IDs, in the order the entries are returned
+   * @param fetchedEntries
+   *          the candidate entries already fetched, at the index of their ID, or {@code null} if none were
+   * @param fromIndex
+   *          the index of the first candidate to fetch
+   * @param matcher
+   *          selects the candidates returned by the pipeline
+   * @param matchingAttributes
+   *          the types of the attributes needed by the matcher, or {@code null} if it needs the full entries
+   * @param unreadableCandidateFails
+   *          whether a candidate missing from the entry tree, or which cannot be read or decoded, is reported as a
+   *          failure rather than skipped
+   */
+  EntryFetchPipeline(ReadableTransaction txn, ID2Entry id2entry, EntryCache<?> entryCache, String backendID,
+      ThreadPoolExecutor executor, long[] entryIDs, Entry[] fetchedEntries, int fromIndex, EntryMatcher matcher,
+      Collection<AttributeType> matchingAttributes, boolean unreadableCandidateFails)
+  {
+    this.txn = txn;
+    this.id2entry = id2entry;
+    this.entryCache = entryCache;
+    this.backendID = backendID;
+    this.entryIDs = entryIDs;
+    this.fetchedEntries = fetchedEntries;
+    this.position = fromIndex;
+    this.matcher = matcher;
+    this.matchingAttributes = matchingAttributes;
+    this.unreadableCandidateFails = unreadableCandidateFails;
+    this.executor = executor;
+    this.maxBatchesAhead = executor != null ? BATCHES_AHEAD_PER_THREAD * executor.getMaximumPoolSize() : 0;
+    this.pipelined = executor != null && entryIDs.length - fromIndex > BATCH_SIZE;
+    this.ascending = isAscending(entryIDs, fromIndex);
+  }
+
+  private static boolean isAscending(long[] entryIDs, int fromIndex)
+  {
+    for (int i = fromIndex + 1; i < entryIDs.length; i++)
+    {
+      if (entryIDs[i - 1] >= entryIDs[i])
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Moves to the next matching candidate.
+   *
+   * @return {@code true} if there is a next matching candidate
+   * @throws DirectoryException
+   *           if a candidate could not be matched
+   */
+  boolean next() throws DirectoryException
+  {
+    for (;;)
+    {
+      if (batch != null)
+      {
+        while (batch.next < batch.size)
+        {
+          final int i = batch.next++;
+          if (i == batch.failureIndex)
+          {
+            currentEntryID = new EntryID(batch.entryIDs[i]);
+            currentEntry = null;
+            throw batch.failure;
+          }
+          if (batch.entries[i] != null)
+          {
+            currentEntryID = new EntryID(batch.entryIDs[i]);
+            currentEntry = batch.entries[i];
+            return true;
+          }
+        }
+        batch = null;
+      }
+      batch = nextBatch();
+      if (batch == null)
+      {
+        currentEntryID = null;
+        currentEntry = null;
+        return false;
+      }
+    }
+  }
+
+  private Batch nextBatch()
+  {
+    if (!pipelined)
+    {
+      return position < entryIDs.length ? readBatch().call() : null;
+    }
+    while (batchesAhead.size() < maxBatchesAhead && position < entryIDs.length)
+    {
+      batchesAhead.add(executor.submit(readBatch()));
+    }
+    final Future<Batch> next = batchesAhead.poll();
+    if (next == null)
+    {
+      return null;
+    }
+    try
+    {
+      return next.get();
+    }
+    catch (InterruptedException e)
+    {
+      // Let the search notice the interruption, as if there were no more candidates.
+      Thread.currentThread().interrupt();
+      return null;
+    }
+    catch (ExecutionException e)
+    {
+      throw new StorageRuntimeException(e.getCause());
+    }
+  }
+
+  /** Reads the next batch of candidates, looking up the entry cache first. */
+  private Batch readBatch()
+  {
+    final int size = Math.min(BATCH_SIZE, entryIDs.length - position);
+    final Batch newBatch = new Batch(size);
+    for (int i = 0; i < size; i++, position++)
+    {
+      final long entryID = entryIDs[position];
+      newBatch.entryIDs[i] = entryID;
+      if (fetchedEntries != null && fetchedEntries[position] != null)
+      {
+        newBatch.entries[i] = fetchedEntries[position];
+        continue;
+      }
+      final Entry cacheEntry = entryCache.getEntry(backendID, entryID);
+      if (cacheEntry != null)
+      {
+        newBatch.entries[i] = cacheEntry;
+        continue;
+      }
+      DirectoryException failure = null;
+      try
+      {
+        newBatch.values[i] = read(new EntryID(entryID).toByteString());
+        if (newBatch.values[i] == null && unreadableCandidateFails)
+        {
+          failure = new DirectoryException(DirectoryServer.getCoreConfigManager().getServerErrorResultCode(),
+              ERR_MISSING_ID2ENTRY_RECORD.get(entryID));
+        }
+      }
+      catch (StorageRuntimeException e)
+      {
+        logger.traceException(e);
+        if (unreadableCandidateFails)
+        {
+          failure = new DirectoryException(DirectoryServer.getCoreConfigManager().getServerErrorResultCode(),
+              ERR_ENTRY_DATABASE_CORRUPT.get(entryID), e);
+        }
+      }
+      if (failure != null)
+      {
+        // Report the failure when the search reaches the candidate, the following ones are not needed.
+        newBatch.failure = failure;
+        newBatch.failureIndex = i;
+        position += size - i;
+        break;
+      }
+    }
+    return newBatch;
+  }
+
+  private ByteString read(ByteString key)
+  {
+    if (!pipelined)
+    {
+      return txn.read(id2entry.getName(), key);
+    }
+    if (cursor == null)
+    {
+      cursor = txn.openCursor(id2entry.getName());
+    }
+    if (!ascending)
+    {
+      return cursor.positionToKey(key) ? cursor.getValue() : null;
+    }
+    if (cursorExhausted)
+    {
+      return null;
+    }
+    if (cursor.isDefined())
+    {
+      // The previous candidate is behind: step to the next record, which is often the candidate.
+      int cmp = cursor.getKey().compareTo(key);
+      if (cmp < 0)
+      {
+        if (!cursor.next())
+        {
+          cursorExhausted = true;
+          return null;
+        }
+        cmp = cursor.getKey().compareTo(key);
+      }
+      if (cmp == 0)
+      {
+        return cursor.getValue();
+      }
+      else if (cmp > 0)
+      {
+        return null;
+      }
+    }
+    if (!cursor.positionToKeyOrNext(key))
+    {
+      cursorExhausted = true;
+      return null;
+    }
+    return cursor.getKey().equals(key) ? cursor.getValue() : null;
+  }
+
+  /** Candidates read from the entry tree, decoded and matched by a helper thread. */
+  private final class Batch implements Callable<Batch>
+  {
+    private final int size;
+    private final long[] entryIDs;
+    /** Entries found in the entry cache, then the matching entries. */
+    private final Entry[] entries;
+    /** Values read from the entry tree. */
+    private final ByteString[] values;
+    /** Index of the next entry to return. */
+    private int next;
+    /** The failure to read, decode or match a candidate, which stopped the batch. */
+    private DirectoryException failure;
+    private int failureIndex = -1;
+
+    private Batch(int size)
+    {
+      this.size = size;
+      this.entryIDs = new long[size];
+      this.entries = new Entry[size];
+      this.values = new ByteString[size];
+    }
+
+    @Override
+    public Batch call()
+    {
+      final int end = failureIndex >= 0 ? failureIndex : size;
+      for (int i = 0; i < end; i++)
+      {
+        final ByteString value = values[i];
+        values[i] = null;
+        try
+        {
+          if (entries[i] == null && value != null)
+          {
+            entries[i] = decodeIfMatching(new EntryID(entryIDs[i]), value);
+          }
+          else if (entries[i] != null && !matcher.matches(entries[i]))
+          {
+            entries[i] = null;
+          }
+        }
+        catch (DirectoryException e)
+        {
+          failure = e;
+          failureIndex = i;
+          return this;
+        }
+      }
+      return this;
+    }
+
+    /** Decodes a read candidate, first matching it on a partial entry if possible, and caches it if it matches. */
+    private Entry decodeIfMatching(EntryID entryID, ByteString value) throws DirectoryException
+    {
+      if (matchingAttributes != null)
+      {
+        final Entry partialEntry = decode(entryID, value, matchingAttributes);
+        if (partialEntry == null || !matcher.matches(partialEntry))
+        {
+          return null;
+        }
+      }
+      final Entry entry = decode(entryID, value, null);
+      if (entry == null)
+      {
+        return null;
+      }
+      // Put the entry in the cache making sure not to overwrite a newer copy
+      // that may have been inserted since the time we read the cache.
+      entryCache.putEntryIfAbsent(entry, backendID, entryID.longValue());
+      return matchingAttributes != null || matcher.matches(entry) ? entry : null;
+    }
+
+    /** Decodes a read candidate, or returns {@code null} if it cannot be decoded and may be skipped. */
+    private Entry decode(EntryID entryID, ByteString value, Collection<AttributeType> attributeTypes)
+        throws DirectoryException
+    {
+      try
+      {
+        if (attributeTypes != null)
+        {
+          return id2entry.decode(entryID, value, attributeTypes);
+        }
+        return id2entry.decode(entryID, value);
+      }
+      catch (DirectoryException e)
+      {
+        logger.traceException(e);
+        if (unreadableCandidateFails)
+        {
+          throw e;
+        }
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Returns the ID of the current matching candidate, or of the candidate which could not be matched.
+   *
+   * @return the ID of the current matching candidate
+   * @throws NoSuchElementException
+   *           if there is no current candidate
+   */
+  EntryID getEntryID()
+  {
+    if (currentEntryID == null)
+    {
+      throw new NoSuchElementException();
+    }
+    return currentEntryID;
+  }
+
+  /**
+   * Returns the current matching candidate.
+   *
+   * @return the current matching candidate
+   * @throws NoSuchElementException
+   *           if there is no current matching candidate
+   */
+  Entry getEntry()
+  {
+    if (currentEntry == null)
+    {
+      throw new NoSuchElementException();
+    }
+    return currentEntry;
+  }
+
+  @Override
+  public void close()
+  {
+    for (Future<Batch> batchAhead : batchesAhead)
+    {
+      batchAhead.cancel(false);
+    }
+    batchesAhead.clear();
+    batch = null;
+    closeSilently(cursor);
+  }
+}
@@ -0,0 +1,1089 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.forgerock.opendj.ldap.ByteSequenceReader;
+import org.forgerock.opendj.ldap.ByteStringBuilder;
+
+/**
+ * Compressed bitmap of entry IDs, in the spirit of Roaring bitmaps.
+ * <p>
+ * The IDs are partitioned by their high bits ({@code id >>> 16}) into containers holding the low 16 bits of the IDs
+ * of a partition, in the most compact of three forms:
+ * <ul>
+ * <li>an array of sorted values, for at most {@link #ARRAY_MAX_SIZE} values,</li>
+ * <li>a bitmap of 2<sup>16</sup> bits, for denser partitions,</li>
+ * <li>a list of runs of consecutive values, for partitions of consecutive IDs such as the entries added in a row.</li>
+ * </ul>
+ * Intersections, unions and differences run container by container: the partitions found in a single operand are
+ * skipped or copied without visiting their IDs and the other ones are merged with the cheapest algorithm for their
+ * forms. Bitmap containers, the only mutable ones, are never shared between bitmaps.
+ */
+final class EntryIDBitmap implements Iterable<EntryID>
+{
+  /** Maximum number of values of an array container, above which a bitmap is smaller. */
+  static final int ARRAY_MAX_SIZE = 4096;
+  private static final int BITMAP_WORDS = 1 << 10;
+  private static final byte ARRAY = 0;
+  private static final byte BITMAP = 1;
+  private static final byte RUN = 2;
+
+  /** High bits of the IDs of each container, in ascending order. */
+  private long[] keys;
+  private Container[] containers;
+  private int count;
+  private long size;
+
+  private EntryIDBitmap(int capacity)
+  {
+    keys = new long[capacity];
+    containers = new Container[capacity];
+  }
+
+  /** Creates an empty bitmap. */
+  EntryIDBitmap()
+  {
+    this(4);
+  }
+
+  /**
+   * Creates a bitmap holding sorted IDs.
+   *
+   * @param sortedIDs
+   *          IDs in ascending order
+   * @return a new bitmap holding the IDs
+   */
+  static EntryIDBitmap valueOf(long[] sortedIDs)
+  {
+    final EntryIDBitmap bitmap = new EntryIDBitmap(4);
+    int from = 0;
+    while (from < sortedIDs.length)
+    {
+      final long key = sortedIDs[from] >>> 16;
+      int to = from + 1;
+      while (to < sortedIDs.length && sortedIDs[to] >>> 16 == key)
+      {
+        to++;
+      }
+      final Container container;
+      if (to - from <= ARRAY_MAX_SIZE)
+      {
+        final char[] values = new char[to - from];
+        for (int i = from; i < to; i++)
+        {
+          values[i - from] = (char) sortedIDs[i];
+        }
+        container = new ArrayContainer(values);
+      }
+      else
+      {
+        final long[] words = new long[BITMAP_WORDS];
+        for (int i = from; i < to; i++)
+        {
+          final int low = (int) (sortedIDs[i] & 0xFFFF);
+          words[low >>> 6] |= 1L << low;
+        }
+        container = new BitmapContainer(words, to - from);
+      }
+      bitmap.append(key, container);
+      from = to;
+    }
+    return bitmap;
+  }
+
+  private void append(long key, Container container)
+  {
+    if (count == keys.length)
+    {
+      keys = Arrays.copyOf(keys, count * 2);
+      containers = Arrays.copyOf(containers, count * 2);
+    }
+    keys[count] = key;
+    containers[count] = container;
+    count++;
+    size += container.cardinality();
+  }
+
+  private int indexOf(long key)
+  {
+    return Arrays.binarySearch(keys, 0, count, key);
+  }
+
+  /**
+   * Returns the number of IDs of this bitmap.
+   *
+   * @return the number of IDs
+   */
+  long size()
+  {
+    return size;
+  }
+
+  /**
+   * Returns the number of containers of this bitmap.
+   *
+   * @return the number of containers
+   */
+  int getContainerCount()
+  {
+    return count;
+  }
+
+  boolean contains(long id)
+  {
+    final int index = indexOf(id >>> 16);
+    return index >= 0 && containers[index].contains((int) (id & 0xFFFF));
+  }
+
+  boolean add(long id)
+  {
+    final long key = id >>> 16;
+    final int low = (int) (id & 0xFFFF);
+    int index = indexOf(key);
+    if (index >= 0)
+    {
+      final Container container = containers[index];
+      if (container.contains(low))
+      {
+        return false;
+      }
+      containers[index] = container.add(low);
+    }
+    else
+    {
+      index = -(index + 1);
+      if (count == keys.length)
+      {
+        keys = Arrays.copyOf(keys, count * 2);
+        containers = Arrays.copyOf(containers, count * 2);
+      }
+      System.arraycopy(keys, index, keys, index + 1, count - index);
+      System.arraycopy(containers, index, containers, index + 1, count - index);
+      keys[index] = key;
+      containers[index] = new ArrayContainer(new char[] { (char) low });
+      count++;
+    }
+    size++;
+    return true;
+  }
+
+  boolean remove(long id)
+  {
+    final int index = indexOf(id >>> 16);
+    final int low = (int) (id & 0xFFFF);
+    if (index < 0 || !containers[index].contains(low))
+    {
+      return false;
+    }
+    final Container container = containers[index].remove(low);
+    if (container.cardinality() == 0)
+    {
+      System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+      System.arraycopy(containers, index + 1, containers, index, count - index - 1);
+      count--;
+      containers[count] = null;
+    }
+    else
+    {
+      containers[index] = container;
+    }
+    size--;
+    return true;
+  }
+
+  /**
+   * Returns the smallest ID of this bitmap, which must not be empty.
+   *
+   * @return the smallest ID
+   */
+  long first()
+  {
+    return keys[0] << 16 | containers[0].nextValue(0);
+  }
+
+  /**
+   * Returns the greatest ID of this bitmap, which must not be empty.
+   *
+   * @return the greatest ID
+   */
+  long last()
+  {
+    return keys[count - 1] << 16 | containers[count - 1].last();
+  }
+
+  /**
+   * Returns the IDs of this bitmap.
+   *
+   * @return a new array holding the IDs in ascending order
+   */
+  long[] toArray()
+  {
+    final long[] ids = new long[(int) size];
+    int offset = 0;
+    for (int i = 0; i < count; i++)
+    {
+      offset = containers[i].fill(keys[i] << 16, ids, offset);
+    }
+    return ids;
+  }
+
+  /**
+   * Returns a copy of this bitmap.
+   *
+   * @return a copy of this bitmap, which does not share any container with it
+   */
+  EntryIDBitmap copy()
+  {
+    final EntryIDBitmap copy = new EntryIDBitmap(Math.max(count, 4));
+    for (int i = 0; i < count; i++)
+    {
+      copy.append(keys[i], containers[i].copy());
+    }
+    return copy;
+  }
+
+  /**
+   * Returns the intersection of this bitmap with another one.
+   *
+   * @param that
+   *          the other bitmap
+   * @return a new bitmap holding the IDs of both bitmaps
+   */
+  EntryIDBitmap and(EntryIDBitmap that)
+  {
+    final EntryIDBitmap result = new EntryIDBitmap(Math.max(Math.min(count, that.count), 4));
+    for (int i = 0, j = 0; i < count && j < that.count;)
+    {
+      if (keys[i] < that.keys[j])
+      {
+        i = advance(keys, i, count, that.keys[j]);
+      }
+      else if (keys[i] > that.keys[j])
+      {
+        j = advance(that.keys, j, that.count, keys[i]);
+      }
+      else
+      {
+        final Container container = and(containers[i], that.containers[j]);
+        if (container != null)
+        {
+          result.append(keys[i], container);
+        }
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the union of this bitmap with another one.
+   *
+   * @param that
+   *          the other bitmap
+   * @return a new bitmap holding the IDs of any of the bitmaps
+   */
+  EntryIDBitmap or(EntryIDBitmap that)
+  {
+    final EntryIDBitmap result = new EntryIDBitmap(Math.max(count + that.count, 4));
+    int i = 0;
+    int j = 0;
+    while (i < count && j < that.count)
+    {
+      if (keys[i] < that.keys[j])
+      {
+        result.append(keys[i], containers[i++].copy());
+      }
+      else if (keys[i] > that.keys[j])
+      {
+        result.append(that.keys[j], that.containers[j++].copy());
+      }
+      else
+      {
+        result.append(keys[i], or(containers[i++], that.containers[j++]));
+      }
+    }
+    for (; i < count; i++)
+    {
+      result.append(keys[i], containers[i].copy());
+    }
+    for (; j < that.count; j++)
+    {
+      result.append(that.keys[j], that.containers[j].copy());
+    }
+    return result;
+  }
+
+  /**
+   * Returns the difference of this bitmap with another one.
+   *
+   * @param that
+   *          the other bitmap
+   * @return a new bitmap holding the IDs of this bitmap which are not in the other one
+   */
+  EntryIDBitmap andNot(EntryIDBitmap that)
+  {
+    final EntryIDBitmap result = new EntryIDBitmap(Math.max(count, 4));
+    for (int i = 0, j = 0; i < count; i++)
+    {
+      j = advance(that.keys, j, that.count, keys[i]);
+      if (j < that.count && that.keys[j] == keys[i])
+      {
+        final Container container = andNot(containers[i], that.containers[j]);
+        if (container != null)
+        {
+          result.append(keys[i], container);
+        }
+      }
+      else
+      {
+        result.append(keys[i], containers[i].copy());
+      }
+    }
+    return result;
+  }
+
+  /** Returns the index of the first key greater than or equal to a key, galloping from an index. */
+  private static int advance(long[] keys, int from, int to, long key)
+  {
+    int bound = 1;
+    while (from + bound < to && keys[from + bound] < key)
+    {
+      bound <<= 1;
+    }
+    final int index = Arrays.binarySearch(keys, from + (bound >>> 1), Math.min(from + bound + 1, to), key);
+    return index >= 0 ? index : -(index + 1);
+  }
+
+  @Override
+  public Iterator<EntryID> iterator()
+  {
+    return new Iterator<EntryID>()
+    {
+      private int index;
+      private int next = count > 0 ? containers[0].nextValue(0) : -1;
+
+      @Override
+      public boolean hasNext()
+      {
+        return next >= 0;
+      }
+
+      @Override
+      public EntryID next()
+      {
+        if (next < 0)
+        {
+          throw new NoSuchElementException();
+        }
+        final EntryID entryID = new EntryID(keys[index] << 16 | next);
+        next = next < 0xFFFF ? containers[index].nextValue(next + 1) : -1;
+        while (next < 0 && ++index < count)
+        {
+          next = containers[index].nextValue(0);
+        }
+        return entryID;
+      }
+
+      @Override
+      public void remove()
+      {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  /**
+   * Appends this bitmap to a builder, each container in its most compact form.
+   *
+   * @param builder
+   *          the builder
+   */
+  void encode(ByteStringBuilder builder)
+  {
+    builder.appendCompactUnsigned(count);
+    long previousKey = 0;
+    for (int i = 0; i < count; i++)
+    {
+      builder.appendCompactUnsigned(keys[i] - previousKey);
+      previousKey = keys[i];
+      containers[i].optimize().encode(builder);
+    }
+  }
+
+  /**
+   * Reads a bitmap appended by {@link #encode(ByteStringBuilder)}.
+   *
+   * @param reader
+   *          the reader
+   * @return the bitmap
+   */
+  static EntryIDBitmap decode(ByteSequenceReader reader)
+  {
+    final int containerCount = (int) reader.readCompactUnsignedLong();
+    final EntryIDBitmap bitmap = new EntryIDBitmap(Math.max(containerCount, 4));
+    long key = 0;
+    for (int i = 0; i < containerCount; i++)
+    {
+      key += reader.readCompactUnsignedLong();
+      bitmap.append(key, decodeContainer(reader));
+    }
+    return bitmap;
+  }
+
+  private static Container decodeContainer(ByteSequenceReader reader)
+  {
+    final byte type = reader.readByte();
+    switch (type)
+    {
+    case ARRAY:
+      final char[] values = new char[(int) reader.readCompactUnsignedLong() + 1];
+      for (int i = 0; i < values.length; i++)
+      {
+        values[i] = (char) reader.readShort();
+      }
+      return new ArrayContainer(values);
+    case BITMAP:
+      final long[] words = new long[BITMAP_WORDS];
+      int cardinality = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++)
+      {
+        words[i] = reader.readLong();
+        cardinality += Long.bitCount(words[i]);
+      }
+      return new BitmapContainer(words, cardinality);
+    case RUN:
+      final int runCount = (int) reader.readCompactUnsignedLong();
+      final char[] starts = new char[runCount];
+      final char[] lengths = new char[runCount];
+      for (int i = 0; i < runCount; i++)
+      {
+        starts[i] = (char) reader.readShort();
+        lengths[i] = (char) reader.readShort();
+      }
+      return new RunContainer(starts, lengths);
+    default:
+      throw new IllegalArgumentException("Unknown entry ID bitmap container type " + type);
+    }
+  }
+
+  private static Container and(Container a, Container b)
+  {
+    if (a instanceof ArrayContainer)
+    {
+      return ((ArrayContainer) a).filter(b, true);
+    }
+    if (b instanceof ArrayContainer)
+    {
+      return ((ArrayContainer) b).filter(a, true);
+    }
+    final long[] x = a.words();
+    final long[] y = b.words();
+    final long[] words = new long[BITMAP_WORDS];
+    for (int i = 0; i < BITMAP_WORDS; i++)
+    {
+      words[i] = x[i] & y[i];
+    }
+    return fromWords(words);
+  }
+
+  private static Container or(Container a, Container b)
+  {
+    if (a instanceof ArrayContainer && b instanceof ArrayContainer
+        && a.cardinality() + b.cardinality() <= ARRAY_MAX_SIZE)
+    {
+      return ((ArrayContainer) a).merge((ArrayContainer) b);
+    }
+    final long[] words = new long[BITMAP_WORDS];
+    a.orInto(words);
+    b.orInto(words);
+    return fromWords(words);
+  }
+
+  private static Container andNot(Container a, Container b)
+  {
+    if (a instanceof ArrayContainer)
+    {
+      return ((ArrayContainer) a).filter(b, false);
+    }
+    final long[] x = a.words();
+    final long[] y = b.words();
+    final long[] words = new long[BITMAP_WORDS];
+    for (int i = 0; i < BITMAP_WORDS; i++)
+    {
+      words[i] = x[i] & ~y[i];
+    }
+    return fromWords(words);
+  }
+
+  /** Returns the container of the bits of a bitmap, {@code null} if none is set. */
+  private static Container fromWords(long[] words)
+  {
+    int cardinality = 0;
+    for (long word : words)
+    {
+      cardinality += Long.bitCount(word);
+    }
+    if (cardinality == 0)
+    {
+      return null;
+    }
+    final BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+    return cardinality <= ARRAY_MAX_SIZE ? bitmap.toArrayContainer() : bitmap;
+  }
+
+  /** Low 16 bits of the IDs of a partition. */
+  private abstract static class Container
+  {
+    abstract int cardinality();
+
+    abstract boolean contains(int low);
+
+    /** Returns the container with a value which is not in it, this one or a new one. */
+    abstract Container add(int low);
+
+    /** Returns the container without a value which is in it, this one or a new one. */
+    abstract Container remove(int low);
+
+    /** Returns the smallest value greater than or equal to a value, -1 if none. */
+    abstract int nextValue(int from);
+
+    abstract int last();
+
+    /** Copies the IDs of this container into an array, returns the offset after the last copied ID. */
+    abstract int fill(long high, long[] ids, int offset);
+
+    abstract Container copy();
+
+    /** Sets the bits of the values of this container. */
+    abstract void orInto(long[] words);
+
+    abstract void encode(ByteStringBuilder builder);
+
+    /** Returns the bits of the values of this container, which must not be modified. */
+    long[] words()
+    {
+      final long[] words = new long[BITMAP_WORDS];
+      orInto(words);
+      return words;
+    }
+
+    /** Returns the number of runs of consecutive values of this container. */
+    int runCount()
+    {
+      int runs = 0;
+      int previous = -2;
+      for (int value = nextValue(0); value >= 0; value = value < 0xFFFF ? nextValue(value + 1) : -1)
+      {
+        if (value != previous + 1)
+        {
+          runs++;
+        }
+        previous = value;
+      }
+      return runs;
+    }
+
+    /** Returns this container in the form with the smallest serialized size. */
+    Container optimize()
+    {
+      final int cardinality = cardinality();
+      final int runs = runCount();
+      final int runSize = 4 * runs;
+      final int arraySize = cardinality <= ARRAY_MAX_SIZE ? 2 * cardinality : Integer.MAX_VALUE;
+      final int bitmapSize = 8 * BITMAP_WORDS;
+      if (runSize < arraySize && runSize < bitmapSize)
+      {
+        return this instanceof RunContainer ? this : toRunContainer(runs);
+      }
+      if (arraySize <= bitmapSize)
+      {
+        return this instanceof ArrayContainer ? this : toArrayContainer();
+      }
+      return this instanceof BitmapContainer ? this : new BitmapContainer(words(), cardinality);
+    }
+
+    ArrayContainer toArrayContainer()
+    {
+      final char[] values = new char[cardinality()];
+      int i = 0;
+      for (int value = nextValue(0); value >= 0; value = value < 0xFFFF ? nextValue(value + 1) : -1)
+      {
+        values[i++] = (char) value;
+      }
+      return new ArrayContainer(values);
+    }
+
+    private RunContainer toRunContainer(int runs)
+    {
+      final char[] starts = new char[runs];
+      final char[] lengths = new char[runs];
+      int run = -1;
+      int previous = -2;
+      for (int value = nextValue(0); value >= 0; value = value < 0xFFFF ? nextValue(value + 1) : -1)
+      {
+        if (value != previous + 1)
+        {
+          starts[++run] = (char) value;
+        }
+        else
+        {
+          lengths[run]++;
+        }
+        previous = value;
+      }
+      return new RunContainer(starts, lengths);
+    }
+  }
+
+  /** Sorted values of a sparse partition. */
+  private static final class ArrayContainer extends Container
+  {
+    private final char[] values;
+
+    ArrayContainer(char[] values)
+    {
+      this.values = values;
+    }
+
+    @Override
+    int cardinality()
+    {
+      return values.length;
+    }
+
+    @Override
+    boolean contains(int low)
+    {
+      return Arrays.binarySearch(values, (char) low) >= 0;
+    }
+
+    @Override
+    Container add(int low)
+    {
+      if (values.length >= ARRAY_MAX_SIZE)
+      {
+        final long[] words = new long[BITMAP_WORDS];
+        orInto(words);
+        words[low >>> 6] |= 1L << low;
+        return new BitmapContainer(words, values.length + 1);
+      }
+      final int pos = -(Arrays.binarySearch(values, (char) low) + 1);
+      final char[] newValues = new char[values.length + 1];
+      System.arraycopy(values, 0, newValues, 0, pos);
+      newValues[pos] = (char) low;
+      System.arraycopy(values, pos, newValues, pos + 1, values.length - pos);
+      return new ArrayContainer(newValues);
+    }
+
+    @Override
+    Container remove(int low)
+    {
+      final int pos = Arrays.binarySearch(values, (char) low);
+      final char[] newValues = new char[values.length - 1];
+      System.arraycopy(values, 0, newValues, 0, pos);
+      System.arraycopy(values, pos + 1, newValues, pos, values.length - pos - 1);
+      return new ArrayContainer(newValues);
+    }
+
+    @Override
+    int nextValue(int from)
+    {
+      int pos = Arrays.binarySearch(values, (char) from);
+      if (pos < 0)
+      {
+        pos = -(pos + 1);
+      }
+      return pos < values.length ? values[pos] : -1;
+    }
+
+    @Override
+    int last()
+    {
+      return values[values.length - 1];
+    }
+
+    @Override
+    int fill(long high, long[] ids, int offset)
+    {
+      for (char value : values)
+      {
+        ids[offset++] = high | value;
+      }
+      return offset;
+    }
+
+    @Override
+    Container copy()
+    {
+      return this; // immutable
+    }
+
+    @Override
+    void orInto(long[] words)
+    {
+      for (char value : values)
+      {
+        words[value >>> 6] |= 1L << value;
+      }
+    }
+
+    @Override
+    int runCount()
+    {
+      int runs = values.length > 0 ? 1 : 0;
+      for (int i = 1; i < values.length; i++)
+      {
+        if (values[i] != values[i - 1] + 1)
+        {
+          runs++;
+        }
+      }
+      return runs;
+    }
+
+    /** Returns the values of this container which are, or are not, in another container. */
+    Container filter(Container other, boolean retain)
+    {
+      final char[] retained = new char[values.length];
+      int count = 0;
+      for (char value : values)
+      {
+        if (other.contains(value) == retain)
+        {
+          retained[count++] = value;
+        }
+      }
+      return count == 0 ? null : new ArrayContainer(count == values.length ? retained : Arrays.copyOf(retained, count));
+    }
+
+    ArrayContainer merge(ArrayContainer other)
+    {
+      final char[] merged = new char[values.length + other.values.length];
+      int i = 0;
+      int j = 0;
+      int count = 0;
+      while (i < values.length && j < other.values.length)
+      {
+        if (values[i] < other.values[j])
+        {
+          merged[count++] = values[i++];
+        }
+        else if (values[i] > other.values[j])
+        {
+          merged[count++] = other.values[j++];
+        }
+        else
+        {
+          merged[count++] = values[i++];
+          j++;
+        }
+      }
+      while (i < values.length)
+      {
+        merged[count++] = values[i++];
+      }
+      while (j < other.values.length)
+      {
+        merged[count++] = other.values[j++];
+      }
+      return new ArrayContainer(count == merged.length ? merged : Arrays.copyOf(merged, count));
+    }
+
+    @Override
+    void encode(ByteStringBuilder builder)
+    {
+      builder.appendByte(ARRAY);
+      builder.appendCompactUnsigned(values.length - 1);
+      for (char value : values)
+      {
+        builder.appendShort(value);
+      }
+    }
+  }
+
+  /** Bits of the values of a dense partition. */
+  private static final class BitmapContainer extends Container
+  {
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer(long[] words, int cardinality)
+    {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    int cardinality()
+    {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(int low)
+    {
+      return (words[low >>> 6] & 1L << low) != 0;
+    }
+
+    @Override
+    Container add(int low)
+    {
+      words[low >>> 6] |= 1L << low;
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    Container remove(int low)
+    {
+      words[low >>> 6] &= ~(1L << low);
+      cardinality--;
+      return this;
+    }
+
+    @Override
+    int nextValue(int from)
+    {
+      int index = from >>> 6;
+      long word = words[index] & -1L << from;
+      while (word == 0)
+      {
+        if (++index == BITMAP_WORDS)
+        {
+          return -1;
+        }
+        word = words[index];
+      }
+      return index << 6 | Long.numberOfTrailingZeros(word);
+    }
+
+    @Override
+    int last()
+    {
+      for (int index = BITMAP_WORDS - 1;; index--)
+      {
+        if (words[index] != 0)
+        {
+          return index << 6 | 63 - Long.numberOfLeadingZeros(words[index]);
+        }
+      }
+    }
+
+    @Override
+    int fill(long high, long[] ids, int offset)
+    {
+      for (int index = 0; index < BITMAP_WORDS; index++)
+      {
+        long word = words[index];
+        while (word != 0)
+        {
+          ids[offset++] = high | index << 6 | Long.numberOfTrailingZeros(word);
+          word &= word - 1;
+        }
+      }
+      return offset;
+    }
+
+    @Override
+    Container copy()
+    {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    void orInto(long[] target)
+    {
+      for (int i = 0; i < BITMAP_WORDS; i++)
+      {
+        target[i] |= words[i];
+      }
+    }
+
+    @Override
+    long[] words()
+    {
+      return words;
+    }
+
+    @Override
+    int runCount()
+    {
+      int runs = 0;
+      long previous = 0;
+      for (long word : words)
+      {
+        runs += Long.bitCount(word & ~(word << 1 | previous >>> 63));
+        previous = word;
+      }
+      return runs;
+    }
+
+    @Override
+    void encode(ByteStringBuilder builder)
+    {
+      builder.appendByte(BITMAP);
+      for (long word : words)
+      {
+        builder.appendLong(word);
+      }
+    }
+  }
+
+  /** Runs of consecutive values of a partition, each run stored as its first value and its length minus one. */
+  private static final class RunContainer extends Container
+  {
+    private final char[] starts;
+    private final char[] lengths;
+    private final int cardinality;
+
+    RunContainer(char[] starts, char[] lengths)
+    {
+      this.starts = starts;
+      this.lengths = lengths;
+      int total = 0;
+      for (char length : lengths)
+      {
+        total += length + 1;
+      }
+      this.cardinality = total;
+    }
+
+    @Override
+    int cardinality()
+    {
+      return cardinality;
+    }
+
+    /** Returns the index of the run holding a value or of the first run after it. */
+    private int runIndex(int low)
+    {
+      int pos = Arrays.binarySearch(starts, (char) low);
+      if (pos >= 0)
+      {
+        return pos;
+      }
+      pos = -(pos + 1);
+      return pos > 0 && low <= starts[pos - 1] + lengths[pos - 1] ? pos - 1 : pos;
+    }
+
+    @Override
+    boolean contains(int low)
+    {
+      final int run = runIndex(low);
+      return run < starts.length && starts[run] <= low && low <= starts[run] + lengths[run];
+    }
+
+    @Override
+    Container add(int low)
+    {
+      return toMutable().add(low);
+    }
+
+    @Override
+    Container remove(int low)
+    {
+      return toMutable().remove(low);
+    }
+
+    private Container toMutable()
+    {
+      return cardinality <= ARRAY_MAX_SIZE ? toArrayContainer() : new BitmapContainer(words(), cardinality);
+    }
+
+    @Override
+    int nextValue(int from)
+    {
+      final int run = runIndex(from);
+      if (run >= starts.length)
+      {
+        return -1;
+      }
+      return Math.max(from, starts[run]);
+    }
+
+    @Override
+    int last()
+    {
+      return starts[starts.length - 1] + lengths[lengths.length - 1];
+    }
+
+    @Override
+    int fill(long high, long[] ids, int offset)
+    {
+      for (int run = 0; run < starts.length; run++)
+      {
+        final int end = starts[run] + lengths[run];
+        for (int value = starts[run]; value <= end; value++)
+        {
+          ids[offset++] = high | value;
+        }
+      }
+      return offset;
+    }
+
+    @Override
+    Container copy()
+    {
+      return this; // immutable
+    }
+
+    @Override
+    void orInto(long[] words)
+    {
+      for (int run = 0; run < starts.length; run++)
+      {
+        final int start = starts[run];
+        final int end = start + lengths[run];
+        final int firstWord = start >>> 6;
+        final int lastWord = end >>> 6;
+        if (firstWord == lastWord)
+        {
+          words[firstWord] |= (-1L >>> (63 - (end & 63))) & (-1L << start);
+          continue;
+        }
+        words[firstWord] |= -1L << start;
+        for (int i = firstWord + 1; i < lastWord; i++)
+        {
+          words[i] = -1L;
+        }
+        words[lastWord] |= -1L >>> (63 - (end & 63));
+      }
+    }
+
+    @Override
+    int runCount()
+    {
+      return starts.length;
+    }
+
+    @Override
+    void encode(ByteStringBuilder builder)
+    {
+      builder.appendByte(RUN);
+      builder.appendCompactUnsigned(starts.length);
+      for (int run = 0; run < starts.length; run++)
+      {
+        builder.appendShort(starts[run]);
+        builder.appendShort(lengths[run]);
+      }
+    }
+  }
+}
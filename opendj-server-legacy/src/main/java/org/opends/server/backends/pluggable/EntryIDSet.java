@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2008 Sun Microsystems, Inc.
  * Portions Copyright 2014-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -43,10 +44,16 @@ final class EntryIDSet implements Iterable<EntryID>
 {
   public static final EntryIDSetCodec CODEC_V1 = new EntryIDSetCodecV1();
   public static final EntryIDSetCodec CODEC_V2 = new EntryIDSetCodecV2();
+  public static final EntryIDSetCodec CODEC_V4 = new EntryIDSetCodecV4();
 
   private static final ByteSequence NO_KEY = ByteString.valueOfUtf8("<none>");
   private static final long[] EMPTY_LONG_ARRAY = new long[0];
   private static final long[] NO_ENTRY_IDS_RANGE = new long[] { 0, 0 };
+  /**
+   * Ratio of the sizes of a bitmap set and of a set added to it or removed from it, above which the IDs are added or
+   * removed one by one rather than container by container.
+   */
+  private static final long SMALL_SET_RATIO = 64;
 
   /** Interface for EntryIDSet concrete implementations. */
   private interface EntryIDSetImplementor extends Iterable<EntryID>
@@ -210,7 +217,11 @@ final class EntryIDSet implements Iterable<EntryID>
     @Override
     public void removeAll(EntryIDSet that)
     {
-      if (compareForOverlap(getRange(), that.getRange()) == 0)
+      if (that.concreteImpl instanceof BitmapImpl)
+      {
+        entryIDs = filter(entryIDs, that, false);
+      }
+      else if (compareForOverlap(getRange(), that.getRange()) == 0)
       {
         // Set overlaps
         final long[] newEntryIds = new long[entryIDs.length];
@@ -360,6 +371,134 @@ final class EntryIDSet implements Iterable<EntryID>
     }
   }
 
+  /** Concrete implementation representing a set of EntryIDs as a compressed bitmap. */
+  private static final class BitmapImpl implements EntryIDSetImplementor
+  {
+    private EntryIDBitmap bitmap;
+    /** The IDs of the bitmap, computed on demand and reset by each change. */
+    private long[] entryIDs;
+
+    BitmapImpl(EntryIDBitmap bitmap)
+    {
+      Reject.ifNull(bitmap, "bitmap must not be null");
+      this.bitmap = bitmap;
+    }
+
+    @Override
+    public long size()
+    {
+      return bitmap.size();
+    }
+
+    @Override
+    public void toString(StringBuilder buffer)
+    {
+      buffer.append("[COUNT:").append(size()).append("]");
+    }
+
+    @Override
+    public boolean isDefined()
+    {
+      return true;
+    }
+
+    @Override
+    public boolean add(EntryID entryID)
+    {
+      if (bitmap.add(entryID.longValue()))
+      {
+        entryIDs = null;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public boolean remove(EntryID entryID)
+    {
+      if (bitmap.remove(entryID.longValue()))
+      {
+        entryIDs = null;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public boolean contains(EntryID entryID)
+    {
+      return bitmap.contains(entryID.longValue());
+    }
+
+    @Override
+    public void addAll(EntryIDSet that)
+    {
+      if (that.size() == 0)
+      {
+        return;
+      }
+      if (!(that.concreteImpl instanceof BitmapImpl) && that.size() < bitmap.size() / SMALL_SET_RATIO)
+      {
+        for (long id : that.getIDs())
+        {
+          bitmap.add(id);
+        }
+      }
+      else
+      {
+        bitmap = bitmap.or(toBitmap(that));
+      }
+      entryIDs = null;
+    }
+
+    @Override
+    public void removeAll(EntryIDSet that)
+    {
+      if (that.size() == 0 || size() == 0)
+      {
+        return;
+      }
+      if (!(that.concreteImpl instanceof BitmapImpl) && that.size() < bitmap.size() / SMALL_SET_RATIO)
+      {
+        for (long id : that.getIDs())
+        {
+          bitmap.remove(id);
+        }
+      }
+      else
+      {
+        bitmap = bitmap.andNot(toBitmap(that));
+      }
+      entryIDs = null;
+    }
+
+    @Override
+    public Iterator<EntryID> iterator()
+    {
+      return bitmap.iterator();
+    }
+
+    @Override
+    public long[] getRange()
+    {
+      if (bitmap.size() != 0)
+      {
+        return new long[] { bitmap.first(), bitmap.last() };
+      }
+      return NO_ENTRY_IDS_RANGE;
+    }
+
+    @Override
+    public long[] getIDs()
+    {
+      if (entryIDs == null)
+      {
+        entryIDs = bitmap.toArray();
+      }
+      return entryIDs;
+    }
+  }
+
   /** Iterator for a set of Entry IDs. It must return values in order of ID. */
   private static final class IDSetIterator implements Iterator<EntryID>
   {
@@ -596,6 +735,57 @@ final class EntryIDSet implements Iterable<EntryID>
     }
   }
 
+  /**
+   * Compressed bitmap EntryIDSet codec implementation, see {@link EntryIDBitmap}. Values start with a tag which is never
+   * the first byte of a V2 value: the V2 values of the indexes written before are still decoded.
+   * Dense sets of IDs, and runs of consecutive IDs such as the entries added in a row, are much smaller than with the
+   * V2 codec and the decoded sets are intersected and merged container by container. Small sets are encoded with the
+   * V2 codec when it is smaller.
+   */
+  private static final class EntryIDSetCodecV4 implements EntryIDSetCodec
+  {
+    private static final byte CODEC_V4_TAG = (byte) 0xFE;
+    private static final byte UNDEFINED_SET = (byte) 0xFF;
+    /** Size of the sets up to which the smallest of the V2 and V4 encodings is kept. */
+    private static final int SMALL_SET_SIZE = 128;
+
+    @Override
+    public ByteString encode(EntryIDSet idSet)
+    {
+      checkNotNull(idSet, "idSet must not be null");
+      if (!idSet.isDefined())
+      {
+        return ByteString.valueOfBytes(new byte[] { UNDEFINED_SET });
+      }
+      final ByteStringBuilder builder = new ByteStringBuilder(16);
+      builder.appendByte(CODEC_V4_TAG);
+      toBitmap(idSet).encode(builder);
+      if (idSet.size() <= SMALL_SET_SIZE)
+      {
+        final ByteString compacted = CODEC_V2.encode(idSet);
+        if (compacted.length() < builder.length())
+        {
+          return compacted;
+        }
+      }
+      return builder.toByteString();
+    }
+
+    @Override
+    public EntryIDSet decode(ByteSequence key, ByteString value)
+    {
+      checkNotNull(key, "key must not be null");
+      checkNotNull(value, "value must not be null");
+      if (value.byteAt(0) != CODEC_V4_TAG)
+      {
+        return CODEC_V2.decode(key, value);
+      }
+      final ByteSequenceReader reader = value.asReader();
+      reader.skip(1);
+      return newBitmapSet(EntryIDBitmap.decode(reader));
+    }
+  }
+
   static EntryIDSetCodec newEntryIDSetCodecV3(EntryIDSetCodec codec, CryptoSuite cs)
   {
     return new EntryIDSetCodecV3(codec, cs);
@@ -628,6 +818,48 @@ final class EntryIDSet implements Iterable<EntryID>
     return new EntryIDSet(new DefinedImpl(entryIDs));
   }
 
+  /**
+   * Creates a new defined entry ID set backed by a compressed bitmap.
+   *
+   * @param bitmap
+   *          The bitmap of the entry IDs contained in the set, owned by the set.
+   * @return A new defined {@link EntryIDSet} containing the IDs of the bitmap
+   */
+  static EntryIDSet newBitmapSet(EntryIDBitmap bitmap)
+  {
+    return new EntryIDSet(new BitmapImpl(bitmap));
+  }
+
+  /** Returns the bitmap of the IDs of a defined set, which must not be modified. */
+  private static EntryIDBitmap toBitmap(EntryIDSet idSet)
+  {
+    if (idSet.concreteImpl instanceof BitmapImpl)
+    {
+      return ((BitmapImpl) idSet.concreteImpl).bitmap;
+    }
+    return EntryIDBitmap.valueOf(idSet.getIDs());
+  }
+
+  /** Returns the IDs of a sorted array which are, or are not, in a set. */
+  private static long[] filter(long[] ids, EntryIDSet set, boolean retain)
+  {
+    final EntryIDBitmap bitmap = toBitmap(set);
+    long[] target = new long[ids.length];
+    int count = 0;
+    for (long id : ids)
+    {
+      if (bitmap.contains(id) == retain)
+      {
+        target[count++] = id;
+      }
+    }
+    if (count < target.length)
+    {
+      target = Arrays.copyOf(target, count);
+    }
+    return target;
+  }
+
   private static long[] intersection(long[] set1, long[] set2)
   {
     long[] target = new long[Math.min(set1.length, set2.length)];
@@ -689,6 +921,23 @@ final class EntryIDSet implements Iterable<EntryID>
       return newUndefinedSet();
     }
 
+    for (EntryIDSet l : sets)
+    {
+      if (l.concreteImpl instanceof BitmapImpl)
+      {
+        // Merge the bitmaps container by container rather than sorting all the IDs.
+        EntryIDBitmap union = new EntryIDBitmap();
+        for (EntryIDSet set : sets)
+        {
+          if (set.size() != 0)
+          {
+            union = union.or(toBitmap(set));
+          }
+        }
+        return newBitmapSet(union);
+      }
+    }
+
     boolean needSort = false;
     long[] n = new long[count];
     int pos = 0;
@@ -889,7 +1138,9 @@ final class EntryIDSet implements Iterable<EntryID>
     checkNotNull(that, "that must not be null");
     if (!concreteImpl.isDefined())
     {
-      if ( that.isDefined() ) {
+      if (that.concreteImpl instanceof BitmapImpl) {
+        concreteImpl = new BitmapImpl(((BitmapImpl) that.concreteImpl).bitmap.copy());
+      } else if ( that.isDefined() ) {
         // NOTE: It's ok to share the same array instance here thanks to the copy-on-write
         // performed by the implementation.
         concreteImpl = new DefinedImpl(that.getIDs());
@@ -904,7 +1155,19 @@ final class EntryIDSet implements Iterable<EntryID>
     }
 
     final boolean thatSetOverlap = compareForOverlap(getRange(), that.getRange()) == 0;
-    if (thatSetOverlap)
+    if (thatSetOverlap && concreteImpl instanceof BitmapImpl && that.concreteImpl instanceof BitmapImpl)
+    {
+      concreteImpl = new BitmapImpl(((BitmapImpl) concreteImpl).bitmap.and(((BitmapImpl) that.concreteImpl).bitmap));
+    }
+    else if (thatSetOverlap && concreteImpl instanceof BitmapImpl)
+    {
+      concreteImpl = new DefinedImpl(filter(that.getIDs(), this, true));
+    }
+    else if (thatSetOverlap && that.concreteImpl instanceof BitmapImpl)
+    {
+      concreteImpl = new DefinedImpl(filter(concreteImpl.getIDs(), that, true));
+    }
+    else if (thatSetOverlap)
     {
       concreteImpl = new DefinedImpl(intersection(concreteImpl.getIDs(), that.getIDs()));
     }
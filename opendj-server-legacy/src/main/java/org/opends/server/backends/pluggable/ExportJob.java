@@ -13,34 +13,72 @@
  *
  * Copyright 2006-2008 Sun Microsystems, Inc.
  * Portions Copyright 2012-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.forgerock.i18n.slf4j.LocalizedLogger;
 import org.forgerock.opendj.ldap.ByteString;
+import org.opends.server.api.CompressedSchema;
 import org.opends.server.backends.pluggable.spi.Cursor;
 import org.opends.server.backends.pluggable.spi.ReadOperation;
 import org.opends.server.backends.pluggable.spi.ReadableTransaction;
 import org.opends.server.backends.pluggable.spi.StorageRuntimeException;
+import org.opends.server.core.DirectoryServer;
 import org.forgerock.opendj.ldap.DN;
 import org.opends.server.types.Entry;
 import org.opends.server.types.LDIFExportConfig;
 import org.opends.server.util.LDIFException;
 import org.opends.server.util.StaticUtils;
 
+import static org.forgerock.util.Utils.*;
 import static org.opends.messages.BackendMessages.*;
 
-/** Export a backend to LDIF. */
+/**
+ * Export a backend to LDIF.
+ * <p>
+ * The id2entry records are read in ID order by the thread of the export, through a single cursor, and handed over by
+ * ranges of consecutive records to {@link #THREAD_COUNT} export threads, which decode, filter and format the entries
+ * of each range to LDIF. The formatted ranges are written in ID order, so the output is the same as a sequential
+ * export, with the parents before their children. The cursor stays at most {@link #MAX_RANGES_AHEAD} ranges and
+ * about {@link #MAX_BYTES_AHEAD} bytes of formatted LDIF ahead of the range being written.
+ * <p>
+ * The LDIF export plugins are invoked on the thread of the export, in ID order: when plugins must be invoked, the
+ * export threads only decode the entries, which are then filtered and formatted by the thread of the export.
+ */
 class ExportJob
 {
   private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
 
+  /** Number of threads formatting the exported entries, 0 to export on the thread of the export. */
+  static final int THREAD_COUNT = Integer.getInteger("org.openidentityplatform.opendj.export.threads",
+      Math.min(8, Runtime.getRuntime().availableProcessors()));
+  /** Maximum number of records in a range. */
+  private static final int RANGE_SIZE = 256;
+  /** Maximum estimated number of bytes of the formatted LDIF of a range. */
+  private static final int RANGE_BYTES = 1024 * 1024;
+  /** Maximum number of ranges read ahead of the range being written. */
+  private static final int MAX_RANGES_AHEAD = 4 * Math.max(THREAD_COUNT, 1);
+  /** Maximum number of bytes of the formatted LDIF of the ranges read ahead of the range being written. */
+  private static final long MAX_BYTES_AHEAD = 64L * 1024 * 1024;
+  /** Ratio of the formatted LDIF to the size of the records assumed until ranges have been formatted. */
+  private static final double INITIAL_EXPANSION = 4;
+
   /** The requested LDIF export configuration. */
   private final LDIFExportConfig exportConfig;
 
@@ -48,10 +86,22 @@ class ExportJob
   private final long progressInterval = 10000;
 
   /** The current number of entries exported. */
-  private long exportedCount;
+  private volatile long exportedCount;
 
   /** The current number of entries skipped. */
-  private long skippedCount;
+  private volatile long skippedCount;
+
+  /** Formats the ranges of records, or null if they are formatted by the thread of the export. */
+  private ExecutorService executor;
+
+  /** Whether the entries are filtered and formatted by the thread of the export, which invokes the plugins. */
+  private boolean formatOnExportThread;
+
+  /** The number of bytes of the records of the formatted ranges written so far. */
+  private long writtenRecordBytes;
+
+  /** The number of bytes of the LDIF of the formatted ranges written so far. */
+  private long writtenLDIFBytes;
 
   /**
    * Create a new export job.
@@ -107,6 +157,12 @@ class ExportJob
     Timer timer = new Timer();
     TimerTask progressTask = new ProgressTask();
     timer.scheduleAtFixedRate(progressTask, progressInterval, progressInterval);
+    formatOnExportThread = exportConfig.invokeExportPlugins()
+        && DirectoryServer.getPluginConfigManager().hasLDIFExportPlugins();
+    if (THREAD_COUNT > 0)
+    {
+      executor = Executors.newFixedThreadPool(THREAD_COUNT, newThreadFactory(null, "EXPORT-LDIF-%d", true));
+    }
 
     // Iterate through the containers.
     try
@@ -144,6 +200,10 @@ class ExportJob
     finally
     {
       timer.cancel();
+      if (executor != null)
+      {
+        executor.shutdownNow();
+      }
     }
 
     long finishTime = System.currentTimeMillis();
@@ -172,66 +232,266 @@ class ExportJob
        throws StorageRuntimeException, IOException, LDIFException
   {
     ID2Entry id2entry = entryContainer.getID2Entry();
+    CompressedSchema compressedSchema = entryContainer.getRootContainer().getCompressedSchema();
+    Queue<Range> rangesAhead = new ArrayDeque<>();
     try (final Cursor<ByteString, ByteString> cursor = txn.openCursor(id2entry.getName()))
     {
-      while (cursor.next())
+      Range range = new Range(id2entry, compressedSchema, expansion());
+      while (!exportConfig.isCancelled() && cursor.next())
       {
-        if (exportConfig.isCancelled())
+        range.add(cursor.getKey(), cursor.getValue());
+        if (range.isFull())
         {
-          break;
+          export(range, rangesAhead);
+          range = new Range(id2entry, compressedSchema, expansion());
         }
+      }
+      if (!range.isEmpty())
+      {
+        export(range, rangesAhead);
+      }
+      while (!rangesAhead.isEmpty())
+      {
+        writeFormatted(rangesAhead.remove());
+      }
+    }
+    finally
+    {
+      for (Range rangeAhead : rangesAhead)
+      {
+        rangeAhead.future.cancel(false);
+      }
+    }
+  }
 
-        ByteString key = cursor.getKey();
-        EntryID entryID = null;
-        try
-        {
-          entryID = new EntryID(key);
-        }
-        catch (Exception e)
-        {
-          if (logger.isTraceEnabled())
-          {
-            logger.traceException(e);
+  /**
+   * Formats the provided range, and writes the ranges formatted ahead while there are too many of them or their
+   * formatted LDIF is too large.
+   */
+  private void export(Range range, Queue<Range> rangesAhead) throws IOException, LDIFException
+  {
+    if (executor == null)
+    {
+      range.call();
+      write(range);
+      return;
+    }
+    range.future = executor.submit(range);
+    rangesAhead.add(range);
+    while (rangesAhead.size() > MAX_RANGES_AHEAD || bytesAhead(rangesAhead) > MAX_BYTES_AHEAD)
+    {
+      writeFormatted(rangesAhead.remove());
+    }
+  }
 
-            logger.trace("Malformed id2entry ID %s.%n", StaticUtils.bytesToHex(key));
-          }
-          skippedCount++;
-          continue;
-        }
+  /** Returns the ratio of the formatted LDIF to the size of the records, as observed on the ranges written so far. */
+  private double expansion()
+  {
+    return writtenRecordBytes > 0 ? (double) writtenLDIFBytes / writtenRecordBytes : INITIAL_EXPANSION;
+  }
+
+  /** Returns the number of bytes of LDIF of the provided ranges, estimated for the ranges not formatted yet. */
+  private static long bytesAhead(Queue<Range> rangesAhead)
+  {
+    long bytes = 0;
+    for (Range range : rangesAhead)
+    {
+      bytes += range.bytesHeld();
+    }
+    return bytes;
+  }
+
+  private void writeFormatted(Range range) throws IOException, LDIFException
+  {
+    try
+    {
+      write(range.future.get());
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new StorageRuntimeException(e);
+    }
+    catch (ExecutionException e)
+    {
+      if (e.getCause() instanceof IOException)
+      {
+        throw (IOException) e.getCause();
+      }
+      else if (e.getCause() instanceof LDIFException)
+      {
+        throw (LDIFException) e.getCause();
+      }
+      throw new StorageRuntimeException(e.getCause());
+    }
+  }
+
+  private void write(Range range) throws IOException, LDIFException
+  {
+    if (exportConfig.isCancelled())
+    {
+      return;
+    }
+    if (range.entries != null)
+    {
+      for (Entry entry : range.entries)
+      {
+        range.format(entry, exportConfig.getWriter());
+      }
+    }
+    else
+    {
+      exportConfig.getWriter().write(range.ldif);
+      writtenRecordBytes += range.bytes;
+      writtenLDIFBytes += 2L * range.ldif.length();
+    }
+    exportedCount += range.exportedCount;
+    skippedCount += range.skippedCount;
+  }
+
+  /**
+   * Consecutive id2entry records, decoded by an export thread, and formatted to LDIF by the same thread unless the
+   * LDIF export plugins must be invoked.
+   */
+  private final class Range implements Callable<Range>
+  {
+    private final ID2Entry id2entry;
+    private final CompressedSchema compressedSchema;
+    /** The assumed ratio of the formatted LDIF to the size of the records. */
+    private final double expansion;
+    private final List<ByteString> keys = new ArrayList<>(RANGE_SIZE);
+    private final List<ByteString> values = new ArrayList<>(RANGE_SIZE);
+    private int bytes;
+    /** The formatting of the range by an export thread, or null if it is formatted by the thread of the export. */
+    private Future<Range> future;
+
+    /** The LDIF of the exported entries of the range, or null if not formatted yet. */
+    private volatile String ldif;
+    /** The decoded entries, when they are filtered and formatted by the thread of the export. */
+    private List<Entry> entries;
+    private int exportedCount;
+    private int skippedCount;
+
+    private Range(ID2Entry id2entry, CompressedSchema compressedSchema, double expansion)
+    {
+      this.id2entry = id2entry;
+      this.compressedSchema = compressedSchema;
+      this.expansion = expansion;
+    }
+
+    private void add(ByteString key, ByteString value)
+    {
+      keys.add(key);
+      values.add(value);
+      bytes += value.length();
+    }
 
-        if (entryID.longValue() == 0)
+    private boolean isFull()
+    {
+      return keys.size() >= RANGE_SIZE || bytes * expansion >= RANGE_BYTES;
+    }
+
+    private boolean isEmpty()
+    {
+      return keys.isEmpty();
+    }
+
+    /** Returns the number of bytes of the formatted LDIF, or its estimate if the range is not formatted yet. */
+    private long bytesHeld()
+    {
+      // A string holds at most two bytes per character
+      final String formatted = ldif;
+      return formatted != null ? 2L * formatted.length() : (long) (bytes * expansion);
+    }
+
+    @Override
+    public Range call() throws IOException, LDIFException
+    {
+      if (formatOnExportThread)
+      {
+        entries = new ArrayList<>(keys.size());
+      }
+      StringWriter output = new StringWriter();
+      BufferedWriter writer = new BufferedWriter(output);
+      for (int i = 0; i < keys.size(); i++)
+      {
+        Entry entry = decode(keys.get(i), values.get(i));
+        if (entry == null)
         {
-          // This is the stored entry count.
           continue;
         }
-
-        ByteString value = cursor.getValue();
-        Entry entry = null;
-        try
+        if (entries != null)
         {
-          entry = id2entry.entryFromDatabase(value, entryContainer.getRootContainer().getCompressedSchema());
+          entries.add(entry);
         }
-        catch (Exception e)
+        else
         {
-          if (logger.isTraceEnabled())
-          {
-            logger.traceException(e);
-
-            logger.trace("Malformed id2entry record for ID %d:%n%s%n",
-                       entryID, StaticUtils.bytesToHex(value));
-          }
-          skippedCount++;
-          continue;
+          format(entry, writer);
         }
+      }
+      keys.clear();
+      values.clear();
+      if (entries == null)
+      {
+        writer.flush();
+        ldif = output.toString();
+      }
+      return this;
+    }
+
+    private void format(Entry entry, BufferedWriter writer) throws IOException, LDIFException
+    {
+      if (entry.toLDIF(exportConfig, writer))
+      {
+        exportedCount++;
+      }
+      else
+      {
+        skippedCount++;
+      }
+    }
 
-        if (entry.toLDIF(exportConfig))
+    /** Decodes an exported entry, or returns null if the record is skipped. */
+    private Entry decode(ByteString key, ByteString value)
+    {
+      EntryID entryID = null;
+      try
+      {
+        entryID = new EntryID(key);
+      }
+      catch (Exception e)
+      {
+        if (logger.isTraceEnabled())
         {
-          exportedCount++;
+          logger.traceException(e);
+
+          logger.trace("Malformed id2entry ID %s.%n", StaticUtils.bytesToHex(key));
         }
-        else
+        skippedCount++;
+        return null;
+      }
+
+      if (entryID.longValue() == 0)
+      {
+        // This is the stored entry count.
+        return null;
+      }
+
+      try
+      {
+        return id2entry.entryFromDatabase(value, compressedSchema);
+      }
+      catch (Exception e)
+      {
+        if (logger.isTraceEnabled())
         {
-          skippedCount++;
+          logger.traceException(e);
+
+          logger.trace("Malformed id2entry record for ID %d:%n%s%n",
+                     entryID, StaticUtils.bytesToHex(value));
         }
+        skippedCount++;
+        return null;
       }
     }
   }
@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2012-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -26,8 +27,12 @@ import static org.opends.server.core.DirectoryServer.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
 import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 import java.util.zip.InflaterOutputStream;
 
@@ -39,6 +44,7 @@ import org.forgerock.opendj.ldap.ByteSequenceReader;
 import org.forgerock.opendj.ldap.ByteString;
 import org.forgerock.opendj.ldap.ByteStringBuilder;
 import org.forgerock.opendj.ldap.DecodeException;
+import org.forgerock.opendj.ldap.schema.AttributeType;
 import org.forgerock.util.Function;
 import org.forgerock.util.Reject;
 import org.opends.server.api.CompressedSchema;
@@ -82,6 +88,9 @@ class ID2Entry extends AbstractTree
   /** Parameters for compression and encryption. */
   private DataConfig dataConfig;
 
+  /** The dictionaries compressing the entries, when they are compressed with a dictionary. */
+  private final CompressionDictionaries dictionaries = new CompressionDictionaries();
+
   /** Cached encoding buffers. */
   private static final ThreadLocal<EntryCodec> ENTRY_CODEC_CACHE = new ThreadLocal<EntryCodec>()
   {
@@ -119,6 +128,7 @@ class ID2Entry extends AbstractTree
     private static final byte PLAIN_ENTRY = 0x00;
     private static final byte COMPRESS_ENTRY = 0x01;
     private static final byte ENCRYPT_ENTRY = 0x02;
+    private static final byte DICTIONARY_ENTRY = 0x04;
 
     /** The format version for entry encoding. */
     static final byte FORMAT_VERSION_V2 = 0x02;
@@ -127,6 +137,9 @@ class ID2Entry extends AbstractTree
     private final ByteStringBuilder entryBuffer = new ByteStringBuilder();
     private final ByteStringBuilder compressedEntryBuffer = new ByteStringBuilder();
     private final int maxBufferSize;
+    /** Raw deflate streams, as the dictionary ID is stored in the header of the entries. */
+    private Deflater deflater;
+    private Inflater inflater;
 
     private EntryCodec()
     {
@@ -140,16 +153,30 @@ class ID2Entry extends AbstractTree
       compressedEntryBuffer.clearAndTruncate(maxBufferSize, BUFFER_INIT_SIZE);
     }
 
-    private Entry decode(ByteString bytes, CompressedSchema compressedSchema)
+    /** Returns the ID of the dictionary of an encoded entry, or -1 if it is not compressed with a dictionary. */
+    private static int getDictionaryID(ByteString bytes)
+    {
+      if (bytes.byteAt(0) != FORMAT_VERSION_V2 || (bytes.byteAt(1) & DICTIONARY_ENTRY) != DICTIONARY_ENTRY)
+      {
+        return -1;
+      }
+      final ByteSequenceReader reader = bytes.asReader();
+      reader.position(2);
+      reader.readCompactUnsignedInt();
+      return reader.readCompactUnsignedInt();
+    }
+
+    private Entry decode(ByteString bytes, CompressedSchema compressedSchema,
+        Collection<AttributeType> attributeTypes, CompressionDictionaries dictionaries)
         throws DirectoryException, DecodeException, IOException
     {
       final byte formatVersion = bytes.byteAt(0);
       switch(formatVersion)
       {
       case FORMAT_VERSION:
-        return decodeV1(bytes, compressedSchema);
+        return decodeV1(bytes, compressedSchema, attributeTypes);
       case FORMAT_VERSION_V2:
-        return decodeV2(bytes, compressedSchema);
+        return decodeV2(bytes, compressedSchema, attributeTypes, dictionaries);
       default:
         throw DecodeException.error(ERR_INCOMPATIBLE_ENTRY_VERSION.get(formatVersion));
       }
@@ -180,14 +207,15 @@ class ID2Entry extends AbstractTree
      *
      * @param bytes A byte array containing the encoded tree value.
      * @param compressedSchema The compressed schema manager to use when decoding.
+     * @param attributeTypes The types of the attributes to decode, or null to decode all of them.
      * @return The decoded entry.
      * @throws DecodeException If the data is not in the expected ASN.1 encoding
      * format.
      * @throws DirectoryException If a Directory Server error occurs.
      * @throws IOException if an error occurs while reading the ASN1 sequence.
      */
-    private Entry decodeV1(ByteString bytes, CompressedSchema compressedSchema)
-        throws DirectoryException, DecodeException, IOException
+    private Entry decodeV1(ByteString bytes, CompressedSchema compressedSchema,
+        Collection<AttributeType> attributeTypes) throws DirectoryException, DecodeException, IOException
     {
       // Read the ASN1 sequence.
       ASN1Reader reader = ASN1.getReader(bytes.subSequence(1, bytes.length()));
@@ -214,38 +242,43 @@ class ID2Entry extends AbstractTree
         // Since we are used the cached buffers (ByteStringBuilders),
         // the decoded attribute values will not refer back to the
         // original buffer.
-        return Entry.decode(entryBuffer.asReader(), compressedSchema);
+        return Entry.decode(entryBuffer.asReader(), compressedSchema, attributeTypes);
       }
       else
       {
         // Since we don't have to do any decompression, we can just decode
         // the entry directly.
         ByteString encodedEntry = reader.readOctetString();
-        return Entry.decode(encodedEntry.asReader(), compressedSchema);
+        return Entry.decode(encodedEntry.asReader(), compressedSchema, attributeTypes);
       }
     }
 
     /**
      * Decodes an entry in the new extensible format.
      * Enties are encoded according to the sequence
-     *   {VERSION_BYTE, FLAG_BYTE, COMPACT_INTEGER_LENGTH, ID2ENTRY_VALUE}
+     *   {VERSION_BYTE, FLAG_BYTE, COMPACT_INTEGER_LENGTH, [COMPACT_INTEGER_DICTIONARY_ID,] ID2ENTRY_VALUE}
      * where
      *
      * ID2ENTRY_VALUE = encoding of Entry as in decodeV1()
      * VERSION_BYTE = 0x2
      * FLAG_BYTE = bit field of OR'ed values indicating post-encoding processing.
-     *     possible meaningful flags are COMPRESS_ENTRY and ENCRYPT_ENTRY.
+     *     possible meaningful flags are COMPRESS_ENTRY, ENCRYPT_ENTRY and DICTIONARY_ENTRY.
      * COMPACT_INTEGER_LENGTH = length of ID2ENTRY_VALUE
+     * COMPACT_INTEGER_DICTIONARY_ID = ID of the dictionary of the raw deflate compression,
+     *     only present with the DICTIONARY_ENTRY flag.
      *
      * @param bytes A byte array containing the encoded tree value.
      * @param compressedSchema The compressed schema manager to use when decoding.
+     * @param attributeTypes The types of the attributes to decode, or null to decode all of them.
+     * @param dictionaries The dictionaries of the compressed entries.
      * @return The decoded entry.
      * @throws DecodeException If the data is not in the expected ASN.1 encoding
      * format or a decryption error occurs.
      * @throws DirectoryException If a Directory Server error occurs.
      * @throws IOException if an error occurs while reading the ASN1 sequence.
      */
-    private Entry decodeV2(ByteString bytes, CompressedSchema compressedSchema)
+    private Entry decodeV2(ByteString bytes, CompressedSchema compressedSchema,
+        Collection<AttributeType> attributeTypes, CompressionDictionaries dictionaries)
         throws DirectoryException, DecodeException, IOException
     {
       ByteSequenceReader reader = bytes.asReader();
@@ -253,18 +286,31 @@ class ID2Entry extends AbstractTree
       reader.position(1);
       int format = reader.readByte();
       int encodedEntryLen = reader.readCompactUnsignedInt();
+      byte[] dictionary = null;
+      if ((format & DICTIONARY_ENTRY) == DICTIONARY_ENTRY)
+      {
+        dictionary = dictionaries.get(reader.readCompactUnsignedInt());
+        if (dictionary == null)
+        {
+          throw DecodeException.error(ERR_CANNOT_DECODE_ENTRY.get());
+        }
+      }
       try
       {
         if (format == PLAIN_ENTRY)
         {
-          return Entry.decode(reader, compressedSchema);
+          return Entry.decode(reader, compressedSchema, attributeTypes);
         }
         InputStream is = reader.asInputStream();
         if ((format & ENCRYPT_ENTRY) == ENCRYPT_ENTRY)
         {
           is = getCryptoManager().getCipherInputStream(is);
         }
-        if ((format & COMPRESS_ENTRY) == COMPRESS_ENTRY)
+        if (dictionary != null)
+        {
+          is = new InflaterInputStream(is, inflater(dictionary));
+        }
+        else if ((format & COMPRESS_ENTRY) == COMPRESS_ENTRY)
         {
           is = new InflaterInputStream(is);
         }
@@ -282,7 +328,7 @@ class ID2Entry extends AbstractTree
           position += readBytes;
           leftToRead -= readBytes;
         } while (leftToRead > 0 && readBytes > 0);
-        return Entry.decode(ByteString.wrap(data).asReader(), compressedSchema);
+        return Entry.decode(ByteString.wrap(data).asReader(), compressedSchema, attributeTypes);
       }
       catch (CryptoManagerException cme)
       {
@@ -291,13 +337,37 @@ class ID2Entry extends AbstractTree
       }
     }
 
-    private ByteString encode(Entry entry, DataConfig dataConfig) throws DirectoryException
+    private Inflater inflater(byte[] dictionary)
+    {
+      if (inflater == null)
+      {
+        inflater = new Inflater(true);
+      }
+      inflater.reset();
+      inflater.setDictionary(dictionary);
+      return inflater;
+    }
+
+    private Deflater deflater(byte[] dictionary)
     {
-      encodeVolatile(entry, dataConfig);
+      if (deflater == null)
+      {
+        deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+      }
+      deflater.reset();
+      deflater.setDictionary(dictionary);
+      return deflater;
+    }
+
+    private ByteString encode(Entry entry, DataConfig dataConfig, CompressionDictionaries dictionaries)
+        throws DirectoryException
+    {
+      encodeVolatile(entry, dataConfig, dictionaries);
       return encodedBuffer.toByteString();
     }
 
-    private void encodeVolatile(Entry entry, DataConfig dataConfig) throws DirectoryException
+    private void encodeVolatile(Entry entry, DataConfig dataConfig, CompressionDictionaries dictionaries)
+        throws DirectoryException
     {
       entry.encode(entryBuffer, dataConfig.getEntryEncodeConfig());
 
@@ -307,7 +377,19 @@ class ID2Entry extends AbstractTree
         byte[] formatFlags = { FORMAT_VERSION_V2, 0};
         os.write(formatFlags);
         encodedBuffer.appendCompactUnsigned(entryBuffer.length());
-        if (dataConfig.isCompressed())
+        final CompressionDictionaries.Dictionary dictionary =
+            dataConfig.isCompressedWithDictionary() ? dictionaries.getCurrent() : null;
+        if (dataConfig.isCompressedWithDictionary())
+        {
+          dictionaries.sample(entryBuffer);
+        }
+        if (dictionary != null)
+        {
+          encodedBuffer.appendCompactUnsigned(dictionary.id);
+          os = new DeflaterOutputStream(os, deflater(dictionary.bytes));
+          formatFlags[1] = COMPRESS_ENTRY | DICTIONARY_ENTRY;
+        }
+        else if (dataConfig.isCompressed())
         {
           os = new DeflaterOutputStream(os);
           formatFlags[1] = COMPRESS_ENTRY;
@@ -384,11 +466,17 @@ class ID2Entry extends AbstractTree
   Entry entryFromDatabase(ByteString bytes,
       CompressedSchema compressedSchema) throws DirectoryException,
       DecodeException, LDAPException, DataFormatException, IOException
+  {
+    return entryFromDatabase(bytes, compressedSchema, null);
+  }
+
+  private Entry entryFromDatabase(ByteString bytes, CompressedSchema compressedSchema,
+      Collection<AttributeType> attributeTypes) throws DirectoryException, DecodeException, IOException
   {
     EntryCodec codec = acquireEntryCodec();
     try
     {
-      return codec.decode(bytes, compressedSchema);
+      return codec.decode(bytes, compressedSchema, attributeTypes, dictionaries);
     }
     finally
     {
@@ -411,7 +499,7 @@ class ID2Entry extends AbstractTree
     EntryCodec codec = acquireEntryCodec();
     try
     {
-      return codec.encode(entry, dataConfig);
+      return codec.encode(entry, dataConfig, dictionaries);
     }
     finally
     {
@@ -469,6 +557,57 @@ class ID2Entry extends AbstractTree
     }
   }
 
+  /**
+   * Decodes a record already read from the entry tree. Unlike reads, this method may be called from any thread.
+   *
+   * @param entryID The entry ID which forms the key of the record.
+   * @param value The value of the record, or null if there is no such record.
+   * @return The decoded entry, or null if there is no such record.
+   * @throws DirectoryException If a problem occurs while decoding the entry.
+   */
+  Entry decode(EntryID entryID, ByteString value) throws DirectoryException
+  {
+    try
+    {
+      return get0(value);
+    }
+    catch (Exception e)
+    {
+      throw new DirectoryException(
+          DirectoryServer.getCoreConfigManager().getServerErrorResultCode(), ERR_ENTRY_DATABASE_CORRUPT.get(entryID));
+    }
+  }
+
+  /**
+   * Decodes a partial entry from a record already read from the entry tree, holding only the attributes needed to
+   * match it, such as the attributes of a search filter. The values of the other attributes are skipped without being
+   * decoded. Unlike reads, this method may be called from any thread.
+   * <p>
+   * The partial entry has no virtual attributes and must not be cached nor returned to clients.
+   *
+   * @param entryID The entry ID which forms the key of the record.
+   * @param value The value of the record, or null if there is no such record.
+   * @param attributeTypes The types of the attributes to decode, with their subtypes.
+   * @return The decoded partial entry, or null if there is no such record.
+   * @throws DirectoryException If a problem occurs while decoding the entry.
+   */
+  Entry decode(EntryID entryID, ByteString value, Collection<AttributeType> attributeTypes) throws DirectoryException
+  {
+    if (value == null)
+    {
+      return null;
+    }
+    try
+    {
+      return entryFromDatabase(value, dataConfig.getEntryEncodeConfig().getCompressedSchema(), attributeTypes);
+    }
+    catch (Exception e)
+    {
+      throw new DirectoryException(
+          DirectoryServer.getCoreConfigManager().getServerErrorResultCode(), ERR_ENTRY_DATABASE_CORRUPT.get(entryID));
+    }
+  }
+
   Cursor<EntryID, Entry> openCursor(ReadableTransaction txn)
   {
     return transformKeysAndValues(txn.openCursor(getName()), TO_ENTRY_ID, TO_ENTRY);
@@ -514,6 +653,35 @@ class ID2Entry extends AbstractTree
     this.dataConfig = dataConfig;
   }
 
+  /**
+   * Replaces the dictionaries compressing the entries, such as with the ones stored in the state tree when the
+   * backend is opened, or with none when the backend is cleared.
+   *
+   * @param storedDictionaries The stored dictionaries by ID.
+   * @param store Persists the new dictionaries trained from the written entries.
+   */
+  void resetCompressionDictionaries(Map<Integer, ByteString> storedDictionaries,
+      CompressionDictionaries.Store store)
+  {
+    dictionaries.reset(storedDictionaries, store);
+  }
+
+  CompressionDictionaries getCompressionDictionaries()
+  {
+    return dictionaries;
+  }
+
+  /**
+   * Returns the ID of the compression dictionary of a stored entry, without decoding it.
+   *
+   * @param value The stored entry.
+   * @return The ID of the dictionary the entry is compressed with, or -1 if it is not compressed with a dictionary.
+   */
+  static int getDictionaryID(ByteString value)
+  {
+    return EntryCodec.getDictionaryID(value);
+  }
+
   @Override
   public String keyToString(ByteString key)
   {
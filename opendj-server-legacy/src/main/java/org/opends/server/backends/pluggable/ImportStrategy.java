@@ -62,4 +62,20 @@ interface ImportStrategy
    */
   void rebuildIndex(RebuildConfig rebuildConfig)
       throws InitializationException, ConfigException, InterruptedException, ExecutionException;
+
+  /**
+   * Rebuild indexes while the backend remains online, if they can be.
+   *
+   * @param rebuildConfig
+   *          The configuration to use when performing the rebuild.
+   * @return {@code true} if the indexes have been rebuilt, {@code false} if they must be rebuilt offline
+   * @throws InitializationException
+   *           If the indexes to rebuild cannot be found
+   * @throws InterruptedException
+   *           If the rebuild process has been interrupted
+   * @throws ExecutionException
+   *           If a problem occurs while performing the rebuild
+   */
+  boolean rebuildIndexOnline(RebuildConfig rebuildConfig)
+      throws InitializationException, InterruptedException, ExecutionException;
 }
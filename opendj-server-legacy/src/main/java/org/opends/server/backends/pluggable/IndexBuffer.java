@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2008 Sun Microsystems, Inc.
  * Portions Copyright 2014-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -56,6 +57,26 @@ class IndexBuffer
     void remove(Index index, ByteString key, EntryID entryID);
 
     void reset();
+
+    void visitUpdates(UpdateVisitor visitor);
+  }
+
+  /** Visits the buffered updates of the indexes, such as to capture them for an index being built online. */
+  interface UpdateVisitor
+  {
+    /**
+     * Visits the buffered update of an index key.
+     *
+     * @param index
+     *          the updated index
+     * @param key
+     *          the updated key
+     * @param deletedIDs
+     *          the IDs deleted from the key, or {@code null}
+     * @param addedIDs
+     *          the IDs added to the key, or {@code null}
+     */
+    void visit(Index index, ByteString key, EntryIDSet deletedIDs, EntryIDSet addedIDs);
   }
 
   /**
@@ -262,6 +283,19 @@ class IndexBuffer
       bufferedIndexes.clear();
       bufferedVLVIndexes.clear();
     }
+
+    @Override
+    public void visitUpdates(UpdateVisitor visitor)
+    {
+      for (Entry<Index, SortedMap<ByteString, BufferedIndexValues>> entry : bufferedIndexes.entrySet())
+      {
+        for (Entry<ByteString, BufferedIndexValues> update : entry.getValue().entrySet())
+        {
+          final BufferedIndexValues values = update.getValue();
+          visitor.visit(entry.getKey(), update.getKey(), values.deletedEntryIDs, values.addedEntryIDs);
+        }
+      }
+    }
   }
 
   /**
@@ -321,6 +355,12 @@ class IndexBuffer
     {
       throw new UnsupportedOperationException();
     }
+
+    @Override
+    public void visitUpdates(UpdateVisitor visitor)
+    {
+      // Nothing to do, the updates are not buffered
+    }
   }
 
   private final IndexBufferImplementor impl;
@@ -392,4 +432,15 @@ class IndexBuffer
   {
     impl.reset();
   }
+
+  /**
+   * Visits the buffered updates of the attribute indexes, in the order they are flushed.
+   *
+   * @param visitor
+   *          the visitor of the updates
+   */
+  void visitUpdates(UpdateVisitor visitor)
+  {
+    impl.visitUpdates(visitor);
+  }
 }
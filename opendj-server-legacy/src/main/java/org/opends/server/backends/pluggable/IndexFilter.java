@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions copyright 2011-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -20,8 +21,10 @@ import static org.opends.messages.BackendMessages.*;
 import static org.opends.server.backends.pluggable.EntryIDSet.*;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 
 import org.opends.server.backends.pluggable.AttributeIndex.IndexFilterType;
 import org.opends.server.backends.pluggable.spi.ReadableTransaction;
@@ -42,6 +45,18 @@ class IndexFilter
    */
   private static final int FILTER_CANDIDATE_THRESHOLD = 10;
 
+  /**
+   * Skip the component of an AND filter whose estimated number of candidates is larger than the number of candidates
+   * found so far times this ratio: decoding that many entry IDs costs more than reading and filtering the entries.
+   */
+  private static final int PLAN_PRUNE_RATIO = 1000;
+
+  /** Ranks of the components of an AND filter whose number of candidates cannot be estimated, evaluated in order. */
+  private static final int RANK_FAST = 0;
+  private static final int RANK_OTHER = 1;
+  private static final int RANK_RANGE_PAIR = 2;
+  private static final int RANK_RANGE = 3;
+
   /** Limit on the number of entry IDs that may be retrieved by cursoring through an index. */
   static final int CURSOR_ENTRY_LIMIT = 100000;
 
@@ -164,19 +179,64 @@ class IndexFilter
 
   /**
    * Evaluate a logical AND search filter against the indexes.
+   * <p>
+   * The components are evaluated in the order of a plan: first the components whose number of candidates can be
+   * estimated from the {@link IndexStatistics statistics of the indexes}, the most selective one first, then the other
+   * ones, the fast components (equality, presence, approx) first, then the remainder, then the range components.
+   * A component whose estimated number of candidates is much larger than the number of candidates found so far is
+   * pruned: reading it would cost more than filtering the candidates. The plan is appended to the diagnostic string.
    *
    * @param andFilter The AND search filter to be evaluated.
    * @return A set of entry IDs representing candidate entries.
    */
   private EntryIDSet evaluateLogicalAndFilter(SearchFilter andFilter)
+  {
+    final List<PlanStep> plan = newAndPlan(andFilter);
+    final int planPosition = buffer != null ? buffer.length() : 0;
+
+    EntryIDSet results = newUndefinedSet();
+    for (PlanStep step : plan)
+    {
+      if (isBelowFilterThreshold(results))
+      {
+        step.status = "SKIPPED";
+      }
+      else if (results.isDefined() && step.estimate != IndexStatistics.UNKNOWN
+          && step.estimate > results.size() * PLAN_PRUNE_RATIO)
+      {
+        step.status = "PRUNED";
+      }
+      else
+      {
+        results.retainAll(step.evaluate());
+      }
+    }
+
+    if (buffer != null)
+    {
+      final StringBuilder planBuffer = new StringBuilder("[PLAN:");
+      for (PlanStep step : plan)
+      {
+        if (step != plan.get(0))
+        {
+          planBuffer.append(" ");
+        }
+        step.toString(planBuffer);
+      }
+      buffer.insert(planPosition, planBuffer.append("]"));
+    }
+    return results;
+  }
+
+  /** Returns the steps of the evaluation of the components of an AND filter, in the order they are evaluated. */
+  private List<PlanStep> newAndPlan(SearchFilter andFilter)
   {
     // Put the slow range filters (greater-or-equal, less-or-equal)
     // into a hash map, the faster components (equality, presence, approx)
     // into one list and the remainder into another list.
 
-    ArrayList<SearchFilter> fastComps = new ArrayList<>();
-    ArrayList<SearchFilter> otherComps = new ArrayList<>();
-    HashMap<AttributeType, ArrayList<SearchFilter>> rangeComps = new HashMap<>();
+    ArrayList<PlanStep> plan = new ArrayList<>();
+    LinkedHashMap<AttributeType, ArrayList<SearchFilter>> rangeComps = new LinkedHashMap<>();
 
     for (SearchFilter filter : andFilter.getFilterComponents())
     {
@@ -197,77 +257,153 @@ class IndexFilter
            filterType == FilterType.PRESENT ||
            filterType == FilterType.APPROXIMATE_MATCH)
       {
-        fastComps.add(filter);
+        plan.add(new PlanStep(RANK_FAST, filter, null));
       }
       else
       {
-        otherComps.add(filter);
+        plan.add(new PlanStep(RANK_OTHER, filter, null));
       }
     }
 
-    EntryIDSet results = newUndefinedSet();
-    // First, process the fast components.
-    results = applyFiltersUntilThreshold(results, fastComps);
-    // Next, process the other (non-range) components.
-    results = applyFiltersUntilThreshold(results, otherComps);
+    // Range component pairs like (cn>=A)(cn<=B) are evaluated together, before the remaining range components.
+    for (ArrayList<SearchFilter> rangeList : rangeComps.values())
+    {
+      if (rangeList.size() == 2)
+      {
+        plan.add(new PlanStep(RANK_RANGE_PAIR, rangeList.get(0), rangeList.get(1)));
+      }
+      else
+      {
+        for (SearchFilter filter : rangeList)
+        {
+          plan.add(new PlanStep(RANK_RANGE, filter, null));
+        }
+      }
+    }
 
-    if ( isBelowFilterThreshold(results) || rangeComps.isEmpty() ) {
-      return results;
+    // Stable sort: the components of the same rank without estimate keep their order.
+    Collections.sort(plan);
+    return plan;
+  }
+
+  /** A step of the evaluation of an AND filter: a component, or a pair of range components of the same attribute. */
+  private final class PlanStep implements Comparable<PlanStep>
+  {
+    private final int rank;
+    private final SearchFilter filter;
+    /** The second range component of a pair, {@code null} for other steps. */
+    private final SearchFilter upperFilter;
+    /** Estimated number of candidates, {@link IndexStatistics#UNKNOWN} if it cannot be estimated. */
+    private final long estimate;
+    /** Why the step was not evaluated, {@code null} if it was. */
+    private String status;
+
+    private PlanStep(int rank, SearchFilter filter, SearchFilter upperFilter)
+    {
+      this.rank = rank;
+      this.filter = filter;
+      this.upperFilter = upperFilter;
+      this.estimate = upperFilter == null ? estimateFilter(filter) : IndexStatistics.UNKNOWN;
     }
 
-    // Next, process range component pairs like (cn>=A)(cn<=B).
-    ArrayList<SearchFilter> remainComps = new ArrayList<>();
-    for (Map.Entry<AttributeType, ArrayList<SearchFilter>> rangeEntry : rangeComps.entrySet())
+    private EntryIDSet evaluate()
     {
-      ArrayList<SearchFilter> rangeList = rangeEntry.getValue();
-      if (rangeList.size() == 2)
+      if (upperFilter == null)
       {
-        SearchFilter filter1 = rangeList.get(0);
-        SearchFilter filter2 = rangeList.get(1);
+        return evaluateFilter(filter);
+      }
 
-        AttributeIndex attributeIndex = entryContainer.getAttributeIndex(rangeEntry.getKey());
-        if (attributeIndex == null)
+      final List<SearchFilter> rangeList = Arrays.asList(filter, upperFilter);
+      final AttributeIndex attributeIndex = entryContainer.getAttributeIndex(filter.getAttributeType());
+      if (attributeIndex == null)
+      {
+        if (monitor.isFilterUseEnabled())
         {
-          if(monitor.isFilterUseEnabled())
-          {
-            monitor.updateStats(SearchFilter.createANDFilter(rangeList),
-                INFO_INDEX_FILTER_INDEX_TYPE_DISABLED.get("ordering", rangeEntry.getKey().getNameOrOID()));
-          }
-          continue;
+          monitor.updateStats(SearchFilter.createANDFilter(rangeList),
+              INFO_INDEX_FILTER_INDEX_TYPE_DISABLED.get("ordering", filter.getAttributeType().getNameOrOID()));
         }
+        return newUndefinedSet();
+      }
 
-        final IndexQueryFactoryImpl indexQueryFactory = new IndexQueryFactoryImpl(txn, attributeIndex);
-        EntryIDSet set = attributeIndex.evaluateBoundedRange(indexQueryFactory, filter1, filter2, buffer, monitor);
-        if(monitor.isFilterUseEnabled() && set.isDefined())
-        {
-          monitor.updateStats(SearchFilter.createANDFilter(rangeList), set.size());
-        }
-        results.retainAll(set);
-        if (isBelowFilterThreshold(results))
-        {
-          return results;
-        }
+      final IndexQueryFactoryImpl indexQueryFactory = new IndexQueryFactoryImpl(txn, attributeIndex);
+      EntryIDSet set = attributeIndex.evaluateBoundedRange(indexQueryFactory, filter, upperFilter, buffer, monitor);
+      if (monitor.isFilterUseEnabled() && set.isDefined())
+      {
+        monitor.updateStats(SearchFilter.createANDFilter(rangeList), set.size());
       }
-      else
+      return set;
+    }
+
+    @Override
+    public int compareTo(PlanStep other)
+    {
+      final boolean estimated = estimate != IndexStatistics.UNKNOWN;
+      final boolean otherEstimated = other.estimate != IndexStatistics.UNKNOWN;
+      if (estimated && otherEstimated)
       {
-        // Add to the remaining range components to be processed.
-        remainComps.addAll(rangeList);
+        return Long.compare(estimate, other.estimate);
       }
+      else if (estimated != otherEstimated)
+      {
+        return estimated ? -1 : 1;
+      }
+      return Integer.compare(rank, other.rank);
     }
 
-    // Finally, process the remaining slow range components.
-    return applyFiltersUntilThreshold(results, remainComps);
+    private void toString(StringBuilder builder)
+    {
+      filter.toString(builder);
+      if (upperFilter != null)
+      {
+        upperFilter.toString(builder);
+      }
+      builder.append("~").append(estimate != IndexStatistics.UNKNOWN ? String.valueOf(estimate) : "?");
+      if (status != null)
+      {
+        builder.append("!").append(status);
+      }
+    }
   }
 
-  private EntryIDSet applyFiltersUntilThreshold(EntryIDSet results, ArrayList<SearchFilter> filters)
+  /**
+   * Estimates the number of candidates of a component of an AND filter from the statistics of the indexes.
+   *
+   * @param filter The search filter to be estimated.
+   * @return The estimated number of candidates, {@link IndexStatistics#UNKNOWN} if it cannot be estimated.
+   */
+  private long estimateFilter(SearchFilter filter)
   {
-    for(SearchFilter filter : filters) {
-      if (isBelowFilterThreshold(results)) {
-        return results;
-      }
-      results.retainAll(evaluateFilter(filter));
+    final IndexFilterType indexFilterType;
+    switch (filter.getFilterType())
+    {
+    case EQUALITY:
+      indexFilterType = IndexFilterType.EQUALITY;
+      break;
+    case PRESENT:
+      indexFilterType = IndexFilterType.PRESENCE;
+      break;
+    case APPROXIMATE_MATCH:
+      indexFilterType = IndexFilterType.APPROXIMATE;
+      break;
+    case SUBSTRING:
+      indexFilterType = IndexFilterType.SUBSTRING;
+      break;
+    case GREATER_OR_EQUAL:
+      indexFilterType = IndexFilterType.GREATER_OR_EQUAL;
+      break;
+    case LESS_OR_EQUAL:
+      indexFilterType = IndexFilterType.LESS_OR_EQUAL;
+      break;
+    default:
+      return IndexStatistics.UNKNOWN;
     }
-    return results;
+
+    final AttributeIndex attributeIndex = entryContainer.getAttributeIndex(filter.getAttributeType());
+    if (attributeIndex == null)
+    {
+      return IndexStatistics.UNKNOWN;
+    }
+    return AttributeIndex.estimateFilter(new IndexQueryFactoryImpl(txn, attributeIndex), indexFilterType, filter);
   }
 
   static boolean isBelowFilterThreshold(EntryIDSet set)
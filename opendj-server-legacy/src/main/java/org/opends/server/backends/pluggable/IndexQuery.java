@@ -13,6 +13,7 @@
  *
  * Copyright 2009-2010 Sun Microsystems, Inc.
  * Portions Copyright 2014-2015 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -33,4 +34,12 @@ interface IndexQuery
    * @return The non null EntryIDSet as a result of evaluating this query
    */
   EntryIDSet evaluate(LocalizableMessageBuilder debugMessage, StringBuilder indexNameOut);
+
+  /**
+   * Estimates the number of entry IDs returned by this index query from the statistics of the indexes, without
+   * reading them.
+   *
+   * @return The estimated number of entry IDs, {@link IndexStatistics#UNKNOWN} if it cannot be estimated
+   */
+  long estimateSize();
 }
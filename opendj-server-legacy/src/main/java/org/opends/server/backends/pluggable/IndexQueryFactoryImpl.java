@@ -13,6 +13,7 @@
  *
  * Copyright 2009-2010 Sun Microsystems, Inc.
  * Portions Copyright 2014-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -35,6 +36,7 @@ import org.forgerock.opendj.ldap.spi.IndexQueryFactory;
 import org.forgerock.opendj.ldap.spi.IndexingOptions;
 import org.forgerock.util.Utils;
 import org.opends.server.backends.pluggable.AttributeIndex.IndexFilterType;
+import org.opends.server.backends.pluggable.AttributeIndex.MatchingRuleIndex;
 import org.opends.server.backends.pluggable.spi.Cursor;
 import org.opends.server.backends.pluggable.spi.ReadableTransaction;
 import org.opends.server.backends.pluggable.spi.StorageRuntimeException;
@@ -59,6 +61,12 @@ final class IndexQueryFactoryImpl implements IndexQueryFactory<IndexQuery>
       return newUndefinedSet();
     }
 
+    @Override
+    public long estimateSize()
+    {
+      return IndexStatistics.UNKNOWN;
+    }
+
     @Override
     public String toString()
     {
@@ -98,6 +106,21 @@ final class IndexQueryFactoryImpl implements IndexQueryFactory<IndexQuery>
       return entryIDs;
     }
 
+    @Override
+    public long estimateSize()
+    {
+      long estimate = IndexStatistics.UNKNOWN;
+      for (IndexQuery query : subIndexQueries)
+      {
+        final long subEstimate = query.estimateSize();
+        if (subEstimate != IndexStatistics.UNKNOWN && (estimate == IndexStatistics.UNKNOWN || subEstimate < estimate))
+        {
+          estimate = subEstimate;
+        }
+      }
+      return estimate;
+    }
+
     @Override
     public String toString()
     {
@@ -139,6 +162,22 @@ final class IndexQueryFactoryImpl implements IndexQueryFactory<IndexQuery>
       return newSetFromUnion(candidateSets);
     }
 
+    @Override
+    public long estimateSize()
+    {
+      long estimate = 0;
+      for (IndexQuery query : subIndexQueries)
+      {
+        final long subEstimate = query.estimateSize();
+        if (subEstimate == IndexStatistics.UNKNOWN)
+        {
+          return IndexStatistics.UNKNOWN;
+        }
+        estimate += subEstimate;
+      }
+      return estimate;
+    }
+
     @Override
     public String toString()
     {
@@ -206,6 +245,17 @@ final class IndexQueryFactoryImpl implements IndexQueryFactory<IndexQuery>
           return entrySet;
         }
 
+        @Override
+        public long estimateSize()
+        {
+          MatchingRuleIndex index = attributeIndex.getNameToIndexes().get(indexID);
+          if (index == null)
+          {
+            index = attributeIndex.getNameToIndexes().get(indexID + AttributeIndex.PROTECTED_INDEX_ID);
+          }
+          return index != null ? index.estimateKeySize() : IndexStatistics.UNKNOWN;
+        }
+
         @Override
         public String toString()
         {
@@ -235,6 +285,13 @@ final class IndexQueryFactoryImpl implements IndexQueryFactory<IndexQuery>
         return entrySet;
       }
 
+      @Override
+      public long estimateSize()
+      {
+        // The number of keys in the range is unknown
+        return IndexStatistics.UNKNOWN;
+      }
+
       private final EntryIDSet readRange(Index index, ReadableTransaction txn, ByteSequence lower, ByteSequence upper,
           boolean lowerIncluded, boolean upperIncluded)
       {
@@ -371,6 +428,13 @@ final class IndexQueryFactoryImpl implements IndexQueryFactory<IndexQuery>
           return entrySet;
         }
 
+        @Override
+        public long estimateSize()
+        {
+          final MatchingRuleIndex index = attributeIndex.getNameToIndexes().get(PRESENCE_INDEX_KEY);
+          return index != null ? index.estimateKeySize() : IndexStatistics.UNKNOWN;
+        }
+
         @Override
         public String toString()
         {
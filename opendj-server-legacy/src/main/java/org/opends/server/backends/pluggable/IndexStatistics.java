@@ -0,0 +1,156 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lightweight key cardinality statistics of an index, used by {@link IndexFilter} to order the lookups of a search.
+ * <p>
+ * The statistics are a random sample of the sizes of the entry ID sets of the keys written by the index buffer
+ * flushes and by import, and of the keys read by searches. Keys which exceeded the index entry limit are sampled
+ * too. Once the sample is full, each new size replaces a random one, so the sample follows the changes of the index.
+ * The statistics are kept in memory only: they are rebuilt by the first updates and searches after a restart.
+ * They are not recorded if the {@code org.openidentityplatform.opendj.index.statistics} system property is false,
+ * and the lookups of a search are then ordered as if nothing had been sampled.
+ * <p>
+ * This class is thread safe and lock free. The observations are counted without a shared counter, since each
+ * lookup of a key records one.
+ */
+final class IndexStatistics
+{
+  /** Estimate returned when nothing has been sampled yet. */
+  static final long UNKNOWN = -1;
+  /** Number of sampled sizes. */
+  static final int SAMPLE_SIZE = 256;
+  /** Once the sample is full, one in this number of the costly observations is sampled. */
+  private static final int SAMPLING_RATE = 16;
+  /** Sampled size of the keys which exceeded the index entry limit. */
+  private static final long LIMIT_EXCEEDED = -1;
+  /** Whether the statistics of the indexes are recorded. */
+  private static final boolean ENABLED =
+      Boolean.parseBoolean(System.getProperty("org.openidentityplatform.opendj.index.statistics", "true"));
+
+  private final boolean enabled;
+  private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+  /** Number of filled slots of the sample, only incremented until the sample is full. */
+  private final AtomicInteger filledSlots = new AtomicInteger();
+  private final LongAdder observations = new LongAdder();
+  private final LongAdder limitExceededObservations = new LongAdder();
+
+  /** Creates the statistics of an index, recorded unless disabled by the system property. */
+  IndexStatistics()
+  {
+    this(ENABLED);
+  }
+
+  /**
+   * Creates the statistics of an index.
+   *
+   * @param enabled
+   *          whether the statistics are recorded
+   */
+  IndexStatistics(boolean enabled)
+  {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Records the entry ID set stored for a key.
+   *
+   * @param idSet
+   *          the entry ID set of the key, undefined if the key exceeded the index entry limit
+   */
+  void record(EntryIDSet idSet)
+  {
+    if (!enabled)
+    {
+      return;
+    }
+    observations.increment();
+    final int filled = filledSlots.get() < SAMPLE_SIZE ? filledSlots.getAndIncrement() : SAMPLE_SIZE;
+    final int slot = filled < SAMPLE_SIZE ? filled : ThreadLocalRandom.current().nextInt(SAMPLE_SIZE);
+    if (idSet.isDefined())
+    {
+      samples.set(slot, idSet.size());
+    }
+    else
+    {
+      samples.set(slot, LIMIT_EXCEEDED);
+      limitExceededObservations.increment();
+    }
+  }
+
+  /**
+   * Returns whether an observation which is costly to record, such as one needing to decode a value, should be
+   * recorded: all of them until the sample is full, then a fraction of them, and none if the statistics are disabled.
+   *
+   * @return {@code true} if the observation should be recorded
+   */
+  boolean isSampling()
+  {
+    return enabled
+        && (filledSlots.get() < SAMPLE_SIZE || ThreadLocalRandom.current().nextInt(SAMPLING_RATE) == 0);
+  }
+
+  /**
+   * Returns the estimated number of entry IDs read by the lookup of a key of the index, counting the keys which
+   * exceeded the index entry limit as holding as many IDs as the limit, since they select nothing.
+   *
+   * @param indexEntryLimit
+   *          the index entry limit of the index, 0 if none
+   * @return the estimated number of entry IDs of a key, {@link #UNKNOWN} if nothing has been sampled yet
+   */
+  long estimateKeySize(int indexEntryLimit)
+  {
+    final int sampled = Math.min(filledSlots.get(), SAMPLE_SIZE);
+    if (sampled == 0)
+    {
+      return UNKNOWN;
+    }
+    final long limitExceededSize = indexEntryLimit > 0 ? indexEntryLimit : Integer.MAX_VALUE;
+    long total = 0;
+    for (int i = 0; i < sampled; i++)
+    {
+      final long size = samples.get(i);
+      total += size == LIMIT_EXCEEDED ? limitExceededSize : size;
+    }
+    return (total + sampled - 1) / sampled;
+  }
+
+  /**
+   * Returns the number of observed keys.
+   *
+   * @return the number of observed keys since the index was opened
+   */
+  long getObservationCount()
+  {
+    return observations.sum();
+  }
+
+  /**
+   * Returns the number of observed keys which exceeded the index entry limit.
+   *
+   * @return the number of observed keys which exceeded the index entry limit since the index was opened
+   */
+  long getLimitExceededCount()
+  {
+    return limitExceededObservations.sum();
+  }
+}
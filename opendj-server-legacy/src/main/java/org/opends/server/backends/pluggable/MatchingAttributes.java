@@ -0,0 +1,133 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.opends.server.util.ServerConstants.*;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.forgerock.opendj.ldap.schema.AttributeType;
+import org.opends.server.core.DirectoryServer;
+import org.opends.server.core.SubentryManager;
+import org.opends.server.types.SearchFilter;
+import org.opends.server.types.VirtualAttributeRule;
+
+/**
+ * Computes the attributes needed to match the candidate entries of a search, so that the candidates can be matched
+ * on a partial entry decoded from id2entry, without decoding the values of their other attributes.
+ * <p>
+ * Only the candidates matching the partial entry are then fully decoded. This saves most of the decoding of the
+ * candidates which do not match the search, such as the groups with thousands of members of a search on their
+ * common name. The partial entries are never cached, nor returned to clients.
+ */
+final class MatchingAttributes
+{
+  /** Whether the candidates of the searches may be matched on partial entries. */
+  static final boolean ENABLED =
+      Boolean.parseBoolean(System.getProperty("org.openidentityplatform.opendj.search.partialDecoding", "true"));
+
+  private MatchingAttributes()
+  {
+    // Prevent instantiation.
+  }
+
+  /**
+   * Returns the types of the attributes needed to match the provided search filter and to check the referrals, or
+   * {@code null} if the candidates must be fully decoded to be matched.
+   * <p>
+   * The candidates are fully decoded when the filter has an extensible match on all the attributes, when a filter
+   * attribute could be a virtual attribute, or when there are collective subentries, since the virtual and
+   * collective attributes are only added to the fully decoded entries.
+   *
+   * @param filter
+   *          the search filter
+   * @return the types of the attributes needed to match the filter, with their subtypes, or {@code null} if all the
+   *         attributes are needed
+   */
+  static Collection<AttributeType> of(SearchFilter filter)
+  {
+    if (!ENABLED)
+    {
+      return null;
+    }
+    final Set<AttributeType> attributeTypes = new HashSet<>();
+    if (!collect(filter, attributeTypes) || hasCollectiveSubentries() || hasVirtualAttributes(attributeTypes))
+    {
+      return null;
+    }
+    attributeTypes.add(DirectoryServer.getInstance().getServerContext().getSchema()
+        .getAttributeType(ATTR_REFERRAL_URL));
+    return attributeTypes;
+  }
+
+  private static boolean collect(SearchFilter filter, Set<AttributeType> attributeTypes)
+  {
+    switch (filter.getFilterType())
+    {
+    case AND:
+    case OR:
+      for (SearchFilter component : filter.getFilterComponents())
+      {
+        if (!collect(component, attributeTypes))
+        {
+          return false;
+        }
+      }
+      return true;
+
+    case NOT:
+      return collect(filter.getNotComponent(), attributeTypes);
+
+    case EXTENSIBLE_MATCH:
+      // Without an attribute type, the filter matches the values of all the attributes.
+      // The DN attributes are always decoded.
+      if (filter.getAttributeType() == null)
+      {
+        return false;
+      }
+      attributeTypes.add(filter.getAttributeType());
+      return true;
+
+    default:
+      attributeTypes.add(filter.getAttributeType());
+      return true;
+    }
+  }
+
+  private static boolean hasCollectiveSubentries()
+  {
+    final SubentryManager subentryManager = DirectoryServer.getSubentryManager();
+    return subentryManager != null && subentryManager.hasCollectiveSubentries();
+  }
+
+  private static boolean hasVirtualAttributes(Set<AttributeType> attributeTypes)
+  {
+    for (VirtualAttributeRule rule : DirectoryServer.getVirtualAttributes())
+    {
+      final AttributeType virtualType = rule.getAttributeType();
+      for (AttributeType attributeType : attributeTypes)
+      {
+        if (attributeType.isSuperTypeOf(virtualType) || virtualType.isSuperTypeOf(attributeType))
+        {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -13,7 +13,7 @@
  *
  * Portions Copyright 2014 The Apache Software Foundation
  * Copyright 2015-2016 ForgeRock AS.
- * Portions Copyright 2023-2025 3A Systems, LLC
+ * Portions Copyright 2023-2026 3A Systems, LLC
  */
 package org.opends.server.backends.pluggable;
 
@@ -102,11 +102,13 @@ import org.opends.server.backends.pluggable.CursorTransformer.SequentialCursorAd
 import org.opends.server.backends.pluggable.DN2ID.TreeVisitor;
 import org.opends.server.backends.pluggable.ImportLDIFReader.EntryInformation;
 import org.opends.server.backends.pluggable.OnDiskMergeImporter.BufferPool.MemoryBuffer;
+import org.opends.server.backends.pluggable.spi.AccessMode;
 import org.opends.server.backends.pluggable.spi.Cursor;
 import org.opends.server.backends.pluggable.spi.Importer;
 import org.opends.server.backends.pluggable.spi.ReadOperation;
 import org.opends.server.backends.pluggable.spi.ReadableTransaction;
 import org.opends.server.backends.pluggable.spi.SequentialCursor;
+import org.opends.server.backends.pluggable.spi.Storage;
 import org.opends.server.backends.pluggable.spi.StorageRuntimeException;
 import org.opends.server.backends.pluggable.spi.TreeName;
 import org.opends.server.backends.pluggable.spi.UpdateFunction;
@@ -308,6 +310,80 @@ final class OnDiskMergeImporter
       }
     }
 
+    /**
+     * Rebuilds the indexes online if they are all untrusted attribute indexes, the only ones an
+     * {@link OnlineIndexBuilder} can build: the system indexes and the VLV indexes are rebuilt offline, and so are the
+     * trusted indexes, which the searches would stop using while they are rebuilt.
+     */
+    @Override
+    public boolean rebuildIndexOnline(final RebuildConfig rebuildConfig)
+        throws InitializationException, InterruptedException, ExecutionException
+    {
+      final EntryContainer entryContainer = rootContainer.getEntryContainer(rebuildConfig.getBaseDN());
+      if (!OnlineIndexBuilder.ENABLED || entryContainer == null || rebuildConfig.isClearDegradedState())
+      {
+        return false;
+      }
+      final Set<String> indexesToRebuild;
+      switch (rebuildConfig.getRebuildMode())
+      {
+      case DEGRADED:
+        final SelectIndexName selector = new SelectIndexName();
+        visitIndexes(entryContainer, visitOnlyDegraded(selector));
+        indexesToRebuild = selector.getSelectedIndexNames();
+        break;
+      case USER_DEFINED:
+        indexesToRebuild = expandIndexNames(entryContainer, rebuildConfig.getRebuildList());
+        break;
+      default:
+        return false;
+      }
+
+      final Set<AttributeIndex> attributeIndexes = new HashSet<>();
+      int nbIndexes = 0;
+      for (final AttributeIndex attributeIndex : entryContainer.getAttributeIndexes())
+      {
+        for (final MatchingRuleIndex index : attributeIndex.getNameToIndexes().values())
+        {
+          if (indexesToRebuild.contains(index.getName().getIndexId()))
+          {
+            if (index.isTrusted())
+            {
+              return false;
+            }
+            attributeIndexes.add(attributeIndex);
+            nbIndexes++;
+          }
+        }
+      }
+      if (nbIndexes < indexesToRebuild.size())
+      {
+        return false;
+      }
+      if (indexesToRebuild.isEmpty())
+      {
+        logger.info(NOTE_REBUILD_NOTHING_TO_REBUILD);
+        return true;
+      }
+
+      final String indexNames = Utils.joinAsString(", ", indexesToRebuild);
+      logger.info(NOTE_REBUILD_ONLINE_START, indexNames);
+      try
+      {
+        entryContainer.rebuildIndexesOnline(attributeIndexes);
+      }
+      catch (InterruptedException | ExecutionException e)
+      {
+        throw e;
+      }
+      catch (Exception e)
+      {
+        throw new ExecutionException(e);
+      }
+      logger.info(NOTE_REBUILD_ONLINE_COMPLETED, indexNames);
+      return true;
+    }
+
     private void clearDegradedState(final EntryContainer entryContainer, final Set<String> indexIds)
         throws ExecutionException
     {
@@ -345,6 +421,7 @@ final class OnDiskMergeImporter
             Executors.newFixedThreadPool(threadCount, newThreadFactory(null, SORTER_THREAD_NAME, true));
 
         final OnDiskMergeImporter importer;
+        final ID2EntrySource source;
         final File tempDir = prepareTempDir(backendCfg, tmpDirectory);
         try (final Importer dbStorage = rootContainer.getStorage().startImport())
         {
@@ -353,8 +430,9 @@ final class OnDiskMergeImporter
                   rootContainer.getEntryContainers(), dbStorage, tempDir, bufferPool, sorter, indexesToRebuild);
 
           importer = new OnDiskMergeImporter(PHASE2_REBUILDER_THREAD_NAME, strategy);
-          importer.doImport(new ID2EntrySource(entryContainer, dbStorage, PHASE1_REBUILDER_THREAD_NAME, threadCount,
-              totalEntries));
+          source = new ID2EntrySource(entryContainer, dbStorage, PHASE1_REBUILDER_THREAD_NAME, threadCount,
+              totalEntries);
+          importer.doImport(source);
         }
         finally
         {
@@ -364,6 +442,44 @@ final class OnDiskMergeImporter
         final long totalTime = importer.getTotalTimeInMillis();
         final float rate = totalTime > 0 ? 1000f * importer.getImportedCount() / totalTime : 0;
         logger.info(NOTE_REBUILD_FINAL_STATUS, importer.getImportedCount(), totalTime / 1000, rate);
+        pruneCompressionDictionaries(entryContainer, source.getReferencedDictionaries());
+      }
+    }
+
+    /**
+     * Deletes the compression dictionaries which no entry references anymore, as found while reading all the entries
+     * to rebuild the indexes. The importer cannot delete records, so the storage is opened again meanwhile.
+     */
+    private void pruneCompressionDictionaries(final EntryContainer entryContainer,
+        final Set<Integer> referencedDictionaries)
+    {
+      final CompressionDictionaries dictionaries = entryContainer.getID2Entry().getCompressionDictionaries();
+      if (referencedDictionaries == null || !dictionaries.hasUnreferenced(referencedDictionaries))
+      {
+        return;
+      }
+      final Storage storage = rootContainer.getStorage();
+      try
+      {
+        storage.open(AccessMode.READ_WRITE);
+        storage.write(new WriteOperation()
+        {
+          @Override
+          public void run(WriteableTransaction txn) throws Exception
+          {
+            dictionaries.prune(referencedDictionaries, entryContainer.newCompressionDictionaryStore(txn));
+          }
+        });
+      }
+      catch (Exception e)
+      {
+        logger.traceException(e);
+        logger.warn(WARN_ID2ENTRY_DICTIONARIES_PRUNE_FAILED, entryContainer.getBaseDN(),
+            stackTraceToSingleLineString(e));
+      }
+      finally
+      {
+        storage.close();
       }
     }
 
@@ -804,6 +920,9 @@ final class OnDiskMergeImporter
     private final ExecutorService executor;
     private final long nbTotalEntries;
     private final AtomicLong nbEntriesProcessed = new AtomicLong();
+    /** The IDs of the compression dictionaries referenced by the read entries. */
+    private final Set<Integer> referencedDictionaries = new HashSet<>();
+    private boolean allEntriesRead;
     private volatile boolean interrupted;
 
     ID2EntrySource(EntryContainer entryContainer, Importer importer, String threadNameTemplate, int nbThread,
@@ -855,6 +974,11 @@ final class OnDiskMergeImporter
         {
           final ByteString key = cursor.getKey();
           final ByteString value = cursor.getValue();
+          final int dictionaryID = ID2Entry.getDictionaryID(value);
+          if (dictionaryID != -1)
+          {
+            referencedDictionaries.add(dictionaryID);
+          }
           executor.submit(new Runnable()
           {
             @Override
@@ -879,6 +1003,7 @@ final class OnDiskMergeImporter
             }
           });
         }
+        allEntriesRead = true;
       }
       finally
       {
@@ -900,6 +1025,16 @@ final class OnDiskMergeImporter
       return interrupted;
     }
 
+    /**
+     * Returns the IDs of the compression dictionaries referenced by the entries.
+     *
+     * @return the IDs of the referenced dictionaries, or {@code null} if not all the entries have been processed
+     */
+    Set<Integer> getReferencedDictionaries()
+    {
+      return allEntriesRead && !interrupted ? referencedDictionaries : null;
+    }
+
     /** This class reports progress of first phase of import processing at fixed intervals. */
     private final class PhaseOneProgressReporter extends TimerTask
     {
@@ -1086,7 +1221,11 @@ final class OnDiskMergeImporter
 
     void beforePhaseOne(EntryContainer entryContainer)
     {
-      entryContainer.delete(asWriteableTransaction(importer));
+      final WriteableTransaction txn = asWriteableTransaction(importer);
+      entryContainer.delete(txn);
+      // Dictionaries trained from the imported entries are written along with them
+      entryContainer.getID2Entry().resetCompressionDictionaries(Collections.<Integer, ByteString> emptyMap(),
+          entryContainer.newCompressionDictionaryStore(txn));
       visitIndexes(entryContainer, setTrust(false, importer));
     }
 
@@ -3395,14 +3534,22 @@ final class OnDiskMergeImporter
     {
       if (resultContainer.size() >= indexLimit)
       {
+        index.getStatistics().record(EntryIDSet.newUndefinedSet());
         return index.toValue(EntryIDSet.newUndefinedSet());
       }
       else if (resultContainer.size() == 1)
       {
         // Avoids unnecessary decoding + encoding
-        return resultContainer.iterator().next();
+        final ByteString value = resultContainer.iterator().next();
+        if (index.getStatistics().isSampling())
+        {
+          index.getStatistics().record(index.decodeValue(ByteString.empty(), value));
+        }
+        return value;
       }
-      return index.toValue(buildEntryIDSet(resultContainer));
+      final EntryIDSet entryIDSet = buildEntryIDSet(resultContainer);
+      index.getStatistics().record(entryIDSet);
+      return index.toValue(entryIDSet);
     }
 
     private EntryIDSet buildEntryIDSet(Collection<ByteString> encodedIDSets)
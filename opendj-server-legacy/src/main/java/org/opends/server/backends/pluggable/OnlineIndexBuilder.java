@@ -0,0 +1,375 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.forgerock.util.Utils.*;
+import static org.opends.messages.BackendMessages.*;
+import static org.opends.server.util.StaticUtils.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+import org.forgerock.opendj.ldap.ByteString;
+import org.opends.server.backends.pluggable.spi.Cursor;
+import org.opends.server.backends.pluggable.spi.Storage;
+import org.opends.server.backends.pluggable.spi.WriteOperation;
+import org.opends.server.backends.pluggable.spi.WriteableTransaction;
+
+/**
+ * Builds the untrusted indexes of an attribute index while the backend remains online, such as after the attribute
+ * index has been added to the configuration of a backend holding entries, or when its untrusted indexes are rebuilt
+ * while the backend is online.
+ * <p>
+ * The entries are scanned in the background in batches of {@link #BATCH_SIZE} entries, at most
+ * {@link #ENTRIES_PER_SECOND} entries per second, and their keys are written to the indexes even though they are not
+ * trusted yet. The updates of the indexes made meanwhile by the write operations are captured from their
+ * {@link IndexBuffer} once committed, and logged to be replayed in order after the scan, which fixes the keys of the
+ * entries modified after they were scanned. Once the log is almost drained, the remaining updates are replayed and
+ * the indexes are made trusted in a single transaction, while holding the exclusive lock of the entry container.
+ * <p>
+ * The indexes are not used by the searches until they are trusted, as when they are rebuilt offline.
+ */
+final class OnlineIndexBuilder implements Runnable
+{
+  private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+  /** Whether the indexes added to a backend holding entries are built online. */
+  static final boolean ENABLED =
+      Boolean.parseBoolean(System.getProperty("org.openidentityplatform.opendj.index.onlineBuild", "true"));
+  /** Maximum number of entries scanned per second, or 0 to scan them as fast as possible. */
+  private static final int ENTRIES_PER_SECOND =
+      Integer.getInteger("org.openidentityplatform.opendj.index.onlineBuild.entriesPerSecond", 10000);
+  /** Number of entries scanned, or of logged updates replayed, in a transaction. */
+  private static final int BATCH_SIZE = 1000;
+
+  /** Lazily created threads running the online builds of all the backends. */
+  private static final class Builders
+  {
+    private static final ExecutorService EXECUTOR =
+        Executors.newCachedThreadPool(newThreadFactory(null, "ONLINE-INDEX-BUILDER-%d", true));
+  }
+
+  /** An update of an index key, made by a write operation while the index is built. */
+  private static final class Update
+  {
+    private final DefaultIndex index;
+    private final ByteString key;
+    private final EntryIDSet deletedIDs;
+    private final EntryIDSet addedIDs;
+
+    private Update(DefaultIndex index, ByteString key, EntryIDSet deletedIDs, EntryIDSet addedIDs)
+    {
+      this.index = index;
+      this.key = key;
+      this.deletedIDs = deletedIDs;
+      this.addedIDs = addedIDs;
+    }
+  }
+
+  /** Scans a batch of entries and writes their keys. */
+  private final class ScanBatch implements WriteOperation
+  {
+    private final long firstID;
+    private long nextID;
+    private int nbEntries;
+
+    private ScanBatch(long firstID)
+    {
+      this.firstID = firstID;
+    }
+
+    @Override
+    public void run(final WriteableTransaction txn) throws Exception
+    {
+      // Reset for each attempt of the transaction
+      nextID = -1;
+      nbEntries = 0;
+      final IndexBuffer buffer = new IndexBuffer();
+      try (final Cursor<ByteString, ByteString> cursor = txn.openCursor(id2entry.getName()))
+      {
+        for (boolean found = cursor.positionToKeyOrNext(new EntryID(firstID).toByteString());
+            found;
+            found = cursor.next())
+        {
+          if (nbEntries == BATCH_SIZE)
+          {
+            nextID = new EntryID(cursor.getKey()).longValue();
+            break;
+          }
+          final EntryID entryID = new EntryID(cursor.getKey());
+          attributeIndex.addEntry(buffer, entryID,
+              id2entry.entryFromDatabase(cursor.getValue(), entryContainer.getRootContainer().getCompressedSchema()));
+          nbEntries++;
+        }
+      }
+      buffer.visitUpdates(new IndexBuffer.UpdateVisitor()
+      {
+        @Override
+        public void visit(Index index, ByteString key, EntryIDSet deletedIDs, EntryIDSet addedIDs)
+        {
+          if (indexes.contains(index))
+          {
+            ((DefaultIndex) index).build(txn, key, deletedIDs, addedIDs);
+          }
+        }
+      });
+    }
+  }
+
+  private final EntryContainer entryContainer;
+  private final Storage storage;
+  private final ID2Entry id2entry;
+  private final AttributeIndex attributeIndex;
+  /** The indexes being built, the untrusted indexes of the attribute index. */
+  private final Set<Index> indexes = new HashSet<>();
+  /** The updates of the indexes captured from the write operations, in the order they were committed. */
+  private final Queue<Update> log = new ConcurrentLinkedQueue<>();
+  private final AtomicLong logSize = new AtomicLong();
+  private volatile boolean cancelled;
+  private volatile boolean built;
+  private volatile Exception failure;
+  private Future<?> future;
+
+  /**
+   * Creates a builder of the untrusted indexes of an attribute index.
+   *
+   * @param entryContainer
+   *          the entry container of the attribute index
+   * @param storage
+   *          the storage of the entry container
+   * @param attributeIndex
+   *          the attribute index, opened
+   */
+  OnlineIndexBuilder(EntryContainer entryContainer, Storage storage, AttributeIndex attributeIndex)
+  {
+    this.entryContainer = entryContainer;
+    this.storage = storage;
+    this.id2entry = entryContainer.getID2Entry();
+    this.attributeIndex = attributeIndex;
+    for (Index index : attributeIndex.getNameToIndexes().values())
+    {
+      if (!index.isTrusted())
+      {
+        indexes.add(index);
+      }
+    }
+  }
+
+  AttributeIndex getAttributeIndex()
+  {
+    return attributeIndex;
+  }
+
+  /** Starts building the indexes in the background. */
+  void start()
+  {
+    future = Builders.EXECUTOR.submit(this);
+  }
+
+  /**
+   * Waits until the indexes are built and trusted.
+   *
+   * @throws InterruptedException
+   *           if the build has been cancelled, or if the wait has been interrupted
+   * @throws ExecutionException
+   *           if the build has failed
+   */
+  void await() throws InterruptedException, ExecutionException
+  {
+    future.get();
+    if (failure != null)
+    {
+      throw new ExecutionException(failure);
+    }
+    if (!built)
+    {
+      throw new InterruptedException("Online index build canceled.");
+    }
+  }
+
+  /**
+   * Stops building the indexes, which remain untrusted. Must be called while holding the exclusive lock of the entry
+   * container, so that no batch is being written.
+   */
+  void cancel()
+  {
+    cancelled = true;
+  }
+
+  /**
+   * Captures the updates of the indexes being built made by a write operation. Must be called once the write
+   * operation has been committed, and before the lock of the written entry is released, so that the updates of an
+   * entry are logged in the order they were committed.
+   *
+   * @param buffer
+   *          the index buffer of the write operation
+   */
+  void capture(IndexBuffer buffer)
+  {
+    buffer.visitUpdates(new IndexBuffer.UpdateVisitor()
+    {
+      @Override
+      public void visit(Index index, ByteString key, EntryIDSet deletedIDs, EntryIDSet addedIDs)
+      {
+        if (indexes.contains(index))
+        {
+          log.add(new Update((DefaultIndex) index, key, deletedIDs, addedIDs));
+          logSize.incrementAndGet();
+        }
+      }
+    });
+  }
+
+  @Override
+  public void run()
+  {
+    final long startTime = System.currentTimeMillis();
+    try
+    {
+      final long nbEntries = scan();
+      while (!cancelled && logSize.get() > BATCH_SIZE)
+      {
+        replay(BATCH_SIZE, false);
+      }
+      if (replay(Integer.MAX_VALUE, true))
+      {
+        built = true;
+        logger.info(NOTE_INDEX_ONLINE_BUILD_COMPLETED, attributeIndex.getName(), nbEntries,
+            (System.currentTimeMillis() - startTime) / 1000);
+      }
+    }
+    catch (Exception e)
+    {
+      logger.traceException(e);
+      if (!cancelled)
+      {
+        failure = e;
+        logger.error(ERR_INDEX_ONLINE_BUILD_FAILED, attributeIndex.getName(), stackTraceToSingleLineString(e));
+      }
+    }
+    finally
+    {
+      entryContainer.removeOnlineIndexBuilder(this);
+    }
+  }
+
+  /** Scans all the entries at the configured rate, and returns the number of scanned entries. */
+  private long scan() throws Exception
+  {
+    long nbEntries = 0;
+    long nextID = 0;
+    while (nextID >= 0)
+    {
+      final long batchStart = System.nanoTime();
+      final ScanBatch batch = new ScanBatch(nextID);
+      if (!write(batch))
+      {
+        break;
+      }
+      nextID = batch.nextID;
+      nbEntries += batch.nbEntries;
+      if (ENTRIES_PER_SECOND > 0)
+      {
+        final long remainingNanos =
+            TimeUnit.SECONDS.toNanos(batch.nbEntries) / ENTRIES_PER_SECOND - (System.nanoTime() - batchStart);
+        if (remainingNanos > 0)
+        {
+          TimeUnit.NANOSECONDS.sleep(remainingNanos);
+        }
+      }
+    }
+    return nbEntries;
+  }
+
+  /**
+   * Replays the oldest logged updates in order. The last ones are replayed under the exclusive lock, in the
+   * transaction making the indexes trusted.
+   *
+   * @return {@code false} if the build has been cancelled
+   */
+  private boolean replay(final int maxUpdates, final boolean complete) throws Exception
+  {
+    final Lock lock = complete ? entryContainer.exclusiveLock : entryContainer.sharedLock;
+    lock.lock();
+    try
+    {
+      if (cancelled)
+      {
+        return false;
+      }
+      final List<Update> updates = new ArrayList<>();
+      for (Update update = log.poll(); update != null; update = updates.size() < maxUpdates ? log.poll() : null)
+      {
+        updates.add(update);
+      }
+      logSize.addAndGet(-updates.size());
+      storage.write(new WriteOperation()
+      {
+        @Override
+        public void run(WriteableTransaction txn) throws Exception
+        {
+          for (Update update : updates)
+          {
+            update.index.build(txn, update.key, update.deletedIDs, update.addedIDs);
+          }
+          if (complete)
+          {
+            for (Index index : indexes)
+            {
+              index.setTrusted(txn, true);
+            }
+          }
+        }
+      });
+      return true;
+    }
+    finally
+    {
+      lock.unlock();
+    }
+  }
+
+  /** Writes a batch of scanned entries while holding the shared lock, so that the build is not cancelled meanwhile. */
+  private boolean write(ScanBatch batch) throws Exception
+  {
+    entryContainer.sharedLock.lock();
+    try
+    {
+      if (cancelled)
+      {
+        return false;
+      }
+      storage.write(batch);
+      return true;
+    }
+    finally
+    {
+      entryContainer.sharedLock.unlock();
+    }
+  }
+}
@@ -13,9 +13,13 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2011-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
+import static java.util.concurrent.TimeUnit.*;
+
+import static org.forgerock.util.Utils.*;
 import static org.opends.messages.BackendMessages.*;
 import static org.opends.server.util.StaticUtils.*;
 
@@ -26,6 +30,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.forgerock.i18n.LocalizableMessage;
@@ -82,6 +88,9 @@ public class RootContainer implements ConfigurationChangeListener<PluggableBacke
 
   private final ServerContext serverContext;
 
+  /** The threads decoding the candidate entries of the indexed searches, created by the first search needing them. */
+  private volatile ThreadPoolExecutor searchPrefetchExecutor;
+
   /**
    * Creates a new RootContainer object representing a storage.
    *
@@ -333,6 +342,14 @@ public class RootContainer implements ConfigurationChangeListener<PluggableBacke
       }
     }
     config.removePluggableChangeListener(this);
+    synchronized (this)
+    {
+      if (searchPrefetchExecutor != null)
+      {
+        searchPrefetchExecutor.shutdown();
+        searchPrefetchExecutor = null;
+      }
+    }
     if (storage != null)
     {
       storage.close();
@@ -432,6 +449,42 @@ public class RootContainer implements ConfigurationChangeListener<PluggableBacke
     return new EntryID(nextEntryID.getAndIncrement());
   }
 
+  /**
+   * Returns the threads of this backend which decode and match the candidate entries ahead of the indexed searches.
+   *
+   * @return the threads, or {@code null} if the candidate entries are decoded by the thread of the search
+   */
+  ThreadPoolExecutor getSearchPrefetchExecutor()
+  {
+    final int nbThreads = getSearchPrefetchThreads(config);
+    if (nbThreads == 0)
+    {
+      return null;
+    }
+    ThreadPoolExecutor executor = searchPrefetchExecutor;
+    if (executor == null)
+    {
+      synchronized (this)
+      {
+        executor = searchPrefetchExecutor;
+        if (executor == null)
+        {
+          executor = new ThreadPoolExecutor(nbThreads, nbThreads, 60, SECONDS, new LinkedBlockingQueue<Runnable>(),
+              newThreadFactory(null, "SEARCH-PREFETCHER-" + backendId.replace("%", "%%") + "-%d", true));
+          executor.allowCoreThreadTimeOut(true);
+          searchPrefetchExecutor = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  private static int getSearchPrefetchThreads(PluggableBackendCfg config)
+  {
+    final Integer nbThreads = config.getSearchPrefetchThreads();
+    return nbThreads != null ? nbThreads : Math.min(4, Runtime.getRuntime().availableProcessors());
+  }
+
   /** Resets the next entry ID counter to zero. This should only be used after clearing all trees. */
   public void resetNextEntryID()
   {
@@ -452,6 +505,21 @@ public class RootContainer implements ConfigurationChangeListener<PluggableBacke
     config = configuration;
     getMonitorProvider().enableFilterUseStats(config.isIndexFilterAnalyzerEnabled());
     getMonitorProvider().setMaxEntries(config.getIndexFilterAnalyzerMaxFilters());
+    final int nbThreads = getSearchPrefetchThreads(config);
+    synchronized (this)
+    {
+      final ThreadPoolExecutor executor = searchPrefetchExecutor;
+      if (executor != null && nbThreads > executor.getMaximumPoolSize())
+      {
+        executor.setMaximumPoolSize(nbThreads);
+        executor.setCorePoolSize(nbThreads);
+      }
+      else if (executor != null && nbThreads > 0)
+      {
+        executor.setCorePoolSize(nbThreads);
+        executor.setMaximumPoolSize(nbThreads);
+      }
+    }
 
     return new ConfigChangeResult();
   }
@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2008 Sun Microsystems, Inc.
  * Portions copyright 2011-2015 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -23,9 +24,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.forgerock.opendj.ldap.ByteSequence;
+import org.forgerock.opendj.ldap.ByteSequenceReader;
 import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.ldap.ByteStringBuilder;
+import org.opends.server.backends.pluggable.spi.Cursor;
 import org.opends.server.backends.pluggable.spi.ReadableTransaction;
 import org.opends.server.backends.pluggable.spi.StorageRuntimeException;
 import org.opends.server.backends.pluggable.spi.TreeName;
@@ -55,7 +61,19 @@ class State extends AbstractTree
     TRUSTED(0x01),
 
     /** Use compact encoding for indexes' ID storage. */
-    COMPACTED(0x02);
+    COMPACTED(0x02),
+
+    /**
+     * Use compressed bitmap encoding for indexes' ID storage, set on the indexes created in an empty backend.
+     * @see {@link EntryIDSet.EntryIDSetCodecV4}
+     */
+    BITMAP(0x04),
+
+    /**
+     * The keys of the index holding many IDs are split in segments of consecutive IDs, stored in a companion tree.
+     * @see {@link DefaultIndex}
+     */
+    SEGMENTED(0x08);
 
     static final EnumSet<IndexFlag> ALL_FLAGS = EnumSet.allOf(IndexFlag.class);
 
@@ -76,11 +94,19 @@ class State extends AbstractTree
     super(name);
   }
 
+  /** Separates the name of a tree from the ID of its compression dictionaries, in their keys. */
+  private static final String DICTIONARY_KEY_SEPARATOR = "#dictionary#";
+
   private static ByteString keyForIndex(TreeName indexTreeName) throws StorageRuntimeException
   {
     return ByteString.wrap(StaticUtils.getBytes(indexTreeName.toString()));
   }
 
+  private static ByteString dictionaryKeyPrefix(TreeName treeName)
+  {
+    return ByteString.wrap(StaticUtils.getBytes(treeName.toString() + DICTIONARY_KEY_SEPARATOR));
+  }
+
   /**
    * Fetch index flags from the tree.
    * @param txn The transaction or null if none.
@@ -173,9 +199,123 @@ class State extends AbstractTree
     });
   }
 
+  /**
+   * Ensure that the specified flags are set and the other specified flags are not set for the given index, in a
+   * single update of its record.
+   * @param txn a non null transaction
+   * @param indexTreeName The index storing the trusted state info.
+   * @param flagsToAdd The flags to add to the provided index
+   * @param flagsToRemove The flags to remove from the provided index
+   * @throws NullPointerException if txn, index or flags is null
+   * @throws StorageRuntimeException If an error occurs in the storage.
+   */
+  void updateIndexFlags(WriteableTransaction txn, TreeName indexTreeName, final Collection<IndexFlag> flagsToAdd,
+      final Collection<IndexFlag> flagsToRemove)
+  {
+    checkNotNull(txn, "txn must not be null");
+    checkNotNull(indexTreeName, "indexTreeName must not be null");
+    checkNotNull(flagsToAdd, "flagsToAdd must not be null");
+    checkNotNull(flagsToRemove, "flagsToRemove must not be null");
+
+    txn.update(getName(), keyForIndex(indexTreeName), new UpdateFunction()
+    {
+      @Override
+      public ByteSequence computeNewValue(ByteSequence oldValue)
+      {
+        final EnumSet<IndexFlag> currentFlags = decodeFlagsOrGetDefault(oldValue);
+        currentFlags.removeAll(flagsToRemove);
+        currentFlags.addAll(flagsToAdd);
+        return encodeFlags(currentFlags);
+      }
+    });
+  }
+
+  /**
+   * Fetch the compression dictionaries of a tree.
+   * @param txn a non null transaction
+   * @param treeName The tree compressed with the dictionaries.
+   * @return The dictionaries of the tree by ID, empty if there are none.
+   * @throws NullPointerException if txn or treeName is null
+   * @throws StorageRuntimeException If an error occurs in the storage.
+   */
+  Map<Integer, ByteString> getCompressionDictionaries(ReadableTransaction txn, TreeName treeName)
+  {
+    checkNotNull(txn, "txn must not be null");
+    checkNotNull(treeName, "treeName must not be null");
+
+    final ByteString prefix = dictionaryKeyPrefix(treeName);
+    final Map<Integer, ByteString> dictionaries = new TreeMap<>();
+    try (final Cursor<ByteString, ByteString> cursor = txn.openCursor(getName()))
+    {
+      for (boolean found = cursor.positionToKeyOrNext(prefix); found && cursor.getKey().startsWith(prefix);
+          found = cursor.next())
+      {
+        final ByteSequenceReader key = cursor.getKey().asReader();
+        key.skip(prefix.length());
+        dictionaries.put(key.readInt(), cursor.getValue());
+      }
+    }
+    return dictionaries;
+  }
+
+  /**
+   * Store a compression dictionary of a tree.
+   * @param txn a non null transaction
+   * @param treeName The tree compressed with the dictionary.
+   * @param dictionaryID The ID of the dictionary, referenced by the compressed records.
+   * @param dictionary The dictionary.
+   * @throws NullPointerException if txn, treeName or dictionary is null
+   * @throws StorageRuntimeException If an error occurs in the storage.
+   */
+  void putCompressionDictionary(WriteableTransaction txn, TreeName treeName, int dictionaryID,
+      ByteSequence dictionary)
+  {
+    checkNotNull(txn, "txn must not be null");
+    checkNotNull(treeName, "treeName must not be null");
+    checkNotNull(dictionary, "dictionary must not be null");
+
+    final ByteStringBuilder key = new ByteStringBuilder().appendBytes(dictionaryKeyPrefix(treeName));
+    txn.put(getName(), key.appendInt(dictionaryID), dictionary);
+  }
+
+  /**
+   * Delete a compression dictionary of a tree, which no record references anymore.
+   * @param txn a non null transaction
+   * @param treeName The tree compressed with the dictionary.
+   * @param dictionaryID The ID of the dictionary.
+   * @return true if the dictionary was deleted, false if it was not.
+   * @throws NullPointerException if txn or treeName is null
+   * @throws StorageRuntimeException If an error occurs in the storage.
+   */
+  boolean deleteCompressionDictionary(WriteableTransaction txn, TreeName treeName, int dictionaryID)
+  {
+    checkNotNull(txn, "txn must not be null");
+    checkNotNull(treeName, "treeName must not be null");
+
+    final ByteStringBuilder key = new ByteStringBuilder().appendBytes(dictionaryKeyPrefix(treeName));
+    return txn.delete(getName(), key.appendInt(dictionaryID));
+  }
+
+  @Override
+  public String keyToString(ByteString key)
+  {
+    final ByteString separator = ByteString.valueOfUtf8(DICTIONARY_KEY_SEPARATOR);
+    final int idOffset = key.length() - 4;
+    if (idOffset >= separator.length() && key.subSequence(idOffset - separator.length(), idOffset).equals(separator))
+    {
+      return key.subSequence(0, idOffset).toString() + key.subSequence(idOffset, key.length()).toInt();
+    }
+    return key.toString();
+  }
+
   @Override
   public String valueToString(ByteString value)
   {
+    // The index flags fit in a single byte, unlike the compression dictionaries
+    if (value.length() > 1)
+    {
+      return "compression dictionary of " + value.length() + " bytes";
+    }
     return joinAsString(" ", decodeFlagsOrGetDefault(value));
   }
 
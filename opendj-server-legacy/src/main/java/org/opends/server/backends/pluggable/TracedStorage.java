@@ -12,6 +12,7 @@
  * information: "Portions Copyright [year] [name of copyright owner]".
  *
  * Copyright 2015 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -22,6 +23,7 @@ import org.forgerock.i18n.slf4j.LocalizedLogger;
 import org.forgerock.opendj.config.server.ConfigException;
 import org.forgerock.opendj.ldap.ByteSequence;
 import org.forgerock.opendj.ldap.ByteString;
+import org.opends.server.api.MonitorData;
 import org.opends.server.backends.pluggable.spi.AccessMode;
 import org.opends.server.backends.pluggable.spi.Cursor;
 import org.opends.server.backends.pluggable.spi.Importer;
@@ -570,6 +572,12 @@ final class TracedStorage implements Storage
     return results;
   }
 
+  @Override
+  public void addMonitorData(MonitorData monitorData)
+  {
+    storage.addMonitorData(monitorData);
+  }
+
   private static String hex(final ByteSequence bytes)
   {
     return bytes != null ? bytes.toByteString().toASCIIString() : null;
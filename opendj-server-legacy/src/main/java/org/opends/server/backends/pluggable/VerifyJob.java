@@ -13,9 +13,11 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2011-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
+import static org.forgerock.util.Utils.*;
 import static org.opends.messages.BackendMessages.*;
 import static org.opends.server.backends.pluggable.DnKeyFormat.*;
 import static org.opends.server.backends.pluggable.SuffixContainer.*;
@@ -36,7 +38,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.forgerock.i18n.slf4j.LocalizedLogger;
 import org.forgerock.opendj.ldap.ByteSequence;
@@ -58,11 +66,25 @@ import org.opends.server.types.Entry;
 import org.opends.server.util.ServerConstants;
 import org.opends.server.util.StaticUtils;
 
-/** This class is used to run an index verification process on the backend. */
+/**
+ * This class is used to run an index verification process on the backend.
+ * <p>
+ * The verification is shared by {@link #THREAD_COUNT} verify threads, each one reading in its own read transaction:
+ * id2entry is split in ranges of {@link #RANGE_SIZE} entry IDs whose entries are checked against dn2id and the
+ * indexes concurrently, and the indexes of an attribute are checked for cleanliness concurrently. The verification
+ * of dn2id cleanliness walks dn2id in order on the thread of the job, since it counts the children of the entries
+ * on the way.
+ */
 class VerifyJob
 {
   private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
 
+  /** Number of threads verifying the backend, 0 to verify it on the thread of the job. */
+  static final int THREAD_COUNT = Integer.getInteger("org.openidentityplatform.opendj.verify.threads",
+      Math.min(8, Runtime.getRuntime().availableProcessors()));
+  /** Number of entry IDs of a range of id2entry verified by a task. */
+  private static final long RANGE_SIZE = 10000;
+
   /** The verify configuration. */
   private final VerifyConfig verifyConfig;
   /** The root container used for the verify job. */
@@ -71,9 +93,9 @@ class VerifyJob
   /** The number of milliseconds between job progress reports. */
   private final long progressInterval = 10000;
   /** The number of index keys processed. */
-  private long keyCount;
+  private final AtomicLong keyCount = new AtomicLong();
   /** The number of errors found. */
-  private long errorCount;
+  private final AtomicLong errorCount = new AtomicLong();
   /** The number of records that have exceeded the entry limit. */
   private long entryLimitExceededCount;
   /** The number of records that reference more than one entry. */
@@ -103,6 +125,17 @@ class VerifyJob
   /** A list of the VLV indexes to be verified. */
   private final ArrayList<VLVIndex> vlvIndexList = new ArrayList<>();
 
+  /** The entry container to verify. */
+  private EntryContainer entryContainer;
+  /** Runs the verify tasks, or null if they are run on the thread of the job. */
+  private ExecutorService executor;
+
+  /** Verifies a part of the backend. */
+  private interface VerifyTask
+  {
+    void verify(ReadableTransaction txn) throws StorageRuntimeException;
+  }
+
   /**
    * Construct a VerifyJob.
    *
@@ -148,7 +181,7 @@ class VerifyJob
 
   private long verifyBackend0(ReadableTransaction txn) throws StorageRuntimeException, DirectoryException
   {
-    EntryContainer entryContainer = rootContainer.getEntryContainer(verifyConfig.getBaseDN());
+    entryContainer = rootContainer.getEntryContainer(verifyConfig.getBaseDN());
 
     entryContainer.sharedLock.lock();
     try
@@ -243,6 +276,10 @@ class VerifyJob
       Timer timer = new Timer();
       TimerTask progressTask = new ProgressTask(cleanMode, txn);
       timer.scheduleAtFixedRate(progressTask, progressInterval, progressInterval);
+      if (THREAD_COUNT > 0)
+      {
+        executor = Executors.newFixedThreadPool(THREAD_COUNT, newThreadFactory(null, "VERIFY-INDEX-%d", true));
+      }
 
       // Iterate through the index keys.
       try
@@ -265,6 +302,10 @@ class VerifyJob
       finally
       {
         timer.cancel();
+        if (executor != null)
+        {
+          executor.shutdownNow();
+        }
       }
 
       long finishTime = System.currentTimeMillis();
@@ -273,19 +314,19 @@ class VerifyJob
       float rate = 0;
       if (totalTime > 0)
       {
-        rate = 1000f*keyCount / totalTime;
+        rate = 1000f*keyCount.get() / totalTime;
       }
 
       if (cleanMode)
       {
-        logger.info(NOTE_VERIFY_CLEAN_FINAL_STATUS, keyCount, errorCount, totalTime/1000, rate);
+        logger.info(NOTE_VERIFY_CLEAN_FINAL_STATUS, keyCount.get(), errorCount.get(), totalTime/1000, rate);
 
         if (multiReferenceCount > 0)
         {
           float averageEntryReferences = 0;
-          if (keyCount > 0)
+          if (keyCount.get() > 0)
           {
-            averageEntryReferences = entryReferencesCount/keyCount;
+            averageEntryReferences = entryReferencesCount/keyCount.get();
           }
 
           if (logger.isDebugEnabled())
@@ -299,7 +340,7 @@ class VerifyJob
       }
       else
       {
-        logger.info(NOTE_VERIFY_FINAL_STATUS, keyCount, errorCount, totalTime/1000, rate);
+        logger.info(NOTE_VERIFY_FINAL_STATUS, keyCount.get(), errorCount.get(), totalTime/1000, rate);
         if (!entryLimitMap.isEmpty())
         {
           logger.debug(INFO_VERIFY_ENTRY_LIMIT_STATS_HEADER);
@@ -333,7 +374,7 @@ class VerifyJob
     {
       entryContainer.sharedLock.unlock();
     }
-    return errorCount;
+    return errorCount.get();
   }
 
   /**
@@ -344,11 +385,115 @@ class VerifyJob
    * @throws StorageRuntimeException If an error occurs in the storage.
    */
   private void iterateID2Entry(ReadableTransaction txn) throws StorageRuntimeException
+  {
+    long storedEntryCount = id2entry.getRecordCount(txn);
+    long highestID = entryContainer.getHighestEntryID(txn).longValue();
+    List<VerifyTask> tasks = new ArrayList<>();
+    for (long lowID = 0; lowID <= highestID; lowID += RANGE_SIZE)
+    {
+      // The first and last ranges are open, so that the malformed keys are verified too
+      final long highID = lowID + RANGE_SIZE;
+      final ByteString lowKey = lowID > 0 ? new EntryID(lowID).toByteString() : null;
+      final ByteString highKey = highID <= highestID ? new EntryID(highID).toByteString() : null;
+      tasks.add(new VerifyTask()
+      {
+        @Override
+        public void verify(ReadableTransaction txn)
+        {
+          iterateID2Entry(txn, lowKey, highKey);
+        }
+      });
+    }
+    runTasks(txn, tasks);
+
+    if (keyCount.get() != storedEntryCount)
+    {
+      errorCount.incrementAndGet();
+      logger.error(ERR_VERIFY_WRONG_ENTRY_COUNT, storedEntryCount, keyCount.get());
+    }
+  }
+
+  /**
+   * Runs the provided tasks on the verify threads, each one in its own read transaction, or on the thread of the job
+   * in the provided transaction when there are no verify threads.
+   *
+   * @throws StorageRuntimeException If an error occurs in the storage.
+   */
+  private void runTasks(ReadableTransaction txn, List<VerifyTask> tasks) throws StorageRuntimeException
+  {
+    if (executor == null)
+    {
+      for (VerifyTask task : tasks)
+      {
+        task.verify(txn);
+      }
+      return;
+    }
+
+    final List<Future<Void>> futures = new ArrayList<>(tasks.size());
+    for (final VerifyTask task : tasks)
+    {
+      futures.add(executor.submit(new Callable<Void>()
+      {
+        @Override
+        public Void call() throws Exception
+        {
+          return rootContainer.getStorage().read(new ReadOperation<Void>()
+          {
+            @Override
+            public Void run(ReadableTransaction txn) throws Exception
+            {
+              task.verify(txn);
+              return null;
+            }
+          });
+        }
+      }));
+    }
+    try
+    {
+      for (Future<Void> future : futures)
+      {
+        future.get();
+      }
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new StorageRuntimeException(e);
+    }
+    catch (ExecutionException e)
+    {
+      if (e.getCause() instanceof StorageRuntimeException)
+      {
+        throw (StorageRuntimeException) e.getCause();
+      }
+      throw new StorageRuntimeException(e.getCause());
+    }
+    finally
+    {
+      for (Future<Void> future : futures)
+      {
+        future.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Verifies the entries of a range of id2entry.
+   *
+   * @param lowKey The first key of the range, or null to start from the first key of id2entry.
+   * @param highKey The key following the range, or null to verify up to the last key of id2entry.
+   * @throws StorageRuntimeException If an error occurs in the storage.
+   */
+  private void iterateID2Entry(ReadableTransaction txn, ByteString lowKey, ByteString highKey)
+      throws StorageRuntimeException
   {
     try(final Cursor<ByteString, ByteString> cursor = txn.openCursor(id2entry.getName()))
     {
-      long storedEntryCount = id2entry.getRecordCount(txn);
-      while (cursor.next())
+      for (boolean found = lowKey != null ? cursor.positionToKeyOrNext(lowKey) : cursor.next();
+          found && (highKey == null || cursor.getKey().compareTo(highKey) < 0);
+          found = cursor.next())
       {
         ByteString key = cursor.getKey();
         ByteString value = cursor.getValue();
@@ -360,7 +505,7 @@ class VerifyJob
         }
         catch (Exception e)
         {
-          errorCount++;
+          errorCount.incrementAndGet();
           if (logger.isTraceEnabled())
           {
             logger.traceException(e);
@@ -370,7 +515,7 @@ class VerifyJob
           continue;
         }
 
-        keyCount++;
+        keyCount.incrementAndGet();
 
         Entry entry;
         try
@@ -379,7 +524,7 @@ class VerifyJob
         }
         catch (Exception e)
         {
-          errorCount++;
+          errorCount.incrementAndGet();
           if (logger.isTraceEnabled())
           {
             logger.traceException(e);
@@ -391,11 +536,6 @@ class VerifyJob
 
         verifyEntry(txn, entryID, entry);
       }
-      if (keyCount != storedEntryCount)
-      {
-        errorCount++;
-        logger.error(ERR_VERIFY_WRONG_ENTRY_COUNT, storedEntryCount, keyCount);
-      }
     }
   }
 
@@ -420,10 +560,19 @@ class VerifyJob
     else if (!attrIndexList.isEmpty())
     {
       AttributeIndex attrIndex = attrIndexList.get(0);
-      for (MatchingRuleIndex index : attrIndex.getNameToIndexes().values())
+      List<VerifyTask> tasks = new ArrayList<>();
+      for (final MatchingRuleIndex index : attrIndex.getNameToIndexes().values())
       {
-        iterateAttrIndex(txn, index);
+        tasks.add(new VerifyTask()
+        {
+          @Override
+          public void verify(ReadableTransaction txn)
+          {
+            iterateAttrIndex(txn, index);
+          }
+        });
       }
+      runTasks(txn, tasks);
     }
     else if (!vlvIndexList.isEmpty())
     {
@@ -446,7 +595,7 @@ class VerifyJob
     {
       while (cursor.next())
       {
-        keyCount++;
+        keyCount.incrementAndGet();
 
         final ByteString key = cursor.getKey();
         final EntryID entryID;
@@ -456,7 +605,7 @@ class VerifyJob
         }
         catch (Exception e)
         {
-          errorCount++;
+          errorCount.incrementAndGet();
           logger.trace("File dn2id has malformed ID for DN <%s>", key, e);
           continue;
         }
@@ -470,19 +619,19 @@ class VerifyJob
         }
         catch (Exception e)
         {
-          errorCount++;
+          errorCount.incrementAndGet();
           logger.traceException(e);
           continue;
         }
 
         if (entry == null)
         {
-          errorCount++;
+          errorCount.incrementAndGet();
           logger.error(ERR_VERIFY_DN2ID_UNKNOWN_ID, key, entryID.longValue());
         }
         else if (!key.equals(dnToDNKey(entry.getName(), verifyConfig.getBaseDN().size())))
         {
-          errorCount++;
+          errorCount.incrementAndGet();
           logger.error(ERR_VERIFY_DN2ID_WRONG_ENTRY, key, entry.getName());
         }
       }
@@ -518,7 +667,7 @@ class VerifyJob
     final long currentValue = id2childrenCount.getCount(txn, parent.entryID);
     if (expected != currentValue)
     {
-      errorCount++;
+      errorCount.incrementAndGet();
       logger.error(ERR_VERIFY_ID2COUNT_WRONG_COUNT, parent.baseDN, currentValue, expected);
     }
   }
@@ -533,7 +682,7 @@ class VerifyJob
         if (!id2entry.containsEntryID(txn, entryID))
         {
           logger.error(ERR_VERIFY_ID2COUNT_WRONG_ID, entryID.longValue());
-          errorCount++;
+          errorCount.incrementAndGet();
         }
       }
     }
@@ -547,7 +696,7 @@ class VerifyJob
    * @param index The index containing the key.
    * @param key A key that has exceeded the entry limit.
    */
-  private void incrEntryLimitStats(Index index, ByteString key)
+  private synchronized void incrEntryLimitStats(Index index, ByteString key)
   {
     HashMap<ByteString,Long> hashMap = entryLimitMap.get(index);
     if (hashMap == null)
@@ -572,7 +721,7 @@ class VerifyJob
    *
    * @param entryIDSet The set of entry IDs for the index record.
    */
-  private void updateIndexStats(EntryIDSet entryIDSet)
+  private synchronized void updateIndexStats(EntryIDSet entryIDSet)
   {
     if (!entryIDSet.isDefined())
     {
@@ -621,13 +770,13 @@ class VerifyJob
         catch (Exception e)
         {
           logger.traceException(e);
-          errorCount++;
+          errorCount.incrementAndGet();
           continue;
         }
 
         if (entry == null)
         {
-          errorCount++;
+          errorCount.incrementAndGet();
           logger.error(ERR_VERIFY_UNKNOWN_ID, id, keyDump(vlvIndex, key));
           continue;
         }
@@ -635,7 +784,7 @@ class VerifyJob
         ByteString expectedKey = vlvIndex.toKey(entry, id);
         if (expectedKey.compareTo(key) != 0)
         {
-          errorCount++;
+          errorCount.incrementAndGet();
           logger.error(ERR_VERIFY_ENTRY_NON_MATCHING_KEY, id, keyDump(vlvIndex, expectedKey));
         }
       }
@@ -659,7 +808,7 @@ class VerifyJob
     {
       while (cursor.next())
       {
-        keyCount++;
+        keyCount.incrementAndGet();
 
         final ByteString key = cursor.getKey();
 
@@ -669,13 +818,13 @@ class VerifyJob
           entryIDSet = cursor.getValue();
           if (entryIDSet.size() == 0)
           {
-            errorCount++;
+            errorCount.incrementAndGet();
             logger.error(ERR_VERIFY_EMPTY_IDSET, keyDump(index, key));
           }
         }
         catch (Exception e)
         {
-          errorCount++;
+          errorCount.incrementAndGet();
           logger.traceException(e);
           logger.trace("Malformed ID list: %n%s", keyDump(index, key));
           continue;
@@ -703,13 +852,13 @@ class VerifyJob
             catch (Exception e)
             {
               logger.traceException(e);
-              errorCount++;
+              errorCount.incrementAndGet();
               continue;
             }
 
             if (entry == null)
             {
-              errorCount++;
+              errorCount.incrementAndGet();
               logger.error(ERR_VERIFY_UNKNOWN_REFERENCE, id.longValue(), keyDump(index, key));
               continue;
             }
@@ -758,7 +907,7 @@ class VerifyJob
 
             if (!foundMatchingKey.get())
             {
-              errorCount++;
+              errorCount.incrementAndGet();
               logger.error(ERR_VERIFY_UNEXPECTED_REFERENCE, entry.getName(), keyDump(index, key));
             }
           }
@@ -799,12 +948,12 @@ class VerifyJob
       if (id == null)
       {
         logger.error(ERR_VERIFY_DN2ID_MISSING_KEY, dn);
-        errorCount++;
+        errorCount.incrementAndGet();
       }
       else if (!id.equals(entryID))
       {
         logger.error(ERR_VERIFY_DN2ID_WRONG_ID, id.longValue(), entryID.longValue(), dn);
-        errorCount++;
+        errorCount.incrementAndGet();
       }
     }
     catch (Exception e)
@@ -814,7 +963,7 @@ class VerifyJob
         logger.traceException(e);
         logger.trace("File dn2id has error reading key %s: %s.%n", dn, e.getMessage());
       }
-      errorCount++;
+      errorCount.incrementAndGet();
     }
 
     // Check the parent DN is in dn2id.
@@ -827,7 +976,7 @@ class VerifyJob
         if (id == null)
         {
           logger.error(ERR_VERIFY_DN2ID_MISSING_KEY, parentDN);
-          errorCount++;
+          errorCount.incrementAndGet();
         }
       }
       catch (Exception e)
@@ -837,7 +986,7 @@ class VerifyJob
           logger.traceException(e);
           logger.trace("File dn2id has error reading key %s: %s.%n", parentDN, e.getMessage());
         }
-        errorCount++;
+        errorCount.incrementAndGet();
       }
     }
   }
@@ -882,7 +1031,7 @@ class VerifyJob
         if (vlvIndex.verifyEntry(txn, entryID, entry))
         {
           logger.error(ERR_VERIFY_MISSING_ENTRY_VLV, entry.getName(), vlvIndex.getName());
-          errorCount++;
+          errorCount.incrementAndGet();
         }
       }
       catch (DirectoryException e)
@@ -893,7 +1042,7 @@ class VerifyJob
           logger.trace("Error checking entry %s against filter or base DN for VLV index %s: %s",
                      entry.getName(), vlvIndex.getName(), e.getMessageObject());
         }
-        errorCount++;
+        errorCount.incrementAndGet();
       }
       catch (StorageRuntimeException e)
       {
@@ -903,7 +1052,7 @@ class VerifyJob
           logger.trace("Error reading VLV index %s for entry %s: %s",
               vlvIndex.getName(), entry.getName(), StaticUtils.getBacktrace(e));
         }
-        errorCount++;
+        errorCount.incrementAndGet();
       }
     }
   }
@@ -929,7 +1078,7 @@ class VerifyJob
       if (cr == ConditionResult.FALSE)
       {
         logger.error(ERR_VERIFY_MISSING_ID, entryID.longValue(), keyDump(index, key));
-        errorCount++;
+        errorCount.incrementAndGet();
       }
       else if (cr == ConditionResult.UNDEFINED)
       {
@@ -944,7 +1093,7 @@ class VerifyJob
 
         logger.trace("Error reading tree: %s%n%s", e.getMessage(), keyDump(index, key));
       }
-      errorCount++;
+      errorCount.incrementAndGet();
     }
   }
 
@@ -1048,7 +1197,7 @@ class VerifyJob
     @Override
     public void run()
     {
-      long latestCount = keyCount;
+      long latestCount = keyCount.get();
       long deltaCount = latestCount - previousCount;
       long latestTime = System.currentTimeMillis();
       long deltaTime = latestTime - previousTime;
@@ -1060,7 +1209,7 @@ class VerifyJob
 
       float rate = 1000f*deltaCount / deltaTime;
 
-      logger.info(NOTE_VERIFY_PROGRESS_REPORT, latestCount, totalCount, errorCount, rate);
+      logger.info(NOTE_VERIFY_PROGRESS_REPORT, latestCount, totalCount, errorCount.get(), rate);
 
       try
       {
@@ -12,6 +12,7 @@
  * information: "Portions Copyright [year] [name of copyright owner]".
  *
  * Copyright 2014-2015 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable.spi;
 
@@ -19,6 +20,7 @@ import java.io.Closeable;
 import java.util.Set;
 
 import org.forgerock.opendj.config.server.ConfigException;
+import org.opends.server.api.MonitorData;
 import org.opends.server.types.BackupConfig;
 import org.opends.server.types.BackupDirectory;
 import org.opends.server.types.DirectoryException;
@@ -141,6 +143,17 @@ public interface Storage extends Closeable
    */
   Set<TreeName> listTrees();
 
+  /**
+   * Adds the statistics of this storage to the monitor data of the backend, if any.
+   *
+   * @param monitorData
+   *          the monitor data of the backend
+   */
+  default void addMonitorData(MonitorData monitorData)
+  {
+    // no statistics by default
+  }
+
   @Override
   void close();
 }
@@ -12,6 +12,7 @@
  * information: "Portions Copyright [year] [name of copyright owner]".
  *
  * Copyright 2013-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.core;
 
@@ -84,7 +85,7 @@ public class BoundedWorkQueueStrategy implements QueueingStrategy
       }
     }
     else if (nbRunningOperations.getAndIncrement() > maxNbConcurrentOperations
-        || !tryEnqueueRequest(wrap(operation)))
+        || !tryEnqueueWrappedRequest(operation))
     { // avoid potential deadlocks by running in the current thread
       try
       {
@@ -115,6 +116,20 @@ public class BoundedWorkQueueStrategy implements QueueingStrategy
     return DirectoryServer.tryEnqueueRequest(op);
   }
 
+  private boolean tryEnqueueWrappedRequest(Operation operation) throws DirectoryException
+  {
+    try
+    {
+      return tryEnqueueRequest(wrap(operation));
+    }
+    catch (DirectoryException e)
+    {
+      // The wrapper will never run, so it will not decrement the number of running operations.
+      nbRunningOperations.decrementAndGet();
+      throw e;
+    }
+  }
+
   private Operation wrap(final Operation operation)
   {
     if (operation instanceof AbandonOperation)
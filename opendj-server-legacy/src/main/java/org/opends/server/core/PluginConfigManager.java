@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2011-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.core;
 
@@ -1676,6 +1677,18 @@ public class PluginConfigManager
     }
   }
 
+  /**
+   * Indicates whether LDIF export plugins have been configured in the
+   * Directory Server.
+   *
+   * @return  {@code true} if at least one LDIF export plugin has been
+   *          configured, or {@code false} if not.
+   */
+  public boolean hasLDIFExportPlugins()
+  {
+    return ldifExportPlugins.length > 0;
+  }
+
   /**
    * Invokes the set of LDIF export plugins that have been configured in the
    * Directory Server.
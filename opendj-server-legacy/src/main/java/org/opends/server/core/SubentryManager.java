@@ -13,6 +13,7 @@
  *
  * Copyright 2009-2010 Sun Microsystems, Inc.
  * Portions Copyright 2011-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.core;
 
@@ -530,6 +531,24 @@ public class SubentryManager extends InternalDirectoryServerPlugin
     return getSubentries(dn2CollectiveSubEntry, entry);
   }
 
+  /**
+   * Returns whether there are any collective subentries, which
+   * may add collective attributes to any entry.
+   * @return {@code true} if there are collective subentries.
+   */
+  public boolean hasCollectiveSubentries()
+  {
+    lock.readLock().lock();
+    try
+    {
+      return !dn2CollectiveSubEntry.isEmpty();
+    }
+    finally
+    {
+      lock.readLock().unlock();
+    }
+  }
+
   /**
    * {@inheritDoc}  In this case, the server will de-register
    * all subentries associated with the provided backend.
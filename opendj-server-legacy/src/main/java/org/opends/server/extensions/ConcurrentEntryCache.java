@@ -0,0 +1,714 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.extensions;
+
+import static org.opends.messages.ExtensionMessages.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.forgerock.i18n.LocalizableMessage;
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+import org.forgerock.opendj.config.server.ConfigChangeResult;
+import org.forgerock.opendj.config.server.ConfigException;
+import org.forgerock.opendj.config.server.ConfigurationChangeListener;
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.ldap.DN;
+import org.forgerock.opendj.server.config.server.ConcurrentEntryCacheCfg;
+import org.forgerock.opendj.server.config.server.EntryCacheCfg;
+import org.forgerock.util.Utils;
+import org.opends.server.api.EntryCache;
+import org.opends.server.api.MonitorData;
+import org.opends.server.core.ServerContext;
+import org.opends.server.types.Attribute;
+import org.opends.server.types.CacheEntry;
+import org.opends.server.types.Entry;
+import org.opends.server.types.InitializationException;
+import org.opends.server.types.SearchFilter;
+import org.opends.server.util.ServerConstants;
+
+/**
+ * This class defines a Directory Server entry cache which can be accessed concurrently, and which keeps the most
+ * frequently used entries within a maximum size.
+ * <p>
+ * The entries are spread by DN over segments, each locked independently and holding its share of the maximum size
+ * and of the maximum number of entries. The size of the cache is the estimated memory size of the cached entries,
+ * see {@link #weigh(Entry)}, rather than the free memory of the JVM.
+ * <p>
+ * Each segment evicts its least recently used entries, but a new entry is only admitted in a full segment if it has
+ * been used more frequently than all the entries it would evict together (TinyLFU admission). The frequencies are
+ * estimated by a {@link FrequencySketch} per segment, which records the reads of entries by DN, whether they are
+ * cached or not, and the entries put in the cache. An entry read only once, such as by a large search, is therefore
+ * not cached when the cache is full, and does not evict the frequently read entries.
+ */
+public class ConcurrentEntryCache
+       extends EntryCache<ConcurrentEntryCacheCfg>
+       implements ConfigurationChangeListener<ConcurrentEntryCacheCfg>
+{
+  private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+  /** The maximum number of segments, enough for the worker threads not to wait for each other. */
+  private static final int MAX_SEGMENTS = Math.min(1024,
+      Integer.highestOneBit(4 * Runtime.getRuntime().availableProcessors() - 1) << 1);
+  /** The smallest share of the maximum number of entries held by a segment. */
+  private static final int MIN_SEGMENT_ENTRIES = 64;
+  /** The smallest share of the maximum size held by a segment. */
+  private static final long MIN_SEGMENT_SIZE = 256 * 1024;
+  /** The estimated average size of an entry, used to size the frequency sketches. */
+  private static final int AVERAGE_ENTRY_SIZE = 2048;
+
+  /** The estimated memory size of an entry, of an attribute and of a value, not counting their contents. */
+  private static final int ENTRY_OVERHEAD = 256;
+  private static final int ATTRIBUTE_OVERHEAD = 96;
+  private static final int VALUE_OVERHEAD = 56;
+
+  /** A cached entry and its estimated size. */
+  private static final class Node
+  {
+    private final CacheEntry cacheEntry;
+    private final long weight;
+
+    private Node(CacheEntry cacheEntry, long weight)
+    {
+      this.cacheEntry = cacheEntry;
+      this.weight = weight;
+    }
+  }
+
+  /** A share of the cache, holding its entries from the least to the most recently used. */
+  private static final class Segment
+  {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<DN, Node> nodes = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long weight;
+
+    private Segment(int expectedEntries)
+    {
+      sketch = new FrequencySketch(expectedEntries);
+    }
+  }
+
+  /** The segments, whose number is a power of 2. */
+  private Segment[] segments;
+  /** The mapping between entry backends/IDs and DNs. */
+  private final ConcurrentMap<String, ConcurrentMap<Long, DN>> idMap = new ConcurrentHashMap<>();
+
+  /** The maximum size of the entries of a segment. */
+  private volatile long segmentMaxWeight;
+  /** The maximum number of entries of a segment. */
+  private volatile long segmentMaxEntries;
+  private volatile long maxCacheSize;
+  private volatile long maxEntries;
+
+  private final AtomicLong cacheSize = new AtomicLong();
+  private final AtomicLong cacheCount = new AtomicLong();
+  private final AtomicLong admissions = new AtomicLong();
+  private final AtomicLong rejections = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  /** Currently registered configuration object. */
+  private ConcurrentEntryCacheCfg registeredConfiguration;
+
+  /** Creates a new instance of this concurrent entry cache. */
+  public ConcurrentEntryCache()
+  {
+    super();
+    // All initialization should be performed in the initializeEntryCache.
+  }
+
+  @Override
+  public void initializeEntryCache(ServerContext serverContext, ConcurrentEntryCacheCfg configuration)
+      throws ConfigException, InitializationException
+  {
+    registeredConfiguration = configuration;
+    configuration.addConcurrentChangeListener(this);
+
+    List<LocalizableMessage> errorMessages = new ArrayList<>();
+    EntryCacheCommon.ConfigErrorHandler errorHandler = EntryCacheCommon.getConfigErrorHandler(
+        EntryCacheCommon.ConfigPhase.PHASE_INIT, null, errorMessages);
+    if (!processEntryCacheConfig(configuration, true, errorHandler))
+    {
+      String buffer = Utils.joinAsString(".  ", errorMessages);
+      throw new ConfigException(ERR_CONCURRENTCACHE_CANNOT_INITIALIZE.get(buffer));
+    }
+  }
+
+  @Override
+  public void finalizeEntryCache()
+  {
+    registeredConfiguration.removeConcurrentChangeListener(this);
+    clear();
+  }
+
+  @Override
+  public boolean containsEntry(DN entryDN)
+  {
+    if (entryDN == null)
+    {
+      return false;
+    }
+    final Segment segment = segmentFor(entryDN);
+    segment.lock.lock();
+    try
+    {
+      return segment.nodes.containsKey(entryDN);
+    }
+    finally
+    {
+      segment.lock.unlock();
+    }
+  }
+
+  @Override
+  public Entry getEntry(DN entryDN)
+  {
+    if (entryDN == null)
+    {
+      return null;
+    }
+    final Segment segment = segmentFor(entryDN);
+    segment.lock.lock();
+    try
+    {
+      segment.sketch.increment(entryDN.hashCode());
+      final Node node = segment.nodes.get(entryDN);
+      if (node == null)
+      {
+        cacheMisses.getAndIncrement();
+        return null;
+      }
+      cacheHits.getAndIncrement();
+      return node.cacheEntry.getEntry();
+    }
+    finally
+    {
+      segment.lock.unlock();
+    }
+  }
+
+  @Override
+  public long getEntryID(DN entryDN)
+  {
+    if (entryDN == null)
+    {
+      return -1;
+    }
+    final Segment segment = segmentFor(entryDN);
+    segment.lock.lock();
+    try
+    {
+      final Node node = segment.nodes.get(entryDN);
+      return node != null ? node.cacheEntry.getEntryID() : -1;
+    }
+    finally
+    {
+      segment.lock.unlock();
+    }
+  }
+
+  @Override
+  public DN getEntryDN(String backendID, long entryID)
+  {
+    final Map<Long, DN> backendMap = idMap.get(backendID);
+    return backendMap != null ? backendMap.get(entryID) : null;
+  }
+
+  @Override
+  public void putEntry(Entry entry, String backendID, long entryID)
+  {
+    put(entry, backendID, entryID, false);
+  }
+
+  @Override
+  public boolean putEntryIfAbsent(Entry entry, String backendID, long entryID)
+  {
+    return put(entry, backendID, entryID, true);
+  }
+
+  /** Puts an entry in its segment if it is admitted, and returns {@code false} if it is already cached. */
+  private boolean put(Entry entry, String backendID, long entryID, boolean onlyIfAbsent)
+  {
+    final DN entryDN = entry.getName();
+    final Node node = new Node(new CacheEntry(entry, backendID, entryID), weigh(entry));
+    final Segment segment = segmentFor(entryDN);
+    segment.lock.lock();
+    try
+    {
+      segment.sketch.increment(entryDN.hashCode());
+      final Node cachedNode = segment.nodes.get(entryDN);
+      if (cachedNode != null)
+      {
+        if (onlyIfAbsent)
+        {
+          return false;
+        }
+        // A new version of a cached entry is always admitted.
+        removeNode(segment, cachedNode);
+        if (makeRoom(segment, node.weight, Integer.MAX_VALUE))
+        {
+          addNode(segment, node);
+        }
+      }
+      else if (makeRoom(segment, node.weight, segment.sketch.frequency(entryDN.hashCode())))
+      {
+        addNode(segment, node);
+        admissions.getAndIncrement();
+      }
+      else
+      {
+        rejections.getAndIncrement();
+      }
+      return true;
+    }
+    finally
+    {
+      segment.lock.unlock();
+    }
+  }
+
+  /**
+   * Evicts the least recently used entries of a segment until a new entry fits, if they are used less frequently
+   * than the new entry all together. Nothing is evicted if the new entry is not admitted.
+   *
+   * @return {@code true} if the new entry fits in the segment
+   */
+  private boolean makeRoom(Segment segment, long weight, int frequency)
+  {
+    if (weight > segmentMaxWeight)
+    {
+      return false;
+    }
+    int nbVictims = 0;
+    long victimsWeight = 0;
+    long victimsFrequency = 0;
+    for (Iterator<Node> victims = segment.nodes.values().iterator();
+        segment.weight - victimsWeight + weight > segmentMaxWeight
+        || segment.nodes.size() - nbVictims >= segmentMaxEntries;)
+    {
+      final Node victim = victims.next();
+      victimsFrequency += segment.sketch.frequency(victim.cacheEntry.getDN().hashCode());
+      if (frequency <= victimsFrequency)
+      {
+        return false;
+      }
+      victimsWeight += victim.weight;
+      nbVictims++;
+    }
+    for (Iterator<Node> victims = segment.nodes.values().iterator(); nbVictims > 0; nbVictims--)
+    {
+      final Node victim = victims.next();
+      victims.remove();
+      evicted(segment, victim);
+      evictions.getAndIncrement();
+    }
+    return true;
+  }
+
+  private void addNode(Segment segment, Node node)
+  {
+    final CacheEntry cacheEntry = node.cacheEntry;
+    segment.nodes.put(cacheEntry.getDN(), node);
+    segment.weight += node.weight;
+    cacheSize.addAndGet(node.weight);
+    cacheCount.getAndIncrement();
+
+    ConcurrentMap<Long, DN> backendMap = idMap.get(cacheEntry.getBackendID());
+    if (backendMap == null)
+    {
+      final ConcurrentMap<Long, DN> newBackendMap = new ConcurrentHashMap<>();
+      backendMap = idMap.putIfAbsent(cacheEntry.getBackendID(), newBackendMap);
+      if (backendMap == null)
+      {
+        backendMap = newBackendMap;
+      }
+    }
+    backendMap.put(cacheEntry.getEntryID(), cacheEntry.getDN());
+  }
+
+  private void removeNode(Segment segment, Node node)
+  {
+    segment.nodes.remove(node.cacheEntry.getDN());
+    evicted(segment, node);
+  }
+
+  /** Accounts for a node removed from the nodes of its segment. */
+  private void evicted(Segment segment, Node node)
+  {
+    segment.weight -= node.weight;
+    cacheSize.addAndGet(-node.weight);
+    cacheCount.getAndDecrement();
+
+    final CacheEntry cacheEntry = node.cacheEntry;
+    final ConcurrentMap<Long, DN> backendMap = idMap.get(cacheEntry.getBackendID());
+    if (backendMap != null)
+    {
+      backendMap.remove(cacheEntry.getEntryID(), cacheEntry.getDN());
+    }
+  }
+
+  @Override
+  public void removeEntry(DN entryDN)
+  {
+    final Segment segment = segmentFor(entryDN);
+    segment.lock.lock();
+    try
+    {
+      final Node node = segment.nodes.get(entryDN);
+      if (node != null)
+      {
+        removeNode(segment, node);
+      }
+    }
+    finally
+    {
+      segment.lock.unlock();
+    }
+  }
+
+  @Override
+  public void clear()
+  {
+    for (Segment segment : segments)
+    {
+      segment.lock.lock();
+      try
+      {
+        for (Iterator<Node> it = segment.nodes.values().iterator(); it.hasNext();)
+        {
+          final Node node = it.next();
+          it.remove();
+          evicted(segment, node);
+        }
+      }
+      finally
+      {
+        segment.lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public void clearBackend(String backendID)
+  {
+    final Map<Long, DN> backendMap = idMap.remove(backendID);
+    if (backendMap == null)
+    {
+      return;
+    }
+    for (DN entryDN : backendMap.values())
+    {
+      final Segment segment = segmentFor(entryDN);
+      segment.lock.lock();
+      try
+      {
+        final Node node = segment.nodes.get(entryDN);
+        if (node != null && backendID.equals(node.cacheEntry.getBackendID()))
+        {
+          removeNode(segment, node);
+        }
+      }
+      finally
+      {
+        segment.lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public void handleLowMemory()
+  {
+    // Dump all the entries if there are less than 1000, or else 10% of the entries of each segment.
+    if (cacheCount.get() < 1000)
+    {
+      clear();
+      return;
+    }
+    for (Segment segment : segments)
+    {
+      segment.lock.lock();
+      try
+      {
+        int numToDrop = segment.nodes.size() / 10;
+        for (Iterator<Node> it = segment.nodes.values().iterator(); it.hasNext() && numToDrop > 0; numToDrop--)
+        {
+          final Node node = it.next();
+          it.remove();
+          evicted(segment, node);
+        }
+      }
+      finally
+      {
+        segment.lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public List<Long> getHotEntryIDs(String backendID, int maxEntries)
+  {
+    final List<List<Long>> segmentEntryIDs = new ArrayList<>(segments.length);
+    for (Segment segment : segments)
+    {
+      final List<Long> entryIDs = new ArrayList<>();
+      segment.lock.lock();
+      try
+      {
+        for (Node node : segment.nodes.values())
+        {
+          if (backendID.equals(node.cacheEntry.getBackendID()))
+          {
+            entryIDs.add(node.cacheEntry.getEntryID());
+          }
+        }
+      }
+      finally
+      {
+        segment.lock.unlock();
+      }
+      Collections.reverse(entryIDs);
+      segmentEntryIDs.add(entryIDs);
+    }
+
+    // Interleave the most recently used entries of each segment
+    final List<Long> hotEntryIDs = new ArrayList<>();
+    for (int i = 0; hotEntryIDs.size() < maxEntries; i++)
+    {
+      boolean found = false;
+      for (Iterator<List<Long>> it = segmentEntryIDs.iterator(); it.hasNext() && hotEntryIDs.size() < maxEntries;)
+      {
+        final List<Long> entryIDs = it.next();
+        if (i < entryIDs.size())
+        {
+          hotEntryIDs.add(entryIDs.get(i));
+          found = true;
+        }
+      }
+      if (!found)
+      {
+        break;
+      }
+    }
+    return hotEntryIDs;
+  }
+
+  private Segment segmentFor(DN entryDN)
+  {
+    final int hash = entryDN.hashCode();
+    return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+  }
+
+  /**
+   * Returns the estimated memory size of an entry, from the size of its DN and of its attribute values.
+   *
+   * @param entry
+   *          the entry
+   * @return the estimated size of the entry in bytes
+   */
+  static long weigh(Entry entry)
+  {
+    long weight = ENTRY_OVERHEAD + 2L * entry.getName().toString().length()
+        + (long) entry.getObjectClasses().size() * VALUE_OVERHEAD;
+    for (Attribute attribute : entry.getAllAttributes())
+    {
+      weight += ATTRIBUTE_OVERHEAD;
+      for (ByteString value : attribute)
+      {
+        weight += VALUE_OVERHEAD + value.length();
+      }
+    }
+    return weight;
+  }
+
+  @Override
+  public boolean isConfigurationAcceptable(EntryCacheCfg configuration, List<LocalizableMessage> unacceptableReasons)
+  {
+    ConcurrentEntryCacheCfg config = (ConcurrentEntryCacheCfg) configuration;
+    return isConfigurationChangeAcceptable(config, unacceptableReasons);
+  }
+
+  @Override
+  public boolean isConfigurationChangeAcceptable(ConcurrentEntryCacheCfg configuration,
+      List<LocalizableMessage> unacceptableReasons)
+  {
+    EntryCacheCommon.ConfigErrorHandler errorHandler = EntryCacheCommon.getConfigErrorHandler(
+        EntryCacheCommon.ConfigPhase.PHASE_ACCEPTABLE, unacceptableReasons, null);
+    processEntryCacheConfig(configuration, false, errorHandler);
+    return errorHandler.getIsAcceptable();
+  }
+
+  @Override
+  public ConfigChangeResult applyConfigurationChange(ConcurrentEntryCacheCfg configuration)
+  {
+    List<LocalizableMessage> errorMessages = new ArrayList<>();
+    EntryCacheCommon.ConfigErrorHandler errorHandler = EntryCacheCommon.getConfigErrorHandler(
+        EntryCacheCommon.ConfigPhase.PHASE_APPLY, null, errorMessages);
+
+    // Do not apply changes unless this cache is enabled.
+    if (configuration.isEnabled())
+    {
+      processEntryCacheConfig(configuration, true, errorHandler);
+    }
+
+    final ConfigChangeResult changeResult = new ConfigChangeResult();
+    changeResult.setResultCode(errorHandler.getResultCode());
+    changeResult.setAdminActionRequired(errorHandler.getIsAdminActionRequired());
+    changeResult.getMessages().addAll(errorHandler.getErrorMessages());
+    return changeResult;
+  }
+
+  /**
+   * Parses the provided configuration and configure the entry cache.
+   *
+   * @param configuration  The new configuration containing the changes.
+   * @param applyChanges   If true then take into account the new configuration.
+   * @param errorHandler   An handler used to report errors.
+   *
+   * @return  <CODE>true</CODE> if configuration is acceptable,
+   *          or <CODE>false</CODE> otherwise.
+   */
+  private boolean processEntryCacheConfig(ConcurrentEntryCacheCfg configuration, boolean applyChanges,
+      EntryCacheCommon.ConfigErrorHandler errorHandler)
+  {
+    final DN newConfigEntryDN = configuration.dn();
+    final Set<SearchFilter> newIncludeFilters = EntryCacheCommon.getFilters(
+        configuration.getIncludeFilter(), ERR_CACHE_INVALID_INCLUDE_FILTER, errorHandler, newConfigEntryDN);
+    final Set<SearchFilter> newExcludeFilters = EntryCacheCommon.getFilters(
+        configuration.getExcludeFilter(), ERR_CACHE_INVALID_EXCLUDE_FILTER, errorHandler, newConfigEntryDN);
+
+    if (applyChanges && errorHandler.getIsAcceptable())
+    {
+      maxCacheSize = configuration.getMaxCacheSize();
+      maxEntries = configuration.getMaxEntries();
+      if (segments == null)
+      {
+        final long nbSegments = Math.min(MAX_SEGMENTS,
+            Math.min(maxEntries / MIN_SEGMENT_ENTRIES, maxCacheSize / MIN_SEGMENT_SIZE));
+        final Segment[] newSegments = new Segment[nbSegments > 1 ? Integer.highestOneBit((int) nbSegments) : 1];
+        final long expectedEntries = Math.min(maxEntries, maxCacheSize / AVERAGE_ENTRY_SIZE) / newSegments.length;
+        for (int i = 0; i < newSegments.length; i++)
+        {
+          newSegments[i] = new Segment((int) Math.min(expectedEntries, Integer.MAX_VALUE));
+        }
+        segments = newSegments;
+      }
+      segmentMaxWeight = maxCacheSize / segments.length;
+      segmentMaxEntries = Math.max(1, maxEntries / segments.length);
+      trim();
+      setIncludeFilters(newIncludeFilters);
+      setExcludeFilters(newExcludeFilters);
+      registeredConfiguration = configuration;
+    }
+    return errorHandler.getIsAcceptable();
+  }
+
+  /** Evicts the least recently used entries of the segments exceeding their maximums, after they were lowered. */
+  private void trim()
+  {
+    for (Segment segment : segments)
+    {
+      segment.lock.lock();
+      try
+      {
+        for (Iterator<Node> it = segment.nodes.values().iterator();
+            it.hasNext() && (segment.weight > segmentMaxWeight || segment.nodes.size() > segmentMaxEntries);)
+        {
+          final Node node = it.next();
+          it.remove();
+          evicted(segment, node);
+          evictions.getAndIncrement();
+        }
+      }
+      finally
+      {
+        segment.lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public MonitorData getMonitorData()
+  {
+    try
+    {
+      final MonitorData monitorData = EntryCacheCommon.getGenericMonitorData(
+          cacheHits.longValue(),
+          cacheMisses.longValue(),
+          cacheSize.longValue(),
+          maxCacheSize,
+          cacheCount.longValue(),
+          maxEntries != Integer.MAX_VALUE ? maxEntries : 0);
+      monitorData.add("entryCacheAdmissions", admissions.longValue());
+      monitorData.add("entryCacheAdmissionRejections", rejections.longValue());
+      monitorData.add("entryCacheEvictions", evictions.longValue());
+      return monitorData;
+    }
+    catch (Exception e)
+    {
+      logger.traceException(e);
+      return new MonitorData(0);
+    }
+  }
+
+  @Override
+  public Long getCacheCount()
+  {
+    return cacheCount.longValue();
+  }
+
+  @Override
+  public String toVerboseString()
+  {
+    StringBuilder sb = new StringBuilder();
+    for (Segment segment : segments)
+    {
+      final List<CacheEntry> cacheEntries = new ArrayList<>();
+      segment.lock.lock();
+      try
+      {
+        for (Node node : segment.nodes.values())
+        {
+          cacheEntries.add(node.cacheEntry);
+        }
+      }
+      finally
+      {
+        segment.lock.unlock();
+      }
+      for (CacheEntry cacheEntry : cacheEntries)
+      {
+        sb.append(cacheEntry.getDN());
+        sb.append(":");
+        sb.append(cacheEntry.getEntryID());
+        sb.append(":");
+        sb.append(cacheEntry.getBackendID());
+        sb.append(ServerConstants.EOL);
+      }
+    }
+
+    String verboseString = sb.toString();
+    return verboseString.length() > 0 ? verboseString : null;
+  }
+}
@@ -13,10 +13,14 @@
  *
  * Copyright 2008-2010 Sun Microsystems, Inc.
  * Portions Copyright 2011-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.extensions;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedMap;
 
 import org.forgerock.i18n.LocalizableMessage;
@@ -232,6 +236,21 @@ public class DefaultEntryCache
     }
   }
 
+  @Override
+  public List<Long> getHotEntryIDs(String backendID, int maxEntries)
+  {
+    final Set<Long> entryIDs = new LinkedHashSet<>();
+    for (EntryCache<?> entryCache : cacheOrder) {
+      for (Long entryID : entryCache.getHotEntryIDs(backendID, maxEntries)) {
+        if (entryIDs.size() >= maxEntries) {
+          return new ArrayList<>(entryIDs);
+        }
+        entryIDs.add(entryID);
+      }
+    }
+    return new ArrayList<>(entryIDs);
+  }
+
   @Override
   public boolean isConfigurationChangeAcceptable(
       EntryCacheCfg configuration,
@@ -13,12 +13,14 @@
  *
  * Copyright 2006-2008 Sun Microsystems, Inc.
  * Portions Copyright 2011-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.extensions;
 
 import static org.opends.messages.ExtensionMessages.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -598,6 +600,31 @@ public class FIFOEntryCache
     }
   }
 
+  @Override
+  public List<Long> getHotEntryIDs(String backendID, int maxEntries)
+  {
+    // The entries are in the order they were put in the cache, the most recent last.
+    List<Long> entryIDs = new ArrayList<>();
+    cacheReadLock.lock();
+    try
+    {
+      for (CacheEntry entry : dnMap.values())
+      {
+        if (backendID.equals(entry.getBackendID()))
+        {
+          entryIDs.add(entry.getEntryID());
+        }
+      }
+    }
+    finally
+    {
+      cacheReadLock.unlock();
+    }
+    entryIDs = entryIDs.subList(Math.max(0, entryIDs.size() - maxEntries), entryIDs.size());
+    Collections.reverse(entryIDs);
+    return new ArrayList<>(entryIDs);
+  }
+
   @Override
   public void handleLowMemory()
   {
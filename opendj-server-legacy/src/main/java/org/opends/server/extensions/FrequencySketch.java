@@ -0,0 +1,123 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.extensions;
+
+/**
+ * Estimates how frequently keys have been used recently, in order to decide whether a new key should replace a cached
+ * one (TinyLFU admission).
+ * <p>
+ * The frequencies are kept in a count-min sketch of 4-bit counters: each key increments 4 counters, and its frequency
+ * is the smallest of them. Once the number of increments reaches 10 times the expected number of keys, all the
+ * counters are halved, so that the keys which are no longer used are eventually forgotten.
+ * <p>
+ * This class is not thread safe.
+ */
+final class FrequencySketch
+{
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+  private static final long RESET_MASK = 0x7777777777777777L;
+  /** The largest value of a counter. */
+  private static final int MAX_FREQUENCY = 15;
+
+  /** 16 counters per word. */
+  private final long[] table;
+  private final int counterMask;
+  private final int sampleSize;
+  private int size;
+
+  /**
+   * Creates a sketch sized for the provided number of keys.
+   *
+   * @param expectedKeys
+   *          the expected number of distinct keys, such as the maximum number of cached keys
+   */
+  FrequencySketch(int expectedKeys)
+  {
+    final int keys = Math.max(256, Math.min(expectedKeys, 1 << 20));
+    final int counters = Integer.highestOneBit(4 * keys - 1) << 1;
+    table = new long[counters / 16];
+    counterMask = counters - 1;
+    sampleSize = 10 * keys;
+  }
+
+  /**
+   * Returns the estimated number of recent uses of a key.
+   *
+   * @param hashCode
+   *          the hash code of the key
+   * @return the estimated frequency of the key, from 0 to 15
+   */
+  int frequency(int hashCode)
+  {
+    final long hash = spread(hashCode);
+    int frequency = MAX_FREQUENCY;
+    for (int i = 0; i < SEEDS.length; i++)
+    {
+      final int index = indexOf(hash, i);
+      frequency = Math.min(frequency, (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & 0xF));
+    }
+    return frequency;
+  }
+
+  /**
+   * Records a use of a key.
+   *
+   * @param hashCode
+   *          the hash code of the key
+   */
+  void increment(int hashCode)
+  {
+    final long hash = spread(hashCode);
+    boolean incremented = false;
+    for (int i = 0; i < SEEDS.length; i++)
+    {
+      final int index = indexOf(hash, i);
+      final int shift = (index & 15) << 2;
+      if (((table[index >>> 4] >>> shift) & 0xF) < MAX_FREQUENCY)
+      {
+        table[index >>> 4] += 1L << shift;
+        incremented = true;
+      }
+    }
+    if (incremented && ++size >= sampleSize)
+    {
+      reset();
+    }
+  }
+
+  /** Halves all the counters. */
+  private void reset()
+  {
+    for (int i = 0; i < table.length; i++)
+    {
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    size /= 2;
+  }
+
+  private static long spread(int hashCode)
+  {
+    return hashCode * 0x9E3779B97F4A7C15L;
+  }
+
+  private int indexOf(long hash, int i)
+  {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return (int) h & counterMask;
+  }
+}
@@ -0,0 +1,952 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.extensions;
+
+import static org.opends.messages.ConfigMessages.*;
+import static org.opends.messages.CoreMessages.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.forgerock.i18n.LocalizableMessage;
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+import org.forgerock.opendj.config.server.ConfigChangeResult;
+import org.forgerock.opendj.config.server.ConfigException;
+import org.forgerock.opendj.config.server.ConfigurationChangeListener;
+import org.forgerock.opendj.ldap.ResultCode;
+import org.forgerock.opendj.ldap.SearchScope;
+import org.forgerock.opendj.server.config.server.MultiLaneWorkQueueCfg;
+import org.opends.server.api.WorkQueue;
+import org.opends.server.core.DirectoryServer;
+import org.opends.server.core.SearchOperation;
+import org.opends.server.monitors.MultiLaneWorkQueueMonitor;
+import org.opends.server.types.CancelRequest;
+import org.opends.server.types.DirectoryException;
+import org.opends.server.types.InitializationException;
+import org.opends.server.types.Operation;
+import org.opends.server.types.RawFilter;
+
+/**
+ * A work queue which queues each class of operations in a separate lane, so that a burst of expensive operations,
+ * such as unindexed searches, does not delay the binds and the small updates queued behind them.
+ * <p>
+ * Each lane is served by a share of the worker threads. A worker thread first processes the operations of its own
+ * lane, then steals the operations of the other lanes, in the order of the {@link Lane} constants. The operations of
+ * an isolated lane are only stolen when this lane has no worker threads of its own, so that they can never occupy the
+ * worker threads of the other lanes.
+ * <p>
+ * Each lane holds at most {@code max-work-queue-capacity} operations: when a lane is full,
+ * {@link #submitOperation(Operation)} blocks until it has available capacity, and
+ * {@link #trySubmitOperation(Operation)} returns {@code false}.
+ */
+public class MultiLaneWorkQueue
+       extends WorkQueue<MultiLaneWorkQueueCfg>
+       implements ConfigurationChangeListener<MultiLaneWorkQueueCfg>
+{
+  private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+  /** The lanes in which the operations are queued, in the order in which idle worker threads steal them. */
+  public enum Lane
+  {
+    /** Bind operations. */
+    BIND("bind", false),
+    /** Add, delete, modify, modify DN and extended operations. */
+    WRITE("write", false),
+    /** Compare operations and searches which are likely to be resolved through an index. */
+    READ("read", false),
+    /** Internal and replication operations. */
+    INTERNAL("internal", false),
+    /** Other searches. */
+    EXPENSIVE_READ("expensive-read", true);
+
+    private final String name;
+    private final boolean isolated;
+
+    private Lane(String name, boolean isolated)
+    {
+      this.name = name;
+      this.isolated = isolated;
+    }
+
+    /**
+     * Returns the name of this lane, as used in the configuration.
+     *
+     * @return the name of this lane
+     */
+    public String getName()
+    {
+      return name;
+    }
+
+    private static Lane forName(String name)
+    {
+      for (Lane lane : values())
+      {
+        if (lane.name.equalsIgnoreCase(name))
+        {
+          return lane;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Returns the lane in which the provided operation is queued.
+     *
+     * @param operation
+     *          the operation
+     * @return the lane in which the operation is queued
+     */
+    static Lane of(Operation operation)
+    {
+      if (operation.isInternalOperation() || operation.isSynchronizationOperation())
+      {
+        return INTERNAL;
+      }
+      switch (operation.getOperationType())
+      {
+      case BIND:
+        return BIND;
+      case COMPARE:
+        return READ;
+      case SEARCH:
+        return operation instanceof SearchOperation && isLikelyIndexed((SearchOperation) operation)
+            ? READ : EXPENSIVE_READ;
+      default:
+        return WRITE;
+      }
+    }
+
+    /**
+     * Guesses from the request whether a search is cheap, since the indexes are only known once the search has been
+     * routed to its backend.
+     */
+    private static boolean isLikelyIndexed(SearchOperation searchOperation)
+    {
+      return searchOperation.getScope() == SearchScope.BASE_OBJECT
+          || (searchOperation.getRawFilter() != null && isLikelyIndexed(searchOperation.getRawFilter()));
+    }
+
+    private static boolean isLikelyIndexed(RawFilter filter)
+    {
+      switch (filter.getFilterType())
+      {
+      case EQUALITY:
+        return !"objectClass".equalsIgnoreCase(filter.getAttributeType());
+      case AND:
+        for (RawFilter component : filter.getFilterComponents())
+        {
+          if (isLikelyIndexed(component))
+          {
+            return true;
+          }
+        }
+        return false;
+      case OR:
+        for (RawFilter component : filter.getFilterComponents())
+        {
+          if (!isLikelyIndexed(component))
+          {
+            return false;
+          }
+        }
+        return !filter.getFilterComponents().isEmpty();
+      default:
+        return false;
+      }
+    }
+  }
+
+  /** An operation waiting in a lane. */
+  private static final class QueuedOperation
+  {
+    private final Operation operation;
+    private final long queuedTime = System.nanoTime();
+
+    private QueuedOperation(Operation operation)
+    {
+      this.operation = operation;
+    }
+  }
+
+  /** The queue and statistics of a lane. All the fields are guarded by the lock of the work queue. */
+  private static final class LaneState
+  {
+    private final ArrayDeque<QueuedOperation> queue = new ArrayDeque<>();
+    /** Signaled when an operation is taken from this lane. */
+    private final Condition notFull;
+    /** The worker threads of this lane waiting for work. */
+    private final ArrayDeque<MultiLaneWorkerThread> idleWorkers = new ArrayDeque<>();
+    private int numWorkerThreads;
+    private long opsSubmitted;
+    private long opsDequeued;
+    private long totalWaitTime;
+    private long maxWaitTime;
+
+    private LaneState(Condition notFull)
+    {
+      this.notFull = notFull;
+    }
+  }
+
+  private static final Lane[] LANES = Lane.values();
+
+  /**
+   * The maximum number of times to retry getting the next operation from the queue if an unexpected failure occurs.
+   */
+  private static final int MAX_RETRY_COUNT = 5;
+
+  /** Guards the lanes and the worker threads. */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final LaneState[] lanes = new LaneState[LANES.length];
+
+  /** The set of worker threads that will be used to process this work queue. */
+  private final List<MultiLaneWorkerThread> workerThreads = new ArrayList<>();
+
+  /** The worker threads which have been asked to stop after the number of worker threads was reduced. */
+  private final List<MultiLaneWorkerThread> stoppingWorkerThreads = new ArrayList<>();
+
+  /** The number of operations that have been submitted to the work queue for processing. */
+  private final AtomicLong opsSubmitted = new AtomicLong();
+
+  /** The number of operations that have been rejected because their lane was full. */
+  private final AtomicLong queueFullRejects = new AtomicLong();
+
+  /** Rejects the low priority operations while the server is overloaded. */
+  private final WorkQueueAdmissionController admissionController = new WorkQueueAdmissionController();
+
+  /** Indicates whether the Directory Server is shutting down. */
+  private volatile boolean shutdownRequested;
+
+  /** The thread number used for the last worker thread that was created. */
+  private int lastThreadNumber;
+
+  /** The number of worker threads that should be active. */
+  private volatile int numWorkerThreads;
+
+  /** The maximum number of operations that can be queued in each lane. */
+  private volatile int maxCapacity;
+
+  private MultiLaneWorkQueueMonitor monitor;
+
+  /**
+   * Creates a new instance of this work queue. All initialization should be performed in the
+   * <CODE>initializeWorkQueue</CODE> method.
+   */
+  public MultiLaneWorkQueue()
+  {
+    for (Lane lane : LANES)
+    {
+      lanes[lane.ordinal()] = new LaneState(lock.newCondition());
+    }
+  }
+
+  @Override
+  public void initializeWorkQueue(MultiLaneWorkQueueCfg configuration)
+         throws ConfigException, InitializationException
+  {
+    List<LocalizableMessage> unacceptableReasons = new ArrayList<>();
+    int[] shares = getLaneShares(configuration, unacceptableReasons);
+    if (shares == null)
+    {
+      throw new ConfigException(unacceptableReasons.get(0));
+    }
+
+    configuration.addMultiLaneChangeListener(this);
+    admissionController.setConfiguration(configuration);
+
+    lock.lock();
+    try
+    {
+      maxCapacity = configuration.getMaxWorkQueueCapacity();
+      assignWorkerThreads(computeNumWorkerThreads(configuration.getNumWorkerThreads()), shares);
+    }
+    finally
+    {
+      lock.unlock();
+    }
+
+    try
+    {
+      monitor = new MultiLaneWorkQueueMonitor(this);
+      monitor.initializeMonitorProvider(null);
+      DirectoryServer.registerMonitorProvider(monitor);
+    }
+    catch (Exception e)
+    {
+      logger.traceException(e);
+      logger.error(ERR_CONFIG_WORK_QUEUE_CANNOT_CREATE_MONITOR, MultiLaneWorkQueueMonitor.class, e);
+    }
+  }
+
+  @Override
+  public void finalizeWorkQueue(LocalizableMessage reason)
+  {
+    shutdownRequested = true;
+
+    // Cancel the pending operations, since they will not be processed.
+    List<Operation> pendingOperations = new ArrayList<>();
+    List<MultiLaneWorkerThread> threads;
+    lock.lock();
+    try
+    {
+      for (LaneState state : lanes)
+      {
+        for (QueuedOperation queued : state.queue)
+        {
+          pendingOperations.add(queued.operation);
+        }
+        state.queue.clear();
+        // Wake up the request handler threads waiting for capacity, so that they reject their operations.
+        state.notFull.signalAll();
+      }
+      admissionController.releaseAll();
+      threads = new ArrayList<>(workerThreads);
+      threads.addAll(stoppingWorkerThreads);
+    }
+    finally
+    {
+      lock.unlock();
+    }
+
+    CancelRequest cancelRequest = new CancelRequest(true, reason);
+    for (Operation o : pendingOperations)
+    {
+      try
+      {
+        // The operation has no chance of responding to the cancel request so avoid waiting for a cancel response.
+        if (o.getCancelResult() == null)
+        {
+          o.abort(cancelRequest);
+        }
+      }
+      catch (Exception e)
+      {
+        logger.traceException(e);
+        logger.warn(WARN_QUEUE_UNABLE_TO_CANCEL, o, e);
+      }
+    }
+
+    for (MultiLaneWorkerThread t : threads)
+    {
+      try
+      {
+        t.shutDown();
+      }
+      catch (Exception e)
+      {
+        logger.traceException(e);
+        logger.warn(WARN_QUEUE_UNABLE_TO_NOTIFY_THREAD, t.getName(), e);
+      }
+    }
+
+    if (monitor != null)
+    {
+      DirectoryServer.deregisterMonitorProvider(monitor);
+      monitor.finalizeMonitorProvider();
+    }
+  }
+
+  /**
+   * Indicates whether this work queue has received a request to shut down.
+   *
+   * @return {@code true} if the work queue has received a request to shut down, or {@code false} if not.
+   */
+  public boolean shutdownRequested()
+  {
+    return shutdownRequested;
+  }
+
+  @Override
+  public void submitOperation(Operation operation) throws DirectoryException
+  {
+    if (shutdownRequested)
+    {
+      throw new DirectoryException(ResultCode.UNAVAILABLE, WARN_OP_REJECTED_BY_SHUTDOWN.get());
+    }
+
+    admissionController.admit(operation);
+    try
+    {
+      submitOperation(operation, true);
+    }
+    catch (DirectoryException e)
+    {
+      admissionController.release(operation);
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean trySubmitOperation(Operation operation) throws DirectoryException
+  {
+    if (shutdownRequested)
+    {
+      throw new DirectoryException(ResultCode.UNAVAILABLE, WARN_OP_REJECTED_BY_SHUTDOWN.get());
+    }
+
+    // Operations rejected by the admission control must not be processed in
+    // the request handler thread instead, so do not return false for them.
+    admissionController.admit(operation);
+    try
+    {
+      submitOperation(operation, false);
+      return true;
+    }
+    catch (DirectoryException e)
+    {
+      admissionController.release(operation);
+      if (ResultCode.BUSY == e.getResultCode())
+      {
+        return false;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Queues the operation in its lane, waiting for the lane to have available capacity if {@code blockWhenFull} is
+   * set, or else rejecting the operation with {@link ResultCode#BUSY} when the lane is full.
+   */
+  private void submitOperation(Operation operation, boolean blockWhenFull) throws DirectoryException
+  {
+    Lane lane = Lane.of(operation);
+    lock.lock();
+    try
+    {
+      LaneState state = lanes[lane.ordinal()];
+      while (state.queue.size() >= maxCapacity)
+      {
+        if (!blockWhenFull)
+        {
+          queueFullRejects.incrementAndGet();
+          throw new DirectoryException(ResultCode.BUSY, WARN_OP_REJECTED_BY_QUEUE_FULL.get(maxCapacity));
+        }
+        try
+        {
+          state.notFull.await(1, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+          // We cannot handle the interruption here. Reject the request and re-interrupt this thread.
+          Thread.currentThread().interrupt();
+          queueFullRejects.incrementAndGet();
+          throw new DirectoryException(ResultCode.BUSY, WARN_OP_REJECTED_BY_QUEUE_INTERRUPT.get());
+        }
+        if (shutdownRequested)
+        {
+          throw new DirectoryException(ResultCode.UNAVAILABLE, WARN_OP_REJECTED_BY_SHUTDOWN.get());
+        }
+      }
+      state.queue.add(new QueuedOperation(operation));
+      state.opsSubmitted++;
+      wakeUpWorkerThread(lane);
+    }
+    finally
+    {
+      lock.unlock();
+    }
+    opsSubmitted.incrementAndGet();
+  }
+
+  /** Wakes up an idle worker thread of the lane, or else an idle worker thread allowed to steal from the lane. */
+  private void wakeUpWorkerThread(Lane lane)
+  {
+    MultiLaneWorkerThread worker = lanes[lane.ordinal()].idleWorkers.poll();
+    if (worker == null && canSteal(lane))
+    {
+      for (LaneState state : lanes)
+      {
+        worker = state.idleWorkers.poll();
+        if (worker != null)
+        {
+          break;
+        }
+      }
+    }
+    if (worker != null)
+    {
+      worker.getWorkAvailable().signal();
+    }
+  }
+
+  private boolean canSteal(Lane lane)
+  {
+    return !lane.isolated || lanes[lane.ordinal()].numWorkerThreads == 0;
+  }
+
+  /**
+   * Retrieves the next operation that should be processed by the provided worker thread, blocking if necessary until
+   * a new request arrives.
+   *
+   * @param workerThread
+   *          The worker thread that is requesting the operation.
+   * @return The next operation that should be processed, or {@code null} if the server is shutting down or if the
+   *         worker thread is no longer needed.
+   */
+  Operation nextOperation(MultiLaneWorkerThread workerThread)
+  {
+    for (int numFailures = 0; numFailures <= MAX_RETRY_COUNT; numFailures++)
+    {
+      lock.lock();
+      try
+      {
+        while (!shutdownRequested)
+        {
+          if (workerThread.isStoppedByReducedThreadNumber())
+          {
+            stoppingWorkerThreads.remove(workerThread);
+            return null;
+          }
+          Operation operation = pollOperation(workerThread.getLane());
+          if (operation != null)
+          {
+            return operation;
+          }
+
+          LaneState home = lanes[workerThread.getLane().ordinal()];
+          home.idleWorkers.add(workerThread);
+          try
+          {
+            workerThread.getWorkAvailable().await(5, TimeUnit.SECONDS);
+          }
+          finally
+          {
+            home.idleWorkers.remove(workerThread);
+          }
+        }
+        return null;
+      }
+      catch (Exception e)
+      {
+        if (shutdownRequested)
+        {
+          return null;
+        }
+        logger.traceException(e);
+        logger.warn(WARN_WORKER_WAITING_UNCAUGHT_EXCEPTION, Thread.currentThread().getName(), e);
+      }
+      finally
+      {
+        lock.unlock();
+      }
+    }
+
+    logger.error(ERR_CONFIG_WORK_QUEUE_TOO_MANY_FAILURES, Thread.currentThread().getName(), MAX_RETRY_COUNT + 1,
+        MAX_RETRY_COUNT);
+    return null;
+  }
+
+  /** Polls an operation from the provided lane, or else from the lanes it can steal from. */
+  private Operation pollOperation(Lane home)
+  {
+    Operation operation = pollOperation(lanes[home.ordinal()]);
+    for (int i = 0; operation == null && i < LANES.length; i++)
+    {
+      if (LANES[i] != home && canSteal(LANES[i]))
+      {
+        operation = pollOperation(lanes[i]);
+      }
+    }
+    return operation;
+  }
+
+  private Operation pollOperation(LaneState state)
+  {
+    QueuedOperation queued = state.queue.poll();
+    if (queued == null)
+    {
+      return null;
+    }
+    long waitTime = System.nanoTime() - queued.queuedTime;
+    state.opsDequeued++;
+    state.totalWaitTime += waitTime;
+    state.maxWaitTime = Math.max(state.maxWaitTime, waitTime);
+    state.notFull.signal();
+    admissionController.dequeued(queued.operation);
+    return queued.operation;
+  }
+
+  /**
+   * Creates or stops worker threads so that there are {@code numThreads} of them, and distributes them among the
+   * lanes in proportion to their shares. Must be called with the lock held.
+   */
+  private void assignWorkerThreads(int numThreads, int[] shares)
+  {
+    Lane[] assignedLanes = distribute(numThreads, shares);
+    for (LaneState state : lanes)
+    {
+      state.numWorkerThreads = 0;
+    }
+    for (Lane lane : assignedLanes)
+    {
+      lanes[lane.ordinal()].numWorkerThreads++;
+    }
+
+    while (workerThreads.size() > numThreads)
+    {
+      MultiLaneWorkerThread t = workerThreads.remove(workerThreads.size() - 1);
+      t.setStoppedByReducedThreadNumber();
+      t.getWorkAvailable().signal();
+      stoppingWorkerThreads.add(t);
+    }
+    for (int i = 0; i < workerThreads.size(); i++)
+    {
+      MultiLaneWorkerThread t = workerThreads.get(i);
+      if (t.getLane() != assignedLanes[i])
+      {
+        // Wake it up so that it waits for the operations of its new lane.
+        t.setLane(assignedLanes[i]);
+        t.getWorkAvailable().signal();
+      }
+    }
+    for (int i = workerThreads.size(); i < numThreads; i++)
+    {
+      MultiLaneWorkerThread t =
+          new MultiLaneWorkerThread(this, lastThreadNumber++, assignedLanes[i], lock.newCondition());
+      workerThreads.add(t);
+      t.start();
+    }
+    numWorkerThreads = numThreads;
+
+    // Isolated lanes may have become stealable.
+    for (Lane lane : LANES)
+    {
+      if (!lanes[lane.ordinal()].queue.isEmpty())
+      {
+        wakeUpWorkerThread(lane);
+      }
+    }
+  }
+
+  /**
+   * Distributes the worker threads among the lanes with the highest averages method, so that the number of worker
+   * threads of each lane is as proportional to its share as possible.
+   *
+   * @param numThreads
+   *          the number of worker threads
+   * @param shares
+   *          the share of each lane, indexed by lane ordinal, at least one of which is positive
+   * @return the lane of each worker thread
+   */
+  static Lane[] distribute(int numThreads, int[] shares)
+  {
+    Lane[] assignedLanes = new Lane[numThreads];
+    int[] counts = new int[shares.length];
+    for (int i = 0; i < numThreads; i++)
+    {
+      int best = -1;
+      for (int l = 0; l < shares.length; l++)
+      {
+        if (shares[l] > 0
+            && (best < 0 || (long) shares[l] * (counts[best] + 1) > (long) shares[best] * (counts[l] + 1)))
+        {
+          best = l;
+        }
+      }
+      counts[best]++;
+      assignedLanes[i] = LANES[best];
+    }
+    return assignedLanes;
+  }
+
+  /**
+   * Parses the lane shares of the provided configuration.
+   *
+   * @return the share of each lane, indexed by lane ordinal, or {@code null} if the configuration is not acceptable
+   */
+  private static int[] getLaneShares(MultiLaneWorkQueueCfg configuration, List<LocalizableMessage> unacceptableReasons)
+  {
+    int[] shares = new int[LANES.length];
+    boolean[] defined = new boolean[LANES.length];
+    boolean hasWorkerThreads = false;
+    for (String value : configuration.getLaneWorkerShare())
+    {
+      int colon = value.lastIndexOf(':');
+      Lane lane = Lane.forName(value.substring(0, colon).trim());
+      if (defined[lane.ordinal()])
+      {
+        unacceptableReasons.add(ERR_CONFIG_WORK_QUEUE_DUPLICATE_LANE_SHARE.get(lane.getName(), configuration.dn()));
+        return null;
+      }
+      defined[lane.ordinal()] = true;
+      try
+      {
+        shares[lane.ordinal()] = Integer.parseInt(value.substring(colon + 1).trim());
+      }
+      catch (NumberFormatException e)
+      {
+        shares[lane.ordinal()] = Integer.MAX_VALUE;
+      }
+      hasWorkerThreads |= shares[lane.ordinal()] > 0;
+    }
+    if (!hasWorkerThreads)
+    {
+      unacceptableReasons.add(ERR_CONFIG_WORK_QUEUE_NO_LANE_SHARE.get(configuration.dn()));
+      return null;
+    }
+    return shares;
+  }
+
+  @Override
+  public boolean isConfigurationChangeAcceptable(MultiLaneWorkQueueCfg configuration,
+      List<LocalizableMessage> unacceptableReasons)
+  {
+    return getLaneShares(configuration, unacceptableReasons) != null;
+  }
+
+  @Override
+  public ConfigChangeResult applyConfigurationChange(MultiLaneWorkQueueCfg configuration)
+  {
+    int[] shares = getLaneShares(configuration, new ArrayList<LocalizableMessage>());
+    int newNumThreads = computeNumWorkerThreads(configuration.getNumWorkerThreads());
+    admissionController.setConfiguration(configuration);
+    lock.lock();
+    try
+    {
+      if (!shutdownRequested)
+      {
+        if (configuration.getMaxWorkQueueCapacity() != maxCapacity)
+        {
+          maxCapacity = configuration.getMaxWorkQueueCapacity();
+          for (LaneState state : lanes)
+          {
+            state.notFull.signalAll();
+          }
+        }
+        assignWorkerThreads(newNumThreads, shares);
+      }
+    }
+    finally
+    {
+      lock.unlock();
+    }
+    return new ConfigChangeResult();
+  }
+
+  @Override
+  public boolean isIdle()
+  {
+    lock.lock();
+    try
+    {
+      for (LaneState state : lanes)
+      {
+        if (!state.queue.isEmpty())
+        {
+          return false;
+        }
+      }
+      for (MultiLaneWorkerThread t : workerThreads)
+      {
+        if (t.isActive())
+        {
+          return false;
+        }
+      }
+      for (MultiLaneWorkerThread t : stoppingWorkerThreads)
+      {
+        if (t.isActive())
+        {
+          return false;
+        }
+      }
+      return true;
+    }
+    finally
+    {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int getNumWorkerThreads()
+  {
+    return numWorkerThreads;
+  }
+
+  /**
+   * Retrieves the total number of operations that have been submitted to this work queue since server startup.
+   *
+   * @return The total number of operations that have been submitted to this work queue since startup.
+   */
+  public long getOpsSubmitted()
+  {
+    return opsSubmitted.get();
+  }
+
+  /**
+   * Retrieves the total number of operations that have been rejected because their lane was full.
+   *
+   * @return The total number of operations that have been rejected because their lane was full.
+   */
+  public long getOpsRejectedDueToQueueFull()
+  {
+    return queueFullRejects.get();
+  }
+
+  /**
+   * Retrieves the total number of operations that have been rejected by the admission control because the server was
+   * overloaded.
+   *
+   * @return The total number of operations that have been rejected by the admission control.
+   */
+  public long getOpsRejectedByAdmissionControl()
+  {
+    return admissionController.getOpsRejected();
+  }
+
+  /**
+   * Retrieves the number of times that the admission control detected that the server was overloaded.
+   *
+   * @return The number of times that the server was overloaded.
+   */
+  public long getOverloadPeriods()
+  {
+    return admissionController.getOverloadPeriods();
+  }
+
+  /**
+   * Indicates whether the admission control currently rejects the low priority operations because the server is
+   * overloaded.
+   *
+   * @return {@code true} if the server is overloaded.
+   */
+  public boolean isOverloaded()
+  {
+    return admissionController.isOverloaded();
+  }
+
+  /**
+   * Retrieves the number of pending operations in all the lanes.
+   *
+   * @return The number of pending operations in all the lanes.
+   */
+  public int size()
+  {
+    lock.lock();
+    try
+    {
+      int size = 0;
+      for (LaneState state : lanes)
+      {
+        size += state.queue.size();
+      }
+      return size;
+    }
+    finally
+    {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves the statistics of a lane.
+   *
+   * @param lane
+   *          the lane
+   * @return the statistics of the lane
+   */
+  public LaneStatistics getLaneStatistics(Lane lane)
+  {
+    lock.lock();
+    try
+    {
+      return new LaneStatistics(lanes[lane.ordinal()]);
+    }
+    finally
+    {
+      lock.unlock();
+    }
+  }
+
+  /** A snapshot of the statistics of a lane. */
+  public static final class LaneStatistics
+  {
+    private final int backlog;
+    private final long opsSubmitted;
+    private final int numWorkerThreads;
+    private final long opsDequeued;
+    private final long totalWaitTime;
+    private final long maxWaitTime;
+
+    private LaneStatistics(LaneState state)
+    {
+      backlog = state.queue.size();
+      opsSubmitted = state.opsSubmitted;
+      numWorkerThreads = state.numWorkerThreads;
+      opsDequeued = state.opsDequeued;
+      totalWaitTime = state.totalWaitTime;
+      maxWaitTime = state.maxWaitTime;
+    }
+
+    /**
+     * Returns the number of operations waiting in the lane.
+     *
+     * @return the number of operations waiting in the lane
+     */
+    public int getBacklog()
+    {
+      return backlog;
+    }
+
+    /**
+     * Returns the number of operations submitted to the lane since startup.
+     *
+     * @return the number of operations submitted to the lane since startup
+     */
+    public long getOpsSubmitted()
+    {
+      return opsSubmitted;
+    }
+
+    /**
+     * Returns the number of worker threads assigned to the lane.
+     *
+     * @return the number of worker threads assigned to the lane
+     */
+    public int getNumWorkerThreads()
+    {
+      return numWorkerThreads;
+    }
+
+    /**
+     * Returns the average time spent in the lane by the operations taken from it.
+     *
+     * @return the average wait time in milliseconds
+     */
+    public double getAverageWaitTime()
+    {
+      return opsDequeued != 0 ? totalWaitTime / 1000000.0 / opsDequeued : 0.0;
+    }
+
+    /**
+     * Returns the longest time spent in the lane by an operation taken from it.
+     *
+     * @return the maximum wait time in milliseconds
+     */
+    public double getMaxWaitTime()
+    {
+      return maxWaitTime / 1000000.0;
+    }
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.extensions;
+
+import static org.opends.messages.CoreMessages.*;
+import static org.opends.server.util.StaticUtils.*;
+
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+
+import org.forgerock.i18n.LocalizableMessage;
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+import org.opends.server.api.DirectoryThread;
+import org.opends.server.core.DirectoryServer;
+import org.opends.server.extensions.MultiLaneWorkQueue.Lane;
+import org.opends.server.types.CancelRequest;
+import org.opends.server.types.DisconnectReason;
+import org.opends.server.types.Operation;
+
+/**
+ * A worker thread of the multi-lane work queue. Each worker thread is assigned to a lane, and processes the operations
+ * of the other lanes when its own lane is empty.
+ */
+public class MultiLaneWorkerThread
+       extends DirectoryThread
+{
+  private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+  /** Indicates whether the Directory Server is shutting down and this thread should stop running. */
+  private volatile boolean shutdownRequested;
+
+  /** Indicates whether this thread was stopped because the number of worker threads was reduced. */
+  private volatile boolean stoppedByReducedThreadNumber;
+
+  /** Indicates whether this thread is currently waiting for work. */
+  private volatile boolean waitingForWork;
+
+  /** The operation that this worker thread is currently processing. */
+  private volatile Operation operation;
+
+  /** The lane to which this worker thread is assigned. Guarded by the lock of the work queue. */
+  private Lane lane;
+
+  /** Signaled by the work queue when an operation is available for this worker thread. */
+  private final Condition workAvailable;
+
+  /** The work queue that this worker thread will service. */
+  private final MultiLaneWorkQueue workQueue;
+
+  /**
+   * Creates a new worker thread that will service the provided work queue.
+   *
+   * @param workQueue
+   *          The work queue with which this worker thread is associated.
+   * @param threadID
+   *          The thread ID for this worker thread.
+   * @param lane
+   *          The lane to which this worker thread is assigned.
+   * @param workAvailable
+   *          The condition signaled when an operation is available for this worker thread.
+   */
+  MultiLaneWorkerThread(MultiLaneWorkQueue workQueue, int threadID, Lane lane, Condition workAvailable)
+  {
+    super("Worker Thread " + threadID);
+    this.workQueue = workQueue;
+    this.lane = lane;
+    this.workAvailable = workAvailable;
+  }
+
+  /**
+   * Returns the lane to which this worker thread is assigned. Must be called with the lock of the work queue held.
+   *
+   * @return the lane to which this worker thread is assigned
+   */
+  Lane getLane()
+  {
+    return lane;
+  }
+
+  /**
+   * Assigns this worker thread to another lane. Must be called with the lock of the work queue held.
+   *
+   * @param lane
+   *          the lane to which this worker thread is assigned
+   */
+  void setLane(Lane lane)
+  {
+    this.lane = lane;
+  }
+
+  /**
+   * Returns the condition signaled when an operation is available for this worker thread.
+   *
+   * @return the condition signaled when an operation is available for this worker thread
+   */
+  Condition getWorkAvailable()
+  {
+    return workAvailable;
+  }
+
+  /** Indicates that this thread is about to be stopped because the number of worker threads has been reduced. */
+  void setStoppedByReducedThreadNumber()
+  {
+    stoppedByReducedThreadNumber = true;
+  }
+
+  /**
+   * Indicates whether this thread must stop because the number of worker threads has been reduced.
+   *
+   * @return {@code true} if this thread must stop
+   */
+  boolean isStoppedByReducedThreadNumber()
+  {
+    return stoppedByReducedThreadNumber;
+  }
+
+  /**
+   * Indicates whether this worker thread is actively processing a request. Note that this is a point-in-time
+   * determination.
+   *
+   * @return {@code true} if this worker thread is actively processing a request, or {@code false} if it is idle.
+   */
+  public boolean isActive()
+  {
+    return isAlive() && operation != null;
+  }
+
+  /**
+   * Operates in a loop, retrieving the next request from the work queue, processing it, and then going back to the
+   * queue for more.
+   */
+  @Override
+  public void run()
+  {
+    while (!shutdownRequested)
+    {
+      try
+      {
+        waitingForWork = true;
+        operation = null;
+        operation = workQueue.nextOperation(this);
+        waitingForWork = false;
+
+        if (operation == null)
+        {
+          // The server is shutting down or this thread is no longer needed.
+          break;
+        }
+        operation.run();
+        operation.operationCompleted();
+      }
+      catch (Throwable t)
+      {
+        logger.traceException(t);
+
+        try
+        {
+          LocalizableMessage message =
+              ERR_UNCAUGHT_WORKER_THREAD_EXCEPTION.get(getName(), operation, stackTraceToSingleLineString(t));
+          logger.error(message);
+
+          operation.setResultCode(DirectoryServer.getCoreConfigManager().getServerErrorResultCode());
+          operation.appendErrorMessage(message);
+          operation.getClientConnection().sendResponse(operation);
+          operation.disconnectClient(DisconnectReason.SERVER_ERROR, true, message);
+        }
+        catch (Throwable t2)
+        {
+          logger.traceException(t2);
+        }
+      }
+    }
+
+    if (stoppedByReducedThreadNumber)
+    {
+      logger.debug(INFO_WORKER_STOPPED_BY_REDUCED_THREADNUMBER, getName());
+    }
+    else if (!workQueue.shutdownRequested())
+    {
+      logger.warn(WARN_UNEXPECTED_WORKER_THREAD_EXIT, getName());
+    }
+  }
+
+  /**
+   * Indicates that the Directory Server has received a request to stop running and that this thread should stop
+   * running as soon as possible.
+   */
+  public void shutDown()
+  {
+    shutdownRequested = true;
+
+    if (waitingForWork)
+    {
+      interrupt();
+    }
+    else
+    {
+      try
+      {
+        Operation currentOperation = operation;
+        if (currentOperation != null)
+        {
+          currentOperation.cancel(new CancelRequest(true, INFO_CANCELED_BY_SHUTDOWN.get()));
+        }
+      }
+      catch (Exception e)
+      {
+        logger.traceException(e);
+      }
+    }
+  }
+
+  @Override
+  public Map<String, String> getDebugProperties()
+  {
+    Map<String, String> properties = super.getDebugProperties();
+    Operation currentOperation = operation;
+    if (currentOperation != null)
+    {
+      properties.put("clientConnection", currentOperation.getClientConnection().toString());
+      properties.put("operation", currentOperation.toString());
+    }
+    return properties;
+  }
+}
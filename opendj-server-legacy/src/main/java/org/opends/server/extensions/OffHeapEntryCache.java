@@ -0,0 +1,887 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.extensions;
+
+import static org.opends.messages.ExtensionMessages.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.forgerock.i18n.LocalizableMessage;
+import org.forgerock.i18n.slf4j.LocalizedLogger;
+import org.forgerock.opendj.config.server.ConfigChangeResult;
+import org.forgerock.opendj.config.server.ConfigException;
+import org.forgerock.opendj.config.server.ConfigurationChangeListener;
+import org.forgerock.opendj.ldap.ByteStringBuilder;
+import org.forgerock.opendj.ldap.DN;
+import org.forgerock.opendj.server.config.server.EntryCacheCfg;
+import org.forgerock.opendj.server.config.server.OffHeapEntryCacheCfg;
+import org.forgerock.util.Utils;
+import org.opends.server.api.EntryCache;
+import org.opends.server.api.MonitorData;
+import org.opends.server.core.DirectoryServer;
+import org.opends.server.core.ServerContext;
+import org.opends.server.types.DirectoryException;
+import org.opends.server.types.Entry;
+import org.opends.server.types.EntryEncodeConfig;
+import org.opends.server.types.InitializationException;
+import org.opends.server.types.SearchFilter;
+import org.opends.server.util.ServerConstants;
+
+/**
+ * This class defines a Directory Server entry cache which stores the cached entries serialized in direct memory,
+ * outside of the JVM heap, so that its size is not limited by the size of the heap and that the cached entries do not
+ * add to the garbage collection pauses.
+ * <p>
+ * The entries are encoded like in the entry trees of the backends, with the attribute descriptions and object classes
+ * tokenized by the default compressed schema, and each one is stored in a slot of the smallest size class holding it,
+ * from {@link #MIN_SLOT_SIZE} to {@link #MAX_SLOT_SIZE} bytes. The slots of a size class are carved from slabs of
+ * direct memory, allocated as the cache grows until their total size reaches the maximum size of the cache. Then a
+ * new entry replaces an entry of its size class, chosen by the CLOCK algorithm: the slots are swept in order, and the
+ * first slot which has not been read since the last sweep is evicted. A size class which has no slab yet takes the
+ * last slab of the size class holding the most memory, evicting its entries, so that the entries of every size can be
+ * cached whatever the order they come in.
+ * <p>
+ * Only an index of the cached entries remains on the heap. Each size class is locked independently, and a cache hit
+ * copies the entry in a buffer of the reading thread while holding the lock, then decodes it.
+ */
+public class OffHeapEntryCache
+       extends EntryCache<OffHeapEntryCacheCfg>
+       implements ConfigurationChangeListener<OffHeapEntryCacheCfg>
+{
+  private static final LocalizedLogger logger = LocalizedLogger.getLoggerForThisClass();
+
+  /** The size of the slots of the smallest size class. */
+  private static final int MIN_SLOT_SIZE = 512;
+  /** The number of size classes, each one doubling the size of the slots. */
+  private static final int NB_SIZE_CLASSES = 10;
+  /** The size of the slots of the largest size class: larger entries are not cached. */
+  private static final int MAX_SLOT_SIZE = MIN_SLOT_SIZE << (NB_SIZE_CLASSES - 1);
+  /** The largest size of a slab, unless the slots are larger. */
+  private static final int MAX_SLAB_SIZE = 1024 * 1024;
+  /** The smallest number of slabs the maximum size of the cache is split into. */
+  private static final int MIN_SLABS = 64;
+
+  /** The encoding buffers of the threads reading or writing the cache. */
+  private static final ThreadLocal<ByteStringBuilder> BUFFERS = new ThreadLocal<ByteStringBuilder>()
+  {
+    @Override
+    protected ByteStringBuilder initialValue()
+    {
+      return new ByteStringBuilder(MIN_SLOT_SIZE);
+    }
+  };
+
+  /** A cached entry, stored in a slot of a size class. */
+  private static final class Node
+  {
+    private final DN dn;
+    private final String backendID;
+    private final long entryID;
+    private final SizeClass sizeClass;
+    private final int slot;
+    private final int length;
+
+    private Node(DN dn, String backendID, long entryID, SizeClass sizeClass, int slot, int length)
+    {
+      this.dn = dn;
+      this.backendID = backendID;
+      this.entryID = entryID;
+      this.sizeClass = sizeClass;
+      this.slot = slot;
+      this.length = length;
+    }
+  }
+
+  /** The slots of a given size, and the slabs of direct memory they are carved from. */
+  private static final class SizeClass
+  {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int slotSize;
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private int slotsPerSlab;
+    /** The entries stored in the slots, {@code null} for the free slots. */
+    private Node[] owners = new Node[0];
+    /** The slots read since the last sweep of the clock hand. */
+    private boolean[] referenced = new boolean[0];
+    private int[] freeSlots = new int[0];
+    private int nbFreeSlots;
+    private int hand;
+    /** The size of the slabs, readable without holding the lock to choose a size class giving up a slab. */
+    private volatile long allocatedBytes;
+
+    private SizeClass(int slotSize)
+    {
+      this.slotSize = slotSize;
+    }
+
+    /** Returns the slab holding a slot, positioned at the start of the slot. */
+    private ByteBuffer slabAt(int slot)
+    {
+      final ByteBuffer slab = slabs.get(slot / slotsPerSlab);
+      slab.clear();
+      slab.position((slot % slotsPerSlab) * slotSize);
+      return slab;
+    }
+
+    private int slabSize()
+    {
+      return slotsPerSlab * slotSize;
+    }
+
+    private void addSlab(ByteBuffer slab)
+    {
+      final int firstSlot = owners.length;
+      slabs.add(slab);
+      allocatedBytes += slabSize();
+      owners = Arrays.copyOf(owners, firstSlot + slotsPerSlab);
+      referenced = Arrays.copyOf(referenced, owners.length);
+      freeSlots = Arrays.copyOf(freeSlots, owners.length);
+      for (int slot = owners.length - 1; slot >= firstSlot; slot--)
+      {
+        freeSlots[nbFreeSlots++] = slot;
+      }
+    }
+
+    /** Removes the last slab, whose slots must all be free. */
+    private ByteBuffer removeLastSlab()
+    {
+      final int firstSlot = owners.length - slotsPerSlab;
+      int nbRemainingFreeSlots = 0;
+      for (int i = 0; i < nbFreeSlots; i++)
+      {
+        if (freeSlots[i] < firstSlot)
+        {
+          freeSlots[nbRemainingFreeSlots++] = freeSlots[i];
+        }
+      }
+      nbFreeSlots = nbRemainingFreeSlots;
+      owners = Arrays.copyOf(owners, firstSlot);
+      referenced = Arrays.copyOf(referenced, firstSlot);
+      freeSlots = Arrays.copyOf(freeSlots, firstSlot);
+      if (hand >= firstSlot)
+      {
+        hand = 0;
+      }
+      allocatedBytes -= slabSize();
+      return slabs.remove(slabs.size() - 1);
+    }
+
+    /** Releases the slabs, which are freed once they are garbage collected. */
+    private void removeSlabs(int slabSize)
+    {
+      slabs.clear();
+      allocatedBytes = 0;
+      slotsPerSlab = Math.max(1, slabSize / slotSize);
+      owners = new Node[0];
+      referenced = new boolean[0];
+      freeSlots = new int[0];
+      nbFreeSlots = 0;
+      hand = 0;
+    }
+  }
+
+  private final SizeClass[] sizeClasses = new SizeClass[NB_SIZE_CLASSES];
+  /** The cached entries by DN. */
+  private final ConcurrentMap<DN, Node> nodes = new ConcurrentHashMap<>();
+  /** The cached entries by backend and entry ID. */
+  private final ConcurrentMap<String, ConcurrentMap<Long, Node>> idMap = new ConcurrentHashMap<>();
+
+  private volatile long maxCacheSize;
+  /** The encoding of the cached entries. */
+  private EntryEncodeConfig encodeConfig;
+
+  /** The size of the cached entries. */
+  private final AtomicLong cacheSize = new AtomicLong();
+  private final AtomicLong cacheCount = new AtomicLong();
+  /** The size of the allocated slabs. */
+  private final AtomicLong allocatedSize = new AtomicLong();
+  private final AtomicLong rejections = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong slabRebalances = new AtomicLong();
+  /** Whether the failure to allocate direct memory has been logged. */
+  private final AtomicBoolean allocationFailureLogged = new AtomicBoolean();
+
+  /** Currently registered configuration object. */
+  private OffHeapEntryCacheCfg registeredConfiguration;
+
+  /** Creates a new instance of this off-heap entry cache. */
+  public OffHeapEntryCache()
+  {
+    super();
+    // All initialization should be performed in the initializeEntryCache.
+  }
+
+  @Override
+  public void initializeEntryCache(ServerContext serverContext, OffHeapEntryCacheCfg configuration)
+      throws ConfigException, InitializationException
+  {
+    encodeConfig = new EntryEncodeConfig(false, true, true, DirectoryServer.getDefaultCompressedSchema());
+    for (int i = 0; i < NB_SIZE_CLASSES; i++)
+    {
+      sizeClasses[i] = new SizeClass(MIN_SLOT_SIZE << i);
+    }
+    registeredConfiguration = configuration;
+    configuration.addOffHeapChangeListener(this);
+
+    List<LocalizableMessage> errorMessages = new ArrayList<>();
+    EntryCacheCommon.ConfigErrorHandler errorHandler = EntryCacheCommon.getConfigErrorHandler(
+        EntryCacheCommon.ConfigPhase.PHASE_INIT, null, errorMessages);
+    if (!processEntryCacheConfig(configuration, true, errorHandler))
+    {
+      String buffer = Utils.joinAsString(".  ", errorMessages);
+      throw new ConfigException(ERR_OFFHEAPCACHE_CANNOT_INITIALIZE.get(buffer));
+    }
+  }
+
+  @Override
+  public void finalizeEntryCache()
+  {
+    registeredConfiguration.removeOffHeapChangeListener(this);
+    removeSlabs();
+  }
+
+  @Override
+  public boolean containsEntry(DN entryDN)
+  {
+    return entryDN != null && nodes.containsKey(entryDN);
+  }
+
+  @Override
+  public Entry getEntry(DN entryDN)
+  {
+    if (entryDN == null)
+    {
+      return null;
+    }
+    final Node node = nodes.get(entryDN);
+    if (node == null)
+    {
+      cacheMisses.getAndIncrement();
+      return null;
+    }
+    final ByteStringBuilder buffer = acquireBuffer();
+    final SizeClass sizeClass = node.sizeClass;
+    sizeClass.lock.lock();
+    try
+    {
+      if (sizeClass.owners.length <= node.slot || sizeClass.owners[node.slot] != node)
+      {
+        // Evicted meanwhile
+        cacheMisses.getAndIncrement();
+        return null;
+      }
+      sizeClass.referenced[node.slot] = true;
+      buffer.appendBytes(sizeClass.slabAt(node.slot), node.length);
+    }
+    finally
+    {
+      sizeClass.lock.unlock();
+    }
+
+    try
+    {
+      final Entry entry = Entry.decode(buffer.asReader(), encodeConfig.getCompressedSchema());
+      cacheHits.getAndIncrement();
+      return entry;
+    }
+    catch (DirectoryException e)
+    {
+      logger.traceException(e);
+      release(node);
+      cacheMisses.getAndIncrement();
+      return null;
+    }
+  }
+
+  @Override
+  public long getEntryID(DN entryDN)
+  {
+    if (entryDN == null)
+    {
+      return -1;
+    }
+    final Node node = nodes.get(entryDN);
+    return node != null ? node.entryID : -1;
+  }
+
+  @Override
+  public DN getEntryDN(String backendID, long entryID)
+  {
+    final Map<Long, Node> backendMap = idMap.get(backendID);
+    final Node node = backendMap != null ? backendMap.get(entryID) : null;
+    return node != null ? node.dn : null;
+  }
+
+  @Override
+  public void putEntry(Entry entry, String backendID, long entryID)
+  {
+    put(entry, backendID, entryID, false);
+  }
+
+  @Override
+  public boolean putEntryIfAbsent(Entry entry, String backendID, long entryID)
+  {
+    return put(entry, backendID, entryID, true);
+  }
+
+  /**
+   * Stores an entry in a slot of its size class, and returns {@code false} if it is already cached. The cached
+   * entries are only added to and removed from the index while holding the lock of their size class.
+   */
+  private boolean put(Entry entry, String backendID, long entryID, boolean onlyIfAbsent)
+  {
+    final DN entryDN = entry.getName();
+    if (onlyIfAbsent && nodes.containsKey(entryDN))
+    {
+      return false;
+    }
+    final ByteStringBuilder buffer = acquireBuffer();
+    try
+    {
+      entry.encode(buffer, encodeConfig);
+    }
+    catch (DirectoryException e)
+    {
+      logger.traceException(e);
+      rejections.getAndIncrement();
+      return true;
+    }
+    final SizeClass sizeClass = sizeClassFor(buffer.length());
+    if (sizeClass == null)
+    {
+      rejections.getAndIncrement();
+      return true;
+    }
+
+    final Node previous;
+    sizeClass.lock.lock();
+    try
+    {
+      final int slot = allocateSlot(sizeClass);
+      if (slot < 0)
+      {
+        rejections.getAndIncrement();
+        return true;
+      }
+      final Node node = new Node(entryDN, backendID, entryID, sizeClass, slot, buffer.length());
+      previous = onlyIfAbsent ? nodes.putIfAbsent(entryDN, node) : nodes.put(entryDN, node);
+      if (onlyIfAbsent && previous != null)
+      {
+        sizeClass.freeSlots[sizeClass.nbFreeSlots++] = slot;
+        return false;
+      }
+      buffer.copyTo(sizeClass.slabAt(slot));
+      sizeClass.owners[slot] = node;
+      sizeClass.referenced[slot] = false;
+      cacheSize.addAndGet(node.length);
+      cacheCount.getAndIncrement();
+      getBackendMap(backendID).put(entryID, node);
+    }
+    finally
+    {
+      sizeClass.lock.unlock();
+    }
+
+    if (previous != null)
+    {
+      release(previous);
+    }
+    return true;
+  }
+
+  private ConcurrentMap<Long, Node> getBackendMap(String backendID)
+  {
+    ConcurrentMap<Long, Node> backendMap = idMap.get(backendID);
+    if (backendMap == null)
+    {
+      final ConcurrentMap<Long, Node> newBackendMap = new ConcurrentHashMap<>();
+      backendMap = idMap.putIfAbsent(backendID, newBackendMap);
+      if (backendMap == null)
+      {
+        backendMap = newBackendMap;
+      }
+    }
+    return backendMap;
+  }
+
+  /** Returns the smallest size class holding an encoded entry, or {@code null} if it is too large. */
+  private SizeClass sizeClassFor(int length)
+  {
+    if (length > MAX_SLOT_SIZE)
+    {
+      return null;
+    }
+    final int index = length <= MIN_SLOT_SIZE ? 0
+        : Integer.numberOfLeadingZeros(MIN_SLOT_SIZE - 1) - Integer.numberOfLeadingZeros(length - 1);
+    return sizeClasses[index];
+  }
+
+  /**
+   * Returns a free slot of a size class, allocating a new slab as long as the maximum size of the cache is not
+   * reached, or else taking a slab from another size class if this one has none, or else evicting an entry. Must be
+   * called while holding the lock of the size class.
+   *
+   * @return the slot, or -1 if the size class has no slot
+   */
+  private int allocateSlot(SizeClass sizeClass)
+  {
+    if (sizeClass.nbFreeSlots > 0)
+    {
+      return sizeClass.freeSlots[--sizeClass.nbFreeSlots];
+    }
+    final int slabSize = sizeClass.slabSize();
+    ByteBuffer slab = allocateSlab(slabSize);
+    if (slab == null && sizeClass.owners.length == 0)
+    {
+      slab = takeSlab(sizeClass, slabSize);
+    }
+    if (slab != null)
+    {
+      sizeClass.addSlab(slab);
+      return sizeClass.freeSlots[--sizeClass.nbFreeSlots];
+    }
+
+    final int nbSlots = sizeClass.owners.length;
+    if (nbSlots == 0)
+    {
+      return -1;
+    }
+    for (;;)
+    {
+      final int slot = sizeClass.hand;
+      sizeClass.hand = (slot + 1) % nbSlots;
+      if (sizeClass.referenced[slot])
+      {
+        sizeClass.referenced[slot] = false;
+      }
+      else
+      {
+        final Node victim = sizeClass.owners[slot];
+        if (victim != null)
+        {
+          freeSlot(victim);
+          evictions.getAndIncrement();
+          // The slot has been pushed on the free slots
+          sizeClass.nbFreeSlots--;
+        }
+        return slot;
+      }
+    }
+  }
+
+  /** Allocates a slab of direct memory, or returns {@code null} if it would exceed the maximum size of the cache. */
+  private ByteBuffer allocateSlab(int slabSize)
+  {
+    if (allocatedSize.addAndGet(slabSize) > maxCacheSize)
+    {
+      allocatedSize.addAndGet(-slabSize);
+      return null;
+    }
+    try
+    {
+      return ByteBuffer.allocateDirect(slabSize);
+    }
+    catch (OutOfMemoryError e)
+    {
+      allocatedSize.addAndGet(-slabSize);
+      if (allocationFailureLogged.compareAndSet(false, true))
+      {
+        logger.warn(WARN_OFFHEAPCACHE_CANNOT_ALLOCATE, slabSize, allocatedSize.get(), e.getMessage());
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Evicts the entries of the last slab of the size class holding the most memory, and returns a slab for a size
+   * class which has none. A size class only gives up a slab if it keeps at least another one, and is skipped if it is
+   * locked, to avoid deadlocks between size classes taking slabs from each other. Must be called while holding the
+   * lock of the receiving size class.
+   *
+   * @return the slab, or {@code null} if no size class can give up a slab
+   */
+  private ByteBuffer takeSlab(SizeClass receiver, int slabSize)
+  {
+    SizeClass donor = null;
+    for (SizeClass sizeClass : sizeClasses)
+    {
+      if (sizeClass != receiver && sizeClass.allocatedBytes > sizeClass.slabSize()
+          && (donor == null || sizeClass.allocatedBytes > donor.allocatedBytes))
+      {
+        donor = sizeClass;
+      }
+    }
+    if (donor == null || !donor.lock.tryLock())
+    {
+      return null;
+    }
+    final ByteBuffer slab;
+    try
+    {
+      if (donor.slabs.size() < 2)
+      {
+        return null;
+      }
+      for (int slot = donor.owners.length - donor.slotsPerSlab; slot < donor.owners.length; slot++)
+      {
+        final Node victim = donor.owners[slot];
+        if (victim != null)
+        {
+          freeSlot(victim);
+          evictions.getAndIncrement();
+        }
+      }
+      slab = donor.removeLastSlab();
+      allocatedSize.addAndGet(-slab.capacity());
+    }
+    finally
+    {
+      donor.lock.unlock();
+    }
+    slabRebalances.getAndIncrement();
+
+    if (slab.capacity() == slabSize)
+    {
+      allocatedSize.addAndGet(slabSize);
+      return slab;
+    }
+    // The slots of the receiving size class are larger than the slabs, or the reverse
+    return allocateSlab(slabSize);
+  }
+
+  /**
+   * Removes an entry from the index and frees its slot. Must be called while holding the lock of the size class of the
+   * entry, when the entry is the owner of its slot.
+   */
+  private void freeSlot(Node node)
+  {
+    final SizeClass sizeClass = node.sizeClass;
+    sizeClass.owners[node.slot] = null;
+    sizeClass.freeSlots[sizeClass.nbFreeSlots++] = node.slot;
+    cacheSize.addAndGet(-node.length);
+    cacheCount.getAndDecrement();
+
+    nodes.remove(node.dn, node);
+    final ConcurrentMap<Long, Node> backendMap = idMap.get(node.backendID);
+    if (backendMap != null)
+    {
+      backendMap.remove(node.entryID, node);
+    }
+  }
+
+  /** Removes an entry from the cache, unless it has already been evicted. */
+  private void release(Node node)
+  {
+    final SizeClass sizeClass = node.sizeClass;
+    sizeClass.lock.lock();
+    try
+    {
+      if (node.slot < sizeClass.owners.length && sizeClass.owners[node.slot] == node)
+      {
+        freeSlot(node);
+      }
+    }
+    finally
+    {
+      sizeClass.lock.unlock();
+    }
+  }
+
+  private static ByteStringBuilder acquireBuffer()
+  {
+    final ByteStringBuilder buffer = BUFFERS.get();
+    // Do not keep the buffers grown by the entries too large to be cached
+    buffer.clearAndTruncate(MAX_SLOT_SIZE, MIN_SLOT_SIZE);
+    return buffer;
+  }
+
+  @Override
+  public void removeEntry(DN entryDN)
+  {
+    if (entryDN == null)
+    {
+      return;
+    }
+    final Node node = nodes.get(entryDN);
+    if (node != null)
+    {
+      release(node);
+    }
+  }
+
+  @Override
+  public void clear()
+  {
+    for (SizeClass sizeClass : sizeClasses)
+    {
+      sizeClass.lock.lock();
+      try
+      {
+        for (Node node : sizeClass.owners)
+        {
+          if (node != null)
+          {
+            freeSlot(node);
+          }
+        }
+      }
+      finally
+      {
+        sizeClass.lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public void clearBackend(String backendID)
+  {
+    final Map<Long, Node> backendMap = idMap.remove(backendID);
+    if (backendMap != null)
+    {
+      for (Node node : backendMap.values())
+      {
+        release(node);
+      }
+    }
+  }
+
+  @Override
+  public void handleLowMemory()
+  {
+    // Only the index of the entries is on the heap.
+    // Dump all the entries if there are less than 1000, or else 10% of the entries of each size class.
+    if (cacheCount.get() < 1000)
+    {
+      clear();
+      return;
+    }
+    for (SizeClass sizeClass : sizeClasses)
+    {
+      sizeClass.lock.lock();
+      try
+      {
+        for (int slot = 0; slot < sizeClass.owners.length; slot += 10)
+        {
+          if (sizeClass.owners[slot] != null)
+          {
+            freeSlot(sizeClass.owners[slot]);
+          }
+        }
+      }
+      finally
+      {
+        sizeClass.lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public List<Long> getHotEntryIDs(String backendID, int maxEntries)
+  {
+    // The entries read since the last sweep of the clock hand first
+    final List<Long> referencedEntryIDs = new ArrayList<>();
+    final List<Long> otherEntryIDs = new ArrayList<>();
+    for (SizeClass sizeClass : sizeClasses)
+    {
+      sizeClass.lock.lock();
+      try
+      {
+        for (int slot = 0; slot < sizeClass.owners.length; slot++)
+        {
+          final Node node = sizeClass.owners[slot];
+          if (node != null && backendID.equals(node.backendID))
+          {
+            (sizeClass.referenced[slot] ? referencedEntryIDs : otherEntryIDs).add(node.entryID);
+          }
+        }
+      }
+      finally
+      {
+        sizeClass.lock.unlock();
+      }
+    }
+    referencedEntryIDs.addAll(otherEntryIDs);
+    return new ArrayList<>(referencedEntryIDs.subList(0, Math.min(maxEntries, referencedEntryIDs.size())));
+  }
+
+  /**
+   * Removes all the entries and releases all the slabs, which are freed once they are garbage collected. The next
+   * slabs are allocated with the slab size of the current maximum size of the cache.
+   */
+  private void removeSlabs()
+  {
+    final int slabSize = (int) Math.max(MIN_SLOT_SIZE,
+        Math.min(MAX_SLAB_SIZE, Long.highestOneBit(maxCacheSize / MIN_SLABS)));
+    for (SizeClass sizeClass : sizeClasses)
+    {
+      sizeClass.lock.lock();
+    }
+    try
+    {
+      for (SizeClass sizeClass : sizeClasses)
+      {
+        for (Node node : sizeClass.owners)
+        {
+          if (node != null)
+          {
+            freeSlot(node);
+          }
+        }
+        allocatedSize.addAndGet(-sizeClass.allocatedBytes);
+        sizeClass.removeSlabs(slabSize);
+      }
+      allocationFailureLogged.set(false);
+    }
+    finally
+    {
+      for (SizeClass sizeClass : sizeClasses)
+      {
+        sizeClass.lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public boolean isConfigurationAcceptable(EntryCacheCfg configuration, List<LocalizableMessage> unacceptableReasons)
+  {
+    OffHeapEntryCacheCfg config = (OffHeapEntryCacheCfg) configuration;
+    return isConfigurationChangeAcceptable(config, unacceptableReasons);
+  }
+
+  @Override
+  public boolean isConfigurationChangeAcceptable(OffHeapEntryCacheCfg configuration,
+      List<LocalizableMessage> unacceptableReasons)
+  {
+    EntryCacheCommon.ConfigErrorHandler errorHandler = EntryCacheCommon.getConfigErrorHandler(
+        EntryCacheCommon.ConfigPhase.PHASE_ACCEPTABLE, unacceptableReasons, null);
+    processEntryCacheConfig(configuration, false, errorHandler);
+    return errorHandler.getIsAcceptable();
+  }
+
+  @Override
+  public ConfigChangeResult applyConfigurationChange(OffHeapEntryCacheCfg configuration)
+  {
+    List<LocalizableMessage> errorMessages = new ArrayList<>();
+    EntryCacheCommon.ConfigErrorHandler errorHandler = EntryCacheCommon.getConfigErrorHandler(
+        EntryCacheCommon.ConfigPhase.PHASE_APPLY, null, errorMessages);
+
+    // Do not apply changes unless this cache is enabled.
+    if (configuration.isEnabled())
+    {
+      processEntryCacheConfig(configuration, true, errorHandler);
+    }
+
+    final ConfigChangeResult changeResult = new ConfigChangeResult();
+    changeResult.setResultCode(errorHandler.getResultCode());
+    changeResult.setAdminActionRequired(errorHandler.getIsAdminActionRequired());
+    changeResult.getMessages().addAll(errorHandler.getErrorMessages());
+    return changeResult;
+  }
+
+  /**
+   * Parses the provided configuration and configure the entry cache.
+   *
+   * @param configuration  The new configuration containing the changes.
+   * @param applyChanges   If true then take into account the new configuration.
+   * @param errorHandler   An handler used to report errors.
+   *
+   * @return  <CODE>true</CODE> if configuration is acceptable,
+   *          or <CODE>false</CODE> otherwise.
+   */
+  private boolean processEntryCacheConfig(OffHeapEntryCacheCfg configuration, boolean applyChanges,
+      EntryCacheCommon.ConfigErrorHandler errorHandler)
+  {
+    final DN newConfigEntryDN = configuration.dn();
+    final Set<SearchFilter> newIncludeFilters = EntryCacheCommon.getFilters(
+        configuration.getIncludeFilter(), ERR_CACHE_INVALID_INCLUDE_FILTER, errorHandler, newConfigEntryDN);
+    final Set<SearchFilter> newExcludeFilters = EntryCacheCommon.getFilters(
+        configuration.getExcludeFilter(), ERR_CACHE_INVALID_EXCLUDE_FILTER, errorHandler, newConfigEntryDN);
+
+    if (applyChanges && errorHandler.getIsAcceptable())
+    {
+      final long oldMaxCacheSize = maxCacheSize;
+      maxCacheSize = configuration.getMaxCacheSize();
+      if (maxCacheSize < oldMaxCacheSize || oldMaxCacheSize == 0)
+      {
+        // The slabs cannot be partially released
+        removeSlabs();
+      }
+      setIncludeFilters(newIncludeFilters);
+      setExcludeFilters(newExcludeFilters);
+      registeredConfiguration = configuration;
+    }
+    return errorHandler.getIsAcceptable();
+  }
+
+  @Override
+  public MonitorData getMonitorData()
+  {
+    try
+    {
+      final MonitorData monitorData = EntryCacheCommon.getGenericMonitorData(
+          cacheHits.longValue(),
+          cacheMisses.longValue(),
+          cacheSize.longValue(),
+          maxCacheSize,
+          cacheCount.longValue(),
+          0L);
+      monitorData.add("entryCacheAllocatedSize", allocatedSize.longValue());
+      monitorData.add("entryCacheAdmissionRejections", rejections.longValue());
+      monitorData.add("entryCacheEvictions", evictions.longValue());
+      monitorData.add("entryCacheSlabRebalances", slabRebalances.longValue());
+      return monitorData;
+    }
+    catch (Exception e)
+    {
+      logger.traceException(e);
+      return new MonitorData(0);
+    }
+  }
+
+  @Override
+  public Long getCacheCount()
+  {
+    return cacheCount.longValue();
+  }
+
+  @Override
+  public String toVerboseString()
+  {
+    StringBuilder sb = new StringBuilder();
+    for (Node node : nodes.values())
+    {
+      sb.append(node.dn);
+      sb.append(":");
+      sb.append(node.entryID);
+      sb.append(":");
+      sb.append(node.backendID);
+      sb.append(ServerConstants.EOL);
+    }
+
+    String verboseString = sb.toString();
+    return verboseString.length() > 0 ? verboseString : null;
+  }
+}
@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2013-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.extensions;
 
@@ -63,6 +64,12 @@ public class ParallelWorkQueue
   /** The number of operations that have been submitted to the work queue for processing. */
   private AtomicLong opsSubmitted;
 
+  /**
+   * Rejects the low priority operations while the server is overloaded. Once enabled, it briefly locks on each submitted
+   * and each dequeued operation.
+   */
+  private final WorkQueueAdmissionController admissionController = new WorkQueueAdmissionController();
+
   /**
    * Indicates whether one or more of the worker threads needs to be killed at
    * the next convenient opportunity.
@@ -108,6 +115,7 @@ public class ParallelWorkQueue
 
     // Register to be notified of any configuration changes.
     configuration.addParallelChangeListener(this);
+    admissionController.setConfiguration(configuration);
 
     // Get the necessary configuration from the provided entry.
     numWorkerThreads =
@@ -152,6 +160,7 @@ public class ParallelWorkQueue
     CancelRequest cancelRequest = new CancelRequest(true, reason);
     ArrayList<Operation> pendingOperations = new ArrayList<>();
     opQueue.removeAll(pendingOperations);
+    admissionController.releaseAll();
 
     for (Operation o : pendingOperations)
     {
@@ -216,6 +225,7 @@ public class ParallelWorkQueue
       throw new DirectoryException(ResultCode.UNAVAILABLE, message);
     }
 
+    admissionController.admit(operation);
     opQueue.add(operation);
     queueSemaphore.release();
 
@@ -317,6 +327,10 @@ public class ParallelWorkQueue
         Operation nextOperation = null;
         if (queueSemaphore.tryAcquire(5, TimeUnit.SECONDS)) {
           nextOperation = opQueue.poll();
+          if (nextOperation != null)
+          {
+            admissionController.dequeued(nextOperation);
+          }
         }
         if (nextOperation == null)
         {
@@ -384,7 +398,12 @@ public class ParallelWorkQueue
    */
   public boolean removeOperation(Operation operation)
   {
-    return opQueue.remove(operation);
+    if (opQueue.remove(operation))
+    {
+      admissionController.release(operation);
+      return true;
+    }
+    return false;
   }
 
   /**
@@ -401,6 +420,40 @@ public class ParallelWorkQueue
     return opsSubmitted.longValue();
   }
 
+  /**
+   * Retrieves the total number of operations that have been rejected by the
+   * admission control because the server was overloaded.
+   *
+   * @return The total number of operations that have been rejected by the
+   *         admission control.
+   */
+  public long getOpsRejectedByAdmissionControl()
+  {
+    return admissionController.getOpsRejected();
+  }
+
+  /**
+   * Retrieves the number of times that the admission control detected that the
+   * server was overloaded.
+   *
+   * @return The number of times that the server was overloaded.
+   */
+  public long getOverloadPeriods()
+  {
+    return admissionController.getOverloadPeriods();
+  }
+
+  /**
+   * Indicates whether the admission control currently rejects the low priority
+   * operations because the server is overloaded.
+   *
+   * @return {@code true} if the server is overloaded.
+   */
+  public boolean isOverloaded()
+  {
+    return admissionController.isOverloaded();
+  }
+
   /**
    * Retrieves the number of pending operations in the queue that have not yet
    * been picked up for processing.  Note that this method is not a
@@ -429,6 +482,7 @@ public class ParallelWorkQueue
   {
     int newNumThreads =
         computeNumWorkerThreads(configuration.getNumWorkerThreads());
+    admissionController.setConfiguration(configuration);
 
     // Apply a change to the number of worker threads if appropriate.
     int currentThreads = workerThreads.size();
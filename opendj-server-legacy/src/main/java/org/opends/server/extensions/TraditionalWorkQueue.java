@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2013-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.extensions;
 
@@ -70,6 +71,9 @@ public class TraditionalWorkQueue extends WorkQueue<TraditionalWorkQueueCfg>
    */
   private AtomicLong queueFullRejects;
 
+  /** Rejects the low priority operations while the server is overloaded. */
+  private final WorkQueueAdmissionController admissionController = new WorkQueueAdmissionController();
+
   /**
    * Indicates whether one or more of the worker threads needs to be killed at
    * the next convenient opportunity.
@@ -142,6 +146,7 @@ public class TraditionalWorkQueue extends WorkQueue<TraditionalWorkQueueCfg>
 
       // Register to be notified of any configuration changes.
       configuration.addTraditionalChangeListener(this);
+      admissionController.setConfiguration(configuration);
 
       // Get the necessary configuration from the provided entry.
       numWorkerThreads =
@@ -211,6 +216,7 @@ public class TraditionalWorkQueue extends WorkQueue<TraditionalWorkQueueCfg>
     CancelRequest cancelRequest = new CancelRequest(true, reason);
     ArrayList<Operation> pendingOperations = new ArrayList<>();
     opQueue.removeAll(pendingOperations);
+    admissionController.releaseAll();
     for (Operation o : pendingOperations)
     {
       try
@@ -277,13 +283,25 @@ public class TraditionalWorkQueue extends WorkQueue<TraditionalWorkQueueCfg>
   @Override
   public void submitOperation(Operation operation) throws DirectoryException
   {
-    submitOperation(operation, isBlocking);
+    admissionController.admit(operation);
+    try
+    {
+      submitOperation(operation, isBlocking);
+    }
+    catch (DirectoryException e)
+    {
+      admissionController.release(operation);
+      throw e;
+    }
   }
 
   @Override
   public boolean trySubmitOperation(Operation operation)
       throws DirectoryException
   {
+    // Operations rejected by the admission control must not be processed in
+    // the request handler thread instead, so do not return false for them.
+    admissionController.admit(operation);
     try
     {
       submitOperation(operation, false);
@@ -291,6 +309,7 @@ public class TraditionalWorkQueue extends WorkQueue<TraditionalWorkQueueCfg>
     }
     catch (DirectoryException e)
     {
+      admissionController.release(operation);
       if (ResultCode.BUSY == e.getResultCode())
       {
         return false;
@@ -430,6 +449,7 @@ public class TraditionalWorkQueue extends WorkQueue<TraditionalWorkQueueCfg>
         Operation nextOperation = opQueue.poll(5, TimeUnit.SECONDS);
         if (nextOperation != null)
         {
+          admissionController.dequeued(nextOperation);
           return nextOperation;
         }
 
@@ -565,6 +585,40 @@ public class TraditionalWorkQueue extends WorkQueue<TraditionalWorkQueueCfg>
     return queueFullRejects.longValue();
   }
 
+  /**
+   * Retrieves the total number of operations that have been rejected by the
+   * admission control because the server was overloaded.
+   *
+   * @return The total number of operations that have been rejected by the
+   *         admission control.
+   */
+  public long getOpsRejectedByAdmissionControl()
+  {
+    return admissionController.getOpsRejected();
+  }
+
+  /**
+   * Retrieves the number of times that the admission control detected that the
+   * server was overloaded.
+   *
+   * @return The number of times that the server was overloaded.
+   */
+  public long getOverloadPeriods()
+  {
+    return admissionController.getOverloadPeriods();
+  }
+
+  /**
+   * Indicates whether the admission control currently rejects the low priority
+   * operations because the server is overloaded.
+   *
+   * @return {@code true} if the server is overloaded.
+   */
+  public boolean isOverloaded()
+  {
+    return admissionController.isOverloaded();
+  }
+
   /**
    * Retrieves the number of pending operations in the queue that have not yet
    * been picked up for processing. Note that this method is not a constant-time
@@ -601,6 +655,7 @@ public class TraditionalWorkQueue extends WorkQueue<TraditionalWorkQueueCfg>
     int newNumThreads =
         computeNumWorkerThreads(configuration.getNumWorkerThreads());
     int newMaxCapacity = configuration.getMaxWorkQueueCapacity();
+    admissionController.setConfiguration(configuration);
 
     // Apply a change to the number of worker threads if appropriate.
     int currentThreads = workerThreads.size();
@@ -695,10 +750,12 @@ public class TraditionalWorkQueue extends WorkQueue<TraditionalWorkQueueCfg>
         CancelRequest cancelRequest = new CancelRequest(true, message);
         if (pendingOperation != null)
         {
+          admissionController.release(pendingOperation);
           pendingOperation.abort(cancelRequest);
         }
         while ((pendingOperation = oldOpQueue.poll()) != null)
         {
+          admissionController.release(pendingOperation);
           pendingOperation.abort(cancelRequest);
         }
       }
@@ -0,0 +1,337 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.extensions;
+
+import static java.util.concurrent.TimeUnit.*;
+
+import static org.opends.messages.CoreMessages.*;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.forgerock.opendj.ldap.DN;
+import org.forgerock.opendj.ldap.ResultCode;
+import org.forgerock.opendj.server.config.server.WorkQueueCfg;
+import org.opends.server.api.ClientConnection;
+import org.opends.server.types.AuthenticationInfo;
+import org.opends.server.types.DirectoryException;
+import org.opends.server.types.Operation;
+
+/**
+ * Rejects the new low priority operations submitted to a work queue while the server is overloaded.
+ * <p>
+ * The overload is detected like in the CoDel queue management algorithm: the server is overloaded when every
+ * operation taken from the work queue during an interval has waited longer than a target delay, and it is no longer
+ * overloaded as soon as an operation has waited less than the target delay. Unlike the length of the queue, this
+ * signal does not depend on the number of worker threads nor on the cost of the operations.
+ * <p>
+ * While the server is overloaded, the operations which may be retried by the clients are rejected with a busy result,
+ * but only if their client connection or their authenticated user has at least its fair share of the queued
+ * operations, so that the clients submitting the most operations are rejected first, and the other clients are still
+ * served. The server is no longer overloaded either once all the admitted operations have been taken from the work
+ * queue, since there is no standing queue anymore.
+ * <p>
+ * While the admission control is disabled, this class does not take any lock. Once enabled, each submitted and each
+ * dequeued operation briefly takes the lock of this controller to maintain the fair share counts, including on the
+ * otherwise lock-free path of the parallel work queue.
+ */
+final class WorkQueueAdmissionController
+{
+  /** The client connection and the authenticated user of a queued operation, and the time it was queued. */
+  private static final class Ticket
+  {
+    private final long queuedTime = System.nanoTime();
+    private final Long connectionID;
+    private final DN authenticationDN;
+
+    private Ticket(Long connectionID, DN authenticationDN)
+    {
+      this.connectionID = connectionID;
+      this.authenticationDN = authenticationDN;
+    }
+  }
+
+  /** The target delay in nanoseconds, or 0 if the admission control is disabled. */
+  private volatile long targetDelay;
+  /** The interval in nanoseconds. */
+  private volatile long interval;
+  /** Indicates whether the server is overloaded. Only modified with the lock held. */
+  private volatile boolean overloaded;
+
+  /** Guarded by this. The time when the server will be overloaded if the operations keep waiting too long. */
+  private long firstAboveTime;
+  /** Guarded by this. The admitted operations which have not been taken from the work queue yet. */
+  private final Map<Operation, Ticket> tickets = new IdentityHashMap<>();
+  /** Guarded by this. The number of queued operations by client connection. */
+  private final Map<Long, int[]> queuedByConnection = new HashMap<>();
+  /** Guarded by this. The number of queued operations by authenticated user. */
+  private final Map<DN, int[]> queuedByUser = new HashMap<>();
+  /** Guarded by this. The number of queued operations of authenticated users. */
+  private int numQueuedByUsers;
+  /** The number of admitted operations which have not been taken from the work queue yet. */
+  private volatile int numQueued;
+
+  private final AtomicLong opsRejected = new AtomicLong();
+  private final AtomicLong overloadPeriods = new AtomicLong();
+
+  /**
+   * Applies the admission control configuration of a work queue.
+   *
+   * @param configuration
+   *          the work queue configuration
+   */
+  void setConfiguration(WorkQueueCfg configuration)
+  {
+    interval = MILLISECONDS.toNanos(configuration.getAdmissionControlInterval());
+    targetDelay = MILLISECONDS.toNanos(configuration.getAdmissionControlTargetDelay());
+    synchronized (this)
+    {
+      firstAboveTime = 0;
+      overloaded = false;
+    }
+  }
+
+  /**
+   * Decides whether an operation may be submitted to the work queue. Once admitted, the operation must be passed to
+   * {@link #dequeued(Operation)} when it is taken from the work queue, or to {@link #release(Operation)} if it could
+   * not be queued.
+   *
+   * @param operation
+   *          the operation submitted to the work queue
+   * @throws DirectoryException
+   *           with a busy result code if the operation is rejected
+   */
+  void admit(Operation operation) throws DirectoryException
+  {
+    long target = targetDelay;
+    if (target == 0)
+    {
+      return;
+    }
+
+    ClientConnection clientConnection = operation.getClientConnection();
+    AuthenticationInfo authenticationInfo = clientConnection.getAuthenticationInfo();
+    Ticket ticket = new Ticket(clientConnection.getConnectionID(),
+        authenticationInfo != null ? authenticationInfo.getAuthenticationDN() : null);
+    synchronized (this)
+    {
+      if (overloaded && isLowPriority(operation) && hasFairShare(ticket))
+      {
+        opsRejected.incrementAndGet();
+        throw new DirectoryException(ResultCode.BUSY,
+            WARN_OP_REJECTED_BY_ADMISSION_CONTROL.get(NANOSECONDS.toMillis(target)));
+      }
+
+      tickets.put(operation, ticket);
+      numQueued = tickets.size();
+      increment(queuedByConnection, ticket.connectionID, 1);
+      if (ticket.authenticationDN != null)
+      {
+        increment(queuedByUser, ticket.authenticationDN, 1);
+        numQueuedByUsers++;
+      }
+    }
+  }
+
+  /**
+   * Indicates that an admitted operation could not be queued.
+   *
+   * @param operation
+   *          the operation which could not be queued
+   */
+  void release(Operation operation)
+  {
+    if (targetDelay != 0 || numQueued != 0)
+    {
+      synchronized (this)
+      {
+        removeTicket(operation);
+        leaveOverloadIfDrained();
+      }
+    }
+  }
+
+  /**
+   * Indicates that an operation has been taken from the work queue, and updates the overload state with the time it
+   * waited in the queue.
+   *
+   * @param operation
+   *          the operation taken from the work queue
+   */
+  void dequeued(Operation operation)
+  {
+    if (targetDelay == 0 && numQueued == 0)
+    {
+      return;
+    }
+
+    long now = System.nanoTime();
+    synchronized (this)
+    {
+      Ticket ticket = removeTicket(operation);
+      if (ticket == null)
+      {
+        return;
+      }
+      long target = targetDelay;
+      if (target == 0 || now - ticket.queuedTime < target)
+      {
+        firstAboveTime = 0;
+        overloaded = false;
+      }
+      else if (firstAboveTime == 0)
+      {
+        firstAboveTime = now + interval;
+      }
+      else if (!overloaded && now - firstAboveTime >= 0 && !tickets.isEmpty())
+      {
+        overloaded = true;
+        overloadPeriods.incrementAndGet();
+      }
+      leaveOverloadIfDrained();
+    }
+  }
+
+  /** Forgets all the admitted operations, for example when the work queue is finalized. */
+  synchronized void releaseAll()
+  {
+    tickets.clear();
+    numQueued = 0;
+    queuedByConnection.clear();
+    queuedByUser.clear();
+    numQueuedByUsers = 0;
+    leaveOverloadIfDrained();
+  }
+
+  /**
+   * Indicates whether the server is currently overloaded.
+   *
+   * @return {@code true} if new low priority operations are currently rejected
+   */
+  boolean isOverloaded()
+  {
+    return overloaded;
+  }
+
+  /**
+   * Returns the number of operations rejected since startup.
+   *
+   * @return the number of operations rejected since startup
+   */
+  long getOpsRejected()
+  {
+    return opsRejected.get();
+  }
+
+  /**
+   * Returns the number of times the server became overloaded since startup.
+   *
+   * @return the number of times the server became overloaded since startup
+   */
+  long getOverloadPeriods()
+  {
+    return overloadPeriods.get();
+  }
+
+  /** Bind, unbind, abandon, internal and replication operations are never rejected. */
+  private static boolean isLowPriority(Operation operation)
+  {
+    if (operation.isInternalOperation() || operation.isSynchronizationOperation()
+        || operation.getOperationType() == null)
+    {
+      return false;
+    }
+    switch (operation.getOperationType())
+    {
+    case BIND:
+    case UNBIND:
+    case ABANDON:
+      return false;
+    default:
+      return true;
+    }
+  }
+
+  /**
+   * Indicates whether the client connection or the authenticated user of an operation already has at least its fair
+   * share of the queued operations. Must be called with the lock held.
+   */
+  private boolean hasFairShare(Ticket ticket)
+  {
+    if (tickets.isEmpty())
+    {
+      // Nothing is queued, so nobody can have more than its share.
+      return false;
+    }
+    if (count(queuedByConnection, ticket.connectionID) >= tickets.size() / queuedByConnection.size())
+    {
+      return true;
+    }
+    return ticket.authenticationDN != null
+        && count(queuedByUser, ticket.authenticationDN) > 0
+        && count(queuedByUser, ticket.authenticationDN) >= numQueuedByUsers / queuedByUser.size();
+  }
+
+  /** The server cannot stay overloaded without queued operations to dequeue. Must be called with the lock held. */
+  private void leaveOverloadIfDrained()
+  {
+    if (tickets.isEmpty())
+    {
+      firstAboveTime = 0;
+      overloaded = false;
+    }
+  }
+
+  /** Must be called with the lock held. */
+  private Ticket removeTicket(Operation operation)
+  {
+    Ticket ticket = tickets.remove(operation);
+    if (ticket != null)
+    {
+      numQueued = tickets.size();
+      increment(queuedByConnection, ticket.connectionID, -1);
+      if (ticket.authenticationDN != null)
+      {
+        increment(queuedByUser, ticket.authenticationDN, -1);
+        numQueuedByUsers--;
+      }
+    }
+    return ticket;
+  }
+
+  private static <K> int count(Map<K, int[]> counts, K key)
+  {
+    int[] count = counts.get(key);
+    return count != null ? count[0] : 0;
+  }
+
+  private static <K> void increment(Map<K, int[]> counts, K key, int delta)
+  {
+    int[] count = counts.get(key);
+    if (count == null)
+    {
+      count = new int[1];
+      counts.put(key, count);
+    }
+    count[0] += delta;
+    if (count[0] <= 0)
+    {
+      counts.remove(key);
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.monitors;
+
+import java.util.concurrent.TimeUnit;
+
+import org.forgerock.opendj.config.server.ConfigException;
+import org.forgerock.opendj.server.config.server.MonitorProviderCfg;
+import org.opends.server.api.MonitorData;
+import org.opends.server.api.MonitorProvider;
+import org.opends.server.extensions.MultiLaneWorkQueue;
+import org.opends.server.extensions.MultiLaneWorkQueue.Lane;
+import org.opends.server.extensions.MultiLaneWorkQueue.LaneStatistics;
+import org.opends.server.types.InitializationException;
+
+/**
+ * This class defines a Directory Server monitor that can be used to provide information about the state of the
+ * multi-lane work queue, globally and for each lane.
+ */
+public class MultiLaneWorkQueueMonitor
+       extends MonitorProvider<MonitorProviderCfg>
+       implements Runnable
+{
+  /** The name to use for the monitor attribute that provides the current request backlog. */
+  public static final String ATTR_CURRENT_BACKLOG = ParallelWorkQueueMonitor.ATTR_CURRENT_BACKLOG;
+  /** The name to use for the monitor attribute that provides the average request backlog. */
+  public static final String ATTR_AVERAGE_BACKLOG = ParallelWorkQueueMonitor.ATTR_AVERAGE_BACKLOG;
+  /** The name to use for the monitor attribute that provides the maximum observed request backlog. */
+  public static final String ATTR_MAX_BACKLOG = ParallelWorkQueueMonitor.ATTR_MAX_BACKLOG;
+  /** The name to use for the monitor attribute that provides the total number of operations submitted. */
+  public static final String ATTR_OPS_SUBMITTED = ParallelWorkQueueMonitor.ATTR_OPS_SUBMITTED;
+  /** The name to use for the monitor attribute that provides the number of requests rejected by a full lane. */
+  public static final String ATTR_OPS_REJECTED_QUEUE_FULL = TraditionalWorkQueueMonitor.ATTR_OPS_REJECTED_QUEUE_FULL;
+  /** The name to use for the monitor attribute that provides the number of requests rejected by admission control. */
+  public static final String ATTR_OPS_REJECTED_ADMISSION_CONTROL =
+      ParallelWorkQueueMonitor.ATTR_OPS_REJECTED_ADMISSION_CONTROL;
+  /** The name to use for the monitor attribute that provides the number of times the server was overloaded. */
+  public static final String ATTR_OVERLOAD_PERIODS = ParallelWorkQueueMonitor.ATTR_OVERLOAD_PERIODS;
+  /** The name to use for the monitor attribute that indicates whether the admission control rejects requests. */
+  public static final String ATTR_OVERLOADED = ParallelWorkQueueMonitor.ATTR_OVERLOADED;
+
+  /** The suffix of the monitor attribute providing the current backlog of a lane. */
+  private static final String ATTR_LANE_BACKLOG = "RequestBacklog";
+  /** The suffix of the monitor attribute providing the number of operations submitted to a lane. */
+  private static final String ATTR_LANE_OPS_SUBMITTED = "RequestsSubmitted";
+  /** The suffix of the monitor attribute providing the number of worker threads of a lane. */
+  private static final String ATTR_LANE_WORKER_THREADS = "WorkerThreads";
+  /** The suffix of the monitor attribute providing the average wait time in milliseconds in a lane. */
+  private static final String ATTR_LANE_AVERAGE_WAIT_TIME = "AverageWaitTime";
+  /** The suffix of the monitor attribute providing the maximum wait time in milliseconds in a lane. */
+  private static final String ATTR_LANE_MAX_WAIT_TIME = "MaxWaitTime";
+
+  /** The maximum backlog observed by polling the queue. */
+  private int maxBacklog;
+  /** The total number of times the backlog has been polled. */
+  private long numPolls;
+  /** The total backlog observed from periodic polling. */
+  private long totalBacklog;
+
+  /** The work queue with which this monitor is associated. */
+  private final MultiLaneWorkQueue workQueue;
+
+  /**
+   * Initializes this monitor provider.
+   *
+   * @param workQueue
+   *          The work queue with which this monitor is associated.
+   */
+  public MultiLaneWorkQueueMonitor(MultiLaneWorkQueue workQueue)
+  {
+    this.workQueue = workQueue;
+  }
+
+  @Override
+  public void initializeMonitorProvider(MonitorProviderCfg configuration)
+         throws ConfigException, InitializationException
+  {
+    maxBacklog = 0;
+    totalBacklog = 0;
+    numPolls = 0;
+    scheduleUpdate(this, 0, 10, TimeUnit.SECONDS);
+  }
+
+  @Override
+  public String getMonitorInstanceName()
+  {
+    return "Work Queue";
+  }
+
+  @Override
+  public synchronized void run()
+  {
+    int backlog = workQueue.size();
+    totalBacklog += backlog;
+    numPolls++;
+    if (backlog > maxBacklog)
+    {
+      maxBacklog = backlog;
+    }
+  }
+
+  @Override
+  public MonitorData getMonitorData()
+  {
+    run();
+    final MonitorData monitorAttrs = new MonitorData(8 + 5 * Lane.values().length);
+    synchronized (this)
+    {
+      monitorAttrs.add(ATTR_CURRENT_BACKLOG, workQueue.size());
+      monitorAttrs.add(ATTR_AVERAGE_BACKLOG, (long) (1.0 * totalBacklog / numPolls));
+      monitorAttrs.add(ATTR_MAX_BACKLOG, maxBacklog);
+    }
+    monitorAttrs.add(ATTR_OPS_SUBMITTED, workQueue.getOpsSubmitted());
+    monitorAttrs.add(ATTR_OPS_REJECTED_QUEUE_FULL, workQueue.getOpsRejectedDueToQueueFull());
+    monitorAttrs.add(ATTR_OPS_REJECTED_ADMISSION_CONTROL, workQueue.getOpsRejectedByAdmissionControl());
+    monitorAttrs.add(ATTR_OVERLOAD_PERIODS, workQueue.getOverloadPeriods());
+    monitorAttrs.add(ATTR_OVERLOADED, workQueue.isOverloaded());
+
+    for (Lane lane : Lane.values())
+    {
+      LaneStatistics statistics = workQueue.getLaneStatistics(lane);
+      String prefix = getAttributePrefix(lane);
+      monitorAttrs.add(prefix + ATTR_LANE_BACKLOG, statistics.getBacklog());
+      monitorAttrs.add(prefix + ATTR_LANE_OPS_SUBMITTED, statistics.getOpsSubmitted());
+      monitorAttrs.add(prefix + ATTR_LANE_WORKER_THREADS, statistics.getNumWorkerThreads());
+      monitorAttrs.add(prefix + ATTR_LANE_AVERAGE_WAIT_TIME, statistics.getAverageWaitTime());
+      monitorAttrs.add(prefix + ATTR_LANE_MAX_WAIT_TIME, statistics.getMaxWaitTime());
+    }
+    return monitorAttrs;
+  }
+
+  /**
+   * Returns the prefix of the monitor attributes of a lane, for example "expensiveReadLane" for the expensive-read
+   * lane.
+   *
+   * @param lane
+   *          the lane
+   * @return the prefix of the monitor attributes of the lane
+   */
+  public static String getAttributePrefix(Lane lane)
+  {
+    StringBuilder prefix = new StringBuilder();
+    boolean upperCase = false;
+    for (char c : lane.getName().toCharArray())
+    {
+      if (c == '-')
+      {
+        upperCase = true;
+      }
+      else
+      {
+        prefix.append(upperCase ? Character.toUpperCase(c) : c);
+        upperCase = false;
+      }
+    }
+    return prefix.append("Lane").toString();
+  }
+}
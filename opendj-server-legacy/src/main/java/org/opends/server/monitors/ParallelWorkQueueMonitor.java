@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2014-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.monitors;
 
@@ -47,6 +48,22 @@ public class ParallelWorkQueueMonitor
    * operations submitted.
    */
   public static final String ATTR_OPS_SUBMITTED = "requestsSubmitted";
+  /**
+   * The name to use for the monitor attribute that provides the total number of
+   * requests that have been rejected by the admission control because the
+   * server was overloaded.
+   */
+  public static final String ATTR_OPS_REJECTED_ADMISSION_CONTROL = "requestsRejectedByAdmissionControl";
+  /**
+   * The name to use for the monitor attribute that provides the number of times
+   * that the admission control detected that the server was overloaded.
+   */
+  public static final String ATTR_OVERLOAD_PERIODS = "overloadPeriods";
+  /**
+   * The name to use for the monitor attribute that indicates whether the
+   * admission control currently rejects requests.
+   */
+  public static final String ATTR_OVERLOADED = "overloaded";
 
 
   /** The maximum backlog observed by polling the queue. */
@@ -126,11 +143,14 @@ public class ParallelWorkQueueMonitor
 
     long averageBacklog = (long) (1.0 * totalBacklog / numPolls);
 
-    final MonitorData monitorAttrs = new MonitorData(4);
+    final MonitorData monitorAttrs = new MonitorData(7);
     monitorAttrs.add(ATTR_CURRENT_BACKLOG, backlog);
     monitorAttrs.add(ATTR_AVERAGE_BACKLOG, averageBacklog);
     monitorAttrs.add(ATTR_MAX_BACKLOG, maxBacklog);
     monitorAttrs.add(ATTR_OPS_SUBMITTED, workQueue.getOpsSubmitted());
+    monitorAttrs.add(ATTR_OPS_REJECTED_ADMISSION_CONTROL, workQueue.getOpsRejectedByAdmissionControl());
+    monitorAttrs.add(ATTR_OVERLOAD_PERIODS, workQueue.getOverloadPeriods());
+    monitorAttrs.add(ATTR_OVERLOADED, workQueue.isOverloaded());
     return monitorAttrs;
   }
 }
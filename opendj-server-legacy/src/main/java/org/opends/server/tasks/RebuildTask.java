@@ -168,6 +168,25 @@ public class RebuildTask extends Task
       return TaskState.STOPPED_BY_ERROR;
     }
 
+    // Untrusted attribute indexes are rebuilt without disabling the backend.
+    if (!isClearDegradedState)
+    {
+      try
+      {
+        if (backend.rebuildBackendOnline(rebuildConfig))
+        {
+          return TaskState.COMPLETED_SUCCESSFULLY;
+        }
+      }
+      catch (InitializationException | DirectoryException e)
+      {
+        logger.traceException(e);
+
+        logger.error(ERR_REBUILDINDEX_ERROR_DURING_REBUILD, getExceptionMessage(e));
+        return TaskState.STOPPED_BY_ERROR;
+      }
+    }
+
     // If we are rebuilding one or more system indexes, we have
     // to acquire exclusive lock. Shared lock in 'cleardegradedstate' mode.
     String lockFile = LockFileManager.getBackendLockFileName(backend);
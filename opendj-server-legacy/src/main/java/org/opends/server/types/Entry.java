@@ -13,7 +13,7 @@
  *
  * Copyright 2006-2010 Sun Microsystems, Inc.
  * Portions Copyright 2011-2016 ForgeRock AS.
- * Portions Copyright 2023-2024 3A Systems, LLC.
+ * Portions Copyright 2023-2024, 2026 3A Systems, LLC.
  */
 package org.opends.server.types;
 
@@ -3352,6 +3352,35 @@ public class Entry
   public static Entry decode(ByteSequenceReader entryBuffer,
                              CompressedSchema compressedSchema)
          throws DirectoryException
+  {
+    return decode(entryBuffer, compressedSchema, null);
+  }
+
+
+
+  /**
+   * Decodes the provided byte array as a partial entry, keeping only
+   * the attributes of the provided types and of their subtypes. The
+   * values of the other attributes are skipped without being decoded.
+   * The DN and the object classes of the entry are always decoded.
+   *
+   * @param  entryBuffer       The byte buffer containing the data to
+   *                           be decoded.
+   * @param  compressedSchema  The compressed schema manager to use
+   *                           when decoding tokenized schema
+   *                           elements.
+   * @param  attributeTypes    The types of the attributes to decode,
+   *                           or {@code null} to decode all of them.
+   *
+   * @return  The decoded entry.
+   *
+   * @throws  DirectoryException  If the provided byte array cannot be
+   *                              decoded as an entry.
+   */
+  public static Entry decode(ByteSequenceReader entryBuffer,
+                             CompressedSchema compressedSchema,
+                             Collection<AttributeType> attributeTypes)
+         throws DirectoryException
   {
     try
     {
@@ -3410,9 +3439,9 @@ public class Entry
       // Now, we should iterate through the user and operational attributes and
       // decode each one.
       Map<AttributeType, List<Attribute>> userAttributes =
-          decodeAttributes(version, entryBuffer, config);
+          decodeAttributes(version, entryBuffer, config, attributeTypes);
       Map<AttributeType, List<Attribute>> operationalAttributes =
-          decodeAttributes(version, entryBuffer, config);
+          decodeAttributes(version, entryBuffer, config, attributeTypes);
 
 
       // We've got everything that we need, so create and return the entry.
@@ -3533,6 +3562,8 @@ public class Entry
    *                     entry.
    * @param  config  The configuration that may be used to control how
    *                 the entry is encoded.
+   * @param  attributeTypes  The types of the attributes to decode, or
+   *                         {@code null} to decode all of them.
    *
    * @return  A map of the decoded object classes.
    * @throws  DirectoryException  If a problem occurs while attempting
@@ -3540,7 +3571,9 @@ public class Entry
    */
   private static Map<AttributeType, List<Attribute>>
   decodeAttributes(Byte ver, ByteSequenceReader entryBuffer,
-                   EntryEncodeConfig config) throws DirectoryException
+                   EntryEncodeConfig config,
+                   Collection<AttributeType> attributeTypes)
+         throws DirectoryException
   {
     // Next is the total number of attributes.  It may be a
     // single byte or multiple bytes.
@@ -3558,9 +3591,18 @@ public class Entry
           // Version 2 includes a total attribute length
           entryBuffer.readBERLength();
         }
-        // Decode the attribute.
-        Attribute a = config.getCompressedSchema().decodeAttribute(entryBuffer);
-        AttributeType attrType = a.getAttributeDescription().getAttributeType();
+        // Decode the attribute, or skip its values if it is not wanted.
+        CompressedSchema compressedSchema = config.getCompressedSchema();
+        AttributeDescription attrDesc =
+            compressedSchema.decodeAttributeDescription(entryBuffer);
+        AttributeType attrType = attrDesc.getAttributeType();
+        if (!isWanted(attrType, attributeTypes))
+        {
+          compressedSchema.skipAttributeValues(entryBuffer);
+          continue;
+        }
+        Attribute a =
+            compressedSchema.decodeAttributeValues(entryBuffer, attrDesc);
         List<Attribute> attrList = attributes.get(attrType);
         if (attrList == null)
         {
@@ -3585,10 +3627,22 @@ public class Entry
         String name = entryBuffer.readStringUtf8(endPos - startPos);
         entryBuffer.skip(1);
 
-        final AttributeBuilder builder = new AttributeBuilder(name);
+        AttributeDescription attrDesc = AttributeDescription.valueOf(name);
+        AttributeType attributeType = attrDesc.getAttributeType();
 
         // Next, we have the number of values.
         int numValues = entryBuffer.readBERLength();
+        if (!isWanted(attributeType, attributeTypes))
+        {
+          // Skip the sequence of length-value pairs.
+          for (int j=0; j < numValues; j++)
+          {
+            entryBuffer.skip(entryBuffer.readBERLength());
+          }
+          continue;
+        }
+
+        final AttributeBuilder builder = new AttributeBuilder(attrDesc);
 
         // Next, we have the sequence of length-value pairs.
         for (int j=0; j < numValues; j++)
@@ -3600,7 +3654,6 @@ public class Entry
 
         // Create the attribute and add it to the set of attributes.
         Attribute a = builder.toAttribute();
-        AttributeType attributeType = a.getAttributeDescription().getAttributeType();
         List<Attribute> attrList = attributes.get(attributeType);
         if (attrList == null)
         {
@@ -3614,6 +3667,23 @@ public class Entry
     return attributes;
   }
 
+  private static boolean isWanted(AttributeType attributeType,
+      Collection<AttributeType> attributeTypes)
+  {
+    if (attributeTypes == null)
+    {
+      return true;
+    }
+    for (AttributeType wantedType : attributeTypes)
+    {
+      if (wantedType.isSuperTypeOf(attributeType))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Retrieves a list of the lines for this entry in LDIF form.  Long
    * lines will not be wrapped automatically.
@@ -3689,6 +3759,32 @@ public class Entry
    */
   public boolean toLDIF(LDIFExportConfig exportConfig)
          throws IOException, LDIFException
+  {
+    return toLDIF(exportConfig, exportConfig.getWriter());
+  }
+
+
+  /**
+   * Writes this entry in LDIF form according to the provided
+   * configuration, to the provided writer rather than to the writer of
+   * the configuration. This allows several threads to format entries of
+   * the same export, whose output is then written in order.
+   *
+   * @param  exportConfig  The configuration that specifies how the
+   *                       entry should be written.
+   * @param  writer        The writer to which the entry is written.
+   *
+   * @return  {@code true} if the entry is actually written, or
+   *          {@code false} if it is not for some reason.
+   *
+   * @throws  IOException  If a problem occurs while writing the
+   *                       information.
+   *
+   * @throws  LDIFException  If a problem occurs while trying to
+   *                         determine whether to write the entry.
+   */
+  public boolean toLDIF(LDIFExportConfig exportConfig, BufferedWriter writer)
+         throws IOException, LDIFException
   {
     // See if this entry should be included in the export at all.
     try
@@ -3722,7 +3818,6 @@ public class Entry
 
 
     // Get the information necessary to write the LDIF.
-    BufferedWriter writer     = exportConfig.getWriter();
     int            wrapColumn = exportConfig.getWrapColumn();
     boolean        wrapLines  = wrapColumn > 1;
 
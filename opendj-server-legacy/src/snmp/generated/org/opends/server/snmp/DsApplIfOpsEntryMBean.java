@@ -0,0 +1,147 @@
+package org.opends.server.snmp;
+
+//
+// Generated by mibgen version 5.1 (03/08/07) when compiling DIRECTORY-SERVER-MIB in standard metadata mode.
+//
+
+
+// jmx imports
+//
+import com.sun.management.snmp.SnmpStatusException;
+
+/**
+ * This interface is used for representing the remote management interface for the "DsApplIfOpsEntry" MBean.
+ */
+public interface DsApplIfOpsEntryMBean {
+
+    /**
+     * Getter for the "DsApplIfChainings" variable.
+     */
+    public Long getDsApplIfChainings() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfReferrals" variable.
+     */
+    public Long getDsApplIfReferrals() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfWholeSubtreeSearchOps" variable.
+     */
+    public Long getDsApplIfWholeSubtreeSearchOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfOneLevelSearchOps" variable.
+     */
+    public Long getDsApplIfOneLevelSearchOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfSearchOps" variable.
+     */
+    public Long getDsApplIfSearchOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfListOps" variable.
+     */
+    public Long getDsApplIfListOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfModifyRDNOps" variable.
+     */
+    public Long getDsApplIfModifyRDNOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfModifyEntryOps" variable.
+     */
+    public Long getDsApplIfModifyEntryOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfRemoveEntryOps" variable.
+     */
+    public Long getDsApplIfRemoveEntryOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfAddEntryOps" variable.
+     */
+    public Long getDsApplIfAddEntryOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfCompareOps" variable.
+     */
+    public Long getDsApplIfCompareOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfReadOps" variable.
+     */
+    public Long getDsApplIfReadOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfInOps" variable.
+     */
+    public Long getDsApplIfInOps() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfBindSecurityErrors" variable.
+     */
+    public Long getDsApplIfBindSecurityErrors() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfStrongAuthBinds" variable.
+     */
+    public Long getDsApplIfStrongAuthBinds() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfOutBytes" variable.
+     */
+    public Long getDsApplIfOutBytes() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfSimpleAuthBinds" variable.
+     */
+    public Long getDsApplIfSimpleAuthBinds() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfUnauthBinds" variable.
+     */
+    public Long getDsApplIfUnauthBinds() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfInBytes" variable.
+     */
+    public Long getDsApplIfInBytes() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfProtocol" variable.
+     */
+    public String getDsApplIfProtocol() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfReplicationUpdatesOut" variable.
+     */
+    public Long getDsApplIfReplicationUpdatesOut() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfProtocolIndex" variable.
+     */
+    public Integer getDsApplIfProtocolIndex() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfReplicationUpdatesIn" variable.
+     */
+    public Long getDsApplIfReplicationUpdatesIn() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfErrors" variable.
+     */
+    public Long getDsApplIfErrors() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfSecurityErrors" variable.
+     */
+    public Long getDsApplIfSecurityErrors() throws SnmpStatusException;
+
+    /**
+     * Getter for the "ApplIndex" variable.
+     */
+    public Integer getApplIndex() throws SnmpStatusException;
+
+}
@@ -0,0 +1,566 @@
+package org.opends.server.snmp;
+
+//
+// Generated by mibgen version 5.1 (03/08/07) when compiling DIRECTORY-SERVER-MIB in standard metadata mode.
+//
+
+// java imports
+//
+import java.io.Serializable;
+
+// jmx imports
+//
+import javax.management.MBeanServer;
+import com.sun.management.snmp.SnmpCounter;
+import com.sun.management.snmp.SnmpCounter64;
+import com.sun.management.snmp.SnmpGauge;
+import com.sun.management.snmp.SnmpInt;
+import com.sun.management.snmp.SnmpUnsignedInt;
+import com.sun.management.snmp.SnmpIpAddress;
+import com.sun.management.snmp.SnmpTimeticks;
+import com.sun.management.snmp.SnmpOpaque;
+import com.sun.management.snmp.SnmpString;
+import com.sun.management.snmp.SnmpStringFixed;
+import com.sun.management.snmp.SnmpOid;
+import com.sun.management.snmp.SnmpNull;
+import com.sun.management.snmp.SnmpValue;
+import com.sun.management.snmp.SnmpVarBind;
+import com.sun.management.snmp.SnmpStatusException;
+
+// jdmk imports
+//
+import com.sun.management.snmp.agent.SnmpMibNode;
+import com.sun.management.snmp.agent.SnmpMib;
+import com.sun.management.snmp.agent.SnmpMibEntry;
+import com.sun.management.snmp.agent.SnmpStandardObjectServer;
+import com.sun.management.snmp.agent.SnmpStandardMetaServer;
+import com.sun.management.snmp.agent.SnmpMibSubRequest;
+import com.sun.management.snmp.agent.SnmpMibTable;
+import com.sun.management.snmp.EnumRowStatus;
+import com.sun.management.snmp.SnmpDefinitions;
+
+/**
+ * The class is used for representing SNMP metadata for the "DsApplIfOpsEntry" group.
+ * The group is defined with the following oid: 1.3.6.1.2.1.66.2.1.
+ */
+public class DsApplIfOpsEntryMeta extends SnmpMibEntry
+     implements Serializable, SnmpStandardMetaServer {
+
+    /**
+     * Constructor for the metadata associated to "DsApplIfOpsEntry".
+     */
+    public DsApplIfOpsEntryMeta(SnmpMib myMib, SnmpStandardObjectServer objserv) {
+        objectserver = objserv;
+        varList = new int[25];
+        varList[0] = 19;
+        varList[1] = 18;
+        varList[2] = 17;
+        varList[3] = 16;
+        varList[4] = 15;
+        varList[5] = 14;
+        varList[6] = 13;
+        varList[7] = 12;
+        varList[8] = 11;
+        varList[9] = 10;
+        varList[10] = 9;
+        varList[11] = 8;
+        varList[12] = 7;
+        varList[13] = 6;
+        varList[14] = 5;
+        varList[15] = 25;
+        varList[16] = 4;
+        varList[17] = 3;
+        varList[18] = 24;
+        varList[19] = 2;
+        varList[20] = 23;
+        varList[21] = 1;
+        varList[22] = 22;
+        varList[23] = 21;
+        varList[24] = 20;
+        SnmpMibNode.sort(varList);
+    }
+
+    /**
+     * Get the value of a scalar variable
+     */
+    public SnmpValue get(long var, Object data)
+        throws SnmpStatusException {
+        switch((int)var) {
+            case 19:
+                return new SnmpCounter(node.getDsApplIfChainings());
+
+            case 18:
+                return new SnmpCounter(node.getDsApplIfReferrals());
+
+            case 17:
+                return new SnmpCounter(node.getDsApplIfWholeSubtreeSearchOps());
+
+            case 16:
+                return new SnmpCounter(node.getDsApplIfOneLevelSearchOps());
+
+            case 15:
+                return new SnmpCounter(node.getDsApplIfSearchOps());
+
+            case 14:
+                return new SnmpCounter(node.getDsApplIfListOps());
+
+            case 13:
+                return new SnmpCounter(node.getDsApplIfModifyRDNOps());
+
+            case 12:
+                return new SnmpCounter(node.getDsApplIfModifyEntryOps());
+
+            case 11:
+                return new SnmpCounter(node.getDsApplIfRemoveEntryOps());
+
+            case 10:
+                return new SnmpCounter(node.getDsApplIfAddEntryOps());
+
+            case 9:
+                return new SnmpCounter(node.getDsApplIfCompareOps());
+
+            case 8:
+                return new SnmpCounter(node.getDsApplIfReadOps());
+
+            case 7:
+                return new SnmpCounter(node.getDsApplIfInOps());
+
+            case 6:
+                return new SnmpCounter(node.getDsApplIfBindSecurityErrors());
+
+            case 5:
+                return new SnmpCounter(node.getDsApplIfStrongAuthBinds());
+
+            case 25:
+                return new SnmpCounter(node.getDsApplIfOutBytes());
+
+            case 4:
+                return new SnmpCounter(node.getDsApplIfSimpleAuthBinds());
+
+            case 3:
+                return new SnmpCounter(node.getDsApplIfUnauthBinds());
+
+            case 24:
+                return new SnmpCounter(node.getDsApplIfInBytes());
+
+            case 2:
+                return new SnmpOid(node.getDsApplIfProtocol());
+
+            case 23:
+                return new SnmpCounter(node.getDsApplIfReplicationUpdatesOut());
+
+            case 1:
+                return new SnmpInt(node.getDsApplIfProtocolIndex());
+
+            case 22:
+                return new SnmpCounter(node.getDsApplIfReplicationUpdatesIn());
+
+            case 21:
+                return new SnmpCounter(node.getDsApplIfErrors());
+
+            case 20:
+                return new SnmpCounter(node.getDsApplIfSecurityErrors());
+
+            default:
+                break;
+        }
+        throw new SnmpStatusException(SnmpStatusException.noSuchObject);
+    }
+
+    /**
+     * Set the value of a scalar variable
+     */
+    public SnmpValue set(SnmpValue x, long var, Object data)
+        throws SnmpStatusException {
+        switch((int)var) {
+            case 19:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 18:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 17:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 16:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 15:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 14:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 13:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 12:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 11:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 10:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 9:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 8:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 7:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 6:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 5:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 25:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 4:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 3:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 24:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 2:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 23:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 1:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 22:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 21:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 20:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            default:
+                break;
+        }
+        throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+    }
+
+    /**
+     * Check the value of a scalar variable
+     */
+    public void check(SnmpValue x, long var, Object data)
+        throws SnmpStatusException {
+        switch((int) var) {
+            case 19:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 18:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 17:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 16:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 15:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 14:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 13:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 12:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 11:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 10:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 9:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 8:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 7:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 6:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 5:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 25:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 4:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 3:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 24:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 2:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 23:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 1:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 22:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 21:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 20:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            default:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+        }
+    }
+
+    /**
+     * Allow to bind the metadata description to a specific object.
+     */
+    protected void setInstance(DsApplIfOpsEntryMBean var) {
+        node = var;
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "get" method defined in "SnmpMibEntry".
+    // See the "SnmpMibEntry" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    public void get(SnmpMibSubRequest req, int depth)
+        throws SnmpStatusException {
+        objectserver.get(this,req,depth);
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "set" method defined in "SnmpMibEntry".
+    // See the "SnmpMibEntry" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    public void set(SnmpMibSubRequest req, int depth)
+        throws SnmpStatusException {
+        objectserver.set(this,req,depth);
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "check" method defined in "SnmpMibEntry".
+    // See the "SnmpMibEntry" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    public void check(SnmpMibSubRequest req, int depth)
+        throws SnmpStatusException {
+        objectserver.check(this,req,depth);
+    }
+
+    /**
+     * Returns true if "arc" identifies a scalar object.
+     */
+    public boolean isVariable(long arc) {
+
+        switch((int)arc) {
+            case 19:
+            case 18:
+            case 17:
+            case 16:
+            case 15:
+            case 14:
+            case 13:
+            case 12:
+            case 11:
+            case 10:
+            case 9:
+            case 8:
+            case 7:
+            case 6:
+            case 5:
+            case 25:
+            case 4:
+            case 3:
+            case 24:
+            case 2:
+            case 23:
+            case 1:
+            case 22:
+            case 21:
+            case 20:
+                return true;
+            default:
+                break;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if "arc" identifies a readable scalar object.
+     */
+    public boolean isReadable(long arc) {
+
+        switch((int)arc) {
+            case 19:
+            case 18:
+            case 17:
+            case 16:
+            case 15:
+            case 14:
+            case 13:
+            case 12:
+            case 11:
+            case 10:
+            case 9:
+            case 8:
+            case 7:
+            case 6:
+            case 5:
+            case 25:
+            case 4:
+            case 3:
+            case 24:
+            case 2:
+            case 23:
+            case 1:
+            case 22:
+            case 21:
+            case 20:
+                return true;
+            default:
+                break;
+        }
+        return false;
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "skipVariable" method defined in "SnmpMibEntry".
+    // See the "SnmpMibEntry" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    public boolean  skipVariable(long var, Object data, int pduVersion) {
+        return false;
+    }
+
+    /**
+     * Return the name of the attribute corresponding to the SNMP variable identified by "id".
+     */
+    public String getAttributeName(long id)
+        throws SnmpStatusException {
+        switch((int)id) {
+            case 19:
+                return "DsApplIfChainings";
+
+            case 18:
+                return "DsApplIfReferrals";
+
+            case 17:
+                return "DsApplIfWholeSubtreeSearchOps";
+
+            case 16:
+                return "DsApplIfOneLevelSearchOps";
+
+            case 15:
+                return "DsApplIfSearchOps";
+
+            case 14:
+                return "DsApplIfListOps";
+
+            case 13:
+                return "DsApplIfModifyRDNOps";
+
+            case 12:
+                return "DsApplIfModifyEntryOps";
+
+            case 11:
+                return "DsApplIfRemoveEntryOps";
+
+            case 10:
+                return "DsApplIfAddEntryOps";
+
+            case 9:
+                return "DsApplIfCompareOps";
+
+            case 8:
+                return "DsApplIfReadOps";
+
+            case 7:
+                return "DsApplIfInOps";
+
+            case 6:
+                return "DsApplIfBindSecurityErrors";
+
+            case 5:
+                return "DsApplIfStrongAuthBinds";
+
+            case 25:
+                return "DsApplIfOutBytes";
+
+            case 4:
+                return "DsApplIfSimpleAuthBinds";
+
+            case 3:
+                return "DsApplIfUnauthBinds";
+
+            case 24:
+                return "DsApplIfInBytes";
+
+            case 2:
+                return "DsApplIfProtocol";
+
+            case 23:
+                return "DsApplIfReplicationUpdatesOut";
+
+            case 1:
+                return "DsApplIfProtocolIndex";
+
+            case 22:
+                return "DsApplIfReplicationUpdatesIn";
+
+            case 21:
+                return "DsApplIfErrors";
+
+            case 20:
+                return "DsApplIfSecurityErrors";
+
+            default:
+                break;
+        }
+        throw new SnmpStatusException(SnmpStatusException.noSuchObject);
+    }
+
+    protected DsApplIfOpsEntryMBean node;
+    protected SnmpStandardObjectServer objectserver = null;
+}
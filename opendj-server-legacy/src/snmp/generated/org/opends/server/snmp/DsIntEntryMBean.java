@@ -0,0 +1,72 @@
+package org.opends.server.snmp;
+
+//
+// Generated by mibgen version 5.1 (03/08/07) when compiling DIRECTORY-SERVER-MIB in standard metadata mode.
+//
+
+
+// jmx imports
+//
+import com.sun.management.snmp.SnmpStatusException;
+
+/**
+ * This interface is used for representing the remote management interface for the "DsIntEntry" MBean.
+ */
+public interface DsIntEntryMBean {
+
+    /**
+     * Getter for the "DsIntEntURL" variable.
+     */
+    public String getDsIntEntURL() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsIntEntSuccesses" variable.
+     */
+    public Long getDsIntEntSuccesses() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsIntEntFailures" variable.
+     */
+    public Long getDsIntEntFailures() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsIntEntFailuresSinceLastSuccess" variable.
+     */
+    public Long getDsIntEntFailuresSinceLastSuccess() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsIntEntTimeOfLastSuccess" variable.
+     */
+    public Long getDsIntEntTimeOfLastSuccess() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsIntEntTimeOfLastAttempt" variable.
+     */
+    public Long getDsIntEntTimeOfLastAttempt() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsIntEntTimeOfCreation" variable.
+     */
+    public Long getDsIntEntTimeOfCreation() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsIntEntDirectoryName" variable.
+     */
+    public String getDsIntEntDirectoryName() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsIntEntIndex" variable.
+     */
+    public Integer getDsIntEntIndex() throws SnmpStatusException;
+
+    /**
+     * Getter for the "ApplIndex" variable.
+     */
+    public Integer getApplIndex() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsApplIfProtocolIndex" variable.
+     */
+    public Integer getDsApplIfProtocolIndex() throws SnmpStatusException;
+
+}
@@ -0,0 +1,123 @@
+package org.opends.server.snmp;
+
+//
+// Generated by mibgen version 5.1 (03/08/07) when compiling DIRECTORY-SERVER-MIB.
+//
+
+// java imports
+//
+import java.io.Serializable;
+
+// jmx imports
+//
+import javax.management.MBeanServer;
+import com.sun.management.snmp.SnmpString;
+import com.sun.management.snmp.SnmpStatusException;
+
+// jdmk imports
+//
+import com.sun.management.snmp.agent.SnmpMib;
+
+/**
+ * The class is used for implementing the "DsMIB" group.
+ * The group is defined with the following oid: 1.3.6.1.2.1.66.
+ */
+public class DsMIB implements DsMIBMBean, Serializable {
+
+    /**
+     * Variable for storing the value of "DsIntTable".
+     * The variable is identified by: "1.3.6.1.2.1.66.3".
+     *
+     * " Each row of this table contains some details
+     * related to the history of the interaction
+     * of the monitored Directory Server with its
+     * peer Directory Servers."
+     *
+     */
+    protected TableDsIntTable DsIntTable;
+
+    /**
+     * Variable for storing the value of "DsApplIfOpsTable".
+     * The variable is identified by: "1.3.6.1.2.1.66.2".
+     *
+     * " The table holding information related to the
+     * Directory Server operations."
+     *
+     */
+    protected TableDsApplIfOpsTable DsApplIfOpsTable;
+
+    /**
+     * Variable for storing the value of "DsTable".
+     * The variable is identified by: "1.3.6.1.2.1.66.1".
+     *
+     * " The table holding information related to the Directory
+     * Servers."
+     *
+     */
+    protected TableDsTable DsTable;
+
+
+    /**
+     * Constructor for the "DsMIB" group.
+     * If the group contains a table, the entries created through an SNMP SET will not be registered in Java DMK.
+     */
+    public DsMIB(SnmpMib myMib) {
+        DsIntTable = new TableDsIntTable (myMib);
+        DsApplIfOpsTable = new TableDsApplIfOpsTable (myMib);
+        DsTable = new TableDsTable (myMib);
+    }
+
+
+    /**
+     * Constructor for the "DsMIB" group.
+     * If the group contains a table, the entries created through an SNMP SET will be AUTOMATICALLY REGISTERED in Java DMK.
+     */
+    public DsMIB(SnmpMib myMib, MBeanServer server) {
+        DsIntTable = new TableDsIntTable (myMib, server);
+        DsApplIfOpsTable = new TableDsApplIfOpsTable (myMib, server);
+        DsTable = new TableDsTable (myMib, server);
+    }
+
+    /**
+     * Access the "DsIntTable" variable.
+     */
+    public TableDsIntTable accessDsIntTable() throws SnmpStatusException {
+        return DsIntTable;
+    }
+
+    /**
+     * Access the "DsIntTable" variable as a bean indexed property.
+     */
+    public DsIntEntryMBean[] getDsIntTable() throws SnmpStatusException {
+        return DsIntTable.getEntries();
+    }
+
+    /**
+     * Access the "DsApplIfOpsTable" variable.
+     */
+    public TableDsApplIfOpsTable accessDsApplIfOpsTable() throws SnmpStatusException {
+        return DsApplIfOpsTable;
+    }
+
+    /**
+     * Access the "DsApplIfOpsTable" variable as a bean indexed property.
+     */
+    public DsApplIfOpsEntryMBean[] getDsApplIfOpsTable() throws SnmpStatusException {
+        return DsApplIfOpsTable.getEntries();
+    }
+
+    /**
+     * Access the "DsTable" variable.
+     */
+    public TableDsTable accessDsTable() throws SnmpStatusException {
+        return DsTable;
+    }
+
+    /**
+     * Access the "DsTable" variable as a bean indexed property.
+     */
+    public DsTableEntryMBean[] getDsTable() throws SnmpStatusException {
+        return DsTable.getEntries();
+    }
+
+}
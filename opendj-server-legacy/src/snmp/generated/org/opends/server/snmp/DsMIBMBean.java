@@ -0,0 +1,32 @@
+package org.opends.server.snmp;
+
+//
+// Generated by mibgen version 5.1 (03/08/07) when compiling DIRECTORY-SERVER-MIB in standard metadata mode.
+//
+
+
+// jmx imports
+//
+import com.sun.management.snmp.SnmpStatusException;
+
+/**
+ * This interface is used for representing the remote management interface for the "DsMIB" MBean.
+ */
+public interface DsMIBMBean {
+
+    /**
+     * Access the "DsIntTable" variable.
+     */
+    public TableDsIntTable accessDsIntTable() throws SnmpStatusException;
+
+    /**
+     * Access the "DsApplIfOpsTable" variable.
+     */
+    public TableDsApplIfOpsTable accessDsApplIfOpsTable() throws SnmpStatusException;
+
+    /**
+     * Access the "DsTable" variable.
+     */
+    public TableDsTable accessDsTable() throws SnmpStatusException;
+
+}
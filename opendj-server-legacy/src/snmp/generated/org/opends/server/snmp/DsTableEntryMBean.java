@@ -0,0 +1,57 @@
+package org.opends.server.snmp;
+
+//
+// Generated by mibgen version 5.1 (03/08/07) when compiling DIRECTORY-SERVER-MIB in standard metadata mode.
+//
+
+
+// jmx imports
+//
+import com.sun.management.snmp.SnmpStatusException;
+
+/**
+ * This interface is used for representing the remote management interface for the "DsTableEntry" MBean.
+ */
+public interface DsTableEntryMBean {
+
+    /**
+     * Getter for the "DsCacheHits" variable.
+     */
+    public Long getDsCacheHits() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsCacheEntries" variable.
+     */
+    public Long getDsCacheEntries() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsCopyEntries" variable.
+     */
+    public Long getDsCopyEntries() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsMasterEntries" variable.
+     */
+    public Long getDsMasterEntries() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsServerDescription" variable.
+     */
+    public String getDsServerDescription() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsServerType" variable.
+     */
+    public Byte[] getDsServerType() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DsSlaveHits" variable.
+     */
+    public Long getDsSlaveHits() throws SnmpStatusException;
+
+    /**
+     * Getter for the "ApplIndex" variable.
+     */
+    public Integer getApplIndex() throws SnmpStatusException;
+
+}
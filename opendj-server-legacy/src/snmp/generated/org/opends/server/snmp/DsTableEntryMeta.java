@@ -0,0 +1,296 @@
+package org.opends.server.snmp;
+
+//
+// Generated by mibgen version 5.1 (03/08/07) when compiling DIRECTORY-SERVER-MIB in standard metadata mode.
+//
+
+// java imports
+//
+import java.io.Serializable;
+
+// jmx imports
+//
+import javax.management.MBeanServer;
+import com.sun.management.snmp.SnmpCounter;
+import com.sun.management.snmp.SnmpCounter64;
+import com.sun.management.snmp.SnmpGauge;
+import com.sun.management.snmp.SnmpInt;
+import com.sun.management.snmp.SnmpUnsignedInt;
+import com.sun.management.snmp.SnmpIpAddress;
+import com.sun.management.snmp.SnmpTimeticks;
+import com.sun.management.snmp.SnmpOpaque;
+import com.sun.management.snmp.SnmpString;
+import com.sun.management.snmp.SnmpStringFixed;
+import com.sun.management.snmp.SnmpOid;
+import com.sun.management.snmp.SnmpNull;
+import com.sun.management.snmp.SnmpValue;
+import com.sun.management.snmp.SnmpVarBind;
+import com.sun.management.snmp.SnmpStatusException;
+
+// jdmk imports
+//
+import com.sun.management.snmp.agent.SnmpMibNode;
+import com.sun.management.snmp.agent.SnmpMib;
+import com.sun.management.snmp.agent.SnmpMibEntry;
+import com.sun.management.snmp.agent.SnmpStandardObjectServer;
+import com.sun.management.snmp.agent.SnmpStandardMetaServer;
+import com.sun.management.snmp.agent.SnmpMibSubRequest;
+import com.sun.management.snmp.agent.SnmpMibTable;
+import com.sun.management.snmp.EnumRowStatus;
+import com.sun.management.snmp.SnmpDefinitions;
+
+/**
+ * The class is used for representing SNMP metadata for the "DsTableEntry" group.
+ * The group is defined with the following oid: 1.3.6.1.2.1.66.1.1.
+ */
+public class DsTableEntryMeta extends SnmpMibEntry
+     implements Serializable, SnmpStandardMetaServer {
+
+    /**
+     * Constructor for the metadata associated to "DsTableEntry".
+     */
+    public DsTableEntryMeta(SnmpMib myMib, SnmpStandardObjectServer objserv) {
+        objectserver = objserv;
+        varList = new int[7];
+        varList[0] = 6;
+        varList[1] = 5;
+        varList[2] = 4;
+        varList[3] = 3;
+        varList[4] = 2;
+        varList[5] = 1;
+        varList[6] = 7;
+        SnmpMibNode.sort(varList);
+    }
+
+    /**
+     * Get the value of a scalar variable
+     */
+    public SnmpValue get(long var, Object data)
+        throws SnmpStatusException {
+        switch((int)var) {
+            case 6:
+                return new SnmpCounter(node.getDsCacheHits());
+
+            case 5:
+                return new SnmpGauge(node.getDsCacheEntries());
+
+            case 4:
+                return new SnmpGauge(node.getDsCopyEntries());
+
+            case 3:
+                return new SnmpGauge(node.getDsMasterEntries());
+
+            case 2:
+                return new SnmpString(node.getDsServerDescription());
+
+            case 1:
+                return new SnmpString(node.getDsServerType());
+
+            case 7:
+                return new SnmpCounter(node.getDsSlaveHits());
+
+            default:
+                break;
+        }
+        throw new SnmpStatusException(SnmpStatusException.noSuchObject);
+    }
+
+    /**
+     * Set the value of a scalar variable
+     */
+    public SnmpValue set(SnmpValue x, long var, Object data)
+        throws SnmpStatusException {
+        switch((int)var) {
+            case 6:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 5:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 4:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 3:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 2:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 1:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 7:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            default:
+                break;
+        }
+        throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+    }
+
+    /**
+     * Check the value of a scalar variable
+     */
+    public void check(SnmpValue x, long var, Object data)
+        throws SnmpStatusException {
+        switch((int) var) {
+            case 6:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 5:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 4:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 3:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 2:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 1:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 7:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            default:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+        }
+    }
+
+    /**
+     * Allow to bind the metadata description to a specific object.
+     */
+    protected void setInstance(DsTableEntryMBean var) {
+        node = var;
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "get" method defined in "SnmpMibEntry".
+    // See the "SnmpMibEntry" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    public void get(SnmpMibSubRequest req, int depth)
+        throws SnmpStatusException {
+        objectserver.get(this,req,depth);
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "set" method defined in "SnmpMibEntry".
+    // See the "SnmpMibEntry" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    public void set(SnmpMibSubRequest req, int depth)
+        throws SnmpStatusException {
+        objectserver.set(this,req,depth);
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "check" method defined in "SnmpMibEntry".
+    // See the "SnmpMibEntry" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    public void check(SnmpMibSubRequest req, int depth)
+        throws SnmpStatusException {
+        objectserver.check(this,req,depth);
+    }
+
+    /**
+     * Returns true if "arc" identifies a scalar object.
+     */
+    public boolean isVariable(long arc) {
+
+        switch((int)arc) {
+            case 6:
+            case 5:
+            case 4:
+            case 3:
+            case 2:
+            case 1:
+            case 7:
+                return true;
+            default:
+                break;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if "arc" identifies a readable scalar object.
+     */
+    public boolean isReadable(long arc) {
+
+        switch((int)arc) {
+            case 6:
+            case 5:
+            case 4:
+            case 3:
+            case 2:
+            case 1:
+            case 7:
+                return true;
+            default:
+                break;
+        }
+        return false;
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "skipVariable" method defined in "SnmpMibEntry".
+    // See the "SnmpMibEntry" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    public boolean  skipVariable(long var, Object data, int pduVersion) {
+        return false;
+    }
+
+    /**
+     * Return the name of the attribute corresponding to the SNMP variable identified by "id".
+     */
+    public String getAttributeName(long id)
+        throws SnmpStatusException {
+        switch((int)id) {
+            case 6:
+                return "DsCacheHits";
+
+            case 5:
+                return "DsCacheEntries";
+
+            case 4:
+                return "DsCopyEntries";
+
+            case 3:
+                return "DsMasterEntries";
+
+            case 2:
+                return "DsServerDescription";
+
+            case 1:
+                return "DsServerType";
+
+            case 7:
+                return "DsSlaveHits";
+
+            default:
+                break;
+        }
+        throw new SnmpStatusException(SnmpStatusException.noSuchObject);
+    }
+
+    protected DsTableEntryMBean node;
+    protected SnmpStandardObjectServer objectserver = null;
+}
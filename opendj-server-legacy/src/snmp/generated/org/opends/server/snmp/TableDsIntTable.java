@@ -0,0 +1,335 @@
+package org.opends.server.snmp;
+
+//
+// Generated by mibgen version 5.1 (03/08/07) when compiling DIRECTORY-SERVER-MIB.
+//
+
+// java imports
+//
+import java.io.Serializable;
+import java.util.Vector;
+
+// jmx imports
+//
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import com.sun.management.snmp.SnmpCounter;
+import com.sun.management.snmp.SnmpCounter64;
+import com.sun.management.snmp.SnmpGauge;
+import com.sun.management.snmp.SnmpInt;
+import com.sun.management.snmp.SnmpUnsignedInt;
+import com.sun.management.snmp.SnmpIpAddress;
+import com.sun.management.snmp.SnmpTimeticks;
+import com.sun.management.snmp.SnmpOpaque;
+import com.sun.management.snmp.SnmpString;
+import com.sun.management.snmp.SnmpStringFixed;
+import com.sun.management.snmp.SnmpOid;
+import com.sun.management.snmp.SnmpNull;
+import com.sun.management.snmp.SnmpValue;
+import com.sun.management.snmp.SnmpVarBind;
+import com.sun.management.snmp.SnmpStatusException;
+
+// jdmk imports
+//
+import com.sun.management.snmp.agent.SnmpIndex;
+import com.sun.management.snmp.agent.SnmpMib;
+import com.sun.management.snmp.agent.SnmpMibTable;
+import com.sun.management.snmp.agent.SnmpMibSubRequest;
+import com.sun.management.snmp.agent.SnmpTableEntryFactory;
+import com.sun.management.snmp.agent.SnmpTableCallbackHandler;
+import com.sun.management.snmp.agent.SnmpTableSupport;
+
+/**
+ * The class is used for implementing the "DsIntTable" group.
+ * The group is defined with the following oid: 1.3.6.1.2.1.66.3.
+ */
+public class TableDsIntTable extends SnmpTableSupport implements Serializable {
+
+    /**
+     * Constructor for the table. Initialize metadata for "TableDsIntTable".
+     * The reference on the MBean server is not updated so the entries created through an SNMP SET will not be registered in Java DMK.
+     */
+    public TableDsIntTable(SnmpMib myMib) {
+        super(myMib);
+    }
+
+    /**
+     * Constructor for the table. Initialize metadata for "TableDsIntTable".
+     * The reference on the MBean server is updated so the entries created through an SNMP SET will be AUTOMATICALLY REGISTERED in Java DMK.
+     */
+    public TableDsIntTable(SnmpMib myMib, MBeanServer server) {
+        this(myMib);
+        this.server = server;
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "createNewEntry" method defined in "SnmpTableSupport".
+    // See the "SnmpTableSupport" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    public void createNewEntry(SnmpMibSubRequest req, SnmpOid rowOid,
+                 int depth, SnmpMibTable meta)
+        throws SnmpStatusException {
+        final SnmpIndex index = buildSnmpIndex(rowOid);
+        final Vector v = index.getComponents();
+        SnmpOid oid;
+        try  {
+            final SnmpOid oid0 = (SnmpOid) v.elementAt(0);
+            final SnmpOid oid1 = (SnmpOid) v.elementAt(1);
+            final SnmpOid oid2 = (SnmpOid) v.elementAt(2);
+            ObjectName objname = null;
+            if (server != null)
+                objname = buildNameFromIndex( index );
+
+            // Note that when using standard metadata,
+            // the returned object must implement the "DsIntEntryMBean"
+            // interface.
+            //
+            final Object entry =
+                 createDsIntEntryMBean(req, rowOid, depth, objname, meta,
+                    oid0.toInteger(),
+                    oid1.toInteger(),
+                    oid2.toInteger());
+            if (server != null) {
+                server.registerMBean(entry, objname);
+            }
+            meta.addEntry(rowOid,objname,entry);
+        } catch(SnmpStatusException e) {
+            throw e;
+        } catch(ArrayIndexOutOfBoundsException e) {
+            throw new SnmpStatusException(SnmpStatusException.snmpRspWrongValue);
+        } catch(Exception e) {
+            throw new SnmpStatusException(e.getMessage());
+        }
+    }
+
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "getRegisteredTableMeta" method defined in "SnmpTableSupport".
+    // See the "SnmpTableSupport" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    protected SnmpMibTable getRegisteredTableMeta(SnmpMib mib)  {
+        return mib.getRegisteredTableMeta("DsIntTable");
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "removeEntryCb" method defined in "SnmpTableSupport".
+    // See the "SnmpTableSupport" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+    public void removeEntryCb(int pos, SnmpOid row, ObjectName name,
+                Object entry, SnmpMibTable meta)
+            throws SnmpStatusException {
+        try  {
+            super.removeEntryCb(pos,row,name,entry,meta);
+            if (server != null && name != null)
+                server.unregisterMBean(name);
+        } catch (Exception x) { }
+    }
+
+
+    /**
+     * Add a new entry to the table.
+     * 
+     * If the associated metadata requires ObjectNames
+     * a new ObjectName will be generated using "buildNameFromIndex".
+     * 
+     * This method calls "addEntry" from "SnmpTableSupport".
+     * See the "SnmpTableSupport" Javadoc API for more details.
+     * 
+     **/
+
+    public synchronized void addEntry(DsIntEntryMBean entry)
+        throws SnmpStatusException {
+        SnmpIndex index = buildSnmpIndex(entry);
+        super.addEntry(index, (Object) entry);
+    }
+
+
+    /**
+     * Add a new entry to the table.
+     * 
+     * This method calls "addEntry" from "SnmpTableSupport".
+     * See the "SnmpTableSupport" Javadoc API for more details.
+     * 
+     **/
+
+    public synchronized void addEntry(DsIntEntryMBean entry, ObjectName name)
+        throws SnmpStatusException {
+        SnmpIndex index = buildSnmpIndex(entry);
+        super.addEntry(index, name, (Object) entry);
+    }
+
+
+    /**
+     * Return the entries stored in the table.
+     * 
+     * This method calls "getBasicEntries" from "SnmpTableSupport".
+     * See the "SnmpTableSupport" Javadoc API for more details.
+     * 
+     **/
+
+    public synchronized DsIntEntryMBean[] getEntries() {
+        Object[] array = getBasicEntries();
+        DsIntEntryMBean[] result = new DsIntEntryMBean[array.length];
+        java.lang.System.arraycopy(array,0, result,0, array.length);
+        return result;
+    }
+
+
+    /**
+     * Remove the specified entry from the table.
+     * 
+     * This method calls "removeEntry" from "SnmpTableSupport".
+     * See the "SnmpTableSupport" Javadoc API for more details.
+     * 
+     **/
+
+    public void removeEntry(DsIntEntryMBean entry)
+        throws SnmpStatusException {
+        SnmpIndex index = buildSnmpIndex(entry);
+        super.removeEntry(index, entry) ;
+    }
+
+
+    // ------------------------------------------------------------
+    // 
+    // Implements the "buildNameFromIndex" method defined in "SnmpTableSupport".
+    // See the "SnmpTableSupport" Javadoc API for more details.
+    // 
+    // ------------------------------------------------------------
+
+
+    public ObjectName buildNameFromIndex(SnmpIndex index)
+        throws SnmpStatusException {
+        Vector v = index.getComponents();
+        SnmpOid oid;
+        try  {
+            oid = (SnmpOid) v.elementAt(0);
+            String _keyApplIndex = oid.toInteger().toString();
+            oid = (SnmpOid) v.elementAt(1);
+            String _keyDsIntEntIndex = oid.toInteger().toString();
+            oid = (SnmpOid) v.elementAt(2);
+            String _keyDsApplIfProtocolIndex = oid.toInteger().toString();
+            return new ObjectName("TableDsIntTable:name=org.opends.server.snmp.DsIntEntry" + ",ApplIndex=" + _keyApplIndex + ",DsIntEntIndex=" + _keyDsIntEntIndex + ",DsApplIfProtocolIndex=" + _keyDsApplIfProtocolIndex);
+        } catch(ArrayIndexOutOfBoundsException e) {
+            throw new SnmpStatusException(SnmpStatusException.snmpRspWrongValue);
+        } catch(Exception e) {
+            throw new SnmpStatusException(e.getMessage());
+        }
+    }
+
+    /**
+     * Build index for "DsIntEntry".
+     */
+    public SnmpIndex buildSnmpIndex(DsIntEntryMBean entry)
+        throws SnmpStatusException {
+        SnmpOid[] oids = new SnmpOid[3];
+        SnmpValue val = null;
+        val = new SnmpInt(entry.getApplIndex());
+        oids[0] = val.toOid();
+        val = new SnmpInt(entry.getDsIntEntIndex());
+        oids[1] = val.toOid();
+        val = new SnmpInt(entry.getDsApplIfProtocolIndex());
+        oids[2] = val.toOid();
+        return new SnmpIndex(oids);
+    }
+
+    /**
+     * Build index for "DsIntEntry".
+     */
+    public SnmpOid buildOidFromIndex(SnmpIndex index)
+        throws SnmpStatusException {
+        SnmpOid oid = new SnmpOid();
+        if (index.getNbComponents() != 3)
+            throw new SnmpStatusException(SnmpStatusException.noSuchInstance);
+        try {
+            Vector v = index.getComponents();
+            SnmpInt.appendToOid((SnmpOid)v.elementAt(0), oid);
+            SnmpInt.appendToOid((SnmpOid)v.elementAt(1), oid);
+            SnmpInt.appendToOid((SnmpOid)v.elementAt(2), oid);
+        } catch(ArrayIndexOutOfBoundsException e) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchInstance);
+        }
+        return oid;
+    }
+
+    /**
+     * Build index for "DsIntEntry".
+     */
+    public SnmpOid buildOidFromIndexVal(Integer aApplIndex, Integer aDsIntEntIndex, Integer aDsApplIfProtocolIndex)
+        throws SnmpStatusException  {
+        SnmpOid oid = new SnmpOid();
+        try {
+            SnmpInt.appendToOid(new SnmpInt(aApplIndex).toOid(), oid);
+            SnmpInt.appendToOid(new SnmpInt(aDsIntEntIndex).toOid(), oid);
+            SnmpInt.appendToOid(new SnmpInt(aDsApplIfProtocolIndex).toOid(), oid);
+        } catch(ArrayIndexOutOfBoundsException e) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchInstance);
+        }
+        return oid;
+    }
+
+    /**
+     * Build index for "DsIntEntry".
+     */
+    public SnmpIndex buildSnmpIndex(long[] index, int start)
+        throws SnmpStatusException {
+        SnmpOid[] oids = new SnmpOid[3];
+        int pos = start;
+        oids[0] = SnmpInt.toOid(index, pos);
+        pos = SnmpInt.nextOid(index, pos);
+        oids[1] = SnmpInt.toOid(index, pos);
+        pos = SnmpInt.nextOid(index, pos);
+        oids[2] = SnmpInt.toOid(index, pos);
+        return new SnmpIndex(oids);
+    }
+
+
+    /**
+     * Factory method for "DsIntEntry" entry MBean class.
+     * 
+     * You can redefine this method if you need to replace the default
+     * generated MBean class with your own customized class.
+     * 
+     * @return An instance of the MBean class generated for the
+     *         "DsIntEntry" conceptual row.
+     * 
+     * Note that when using standard metadata,
+     * the returned object must implement the "DsIntEntryMBean"
+     * interface.
+     */
+
+    public Object createDsIntEntryMBean(SnmpMibSubRequest req,
+                SnmpOid rowOid, int depth, ObjectName entryObjName,
+                SnmpMibTable meta, Integer  aApplIndex, Integer  aDsIntEntIndex, Integer  aDsApplIfProtocolIndex)
+            throws SnmpStatusException  {
+
+        // Note that when using standard metadata,
+        // the returned object must implement the "DsIntEntryMBean"
+        // interface.
+        //
+        DsIntEntry entry = new DsIntEntry(theMib);
+        entry.ApplIndex = aApplIndex;
+        entry.DsIntEntIndex = aDsIntEntIndex;
+        entry.DsApplIfProtocolIndex = aDsApplIfProtocolIndex;
+        return entry;
+    }
+
+
+    /**
+     * Reference to the MBean server.
+     */
+    protected MBeanServer server;
+
+}
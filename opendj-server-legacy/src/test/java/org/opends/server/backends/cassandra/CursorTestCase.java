@@ -0,0 +1,165 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.forgerock.opendj.config.ConfigurationMock.mockCfg;
+import static org.mockito.Mockito.when;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.server.config.server.CASBackendCfg;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.backends.pluggable.spi.Cursor;
+import org.opends.server.backends.pluggable.spi.TreeName;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Checks the queries of the cursors of the Cassandra storage against a {@link FakeCqlSession}. */
+@SuppressWarnings("javadoc")
+@Test(sequential = true)
+public class CursorTestCase extends DirectoryServerTestCase {
+	private static final int RECORDS = 10000;
+	private final TreeName treeName = new TreeName("dc=example,dc=com", "cn.equality");
+	private FakeCqlSession fake;
+	private Storage storage;
+
+	@BeforeMethod
+	public void setUp() {
+		final CASBackendCfg cfg = mockCfg(CASBackendCfg.class);
+		when(cfg.getBackendId()).thenReturn("CursorTestCase");
+		when(cfg.getDBDirectory()).thenReturn("CursorTestCase");
+		fake = new FakeCqlSession();
+		for (int i = 0; i < RECORDS; i++) {
+			fake.put(treeName, key(2 * i), ByteString.valueOfUtf8("value" + 2 * i));
+		}
+		fake.put(new TreeName("dc=example,dc=com", "other"), key(0), ByteString.valueOfUtf8("other"));
+		storage = new Storage(cfg, null);
+		storage.session = fake.session;
+	}
+
+	private static ByteString key(int i) {
+		return ByteString.valueOfInt(i);
+	}
+
+	private <T> T withCursor(CursorOperation<T> operation) throws Exception {
+		return storage.read(txn -> {
+			try (Cursor<ByteString, ByteString> cursor = txn.openCursor(treeName)) {
+				return operation.run(cursor);
+			}
+		});
+	}
+
+	private interface CursorOperation<T> {
+		T run(Cursor<ByteString, ByteString> cursor);
+	}
+
+	@Test
+	public void testNextReadsAllRecordsInGrowingPages() throws Exception {
+		final int count = withCursor(cursor -> {
+			int i = 0;
+			while (cursor.next()) {
+				assertThat(cursor.getKey()).isEqualTo(key(2 * i));
+				assertThat(cursor.getValue()).isEqualTo(ByteString.valueOfUtf8("value" + 2 * i));
+				i++;
+			}
+			return i;
+		});
+		assertThat(count).isEqualTo(RECORDS);
+		assertThat(fake.rowsRead).isEqualTo(RECORDS);
+		for (final String query : fake.executed) {
+			assertThat(query).endsWith("ORDER BY key").doesNotContain(":key");
+		}
+		assertThat(fake.executed.size()).isLessThan(RECORDS / Storage.CURSOR_PAGE_SIZE + 8);
+	}
+
+	@Test
+	public void testPositionToKeyOrNextSeeksWithoutScanning() throws Exception {
+		withCursor(cursor -> {
+			assertThat(cursor.positionToKeyOrNext(key(2 * 5000 + 1))).isTrue();
+			assertThat(cursor.getKey()).isEqualTo(key(2 * 5001));
+			assertThat(fake.executed).hasSize(1);
+			assertThat(fake.executed.get(0)).contains("key>=:key").endsWith("ORDER BY key");
+			assertThat(fake.rowsRead).isEqualTo(Storage.CURSOR_FIRST_PAGE_SIZE);
+
+			assertThat(cursor.positionToKeyOrNext(key(2 * RECORDS))).isFalse();
+			assertThat(cursor.isDefined()).isFalse();
+			return null;
+		});
+	}
+
+	@Test
+	public void testPositionToKeyReadsOneRecord() throws Exception {
+		withCursor(cursor -> {
+			assertThat(cursor.positionToKey(key(2 * 7000))).isTrue();
+			assertThat(cursor.getValue()).isEqualTo(ByteString.valueOfUtf8("value" + 2 * 7000));
+			assertThat(fake.executed).hasSize(1);
+			assertThat(fake.executed.get(0)).contains("key=:key");
+			assertThat(fake.rowsRead).isEqualTo(1);
+
+			assertThat(cursor.next()).isTrue();
+			assertThat(cursor.getKey()).isEqualTo(key(2 * 7001));
+			assertThat(fake.executed.get(1)).contains("key>:key");
+
+			assertThat(cursor.positionToKey(key(2 * 7000 + 1))).isFalse();
+			assertThat(cursor.isDefined()).isFalse();
+			return null;
+		});
+	}
+
+	@Test
+	public void testPositionToLastKeyReadsOneRecord() throws Exception {
+		withCursor(cursor -> {
+			assertThat(cursor.positionToLastKey()).isTrue();
+			assertThat(cursor.getKey()).isEqualTo(key(2 * (RECORDS - 1)));
+			assertThat(fake.executed).hasSize(1);
+			assertThat(fake.executed.get(0)).endsWith("ORDER BY key DESC LIMIT 1");
+			assertThat(fake.rowsRead).isEqualTo(1);
+			assertThat(cursor.next()).isFalse();
+			return null;
+		});
+	}
+
+	@Test
+	public void testPositionToIndexReadsRecordsUpToIndex() throws Exception {
+		withCursor(cursor -> {
+			assertThat(cursor.positionToIndex(100)).isTrue();
+			assertThat(cursor.getKey()).isEqualTo(key(2 * 100));
+			assertThat(fake.executed).hasSize(1);
+			assertThat(fake.rowsRead).isEqualTo(101);
+
+			assertThat(cursor.next()).isTrue();
+			assertThat(cursor.getKey()).isEqualTo(key(2 * 101));
+
+			assertThat(cursor.positionToIndex(RECORDS)).isFalse();
+			assertThat(cursor.isDefined()).isFalse();
+			return null;
+		});
+	}
+
+	@Test
+	public void testEmptyTree() throws Exception {
+		final TreeName empty = new TreeName("dc=example,dc=com", "empty");
+		storage.read(txn -> {
+			try (Cursor<ByteString, ByteString> cursor = txn.openCursor(empty)) {
+				assertThat(cursor.next()).isFalse();
+				assertThat(cursor.positionToLastKey()).isFalse();
+				assertThat(cursor.positionToKeyOrNext(key(0))).isFalse();
+				assertThat(cursor.positionToIndex(0)).isFalse();
+			}
+			return null;
+		});
+	}
+}
@@ -0,0 +1,290 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.cassandra;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.opends.server.backends.pluggable.spi.TreeName;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * In-process fake of a {@link CqlSession} serving the read queries of the Cassandra storage from sorted maps,
+ * with the paging of the driver, and recording the executed queries and the number of rows they returned.
+ * The asynchronous writes are recorded and applied when they complete, immediately or when the test completes them.
+ */
+@SuppressWarnings("javadoc")
+final class FakeCqlSession {
+	/** Records of the trees, by {@code baseDN/indexId} partition. */
+	private final Map<String, NavigableMap<ByteString, ByteString>> partitions = new HashMap<>();
+	/** Queries executed, in order. */
+	final List<String> executed = new ArrayList<>();
+	/** Number of rows returned by the executed queries. */
+	int rowsRead;
+	/** Asynchronous executions, in order. */
+	final List<AsyncExecution> asyncExecutions = new CopyOnWriteArrayList<>();
+	/** Whether the asynchronous executions complete immediately, rather than when the test completes them. */
+	volatile boolean completeAsync = true;
+
+	/** An asynchronous execution of a statement or of a batch. */
+	final class AsyncExecution {
+		/** Values bound to the statements, in order, with the query under the {@code query} name. */
+		final List<Map<String, Object>> statements = new ArrayList<>();
+		final CompletableFuture<AsyncResultSet> result = new CompletableFuture<>();
+
+		/** Applies the writes and acknowledges them. */
+		void complete() {
+			for (final Map<String, Object> statement : statements) {
+				final TreeName treeName = new TreeName((String) statement.get("baseDN"), (String) statement.get("indexId"));
+				final String query = (String) statement.get("query");
+				if (query.startsWith("INSERT")) {
+					put(treeName, key(statement), value(statement));
+				} else if (query.startsWith("DELETE") && statement.containsKey("key")) {
+					partitions.getOrDefault(treeName.getBaseDN() + "/" + treeName.getIndexId(), new TreeMap<>())
+							.remove(key(statement));
+				}
+			}
+			result.complete(null);
+		}
+
+		void fail(Throwable failure) {
+			result.completeExceptionally(failure);
+		}
+	}
+
+	final CqlSession session = proxy(CqlSession.class, (method, args) -> {
+		switch (method.getName()) {
+		case "prepare":
+			return prepare((String) args[0]);
+		case "execute":
+			return execute((Bound) Proxy.getInvocationHandler(args[0]));
+		case "executeAsync":
+			return executeAsync((Statement<?>) args[0]);
+		case "isClosed":
+			return false;
+		case "close":
+			return null;
+		default:
+			throw new UnsupportedOperationException(method.toString());
+		}
+	});
+
+	void put(TreeName treeName, ByteString key, ByteString value) {
+		partitions.computeIfAbsent(treeName.getBaseDN() + "/" + treeName.getIndexId(), k -> new TreeMap<>()).put(key, value);
+	}
+
+	/**
+	 * Returns the record of a tree.
+	 *
+	 * @return the value of the record, {@code null} if there is none
+	 */
+	ByteString get(TreeName treeName, ByteString key) {
+		final NavigableMap<ByteString, ByteString> records = partitions.get(treeName.getBaseDN() + "/" + treeName.getIndexId());
+		return records != null ? records.get(key) : null;
+	}
+
+	static ByteString key(Map<String, Object> statement) {
+		return ByteString.wrap(((ByteBuffer) statement.get("key")).array());
+	}
+
+	/** Returns the value written by a statement, {@code null} for a delete. */
+	static ByteString value(Map<String, Object> statement) {
+		final ByteBuffer value = (ByteBuffer) statement.get("value");
+		return value != null ? ByteString.wrap(value.array()) : null;
+	}
+
+	void clearStatistics() {
+		executed.clear();
+		rowsRead = 0;
+	}
+
+	private PreparedStatement prepare(String query) {
+		return proxy(PreparedStatement.class, (method, args) -> {
+			switch (method.getName()) {
+			case "bind":
+				return new Bound(query, new HashMap<>(), 0, null).statement;
+			case "getQuery":
+				return query;
+			default:
+				throw new UnsupportedOperationException(method.toString());
+			}
+		});
+	}
+
+	private CompletionStage<AsyncResultSet> executeAsync(Statement<?> statement) {
+		final AsyncExecution execution = new AsyncExecution();
+		final Iterable<?> statements = statement instanceof BatchStatement ? (BatchStatement) statement : Collections.singleton(statement);
+		for (final Object bound : statements) {
+			final Bound handler = (Bound) Proxy.getInvocationHandler(bound);
+			final Map<String, Object> values = new HashMap<>(handler.values);
+			values.put("query", handler.query);
+			execution.statements.add(values);
+		}
+		asyncExecutions.add(execution);
+		if (completeAsync) {
+			execution.complete();
+		}
+		return execution.result;
+	}
+
+	private ResultSet execute(Bound bound) {
+		final String query = bound.query;
+		executed.add(query);
+		NavigableMap<ByteString, ByteString> records = partitions.getOrDefault(
+				bound.values.get("baseDN") + "/" + bound.values.get("indexId"), new TreeMap<>());
+		final ByteString key = bound.values.containsKey("key") ? ByteString.wrap(((ByteBuffer) bound.values.get("key")).array()) : null;
+		if (query.contains("key>=:key")) {
+			records = records.tailMap(key, true);
+		} else if (query.contains("key>:key")) {
+			records = records.tailMap(key, false);
+		} else if (query.contains("key=:key")) {
+			records = records.subMap(key, true, key, true);
+		}
+		if (query.contains(" DESC")) {
+			records = records.descendingMap();
+		}
+		final List<Map.Entry<ByteString, ByteString>> all = new ArrayList<>(records.entrySet());
+		final int limit = query.contains("LIMIT 1") ? Math.min(1, all.size()) : all.size();
+		final int from = bound.pagingState != null ? bound.pagingState.getInt(0) : 0;
+		final int to = bound.pageSize > 0 ? Math.min(limit, from + bound.pageSize) : limit;
+		final List<Map.Entry<ByteString, ByteString>> page = all.subList(Math.min(from, to), to);
+		rowsRead += page.size();
+		final ByteBuffer nextPagingState = to < limit ? (ByteBuffer) ByteBuffer.allocate(4).putInt(0, to) : null;
+
+		final Iterator<Map.Entry<ByteString, ByteString>> rows = page.iterator();
+		final int[] available = { page.size() };
+		final ExecutionInfo executionInfo = proxy(ExecutionInfo.class, (method, args) -> {
+			if ("getPagingState".equals(method.getName())) {
+				return nextPagingState;
+			}
+			throw new UnsupportedOperationException(method.toString());
+		});
+		return proxy(ResultSet.class, (method, args) -> {
+			switch (method.getName()) {
+			case "one":
+				if (!rows.hasNext()) {
+					return null;
+				}
+				available[0]--;
+				return row(rows.next());
+			case "getAvailableWithoutFetching":
+				return available[0];
+			case "getExecutionInfo":
+				return executionInfo;
+			default:
+				throw new UnsupportedOperationException(method.toString());
+			}
+		});
+	}
+
+	private static Row row(Map.Entry<ByteString, ByteString> record) {
+		return proxy(Row.class, (method, args) -> {
+			if ("getByteBuffer".equals(method.getName()) && "key".equals(args[0])) {
+				return ByteBuffer.wrap(record.getKey().toByteArray());
+			} else if ("getByteBuffer".equals(method.getName()) && "value".equals(args[0])) {
+				return ByteBuffer.wrap(record.getValue().toByteArray());
+			}
+			throw new UnsupportedOperationException(method.toString());
+		});
+	}
+
+	/** Immutable bound statement: each setter returns a copy. */
+	private static final class Bound implements InvocationHandler {
+		final String query;
+		final Map<String, Object> values;
+		final int pageSize;
+		final ByteBuffer pagingState;
+		final BoundStatement statement;
+
+		Bound(String query, Map<String, Object> values, int pageSize, ByteBuffer pagingState) {
+			this.query = query;
+			this.values = values;
+			this.pageSize = pageSize;
+			this.pagingState = pagingState;
+			this.statement = (BoundStatement) Proxy.newProxyInstance(
+					BoundStatement.class.getClassLoader(), new Class<?>[] { BoundStatement.class }, this);
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			switch (method.getName()) {
+			case "setString":
+			case "setByteBuffer":
+				final Map<String, Object> copy = new HashMap<>(values);
+				copy.put((String) args[0], args[1]);
+				return new Bound(query, copy, pageSize, pagingState).statement;
+			case "setPageSize":
+				return new Bound(query, values, (Integer) args[0], pagingState).statement;
+			case "setPagingState":
+				return new Bound(query, values, pageSize, (ByteBuffer) args[0]).statement;
+			case "setTracing":
+			case "setExecutionProfileName":
+				return statement;
+			case "toString":
+				return query + " " + values;
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			default:
+				throw new UnsupportedOperationException(method.toString());
+			}
+		}
+	}
+
+	/** Handler of the methods of a proxy, by name. */
+	private interface Handler {
+		Object invoke(Method method, Object[] args);
+	}
+
+	private static <T> T proxy(Class<T> type, Handler handler) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "toString":
+				return "fake " + type.getSimpleName();
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			default:
+				return handler.invoke(method, args);
+			}
+		}));
+	}
+}
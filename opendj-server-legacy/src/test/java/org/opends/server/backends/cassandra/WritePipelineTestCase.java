@@ -0,0 +1,236 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.forgerock.opendj.config.ConfigurationMock.mockCfg;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.server.config.server.CASBackendCfg;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.backends.pluggable.spi.StorageRuntimeException;
+import org.opends.server.backends.pluggable.spi.TreeName;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+
+/** Checks the batching and the flow control of the asynchronous writes against a {@link FakeCqlSession}. */
+@SuppressWarnings("javadoc")
+@Test(sequential = true)
+public class WritePipelineTestCase extends DirectoryServerTestCase {
+	private static final String INSERT = "INSERT INTO opendj.opendj (baseDN,indexId,key,value) VALUES (:baseDN,:indexId,:key,:value)";
+	private static final String DELETE = "DELETE FROM opendj.opendj WHERE baseDN=:baseDN and indexId=:indexId and key=:key";
+
+	private final TreeName tree1 = new TreeName("dc=example,dc=com", "cn.equality");
+	private final TreeName tree2 = new TreeName("dc=example,dc=com", "sn.equality");
+	private FakeCqlSession fake;
+	private WritePipeline pipeline;
+
+	@BeforeMethod
+	public void setUp() {
+		final CASBackendCfg cfg = mockCfg(CASBackendCfg.class);
+		when(cfg.getBackendId()).thenReturn("WritePipelineTestCase");
+		when(cfg.getDBDirectory()).thenReturn("WritePipelineTestCase");
+		fake = new FakeCqlSession();
+		final Storage storage = new Storage(cfg, null);
+		storage.session = fake.session;
+		pipeline = new WritePipeline(storage);
+	}
+
+	private static ByteString key(int i) {
+		return ByteString.valueOfInt(i);
+	}
+
+	private static ByteString value(String value) {
+		return ByteString.valueOfUtf8(value);
+	}
+
+	private void put(TreeName treeName, ByteString key, ByteString value) {
+		pipeline.add(treeName, key, value, bind(INSERT, treeName, key).setByteBuffer("value", ByteBuffer.wrap(value.toByteArray())));
+	}
+
+	private void delete(TreeName treeName, ByteString key) {
+		pipeline.add(treeName, key, null, bind(DELETE, treeName, key));
+	}
+
+	private BoundStatement bind(String query, TreeName treeName, ByteString key) {
+		return fake.session.prepare(query).bind()
+				.setString("baseDN", treeName.getBaseDN())
+				.setString("indexId", treeName.getIndexId())
+				.setByteBuffer("key", ByteBuffer.wrap(key.toByteArray()));
+	}
+
+	/** Returns the trees and the keys of the statements of an execution. */
+	private List<String> statements(int execution) {
+		final List<String> statements = new ArrayList<>();
+		for (final Map<String, Object> statement : fake.asyncExecutions.get(execution).statements) {
+			statements.add(statement.get("indexId") + ":" + FakeCqlSession.key(statement).toInt());
+		}
+		return statements;
+	}
+
+	@Test
+	public void testWritesAreBatchedPerTree() throws Exception {
+		for (int i = 0; i < WritePipeline.BATCH_SIZE - 1; i++) {
+			put(tree1, key(i), value("v" + i));
+			put(tree2, key(i), value("v" + i));
+		}
+		assertThat(fake.asyncExecutions).isEmpty();
+
+		put(tree1, key(WritePipeline.BATCH_SIZE), value("last"));
+		assertThat(fake.asyncExecutions).hasSize(1);
+		assertThat(fake.asyncExecutions.get(0).statements).hasSize(WritePipeline.BATCH_SIZE);
+		for (final String statement : statements(0)) {
+			assertThat(statement).startsWith("cn.equality:");
+		}
+
+		pipeline.await();
+		assertThat(fake.asyncExecutions).hasSize(2);
+		assertThat(fake.asyncExecutions.get(1).statements).hasSize(WritePipeline.BATCH_SIZE - 1);
+		for (final String statement : statements(1)) {
+			assertThat(statement).startsWith("sn.equality:");
+		}
+		assertThat(fake.get(tree1, key(WritePipeline.BATCH_SIZE))).isEqualTo(value("last"));
+		assertThat(fake.get(tree2, key(0))).isEqualTo(value("v0"));
+	}
+
+	@Test
+	public void testLargeWritesAreSentBeforeTheBatchIsFull() throws Exception {
+		final ByteString large = ByteString.wrap(new byte[WritePipeline.BATCH_BYTES / 2]);
+		put(tree1, key(1), large);
+		assertThat(fake.asyncExecutions).isEmpty();
+		put(tree1, key(2), large);
+		assertThat(fake.asyncExecutions).hasSize(1);
+		assertThat(statements(0)).containsExactly("cn.equality:1", "cn.equality:2");
+	}
+
+	@Test
+	public void testLastWriteOfKeyWins() throws Exception {
+		put(tree1, key(1), value("first"));
+		put(tree1, key(2), value("other"));
+		delete(tree1, key(1));
+		put(tree1, key(1), value("last"));
+		pipeline.await();
+
+		assertThat(fake.asyncExecutions).hasSize(1);
+		// the key is written once, in the order of its last write
+		assertThat(statements(0)).containsExactly("cn.equality:2", "cn.equality:1");
+		assertThat(FakeCqlSession.value(fake.asyncExecutions.get(0).statements.get(1))).isEqualTo(value("last"));
+		assertThat(fake.get(tree1, key(1))).isEqualTo(value("last"));
+
+		fake.put(tree1, key(3), value("stored"));
+		put(tree1, key(3), value("written"));
+		delete(tree1, key(3));
+		pipeline.await();
+		assertThat(fake.asyncExecutions).hasSize(2);
+		assertThat(fake.asyncExecutions.get(1).statements).hasSize(1);
+		assertThat(fake.get(tree1, key(3))).isNull();
+	}
+
+	@Test
+	public void testUnacknowledgedWritesAreVisible() throws Exception {
+		fake.completeAsync = false;
+		put(tree1, key(1), value("pending"));
+		delete(tree1, key(2));
+		assertThat(pipeline.get(tree1, key(1)).value).isEqualTo(value("pending"));
+		assertThat(pipeline.get(tree1, key(2)).value).isNull();
+		assertThat(pipeline.get(tree1, key(3))).isNull();
+		assertThat(pipeline.get(tree2, key(1))).isNull();
+
+		pipeline.flush();
+		assertThat(fake.asyncExecutions).hasSize(1);
+		assertThat(pipeline.get(tree1, key(1)).value).isEqualTo(value("pending"));
+		assertThat(pipeline.get(tree1, key(2))).isNotNull();
+
+		// a newer pending write hides the write in flight
+		put(tree1, key(1), value("newer"));
+		assertThat(pipeline.get(tree1, key(1)).value).isEqualTo(value("newer"));
+
+		fake.asyncExecutions.get(0).complete();
+		assertThat(pipeline.get(tree1, key(2))).isNull();
+		assertThat(pipeline.get(tree1, key(1)).value).isEqualTo(value("newer"));
+		fake.completeAsync = true;
+		pipeline.await();
+		assertThat(pipeline.get(tree1, key(1))).isNull();
+		assertThat(fake.get(tree1, key(1))).isEqualTo(value("newer"));
+	}
+
+	@Test
+	public void testBatchesInFlightAreLimited() throws Exception {
+		fake.completeAsync = false;
+		for (int i = 0; i < WritePipeline.MAX_IN_FLIGHT; i++) {
+			put(tree1, key(i), value("v" + i));
+			pipeline.flush();
+		}
+		assertThat(fake.asyncExecutions).hasSize(WritePipeline.MAX_IN_FLIGHT);
+
+		final Thread writer = new Thread(() -> {
+			put(tree1, key(-1), value("waiting"));
+			pipeline.flush();
+		}, "WritePipelineTestCase writer");
+		writer.start();
+		writer.join(200);
+		assertThat(writer.isAlive()).as("the writer waits for a permit").isTrue();
+		assertThat(fake.asyncExecutions).hasSize(WritePipeline.MAX_IN_FLIGHT);
+
+		fake.asyncExecutions.get(0).complete();
+		writer.join(TimeUnit.SECONDS.toMillis(10));
+		assertThat(writer.isAlive()).isFalse();
+		assertThat(fake.asyncExecutions).hasSize(WritePipeline.MAX_IN_FLIGHT + 1);
+
+		for (final FakeCqlSession.AsyncExecution execution : fake.asyncExecutions) {
+			execution.complete();
+		}
+		pipeline.await();
+		assertThat(fake.get(tree1, key(-1))).isEqualTo(value("waiting"));
+	}
+
+	@Test
+	public void testAwaitThrowsFirstFailure() throws Exception {
+		fake.completeAsync = false;
+		put(tree1, key(1), value("v1"));
+		put(tree2, key(1), value("v1"));
+		pipeline.flush();
+		assertThat(fake.asyncExecutions).hasSize(2);
+		final RuntimeException first = new IllegalStateException("first");
+		fake.asyncExecutions.get(1).fail(first);
+		fake.asyncExecutions.get(0).fail(new IllegalStateException("second"));
+
+		try {
+			pipeline.await();
+			fail("await should have thrown the first failure");
+		} catch (StorageRuntimeException e) {
+			assertThat(e.getCause()).isSameAs(first);
+		}
+		// the writes in flight were released
+		assertThat(pipeline.get(tree1, key(1))).isNull();
+		try {
+			put(tree1, key(2), value("v2"));
+			fail("a write after a failure should have been rejected");
+		} catch (StorageRuntimeException e) {
+			assertThat(e.getCause()).isSameAs(first);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.opends.server.DirectoryServerTestCase;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/** Tests the prepared statements cache of the connections and the resolution of the SQL dialect of a connection. */
+@Test(groups = { "precommit", "pluggablebackend" }, sequential = true)
+public class CachedConnectionTestCase extends DirectoryServerTestCase {
+
+	private Connection parent;
+	private CachedConnection con;
+
+	@BeforeMethod
+	public void setUp() throws SQLException {
+		parent = mock(Connection.class);
+		when(parent.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+		con = new CachedConnection(null, parent);
+	}
+
+	@Test
+	public void testStatementIsPreparedOnce() throws Exception {
+		final PreparedStatement statement = con.prepareCachedStatement("select 1");
+		assertSame(con.prepareCachedStatement("select 1"), statement);
+		assertNotSame(con.prepareCachedStatement("select 2"), statement);
+		verify(parent, times(1)).prepareStatement("select 1");
+	}
+
+	@Test
+	public void testClosedStatementIsPreparedAgain() throws Exception {
+		final PreparedStatement statement = con.prepareCachedStatement("select 1");
+		when(statement.isClosed()).thenReturn(true);
+		assertNotSame(con.prepareCachedStatement("select 1"), statement);
+		verify(parent, times(2)).prepareStatement("select 1");
+	}
+
+	@Test
+	public void testLeastRecentlyUsedStatementIsEvicted() throws Exception {
+		final PreparedStatement first = con.prepareCachedStatement("select 0");
+		final PreparedStatement second = con.prepareCachedStatement("select 1");
+		for (int i = 2; i < CachedConnection.STATEMENT_CACHE_SIZE; i++) {
+			con.prepareCachedStatement("select " + i);
+		}
+		assertSame(con.prepareCachedStatement("select 0"), first); // used again: the second is the eldest
+		assertEquals(con.statements.size(), CachedConnection.STATEMENT_CACHE_SIZE);
+
+		con.prepareCachedStatement("select " + CachedConnection.STATEMENT_CACHE_SIZE);
+		assertEquals(con.statements.size(), CachedConnection.STATEMENT_CACHE_SIZE);
+		verify(second).close();
+		verify(first, never()).close();
+		assertNotSame(con.prepareCachedStatement("select 1"), second);
+		verify(parent, times(2)).prepareStatement("select 1");
+	}
+
+	@Test
+	public void testStatementsAreClosedByTableChanges() throws Exception {
+		final PreparedStatement statement = con.prepareCachedStatement("select 1");
+		CachedConnection.ddlGeneration.incrementAndGet();
+		final PreparedStatement prepared = con.prepareCachedStatement("select 1");
+		verify(statement).close();
+		assertNotSame(prepared, statement);
+		assertSame(con.prepareCachedStatement("select 1"), prepared);
+	}
+
+	@DataProvider
+	public Object[][] drivers() {
+		return new Object[][] {
+			{ org.postgresql.PGConnection.class, SqlDialect.POSTGRES },
+			{ com.mysql.cj.jdbc.JdbcConnection.class, SqlDialect.MYSQL },
+			{ oracle.jdbc.OracleConnection.class, SqlDialect.ORACLE },
+			{ com.microsoft.sqlserver.jdbc.ISQLServerConnection.class, SqlDialect.MSSQL },
+			{ java.sql.Wrapper.class, SqlDialect.ANSI }, // not a known driver
+		};
+	}
+
+	@Test(dataProvider = "drivers")
+	public void testDialectIsResolvedFromDriver(Class<?> connectionClass, SqlDialect dialect) {
+		final Connection driverConnection = (Connection) mock(connectionClass, withSettings().extraInterfaces(Connection.class));
+		assertSame(SqlDialect.of(driverConnection), dialect);
+		assertSame(SqlDialect.of(new CachedConnection(null, driverConnection)), dialect, "resolved from the pooled connection");
+	}
+}
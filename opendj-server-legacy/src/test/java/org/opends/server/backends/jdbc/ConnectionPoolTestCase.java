@@ -0,0 +1,269 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.forgerock.opendj.config.ConfigurationMock.mockCfg;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.server.config.server.JDBCBackendCfg;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.backends.pluggable.spi.ReadOperation;
+import org.opends.server.backends.pluggable.spi.ReadableTransaction;
+import org.opends.server.backends.pluggable.spi.StorageRuntimeException;
+import org.opends.server.backends.pluggable.spi.TreeName;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/** Tests the connection pool and the read replicas against a fake JDBC driver, which does not need a database. */
+@Test(groups = { "precommit", "pluggablebackend" }, sequential = true)
+public class ConnectionPoolTestCase extends DirectoryServerTestCase {
+
+	private static final String URL_PREFIX = "jdbc:opendj-pool-test:";
+	private static final long TIMEOUT = 200;
+
+	private final FakeDriver driver = new FakeDriver();
+	private final AtomicInteger nextPool = new AtomicInteger();
+	/** The connection string of the primary database of the last storage created. */
+	private String primaryConnectionString;
+
+	@BeforeClass
+	public void registerDriver() throws SQLException {
+		DriverManager.registerDriver(driver);
+	}
+
+	@AfterClass
+	public void deregisterDriver() throws SQLException {
+		DriverManager.deregisterDriver(driver);
+	}
+
+	@Test
+	public void testBorrowTimesOutWhenAllThreadsHoldConnections() throws Exception {
+		final ConnectionPool pool = newPool(2);
+		final Connection con1 = borrowOnOtherThread(pool);
+		final Connection con2 = borrowOnOtherThread(pool);
+		final long start = System.currentTimeMillis();
+		try {
+			pool.borrow();
+			fail("The pool should have been exhausted");
+		} catch (SQLTransientConnectionException e) {
+			assertTrue(System.currentTimeMillis() - start >= TIMEOUT);
+			assertTrue(Storage.isConnectionFailure(e));
+		}
+
+		// A connection returned by another thread can be borrowed again
+		con1.close();
+		pool.borrow().close();
+		con2.close();
+	}
+
+	@Test
+	public void testThreadHoldingConnectionBorrowsWithoutWaiting() throws Exception {
+		final ConnectionPool pool = newPool(1);
+		try (final Connection outer = pool.borrow()) {
+			// The second connection of an operation does not wait for the one it holds
+			try (final Connection inner = pool.borrow()) {
+				assertNotSame(inner, outer);
+			}
+			try {
+				borrowOnOtherThread(pool);
+				fail("The only thread allowed to hold connections is this one");
+			} catch (SQLTransientConnectionException e) {
+				// expected
+			}
+		}
+		borrowOnOtherThread(pool).close();
+	}
+
+	@Test
+	public void testConfigureResizesPool() throws Exception {
+		final ConnectionPool pool = newPool(1);
+		final Connection con = borrowOnOtherThread(pool);
+		pool.configure(2, TIMEOUT);
+		pool.borrow().close();
+
+		pool.configure(1, TIMEOUT);
+		try {
+			borrowOnOtherThread(pool);
+			fail("The pool should have been shrunk");
+		} catch (SQLTransientConnectionException e) {
+			// expected
+		}
+		con.close();
+		borrowOnOtherThread(pool).close();
+	}
+
+	@Test
+	public void testReadFallsBackToPrimaryWhenReplicaUnavailable() throws Exception {
+		// No driver accepts the connection string of the replica
+		final ConnectionPool replica = ConnectionPool.get("jdbc:opendj-pool-test-missing:" + nextPool.get());
+		replica.configure(1, TIMEOUT);
+		final Storage storage = newStorage(replica);
+		assertEquals(storage.read(readKey()), ByteString.valueOfUtf8("primary"));
+	}
+
+	@Test
+	public void testReadFallsBackToPrimaryOnReplicaConnectionFailure() throws Exception {
+		final ConnectionPool replica = newPool(2);
+		driver.failures.put(replica.connectionString, new SQLNonTransientConnectionException("terminated", "08006"));
+		final Storage storage = newStorage(replica);
+		assertEquals(storage.read(readKey()), ByteString.valueOfUtf8("primary"));
+		assertEquals(driver.queries.get(replica.connectionString).get(), 1);
+	}
+
+	@Test
+	public void testReadDoesNotFallBackOnReplicaStatementFailure() throws Exception {
+		final ConnectionPool replica = newPool(2);
+		driver.failures.put(replica.connectionString, new SQLSyntaxErrorException("no such table", "42P01"));
+		final Storage storage = newStorage(replica);
+		try {
+			storage.read(readKey());
+			fail("The failure of the replica should not have been hidden by reading the primary");
+		} catch (StorageRuntimeException e) {
+			assertFalse(Storage.isConnectionFailure(e));
+		}
+		assertNull(driver.queries.get(primaryConnectionString));
+	}
+
+	private ConnectionPool newPool(int size) {
+		final ConnectionPool pool = ConnectionPool.get(URL_PREFIX + nextPool.incrementAndGet());
+		pool.configure(size, TIMEOUT);
+		return pool;
+	}
+
+	/** Borrows a connection on a new thread, which holds no other connection. */
+	private Connection borrowOnOtherThread(final ConnectionPool pool) throws Exception {
+		final FutureTask<Connection> borrow = new FutureTask<>(new Callable<Connection>() {
+			@Override
+			public Connection call() throws Exception {
+				return pool.borrow();
+			}
+		});
+		new Thread(borrow, "pool-test-borrower").start();
+		try {
+			return borrow.get(10, TimeUnit.SECONDS);
+		} catch (ExecutionException e) {
+			throw (Exception) e.getCause();
+		}
+	}
+
+	private Storage newStorage(ConnectionPool replica) {
+		final ConnectionPool primary = newPool(2);
+		driver.values.put(primary.connectionString, "primary");
+		primaryConnectionString = primary.connectionString;
+		final JDBCBackendCfg cfg = mockCfg(JDBCBackendCfg.class);
+		when(cfg.getDBDirectory()).thenReturn(primary.connectionString);
+		final Storage storage = new Storage(cfg, null);
+		storage.replicas = Collections.singletonList(replica);
+		return storage;
+	}
+
+	private static ReadOperation<ByteString> readKey() {
+		return new ReadOperation<ByteString>() {
+			@Override
+			public ByteString run(ReadableTransaction txn) throws Exception {
+				return txn.read(new TreeName("dc=example,dc=com", "id2entry"), ByteString.valueOfUtf8("key"));
+			}
+		};
+	}
+
+	/**
+	 * Driver of the connection strings starting with {@link #URL_PREFIX}, whose queries return the configured value
+	 * or throw the configured failure.
+	 */
+	private static final class FakeDriver implements Driver {
+		final Map<String, String> values = new ConcurrentHashMap<>();
+		final Map<String, SQLException> failures = new ConcurrentHashMap<>();
+		final Map<String, AtomicInteger> queries = new ConcurrentHashMap<>();
+
+		@Override
+		public Connection connect(final String url, Properties info) throws SQLException {
+			if (!acceptsURL(url)) {
+				return null;
+			}
+			final PreparedStatement statement = mock(PreparedStatement.class);
+			when(statement.executeQuery()).thenAnswer(invocation -> {
+				queries.computeIfAbsent(url, k -> new AtomicInteger()).incrementAndGet();
+				final SQLException failure = failures.get(url);
+				if (failure != null) {
+					throw failure;
+				}
+				final String value = values.get(url);
+				final ResultSet rs = mock(ResultSet.class);
+				when(rs.next()).thenReturn(value != null);
+				when(rs.getBytes("v")).thenReturn(value != null ? value.getBytes() : null);
+				return rs;
+			});
+			final Connection con = mock(Connection.class);
+			when(con.prepareStatement(anyString())).thenReturn(statement);
+			return con;
+		}
+
+		@Override
+		public boolean acceptsURL(String url) {
+			return url.startsWith(URL_PREFIX);
+		}
+
+		@Override
+		public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+			return new DriverPropertyInfo[0];
+		}
+
+		@Override
+		public int getMajorVersion() {
+			return 1;
+		}
+
+		@Override
+		public int getMinorVersion() {
+			return 0;
+		}
+
+		@Override
+		public boolean jdbcCompliant() {
+			return false;
+		}
+
+		@Override
+		public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			throw new SQLFeatureNotSupportedException();
+		}
+	}
+}
@@ -0,0 +1,420 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.forgerock.opendj.ldap.ByteString;
+
+/**
+ * In-memory database understanding the statements a storage in the {@link SqlDialect#POSTGRES} dialect runs against
+ * its tree tables, for the tests which do not need a real database. Every statement is committed as soon as it runs
+ * and any other statement fails. The snapshots exported and imported by the backups are only pretended.
+ */
+final class FakeDatabase implements Driver {
+	static final String URL_PREFIX = "jdbc:opendj-fake:";
+
+	private static final String TABLE = "(opendj2?_[0-9a-f]+)";
+	private static final String KEY = "(?:h=\\? and k=\\?|k=\\?)";
+	private static final Pattern CREATE = Pattern.compile("create table " + TABLE + " \\((.*)\\)");
+	private static final Pattern DROP = Pattern.compile("drop table " + TABLE);
+	private static final Pattern READ = Pattern.compile("select v from " + TABLE + " where " + KEY);
+	private static final Pattern COUNT = Pattern.compile("select count\\(\\*\\) from " + TABLE);
+	private static final Pattern DELETE = Pattern.compile("delete from " + TABLE + " where " + KEY);
+	private static final Pattern DELETE_ALL = Pattern.compile("delete from " + TABLE);
+	private static final Pattern UPSERT = Pattern.compile("insert into " + TABLE + " \\(.*\\) values (.*) ON CONFLICT .*");
+	private static final Pattern EXISTS = Pattern.compile("select k from " + TABLE + " where [hk] in \\((.*)\\)");
+	private static final Pattern HASHES = Pattern.compile("select h from " + TABLE + "(?: where h>\\?)? order by h");
+	private static final Pattern ROWS = Pattern.compile("select h,k,v from " + TABLE + " where (?:h>\\? and )?h<=\\? for update");
+	private static final Pattern KEYS = Pattern.compile("select k from " + TABLE + " order by k");
+	private static final Pattern RANGE =
+			Pattern.compile("select k,v from " + TABLE + "(?: where [hk]>=\\?(?: and [hk]<\\?)?| where [hk]<\\?)?");
+	private static final String EXPORT_SNAPSHOT = "select pg_export_snapshot()";
+	private static final String IMPORT_SNAPSHOT = "set transaction snapshot ";
+
+	/** Rows of a table, by hash of the key in the hashed layout and by key in the ordered layout. */
+	private static final class Table {
+		final boolean hashed;
+		final NavigableMap<ByteString, Object[]> rows = new TreeMap<>();
+
+		Table(boolean hashed) {
+			this.hashed = hashed;
+		}
+
+		/** Returns the primary key of the row whose key columns are bound from the parameter at index. */
+		ByteString primaryKey(List<Object> parameters, int index) {
+			return hashed ? ByteString.valueOfUtf8((String) parameters.get(index)) : ByteString.wrap((byte[]) parameters.get(index));
+		}
+	}
+
+	private final Map<String, Table> tables = new HashMap<>();
+	/** Number of reads of a record of a table, by table name. */
+	final Map<String, AtomicInteger> reads = new HashMap<>();
+	/** Whether the snapshots of the transactions can be exported to other connections. */
+	volatile boolean sharedSnapshots = true;
+	/** Number of transactions which imported an exported snapshot. */
+	final AtomicInteger importedSnapshots = new AtomicInteger();
+	/** Statements executed against the database, a batch being executed once, in order. */
+	final List<String> executed = Collections.synchronizedList(new ArrayList<String>());
+	/** Number of commits of the connections. */
+	final AtomicInteger commits = new AtomicInteger();
+
+	@Override
+	public Connection connect(String url, Properties info) {
+		if (!acceptsURL(url)) {
+			return null;
+		}
+		final InvocationHandler handler = (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "prepareStatement":
+				return newStatement((String) args[0]);
+			case "createStatement":
+				return newSnapshotStatement();
+			case "getMetaData":
+				return newMetaData();
+			case "commit":
+				commits.incrementAndGet();
+				return null;
+			case "getAutoCommit":
+				return false;
+			case "isValid":
+				return true;
+			default:
+				return null;
+			}
+		};
+		return proxy(Connection.class, handler);
+	}
+
+	/**
+	 * Returns the values of the rows of a table by key.
+	 *
+	 * @param name the table name
+	 * @return the values of the table by key, {@code null} if the table does not exist
+	 */
+	synchronized Map<ByteString, ByteString> getRecords(String name) {
+		final Table table = tables.get(name);
+		if (table == null) {
+			return null;
+		}
+		final Map<ByteString, ByteString> records = new TreeMap<>();
+		for (final Object[] row : table.rows.values()) {
+			records.put(ByteString.wrap(Storage.db2real((byte[]) row[1])), ByteString.wrap((byte[]) row[2]));
+		}
+		return records;
+	}
+
+	private PreparedStatement newStatement(final String sql) {
+		final List<Object> parameters = new ArrayList<>();
+		final List<List<Object>> batch = new ArrayList<>();
+		final int[] maxRows = { 0 };
+		final InvocationHandler handler = (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "setString":
+			case "setBytes":
+			case "setInt":
+			case "setLong":
+			case "setObject":
+				final int index = (Integer) args[0] - 1;
+				while (parameters.size() <= index) {
+					parameters.add(null);
+				}
+				parameters.set(index, args[1]);
+				return null;
+			case "setMaxRows":
+				maxRows[0] = (Integer) args[0];
+				return null;
+			case "addBatch":
+				batch.add(new ArrayList<>(parameters));
+				return null;
+			case "clearBatch":
+				batch.clear();
+				return null;
+			case "executeQuery":
+				executed.add(sql);
+				return newResultSet(query(sql, parameters, maxRows[0]));
+			case "executeUpdate":
+				executed.add(sql);
+				return update(sql, parameters);
+			case "executeBatch":
+				executed.add(sql);
+				final int[] counts = new int[batch.size()];
+				for (int i = 0; i < counts.length; i++) {
+					counts[i] = update(sql, batch.get(i));
+				}
+				batch.clear();
+				return counts;
+			case "toString":
+				return sql;
+			default:
+				return null;
+			}
+		};
+		return proxy(PreparedStatement.class, handler);
+	}
+
+	/** Returns the metadata listing the tables of the database. */
+	private DatabaseMetaData newMetaData() {
+		final InvocationHandler handler = (proxy, method, args) -> {
+			if ("getTables".equals(method.getName())) {
+				final List<Object[]> rows = new ArrayList<>();
+				synchronized (this) {
+					for (final String name : tables.keySet()) {
+						rows.add(new Object[] { name });
+					}
+				}
+				return newResultSet(rows);
+			}
+			return null;
+		};
+		return proxy(DatabaseMetaData.class, handler);
+	}
+
+	/** Returns a statement exporting or importing the snapshot of a transaction, which are only pretended. */
+	private Statement newSnapshotStatement() {
+		final InvocationHandler handler = (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "execute":
+				final String sql = (String) args[0];
+				if (sql.startsWith(IMPORT_SNAPSHOT)) {
+					importedSnapshots.incrementAndGet();
+				} else if (!sql.equals(SqlDialect.REPEATABLE_READ)) {
+					throw new SQLFeatureNotSupportedException(sql);
+				}
+				return false;
+			case "executeQuery":
+				if (!EXPORT_SNAPSHOT.equals(args[0])) {
+					throw new SQLFeatureNotSupportedException((String) args[0]);
+				}
+				final List<Object[]> rows = new ArrayList<>();
+				if (sharedSnapshots) {
+					rows.add(new Object[] { "00000003-0000001B-1" });
+				}
+				return newResultSet(rows);
+			default:
+				return null;
+			}
+		};
+		return proxy(Statement.class, handler);
+	}
+
+	private Table table(Matcher matcher) throws SQLException {
+		final Table table = tables.get(matcher.group(1));
+		if (table == null) {
+			throw new SQLException("relation " + matcher.group(1) + " does not exist", "42P01");
+		}
+		return table;
+	}
+
+	private synchronized int update(String sql, List<Object> parameters) throws SQLException {
+		Matcher matcher;
+		if ((matcher = CREATE.matcher(sql)).matches()) {
+			tables.put(matcher.group(1), new Table(matcher.group(2).startsWith("h ")));
+			return 0;
+		} else if ((matcher = DROP.matcher(sql)).matches()) {
+			table(matcher);
+			tables.remove(matcher.group(1));
+			return 0;
+		} else if ((matcher = DELETE.matcher(sql)).matches()) {
+			final Table table = table(matcher);
+			return table.rows.remove(table.primaryKey(parameters, 0)) != null ? 1 : 0;
+		} else if ((matcher = DELETE_ALL.matcher(sql)).matches()) {
+			final Table table = table(matcher);
+			final int count = table.rows.size();
+			table.rows.clear();
+			return count;
+		} else if ((matcher = UPSERT.matcher(sql)).matches()) {
+			return upsert(table(matcher), parameters).size();
+		} else if (sql.startsWith("update " + RecordCounts.TABLE + " ") || sql.startsWith("insert into " + RecordCounts.TABLE + " ")
+				|| sql.startsWith("delete from " + RecordCounts.TABLE + " ") || sql.startsWith("create table " + RecordCounts.TABLE + " ")) {
+			return 1;
+		}
+		throw new SQLFeatureNotSupportedException(sql);
+	}
+
+	/** Inserts or updates the bound rows and returns whether each row was inserted. */
+	private static List<Object[]> upsert(Table table, List<Object> parameters) {
+		final List<Object[]> inserted = new ArrayList<>();
+		final int columns = table.hashed ? 3 : 2;
+		for (int i = 0; i < parameters.size(); i += columns) {
+			final Object[] row = table.hashed
+					? new Object[] { parameters.get(i), parameters.get(i + 1), parameters.get(i + 2) }
+					: new Object[] { null, parameters.get(i), parameters.get(i + 1) };
+			inserted.add(new Object[] { table.rows.put(table.primaryKey(parameters, i), row) == null });
+		}
+		return inserted;
+	}
+
+	private synchronized List<Object[]> query(String sql, List<Object> parameters, int maxRows) throws SQLException {
+		final List<Object[]> result = new ArrayList<>();
+		Matcher matcher;
+		if ((matcher = READ.matcher(sql)).matches()) {
+			final Object[] row = table(matcher).rows.get(table(matcher).primaryKey(parameters, 0));
+			reads.computeIfAbsent(matcher.group(1), k -> new AtomicInteger()).incrementAndGet();
+			if (row != null) {
+				result.add(new Object[] { row[2] });
+			}
+		} else if ((matcher = UPSERT.matcher(sql)).matches() && sql.endsWith(" returning (xmax=0)")) {
+			result.addAll(upsert(table(matcher), parameters));
+		} else if ((matcher = COUNT.matcher(sql)).matches()) {
+			result.add(new Object[] { (long) table(matcher).rows.size() });
+		} else if ((matcher = EXISTS.matcher(sql)).matches()) {
+			final Table table = table(matcher);
+			for (int i = 0; i < parameters.size(); i++) {
+				final Object[] row = table.rows.get(table.primaryKey(parameters, i));
+				if (row != null && !result.contains(row)) {
+					result.add(row);
+				}
+			}
+			for (int i = 0; i < result.size(); i++) {
+				result.set(i, new Object[] { result.get(i)[1] });
+			}
+		} else if ((matcher = HASHES.matcher(sql)).matches()) {
+			final Table table = table(matcher);
+			final NavigableMap<ByteString, Object[]> rows =
+					parameters.isEmpty() ? table.rows : table.rows.tailMap(table.primaryKey(parameters, 0), false);
+			for (final Object[] row : rows.values()) {
+				if (maxRows > 0 && result.size() >= maxRows) {
+					break;
+				}
+				result.add(new Object[] { row[0] });
+			}
+		} else if ((matcher = ROWS.matcher(sql)).matches()) {
+			final Table table = table(matcher);
+			final ByteString to = table.primaryKey(parameters, parameters.size() - 1);
+			final NavigableMap<ByteString, Object[]> rows = parameters.size() == 1
+					? table.rows.headMap(to, true) : table.rows.subMap(table.primaryKey(parameters, 0), false, to, true);
+			result.addAll(rows.values());
+		} else if ((matcher = KEYS.matcher(sql)).matches()) {
+			for (final Object[] row : table(matcher).rows.values()) {
+				result.add(new Object[] { row[1] });
+			}
+		} else if ((matcher = RANGE.matcher(sql)).matches()) {
+			final Table table = table(matcher);
+			NavigableMap<ByteString, Object[]> rows = table.rows;
+			int index = 0;
+			if (sql.contains(">=?")) {
+				rows = rows.tailMap(table.primaryKey(parameters, index++), true);
+			}
+			if (sql.contains("<?")) {
+				rows = rows.headMap(table.primaryKey(parameters, index), false);
+			}
+			for (final Object[] row : rows.values()) {
+				result.add(new Object[] { row[1], row[2] });
+			}
+		} else if (sql.startsWith("select ") && (sql + " ").contains(" from " + RecordCounts.TABLE + " ")) {
+			// no counter rows
+		} else {
+			throw new SQLFeatureNotSupportedException(sql);
+		}
+		return result;
+	}
+
+	/** Result set of rows whose columns are read by index, or by name among h, k and v for the full rows. */
+	private ResultSet newResultSet(final List<Object[]> rows) {
+		final int[] current = { -1 };
+		final InvocationHandler handler = (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "next":
+				return ++current[0] < rows.size();
+			case "getBytes":
+			case "getString":
+			case "getLong":
+			case "getBoolean":
+			case "getObject":
+				final Object[] row = rows.get(current[0]);
+				if (args[0] instanceof Integer) {
+					return row[(Integer) args[0] - 1];
+				}
+				return row.length == 1 ? row[0] : row[Arrays.asList("h", "k", "v").indexOf(args[0])];
+			case "wasNull":
+				return false;
+			default:
+				return null;
+			}
+		};
+		return proxy(ResultSet.class, handler);
+	}
+
+	/** Returns an implementation of a JDBC interface by the handler, whose instances are only equal to themselves. */
+	private <T> T proxy(Class<T> type, final InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			case "isClosed":
+				return false;
+			default:
+				return handler.invoke(proxy, method, args);
+			}
+		}));
+	}
+
+	@Override
+	public boolean acceptsURL(String url) {
+		return url.startsWith(URL_PREFIX);
+	}
+
+	@Override
+	public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+		return new DriverPropertyInfo[0];
+	}
+
+	@Override
+	public int getMajorVersion() {
+		return 1;
+	}
+
+	@Override
+	public int getMinorVersion() {
+		return 0;
+	}
+
+	@Override
+	public boolean jdbcCompliant() {
+		return false;
+	}
+
+	@Override
+	public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+		throw new SQLFeatureNotSupportedException();
+	}
+}
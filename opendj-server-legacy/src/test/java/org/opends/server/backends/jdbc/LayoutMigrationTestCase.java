@@ -0,0 +1,184 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.forgerock.opendj.config.ConfigurationMock.mockCfg;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.server.config.server.JDBCBackendCfg;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.backends.pluggable.spi.AccessMode;
+import org.opends.server.backends.pluggable.spi.ReadOperation;
+import org.opends.server.backends.pluggable.spi.ReadableTransaction;
+import org.opends.server.backends.pluggable.spi.TreeName;
+import org.opends.server.backends.pluggable.spi.WriteOperation;
+import org.opends.server.backends.pluggable.spi.WriteableTransaction;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/** Tests the migration of the trees to the version 2 layout against an in-memory {@link FakeDatabase}. */
+@Test(groups = { "precommit", "pluggablebackend" }, sequential = true)
+public class LayoutMigrationTestCase extends DirectoryServerTestCase {
+
+	/** More records than a page of the migration. */
+	private static final int RECORDS = Storage.BATCH_SIZE * 2 + 500;
+
+	private final FakeDatabase database = new FakeDatabase();
+	private final AtomicInteger nextTree = new AtomicInteger();
+
+	@BeforeClass
+	public void registerDriver() throws SQLException {
+		DriverManager.registerDriver(database);
+	}
+
+	@AfterClass
+	public void deregisterDriver() throws SQLException {
+		DriverManager.deregisterDriver(database);
+	}
+
+	@Test
+	public void testMigrationCopiesRecordsToOrderedLayout() throws Exception {
+		final Storage storage = newStorage();
+		final TreeName treeName = newTreeName();
+		final Table hashed = createTable(storage, treeName, Table.LAYOUT_HASHED);
+		final Map<ByteString, ByteString> expected = new TreeMap<>();
+		for (int i = 0; i < RECORDS; i++) {
+			expected.put(key(i), value(i, 1));
+		}
+		write(storage, treeName, expected);
+		assertEquals(storage.getTable(treeName).name, hashed.name);
+		assertEquals(database.getRecords(hashed.name), expected);
+
+		storage.tables.clear();
+		final LayoutMigration migration = new LayoutMigration(storage);
+		storage.migration = migration;
+		try {
+			assertEquals(storage.getTable(treeName).layout, Table.LAYOUT_HASHED);
+			// written while the rows are copied: applied to both tables
+			final Map<ByteString, ByteString> changes = new TreeMap<>();
+			for (int i = 0; i < RECORDS; i += 100) {
+				changes.put(key(i), i % 200 == 0 ? null : value(i, 2));
+			}
+			write(storage, treeName, changes);
+			for (final Map.Entry<ByteString, ByteString> change : changes.entrySet()) {
+				if (change.getValue() == null) {
+					expected.remove(change.getKey());
+				} else {
+					expected.put(change.getKey(), change.getValue());
+				}
+			}
+
+			final long deadline = System.currentTimeMillis() + 30000;
+			while (storage.getTable(treeName).layout != Table.LAYOUT_ORDERED && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			final Table ordered = storage.getTable(treeName);
+			assertEquals(ordered.layout, Table.LAYOUT_ORDERED);
+			assertEquals(database.getRecords(ordered.name), expected);
+			assertEquals(read(storage, treeName, key(1)), value(1, 1));
+			assertEquals(read(storage, treeName, key(100)), value(100, 2));
+			assertNull(read(storage, treeName, key(200)));
+		} finally {
+			migration.shutdown();
+		}
+	}
+
+	@Test
+	public void testInterruptedMigrationWritesBothTables() throws Exception {
+		final Storage storage = newStorage();
+		final TreeName treeName = newTreeName();
+		final Table hashed = createTable(storage, treeName, Table.LAYOUT_HASHED);
+		final Table ordered = createTable(storage, treeName, Table.LAYOUT_ORDERED);
+		final Map<ByteString, ByteString> records = new TreeMap<>();
+		for (int i = 0; i < 10; i++) {
+			records.put(key(i), value(i, 1));
+		}
+		write(storage, treeName, records);
+		records.put(key(3), null);
+		records.put(key(4), value(4, 2));
+		write(storage, treeName, records);
+		records.remove(key(3));
+
+		assertEquals(storage.getTable(treeName).migrationTarget.name, ordered.name);
+		assertEquals(database.getRecords(hashed.name), records);
+		assertEquals(database.getRecords(ordered.name), records);
+	}
+
+	private Storage newStorage() {
+		final JDBCBackendCfg cfg = mockCfg(JDBCBackendCfg.class);
+		when(cfg.getDBDirectory()).thenReturn(FakeDatabase.URL_PREFIX + getClass().getSimpleName());
+		final Storage storage = new Storage(cfg, null);
+		storage.dialect = SqlDialect.POSTGRES;
+		storage.accessMode = AccessMode.READ_WRITE;
+		return storage;
+	}
+
+	private TreeName newTreeName() {
+		return new TreeName("dc=migration" + nextTree.incrementAndGet() + ",dc=com", "id2entry");
+	}
+
+	private static Table createTable(Storage storage, TreeName treeName, int layout) throws Exception {
+		final Table table = new Table(treeName, layout, storage.dialect);
+		try (final Connection con = storage.getConnection()) {
+			storage.createTable(con, table);
+		}
+		return table;
+	}
+
+	private static ByteString key(int i) {
+		return ByteString.valueOfUtf8(String.format("key%06d", i));
+	}
+
+	private static ByteString value(int i, int version) {
+		return ByteString.valueOfUtf8("value" + i + "." + version);
+	}
+
+	/** Writes the records in a transaction, a {@code null} value deletes the record. */
+	private static void write(Storage storage, final TreeName treeName, final Map<ByteString, ByteString> records)
+			throws Exception {
+		storage.write(new WriteOperation() {
+			@Override
+			public void run(WriteableTransaction txn) throws Exception {
+				for (final Map.Entry<ByteString, ByteString> record : records.entrySet()) {
+					if (record.getValue() == null) {
+						txn.delete(treeName, record.getKey());
+					} else {
+						txn.put(treeName, record.getKey(), record.getValue());
+					}
+				}
+			}
+		});
+	}
+
+	private static ByteString read(Storage storage, final TreeName treeName, final ByteString key) throws Exception {
+		return storage.read(new ReadOperation<ByteString>() {
+			@Override
+			public ByteString run(ReadableTransaction txn) throws Exception {
+				return txn.read(treeName, key);
+			}
+		});
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.forgerock.opendj.config.ConfigurationMock.mockCfg;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.*;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.server.config.server.JDBCBackendCfg;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.TestCaseUtils;
+import org.opends.server.backends.pluggable.spi.AccessMode;
+import org.opends.server.backends.pluggable.spi.TreeName;
+import org.opends.server.backends.pluggable.spi.WriteOperation;
+import org.opends.server.backends.pluggable.spi.WriteableTransaction;
+import org.opends.server.util.StaticUtils;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/** Tests the dump and the load of the trees of a storage against an in-memory {@link FakeDatabase}. */
+@Test(groups = { "precommit", "pluggablebackend" }, sequential = true)
+public class ParallelBackupTestCase extends DirectoryServerTestCase {
+
+	/** Rows of a chunk file, so that the trees are dumped in several chunks. */
+	private static final int CHUNK_SIZE = 10;
+	private static final int RECORDS = CHUNK_SIZE * 3 + 5;
+
+	private final FakeDatabase database = new FakeDatabase();
+	private final AtomicInteger nextTree = new AtomicInteger();
+
+	@BeforeClass
+	public void registerDriver() throws SQLException {
+		DriverManager.registerDriver(database);
+	}
+
+	@AfterClass
+	public void deregisterDriver() throws SQLException {
+		DriverManager.deregisterDriver(database);
+	}
+
+	@DataProvider
+	public Object[][] backups() {
+		return new Object[][] {
+			// compress, shared snapshots
+			{ false, true },
+			{ true, true },
+			{ false, false },
+			{ true, false },
+		};
+	}
+
+	@Test(dataProvider = "backups")
+	public void testLoadRestoresDumpedTrees(boolean compress, boolean sharedSnapshots) throws Exception {
+		database.sharedSnapshots = sharedSnapshots;
+		final Storage storage = newStorage();
+		final TreeName hashedTree = newTreeName();
+		final TreeName orderedTree = newTreeName();
+		createTable(storage, hashedTree, Table.LAYOUT_HASHED);
+		createTable(storage, orderedTree, Table.LAYOUT_ORDERED);
+		final Map<ByteString, ByteString> hashedRecords = records(RECORDS, 1);
+		final Map<ByteString, ByteString> orderedRecords = records(RECORDS + CHUNK_SIZE, 1);
+		write(storage, hashedTree, hashedRecords);
+		write(storage, orderedTree, orderedRecords);
+
+		final File directory = TestCaseUtils.createTemporaryDirectory("jdbc-backup-");
+		try {
+			final ParallelBackup backup = new ParallelBackup(storage);
+			backup.chunkSize = CHUNK_SIZE;
+			final int importedSnapshots = database.importedSnapshots.get();
+			final AtomicBoolean writable = new AtomicBoolean();
+			backup.dump(new HashSet<>(Arrays.asList(hashedTree, orderedTree)), directory, compress, () -> {
+				writable.compareAndSet(false, !storage.writeTransactions.isWriteLocked());
+				return false;
+			});
+			assertEquals(writable.get(), sharedSnapshots, "writes are only held back without a shared snapshot");
+			assertFalse(storage.writeTransactions.isWriteLocked());
+			assertEquals(database.importedSnapshots.get() > importedSnapshots, sharedSnapshots);
+			final Set<String> chunkFiles = new HashSet<>(Arrays.asList(directory.list()));
+			final String suffix = compress ? ".dat.gz" : ".dat";
+			final String orderedPrefix = storage.getTable(orderedTree).countKey;
+			assertTrue(chunkFiles.contains(orderedPrefix + "-000000" + suffix));
+			assertTrue(chunkFiles.contains(orderedPrefix + "-000004" + suffix));
+			assertFalse(chunkFiles.contains(orderedPrefix + "-000005" + suffix));
+
+			// changed after the backup: replaced by the load
+			final Map<ByteString, ByteString> changes = records(RECORDS + 10, 2);
+			changes.put(key(0), null);
+			write(storage, hashedTree, changes);
+			write(storage, orderedTree, changes);
+
+			backup.load(directory);
+			assertEquals(database.getRecords(storage.getTable(hashedTree).name), hashedRecords);
+			assertEquals(database.getRecords(storage.getTable(orderedTree).name), orderedRecords);
+		} finally {
+			StaticUtils.recursiveDelete(directory);
+		}
+	}
+
+	@Test
+	public void testEmptyTreeIsDumped() throws Exception {
+		database.sharedSnapshots = true;
+		final Storage storage = newStorage();
+		final TreeName treeName = newTreeName();
+		createTable(storage, treeName, Table.LAYOUT_ORDERED);
+
+		final File directory = TestCaseUtils.createTemporaryDirectory("jdbc-backup-");
+		try {
+			final ParallelBackup backup = new ParallelBackup(storage);
+			backup.dump(new HashSet<>(Arrays.asList(treeName)), directory, false, () -> false);
+			write(storage, treeName, records(3, 1));
+
+			backup.load(directory);
+			assertEquals(database.getRecords(storage.getTable(treeName).name), new TreeMap<ByteString, ByteString>());
+		} finally {
+			StaticUtils.recursiveDelete(directory);
+		}
+	}
+
+	private Storage newStorage() {
+		final JDBCBackendCfg cfg = mockCfg(JDBCBackendCfg.class);
+		when(cfg.getDBDirectory()).thenReturn(FakeDatabase.URL_PREFIX + getClass().getSimpleName());
+		final Storage storage = new Storage(cfg, null);
+		storage.dialect = SqlDialect.POSTGRES;
+		storage.accessMode = AccessMode.READ_WRITE;
+		return storage;
+	}
+
+	private TreeName newTreeName() {
+		return new TreeName("dc=backup" + nextTree.incrementAndGet() + ",dc=com", "id2entry");
+	}
+
+	private static void createTable(Storage storage, TreeName treeName, int layout) throws Exception {
+		final Table table = new Table(treeName, layout, storage.dialect);
+		try (final Connection con = storage.getConnection()) {
+			storage.createTable(con, table);
+		}
+		storage.tables.put(treeName, table);
+	}
+
+	private static Map<ByteString, ByteString> records(int count, int version) {
+		final Map<ByteString, ByteString> records = new TreeMap<>();
+		for (int i = 0; i < count; i++) {
+			records.put(key(i), ByteString.valueOfUtf8("value" + i + "." + version));
+		}
+		return records;
+	}
+
+	private static ByteString key(int i) {
+		return ByteString.valueOfUtf8(String.format("key%06d", i));
+	}
+
+	/** Writes the records in a transaction, a {@code null} value deletes the record. */
+	private static void write(Storage storage, final TreeName treeName, final Map<ByteString, ByteString> records)
+			throws Exception {
+		storage.write(new WriteOperation() {
+			@Override
+			public void run(WriteableTransaction txn) throws Exception {
+				for (final Map.Entry<ByteString, ByteString> record : records.entrySet()) {
+					if (record.getValue() == null) {
+						txn.delete(treeName, record.getKey());
+					} else {
+						txn.put(treeName, record.getKey(), record.getValue());
+					}
+				}
+			}
+		});
+	}
+}
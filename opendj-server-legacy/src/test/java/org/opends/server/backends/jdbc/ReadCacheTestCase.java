@@ -0,0 +1,191 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.forgerock.opendj.config.ConfigurationMock.mockCfg;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.server.config.server.JDBCBackendCfg;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.backends.pluggable.spi.AccessMode;
+import org.opends.server.backends.pluggable.spi.ReadOperation;
+import org.opends.server.backends.pluggable.spi.ReadableTransaction;
+import org.opends.server.backends.pluggable.spi.TreeName;
+import org.opends.server.backends.pluggable.spi.WriteOperation;
+import org.opends.server.backends.pluggable.spi.WriteableTransaction;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests the invalidation of the read cache by the writes against an in-memory {@link FakeDatabase}. */
+@Test(groups = { "precommit", "pluggablebackend" }, sequential = true)
+public class ReadCacheTestCase extends DirectoryServerTestCase {
+
+	private final FakeDatabase database = new FakeDatabase();
+	private final AtomicInteger nextTree = new AtomicInteger();
+	private final ByteString key = ByteString.valueOfUtf8("key");
+	private final ByteString value1 = ByteString.valueOfUtf8("value1");
+	private final ByteString value2 = ByteString.valueOfUtf8("value2");
+
+	private Storage storage;
+	private TreeName treeName;
+	private Table table;
+
+	@BeforeClass
+	public void registerDriver() throws SQLException {
+		DriverManager.registerDriver(database);
+	}
+
+	@AfterClass
+	public void deregisterDriver() throws SQLException {
+		DriverManager.deregisterDriver(database);
+	}
+
+	@BeforeMethod
+	public void createStorage() throws Exception {
+		final JDBCBackendCfg cfg = mockCfg(JDBCBackendCfg.class);
+		when(cfg.getDBDirectory()).thenReturn(FakeDatabase.URL_PREFIX + getClass().getSimpleName());
+		storage = new Storage(cfg, null);
+		storage.dialect = SqlDialect.POSTGRES;
+		storage.accessMode = AccessMode.READ_WRITE;
+		storage.cache = new ReadCache(1 << 20, 1 << 20, 1 << 20, 10000);
+		treeName = new TreeName("dc=cache" + nextTree.incrementAndGet() + ",dc=com", "id2entry");
+		table = new Table(treeName, Table.LAYOUT_ORDERED, storage.dialect);
+		try (final Connection con = storage.getConnection()) {
+			storage.createTable(con, table);
+		}
+	}
+
+	@Test
+	public void testWriteInvalidatesCachedRecord() throws Exception {
+		put(value1);
+		assertEquals(read(), value1);
+		assertEquals(read(), value1);
+		assertEquals(getDatabaseReads(), 1, "the second read should have been served by the cache");
+
+		put(value2);
+		assertEquals(read(), value2);
+		assertEquals(getDatabaseReads(), 2);
+	}
+
+	@Test
+	public void testDeleteInvalidatesCachedRecord() throws Exception {
+		put(value1);
+		assertEquals(read(), value1);
+		storage.write(new WriteOperation() {
+			@Override
+			public void run(WriteableTransaction txn) throws Exception {
+				assertTrue(txn.delete(treeName, key));
+			}
+		});
+		assertNull(read());
+	}
+
+	@Test
+	public void testPutInvalidatesCachedAbsence() throws Exception {
+		assertNull(read());
+		assertNull(read());
+		assertEquals(getDatabaseReads(), 1, "the absence of the record should have been cached");
+
+		put(value1);
+		assertEquals(read(), value1);
+	}
+
+	@Test
+	public void testWriteTransactionDoesNotReadItsWritesFromCache() throws Exception {
+		put(value1);
+		assertEquals(read(), value1);
+		storage.write(new WriteOperation() {
+			@Override
+			public void run(WriteableTransaction txn) throws Exception {
+				txn.put(treeName, key, value2);
+				((Storage.WriteableTransactionTransactionImpl) txn).flush();
+				assertEquals(txn.read(treeName, key), value2);
+			}
+		});
+		assertEquals(read(), value2);
+	}
+
+	@Test
+	public void testFailedWriteInvalidatesCachedRecord() throws Exception {
+		put(value1);
+		assertEquals(read(), value1);
+		try {
+			storage.write(new WriteOperation() {
+				@Override
+				public void run(WriteableTransaction txn) throws Exception {
+					txn.put(treeName, key, value2);
+					((Storage.WriteableTransactionTransactionImpl) txn).flush();
+					throw new IllegalStateException("rolled back");
+				}
+			});
+			fail("The write should have failed");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		final int reads = getDatabaseReads();
+		read();
+		assertEquals(getDatabaseReads(), reads + 1, "the record written by the failed transaction should not be cached");
+	}
+
+	@Test
+	public void testCachesAreSizedByConfiguration() throws Exception {
+		final JDBCBackendCfg cfg = mockCfg(JDBCBackendCfg.class);
+		when(cfg.getDBDirectory()).thenReturn(FakeDatabase.URL_PREFIX + getClass().getSimpleName());
+		when(cfg.getDBReadCacheDn2idSize()).thenReturn(1L << 20);
+		when(cfg.getDBReadCacheTTL()).thenReturn(10000L);
+		final Storage configured = new Storage(cfg, null);
+		configured.open(AccessMode.READ_ONLY);
+		try {
+			assertTrue(configured.cache.isEnabled(new TreeName("dc=com", "dn2id")));
+			assertFalse(configured.cache.isEnabled(new TreeName("dc=com", "id2entry")));
+			assertFalse(configured.cache.isEnabled(new TreeName("dc=com", "cn.caseIgnoreMatch")));
+		} finally {
+			configured.close();
+		}
+	}
+
+	private int getDatabaseReads() {
+		final AtomicInteger reads = database.reads.get(table.name);
+		return reads != null ? reads.get() : 0;
+	}
+
+	private void put(final ByteString value) throws Exception {
+		storage.write(new WriteOperation() {
+			@Override
+			public void run(WriteableTransaction txn) throws Exception {
+				txn.put(treeName, key, value);
+			}
+		});
+	}
+
+	private ByteString read() throws Exception {
+		return storage.read(new ReadOperation<ByteString>() {
+			@Override
+			public ByteString run(ReadableTransaction txn) throws Exception {
+				return txn.read(treeName, key);
+			}
+		});
+	}
+}
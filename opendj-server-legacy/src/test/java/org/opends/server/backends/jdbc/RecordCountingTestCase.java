@@ -0,0 +1,271 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.forgerock.opendj.config.ConfigurationMock.mockCfg;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.server.config.server.JDBCBackendCfg;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.backends.pluggable.spi.AccessMode;
+import org.opends.server.backends.pluggable.spi.TreeName;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests how the write transactions count the records they insert and delete, against a fake JDBC driver recording
+ * the statements run, which does not need a database.
+ */
+@Test(groups = { "precommit", "pluggablebackend" }, sequential = true)
+public class RecordCountingTestCase extends DirectoryServerTestCase {
+
+	private static final String URL_PREFIX = "jdbc:opendj-count-test:";
+
+	private final FakeDriver driver = new FakeDriver();
+	private final AtomicInteger nextPool = new AtomicInteger();
+	private final TreeName treeName = new TreeName("dc=example,dc=com", "id2entry");
+	private Connection con;
+	private Storage storage;
+
+	@BeforeClass
+	public void registerDriver() throws SQLException {
+		DriverManager.registerDriver(driver);
+	}
+
+	@AfterClass
+	public void deregisterDriver() throws SQLException {
+		DriverManager.deregisterDriver(driver);
+	}
+
+	@BeforeMethod
+	public void borrowConnection() throws SQLException {
+		driver.executed.clear();
+		driver.present.clear();
+		driver.batchResults.clear();
+		final ConnectionPool pool = ConnectionPool.get(URL_PREFIX + nextPool.incrementAndGet());
+		pool.configure(1, 1000);
+		con = pool.borrow();
+	}
+
+	@AfterMethod
+	public void releaseConnection() throws SQLException {
+		con.close();
+	}
+
+	@Test
+	public void testPostgresUpsertReturnsInsertedRows() throws Exception {
+		final Storage.WriteableTransactionTransactionImpl txn = newTransaction(SqlDialect.POSTGRES);
+		final Table table = storage.getTable(treeName);
+		// the fake database inserts the first row of each query and updates the others
+		assertEquals(txn.writeCounting(table, keys(), records("k1", "k2", "k3"), null), 2);
+		assertEquals(driver.executed, Arrays.asList(table.countingUpserts.get(2), table.countingUpserts.get(1)));
+	}
+
+	@Test
+	public void testPostgresKnownKeysAreNotCountedByDatabase() throws Exception {
+		final Storage.WriteableTransactionTransactionImpl txn = newTransaction(SqlDialect.POSTGRES);
+		final Table table = storage.getTable(treeName);
+		final Map<ByteString, Boolean> known = known("k1", false, "k2", true, "k3", true);
+		assertEquals(txn.writeCounting(table, keys("k3"), records("k1", "k2"), known), 0);
+		assertEquals(driver.executed, Arrays.asList(table.delete, table.upsert));
+	}
+
+	@Test
+	public void testAnsiCountsInsertedRowsOfBatch() throws Exception {
+		final Storage.WriteableTransactionTransactionImpl txn = newTransaction(SqlDialect.ANSI);
+		final Table table = storage.getTable(treeName);
+		driver.batchResults.put(table.update, new int[] { 1, 0, 0 });
+		driver.batchResults.put(table.insert, new int[] { 1, Statement.SUCCESS_NO_INFO });
+		assertEquals(txn.writeCounting(table, keys(), records("k1", "k2", "k3"), known("k1", false)), 2);
+		assertEquals(driver.executed, Arrays.asList(table.update, table.insert));
+	}
+
+	@Test
+	public void testUnknownKeysAreLookedUp() throws Exception {
+		final Storage.WriteableTransactionTransactionImpl txn = newTransaction(SqlDialect.MYSQL);
+		final Table table = storage.getTable(treeName);
+		driver.present.add("u2");
+		final Map<ByteString, Boolean> known = known("d1", true, "u1", false);
+		assertEquals(txn.writeCounting(table, keys("d1"), records("u1", "u2", "u3"), known), 1);
+		assertEquals(driver.executed, Arrays.asList(table.exists, table.delete, table.upsert));
+	}
+
+	@Test
+	public void testReadAndFlushedKeysAreNotLookedUp() throws Exception {
+		final Storage.WriteableTransactionTransactionImpl txn = newTransaction(SqlDialect.MYSQL);
+		final Table table = storage.getTable(treeName);
+		assertNull(txn.read(treeName, key("k1")));
+		txn.put(treeName, key("k1"), key("v1"));
+		txn.flush();
+		assertFalse(driver.executed.contains(table.exists));
+
+		txn.put(treeName, key("k1"), key("v2"));
+		txn.flush();
+		assertFalse(driver.executed.contains(table.exists));
+
+		txn.put(treeName, key("k2"), key("v2"));
+		txn.flush();
+		assertTrue(driver.executed.contains(table.exists));
+	}
+
+	private Storage.WriteableTransactionTransactionImpl newTransaction(SqlDialect dialect) {
+		storage = new Storage(mockCfg(JDBCBackendCfg.class), null);
+		storage.dialect = dialect;
+		storage.accessMode = AccessMode.READ_WRITE;
+		return storage.new WriteableTransactionTransactionImpl(con);
+	}
+
+	private static ByteString key(String key) {
+		return ByteString.valueOfUtf8(key);
+	}
+
+	private static List<ByteString> keys(String... keys) {
+		final List<ByteString> list = new ArrayList<>();
+		for (final String key : keys) {
+			list.add(key(key));
+		}
+		return list;
+	}
+
+	private static Map<ByteString, ByteString> records(String... keys) {
+		final Map<ByteString, ByteString> records = new TreeMap<>();
+		for (final String key : keys) {
+			records.put(key(key), key("value"));
+		}
+		return records;
+	}
+
+	private static Map<ByteString, Boolean> known(Object... keysAndExistence) {
+		final Map<ByteString, Boolean> known = new HashMap<>();
+		for (int i = 0; i < keysAndExistence.length; i += 2) {
+			known.put(key((String) keysAndExistence[i]), (Boolean) keysAndExistence[i + 1]);
+		}
+		return known;
+	}
+
+	/**
+	 * Driver of the connection strings starting with {@link #URL_PREFIX}, recording the statements run. The upserts
+	 * returning the inserted rows insert the first row only, the lookups find the {@link #present} keys and the batches
+	 * return the {@link #batchResults} of their statement.
+	 */
+	private static final class FakeDriver implements Driver {
+		final List<String> executed = Collections.synchronizedList(new ArrayList<String>());
+		final List<String> present = Collections.synchronizedList(new ArrayList<String>());
+		final Map<String, int[]> batchResults = Collections.synchronizedMap(new HashMap<String, int[]>());
+
+		@Override
+		public Connection connect(final String url, Properties info) throws SQLException {
+			if (!acceptsURL(url)) {
+				return null;
+			}
+			final Connection con = mock(Connection.class);
+			when(con.prepareStatement(anyString())).thenAnswer(invocation -> newStatement((String) invocation.getArguments()[0]));
+			return con;
+		}
+
+		private PreparedStatement newStatement(final String sql) throws SQLException {
+			final PreparedStatement statement = mock(PreparedStatement.class);
+			when(statement.executeQuery()).thenAnswer(invocation -> {
+				executed.add(sql);
+				final List<Object> rows = new ArrayList<>();
+				if (sql.contains("returning")) {
+					for (int i = sql.indexOf("(?"); i >= 0; i = sql.indexOf("(?", i + 1)) {
+						rows.add(rows.isEmpty());
+					}
+				} else if (sql.startsWith("select k from")) {
+					for (final String key : present) {
+						rows.add(key.getBytes());
+					}
+				}
+				return newResultSet(rows);
+			});
+			when(statement.executeBatch()).thenAnswer(invocation -> {
+				executed.add(sql);
+				final int[] results = batchResults.get(sql);
+				return results != null ? results : new int[0];
+			});
+			when(statement.executeUpdate()).thenAnswer(invocation -> {
+				executed.add(sql);
+				return 0;
+			});
+			return statement;
+		}
+
+		private static ResultSet newResultSet(final List<Object> rows) throws SQLException {
+			final ResultSet rs = mock(ResultSet.class);
+			final AtomicInteger row = new AtomicInteger(-1);
+			when(rs.next()).thenAnswer(invocation -> row.incrementAndGet() < rows.size());
+			when(rs.getBoolean(1)).thenAnswer(invocation -> rows.get(row.get()));
+			when(rs.getBytes(1)).thenAnswer(invocation -> rows.get(row.get()));
+			return rs;
+		}
+
+		@Override
+		public boolean acceptsURL(String url) {
+			return url.startsWith(URL_PREFIX);
+		}
+
+		@Override
+		public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+			return new DriverPropertyInfo[0];
+		}
+
+		@Override
+		public int getMajorVersion() {
+			return 1;
+		}
+
+		@Override
+		public int getMinorVersion() {
+			return 0;
+		}
+
+		@Override
+		public boolean jdbcCompliant() {
+			return false;
+		}
+
+		@Override
+		public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			throw new SQLFeatureNotSupportedException();
+		}
+	}
+}
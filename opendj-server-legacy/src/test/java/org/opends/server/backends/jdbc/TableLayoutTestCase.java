@@ -0,0 +1,75 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.forgerock.opendj.config.ConfigurationMock.mockCfg;
+import static org.testng.Assert.*;
+
+import org.forgerock.opendj.server.config.server.JDBCBackendCfg;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.backends.pluggable.spi.TreeName;
+import org.testng.annotations.Test;
+
+/** Tests the layout of the tables of the trees, which does not need a database. */
+@Test(groups = { "precommit", "pluggablebackend" }, sequential = true)
+public class TableLayoutTestCase extends DirectoryServerTestCase {
+
+	private final TreeName treeName = new TreeName("dc=example,dc=com", "id2entry");
+
+	private Storage newStorage(SqlDialect dialect) {
+		final Storage storage = new Storage(mockCfg(JDBCBackendCfg.class), null);
+		storage.dialect = dialect;
+		return storage;
+	}
+
+	@Test
+	public void testNewTreeUsesOrderedLayout() {
+		assertEquals(newStorage(SqlDialect.POSTGRES).newTable(treeName).layout, Table.LAYOUT_ORDERED);
+	}
+
+	@Test
+	public void testExistingHashedTreeKeepsHashedLayout() {
+		final Storage storage = newStorage(SqlDialect.POSTGRES);
+		storage.existingTables.add(Table.getTableName(treeName, Table.LAYOUT_HASHED).toLowerCase());
+		final Table table = storage.newTable(treeName);
+		assertEquals(table.layout, Table.LAYOUT_HASHED);
+		assertNull(table.migrationTarget);
+	}
+
+	@Test
+	public void testInterruptedMigrationKeepsBothTablesInSync() {
+		final Storage storage = newStorage(SqlDialect.POSTGRES);
+		storage.existingTables.add(Table.getTableName(treeName, Table.LAYOUT_HASHED).toLowerCase());
+		storage.existingTables.add(Table.getTableName(treeName, Table.LAYOUT_ORDERED).toLowerCase());
+		final Table table = storage.newTable(treeName);
+		assertEquals(table.layout, Table.LAYOUT_HASHED);
+		assertEquals(table.migrationTarget.layout, Table.LAYOUT_ORDERED);
+	}
+
+	/** SQL Server cannot index keys longer than 900 bytes: the trees keep the hash of the key as primary key. */
+	@Test
+	public void testSqlServerUsesHashedLayout() {
+		assertFalse(SqlDialect.MSSQL.isOrderedLayoutSupported());
+		final Storage storage = newStorage(SqlDialect.MSSQL);
+		final Table table = storage.newTable(treeName);
+		assertEquals(table.layout, Table.LAYOUT_HASHED);
+		assertTrue(table.columns.contains("k varbinary(max)"));
+		assertTrue(table.columns.contains("primary key(h)"));
+
+		storage.existingTables.add(Table.getTableName(treeName, Table.LAYOUT_ORDERED).toLowerCase());
+		assertEquals(storage.newTable(treeName).layout, Table.LAYOUT_HASHED);
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.jdbc;
+
+import static org.forgerock.opendj.config.ConfigurationMock.mockCfg;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.server.config.server.JDBCBackendCfg;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.backends.pluggable.spi.AccessMode;
+import org.opends.server.backends.pluggable.spi.Importer;
+import org.opends.server.backends.pluggable.spi.TreeName;
+import org.opends.server.backends.pluggable.spi.WriteOperation;
+import org.opends.server.backends.pluggable.spi.WriteableTransaction;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/** Tests the buffering of the writes of the transactions and of the import against an in-memory {@link FakeDatabase}. */
+@Test(groups = { "precommit", "pluggablebackend" }, sequential = true)
+public class WriteBatchingTestCase extends DirectoryServerTestCase {
+
+	private final FakeDatabase database = new FakeDatabase();
+	private final AtomicInteger nextTree = new AtomicInteger();
+
+	@BeforeClass
+	public void registerDriver() throws SQLException {
+		DriverManager.registerDriver(database);
+	}
+
+	@AfterClass
+	public void deregisterDriver() throws SQLException {
+		DriverManager.deregisterDriver(database);
+	}
+
+	@Test
+	public void testWritesAreFlushedByBatch() throws Exception {
+		final Storage storage = newStorage();
+		final TreeName treeName = newTreeName();
+		final Table table = createTable(storage, treeName);
+		final String multiRowUpsert = table.countingUpserts.get(Storage.MULTI_ROW_SIZE);
+
+		storage.write(new WriteOperation() {
+			@Override
+			public void run(WriteableTransaction txn) throws Exception {
+				for (int i = 0; i < Storage.BATCH_SIZE - 1; i++) {
+					txn.put(treeName, key(i), value(i));
+				}
+				assertTrue(database.getRecords(table.name).isEmpty(), "the writes are buffered");
+
+				database.executed.clear();
+				txn.put(treeName, key(Storage.BATCH_SIZE - 1), value(Storage.BATCH_SIZE - 1));
+				assertEquals(database.getRecords(table.name).size(), Storage.BATCH_SIZE);
+				assertEquals(Collections.frequency(database.executed, multiRowUpsert), Storage.BATCH_SIZE / Storage.MULTI_ROW_SIZE);
+
+				txn.put(treeName, key(Storage.BATCH_SIZE), value(Storage.BATCH_SIZE));
+				assertEquals(database.getRecords(table.name).size(), Storage.BATCH_SIZE, "the next batch is buffered");
+			}
+		});
+		assertEquals(database.getRecords(table.name).size(), Storage.BATCH_SIZE + 1);
+	}
+
+	@Test
+	public void testWritesOfKeyAreAppliedInOrder() throws Exception {
+		final Storage storage = newStorage();
+		final TreeName treeName = newTreeName();
+		final Table table = createTable(storage, treeName);
+		storage.write(new WriteOperation() {
+			@Override
+			public void run(WriteableTransaction txn) throws Exception {
+				txn.put(treeName, key(1), value(1));
+				txn.put(treeName, key(2), value(2));
+			}
+		});
+
+		storage.write(new WriteOperation() {
+			@Override
+			public void run(WriteableTransaction txn) throws Exception {
+				// deleted from the database, then written again by the flush
+				assertTrue(txn.delete(treeName, key(1)));
+				txn.put(treeName, key(1), value(10));
+				// written, deleted and written again in the buffer
+				txn.put(treeName, key(3), value(3));
+				assertTrue(txn.delete(treeName, key(3)));
+				txn.put(treeName, key(3), value(30));
+				// written then deleted in the buffer
+				txn.put(treeName, key(4), value(4));
+				assertTrue(txn.delete(treeName, key(4)));
+				// written in the buffer then deleted from the database
+				txn.put(treeName, key(2), value(20));
+				assertTrue(txn.delete(treeName, key(2)));
+				assertNull(txn.read(treeName, key(2)));
+				assertEquals(txn.read(treeName, key(1)), value(10));
+			}
+		});
+
+		final Map<ByteString, ByteString> expected = new TreeMap<>();
+		expected.put(key(1), value(10));
+		expected.put(key(3), value(30));
+		assertEquals(database.getRecords(table.name), expected);
+	}
+
+	@Test
+	public void testImportCommitsEveryImportCommitSize() throws Exception {
+		final Storage storage = newStorage();
+		storage.open(AccessMode.READ_WRITE);
+		storage.dialect = SqlDialect.POSTGRES; // the fake driver is not recognized
+		final TreeName treeName = newTreeName();
+		final Table table = createTable(storage, treeName);
+
+		final Importer importer = storage.startImport();
+		try {
+			final int commits = database.commits.get();
+			for (int i = 0; i < Storage.IMPORT_COMMIT_SIZE - 1; i++) {
+				importer.put(treeName, key(i), value(i));
+			}
+			assertEquals(database.commits.get(), commits);
+			assertEquals(database.getRecords(table.name).size(),
+					(Storage.IMPORT_COMMIT_SIZE - 1) / Storage.BATCH_SIZE * Storage.BATCH_SIZE, "flushed by batch");
+
+			importer.put(treeName, key(Storage.IMPORT_COMMIT_SIZE - 1), value(Storage.IMPORT_COMMIT_SIZE - 1));
+			assertEquals(database.commits.get(), commits + 1);
+			assertEquals(database.getRecords(table.name).size(), Storage.IMPORT_COMMIT_SIZE);
+
+			importer.put(treeName, key(Storage.IMPORT_COMMIT_SIZE), value(Storage.IMPORT_COMMIT_SIZE));
+			assertEquals(database.commits.get(), commits + 1);
+		} finally {
+			importer.close();
+			storage.close();
+		}
+		assertEquals(database.getRecords(table.name).size(), Storage.IMPORT_COMMIT_SIZE + 1);
+	}
+
+	private Storage newStorage() {
+		final JDBCBackendCfg cfg = mockCfg(JDBCBackendCfg.class);
+		when(cfg.getDBDirectory()).thenReturn(FakeDatabase.URL_PREFIX + getClass().getSimpleName());
+		final Storage storage = new Storage(cfg, null);
+		storage.dialect = SqlDialect.POSTGRES;
+		storage.accessMode = AccessMode.READ_WRITE;
+		return storage;
+	}
+
+	private TreeName newTreeName() {
+		return new TreeName("dc=batch" + nextTree.incrementAndGet() + ",dc=com", "id2entry");
+	}
+
+	private static Table createTable(Storage storage, TreeName treeName) throws Exception {
+		final Table table = new Table(treeName, Table.LAYOUT_ORDERED, storage.dialect);
+		try (final Connection con = storage.getConnection()) {
+			storage.createTable(con, table);
+		}
+		storage.tables.put(treeName, table);
+		return table;
+	}
+
+	private static ByteString key(int i) {
+		return ByteString.valueOfUtf8(String.format("key%06d", i));
+	}
+
+	private static ByteString value(int i) {
+		return ByteString.valueOfUtf8("value" + i);
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.opends.server.DirectoryServerTestCase;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = { "precommit", "pluggablebackend", "unit" }, sequential=true)
+public class CompressionDictionariesTest extends DirectoryServerTestCase
+{
+  @Test
+  public void testUnreferencedDictionariesArePruned() throws Exception
+  {
+    final CompressionDictionaries dictionaries = newDictionaries(4);
+    final Set<Integer> referenced = new HashSet<>(Arrays.asList(2));
+    final List<Integer> deleted = new ArrayList<>();
+
+    assertThat(dictionaries.hasUnreferenced(referenced)).isTrue();
+    dictionaries.prune(referenced, new PruningStore(deleted, -1));
+
+    // The current dictionary is kept even though no entry references it
+    assertThat(deleted).containsExactly(1, 3);
+    assertThat(dictionaries.get(1)).isNull();
+    assertThat(dictionaries.get(2)).isNotNull();
+    assertThat(dictionaries.get(3)).isNull();
+    assertThat(dictionaries.getCurrent().id).isEqualTo(4);
+    assertThat(dictionaries.hasUnreferenced(referenced)).isFalse();
+  }
+
+  @Test
+  public void testDictionariesAreKeptIfTheyCannotBeDeleted() throws Exception
+  {
+    final CompressionDictionaries dictionaries = newDictionaries(3);
+    final List<Integer> deleted = new ArrayList<>();
+
+    try
+    {
+      dictionaries.prune(Collections.<Integer> emptySet(), new PruningStore(deleted, 2));
+      fail("Deleting the dictionary 2 should have failed");
+    }
+    catch (IllegalStateException expected)
+    {
+      // The failure is reported to the caller
+    }
+
+    assertThat(deleted).containsExactly(1);
+    assertThat(dictionaries.get(1)).isNull();
+    assertThat(dictionaries.get(2)).isNotNull();
+    assertThat(dictionaries.get(3)).isNotNull();
+  }
+
+  @Test
+  public void testFullSampleIsTrained() throws Exception
+  {
+    final CompressionDictionaries dictionaries = new CompressionDictionaries();
+    final CountDownLatch stored = new CountDownLatch(1);
+    dictionaries.reset(Collections.<Integer, ByteString> emptyMap(), new CompressionDictionaries.Store()
+    {
+      @Override
+      public void store(int dictionaryID, ByteString dictionary)
+      {
+        stored.countDown();
+      }
+
+      @Override
+      public void delete(int dictionaryID)
+      {
+        // Nothing to delete
+      }
+    });
+
+    for (int i = 0; i < CompressionDictionaries.SAMPLE_SIZE; i++)
+    {
+      assertThat(dictionaries.getCurrent()).isNull();
+      dictionaries.sample(ByteString.valueOfUtf8("dn: uid=user." + i + ",ou=People,o=test\n"
+          + "objectClass: inetOrgPerson\nuid: user." + i + "\ncn: User " + i + "\nsn: " + i + "\n"
+          + "mail: user." + i + "@example.com\ndescription: This is the description for User " + i + ".\n"));
+    }
+
+    assertThat(stored.await(60, TimeUnit.SECONDS)).isTrue();
+    // The dictionary is the current one right after being stored
+    final long deadline = System.currentTimeMillis() + 10000;
+    while (dictionaries.getCurrent() == null && System.currentTimeMillis() < deadline)
+    {
+      Thread.sleep(10);
+    }
+    assertThat(dictionaries.getCurrent().id).isEqualTo(1);
+  }
+
+  private static CompressionDictionaries newDictionaries(int count)
+  {
+    final Map<Integer, ByteString> stored = new TreeMap<>();
+    for (int id = 1; id <= count; id++)
+    {
+      stored.put(id, ByteString.valueOfUtf8("dictionary" + id));
+    }
+    final CompressionDictionaries dictionaries = new CompressionDictionaries();
+    dictionaries.reset(stored, null);
+    return dictionaries;
+  }
+
+  /** Records the deleted dictionaries, and fails to delete one of them. */
+  private static final class PruningStore implements CompressionDictionaries.Store
+  {
+    private final List<Integer> deleted;
+    private final int undeletable;
+
+    private PruningStore(List<Integer> deleted, int undeletable)
+    {
+      this.deleted = deleted;
+      this.undeletable = undeletable;
+    }
+
+    @Override
+    public void store(int dictionaryID, ByteString dictionary)
+    {
+      // Nothing to store
+    }
+
+    @Override
+    public void delete(int dictionaryID)
+    {
+      if (dictionaryID == undeletable)
+      {
+        throw new IllegalStateException();
+      }
+      deleted.add(dictionaryID);
+    }
+  }
+}
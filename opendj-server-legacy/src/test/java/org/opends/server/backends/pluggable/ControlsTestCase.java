@@ -12,6 +12,7 @@
  * information: "Portions Copyright [year] [name of copyright owner]".
  *
  * Copyright 2015-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -42,6 +43,7 @@ import org.forgerock.opendj.server.config.meta.BackendVLVIndexCfgDefn.Scope;
 import org.forgerock.opendj.server.config.server.BackendVLVIndexCfg;
 import org.forgerock.opendj.server.config.server.PDBBackendCfg;
 import org.opends.server.backends.pdb.PDBBackend;
+import org.opends.server.controls.PagedResultsControl;
 import org.opends.server.controls.ServerSideSortRequestControl;
 import org.opends.server.controls.ServerSideSortResponseControl;
 import org.opends.server.controls.VLVRequestControl;
@@ -562,6 +564,57 @@ public class ControlsTestCase extends DirectoryServerTestCase
     vlvByOffset(sortOrder, beforeCount, afterCount, offset, expectedOrder);
   }
 
+  @Test
+  public void unindexedSortShouldReturnFirstSortedEntriesWithinSizeLimit() throws Exception
+  {
+    final SearchRequest request = newSearchRequest(BACKEND_BASE_DN, SearchScope.WHOLE_SUBTREE, VLV_FILTER)
+        .setSizeLimit(3)
+        .addControl(new ServerSideSortRequestControl(mangleSortOrder(SORT_ORDER_3)));
+    final InternalSearchOperation internalSearch = getRootConnection().processSearch(request);
+
+    assertThat(internalSearch.getResultCode()).isEqualTo(ResultCode.SIZE_LIMIT_EXCEEDED);
+    assertThat(getDNs(internalSearch.getSearchEntries())).isEqualTo(getDNs(USERS_BY_SORT_ORDER_3.subList(0, 3)));
+  }
+
+  @Test
+  public void unindexedVlvByOffsetBeyondSizeLimitShouldReturnPageOfResults() throws Exception
+  {
+    final SearchRequest request = newSearchRequest(BACKEND_BASE_DN, SearchScope.WHOLE_SUBTREE, VLV_FILTER)
+        .setSizeLimit(3)
+        .addControl(new ServerSideSortRequestControl(mangleSortOrder(SORT_ORDER_3)))
+        .addControl(new VLVRequestControl(1, 1, 6, 0));
+    final InternalSearchOperation internalSearch = getRootConnection().processSearch(request);
+
+    assertThat(internalSearch.getResultCode()).isEqualTo(ResultCode.SUCCESS);
+    assertThat(getDNs(internalSearch.getSearchEntries())).isEqualTo(getDNs(USERS_BY_SORT_ORDER_3.subList(4, 7)));
+    final VLVResponseControl vlvResponse = getVLVResponseControl(internalSearch.getResponseControls());
+    assertThat(vlvResponse.getVLVResultCode()).isEqualTo(LDAPResultCode.SUCCESS);
+    assertThat(vlvResponse.getTargetPosition()).isEqualTo(6);
+    assertThat(vlvResponse.getContentCount()).isEqualTo(CONTENT_COUNT);
+  }
+
+  @Test
+  public void unindexedSortShouldReturnPagesOfResultsInCorrectOrder() throws Exception
+  {
+    final List<DN> results = new ArrayList<>();
+    ByteString cookie = ByteString.empty();
+    do
+    {
+      final SearchRequest request = newSearchRequest(BACKEND_BASE_DN, SearchScope.WHOLE_SUBTREE, VLV_FILTER)
+          .addControl(new ServerSideSortRequestControl(mangleSortOrder(SORT_ORDER_3)))
+          .addControl(new PagedResultsControl(true, 4, cookie));
+      final InternalSearchOperation internalSearch = getRootConnection().processSearch(request);
+
+      assertThat(internalSearch.getResultCode()).isEqualTo(ResultCode.SUCCESS);
+      assertThat(internalSearch.getSearchEntries().size()).isLessThanOrEqualTo(4);
+      results.addAll(getDNs(internalSearch.getSearchEntries()));
+      cookie = getPagedResultsControl(internalSearch.getResponseControls()).getCookie();
+    }
+    while (cookie.length() != 0);
+
+    assertThat(results).isEqualTo(getDNs(USERS_BY_SORT_ORDER_3));
+  }
+
   @AfterClass
   public void afterClass() throws Exception
   {
@@ -657,6 +710,23 @@ public class ControlsTestCase extends DirectoryServerTestCase
     return null;
   }
 
+  private PagedResultsControl getPagedResultsControl(final List<Control> responseControls) throws DirectoryException
+  {
+    for (final Control c : responseControls)
+    {
+      if (c.getOID().equals(OID_PAGED_RESULTS_CONTROL))
+      {
+        if (c instanceof LDAPControl)
+        {
+          return PagedResultsControl.DECODER.decode(c.isCritical(), ((LDAPControl) c).getValue());
+        }
+        return (PagedResultsControl) c;
+      }
+    }
+    fail("Expected to find PagedResultsControl");
+    return null;
+  }
+
   private VLVResponseControl getVLVResponseControl(final Control c) throws DirectoryException
   {
     if (c instanceof LDAPControl)
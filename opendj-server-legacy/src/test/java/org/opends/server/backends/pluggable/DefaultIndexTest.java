@@ -50,6 +50,7 @@ import org.testng.annotations.Test;
 public class DefaultIndexTest extends DirectoryServerTestCase
 {
   private DefaultIndex index;
+  private State state;
   private WriteableTransaction txn;
 
   @BeforeMethod
@@ -98,6 +99,140 @@ public class DefaultIndexTest extends DirectoryServerTestCase
     assertThat(txn.read(index.getName(), valueOfUtf8("key"))).isNull();
   }
 
+  @Test
+  public void testLargeKeysAreSplitInSegments() {
+    index = newSegmentedIndex("segmented", 100000, EnumSet.of(TRUSTED, COMPACTED));
+    index.open(txn, true);
+    final TreeName segmentsName = new TreeName("dc=example,dc=com", "segments.segmented");
+    final int threshold = DefaultIndex.getSegmentThreshold(100000);
+
+    update(newDefinedSet(), range(1, threshold + 1));
+    update(newDefinedSet(), newDefinedSet(70000, 70001));
+    assertThat(index.valueToString(getFromDb()))
+        .isEqualTo("[SEGMENTED:COUNT:" + (threshold + 3) + "]");
+    assertThat(txn.getRecordCount(segmentsName)).isEqualTo(2);
+
+    // An update only rewrites the segments of its IDs
+    final ByteString firstSegment = firstValue(segmentsName);
+    update(newDefinedSet(70000), newDefinedSet(200000));
+    assertThat(txn.getRecordCount(segmentsName)).isEqualTo(3);
+    assertThat(firstValue(segmentsName)).isEqualTo(firstSegment);
+
+    final EntryIDSet ids = index.get(txn, valueOfUtf8("key"));
+    assertThat(ids.size()).isEqualTo(threshold + 3);
+    assertThat(ids.contains(new EntryID(1))).isTrue();
+    assertThat(ids.contains(new EntryID(70000))).isFalse();
+    assertThat(ids.toLongArray()[ids.toLongArray().length - 1]).isEqualTo(200000);
+
+    update(range(1, threshold + 1), newDefinedSet());
+    assertIdsEquals(index.get(txn, valueOfUtf8("key")), 70001, 200000);
+    update(newDefinedSet(70001, 200000), newDefinedSet());
+    assertThat(getFromDb()).isNull();
+    assertThat(txn.getRecordCount(segmentsName)).isEqualTo(0);
+
+    index.delete(txn);
+    assertThat(((DummyWriteableTransaction) txn).storage).doesNotContainKey(segmentsName);
+  }
+
+  @Test
+  public void testKeysAreSegmentedWithDefaultLimit() {
+    final int defaultLimit = 4000;
+    index = newSegmentedIndex("segmented", defaultLimit, EnumSet.of(TRUSTED, COMPACTED));
+    index.open(txn, true);
+    final TreeName segmentsName = new TreeName("dc=example,dc=com", "segments.segmented");
+    final int threshold = DefaultIndex.getSegmentThreshold(defaultLimit);
+    assertThat(threshold).isLessThan(defaultLimit);
+
+    update(newDefinedSet(), range(1, threshold + 1));
+    assertThat(txn.getRecordCount(segmentsName)).isEqualTo(1);
+    assertThat(index.get(txn, valueOfUtf8("key")).size()).isEqualTo(threshold + 1);
+  }
+
+  @Test
+  public void testKeysAreStillSegmentedAfterIndexIsCleared() {
+    index = newSegmentedIndex("segmented", 100000, EnumSet.of(TRUSTED, COMPACTED));
+    index.open(txn, true);
+    final TreeName segmentsName = new TreeName("dc=example,dc=com", "segments.segmented");
+    final int threshold = DefaultIndex.getSegmentThreshold(100000);
+    update(null, range(1, threshold + 1));
+
+    // A rebuild clears the trees of the index and keeps using it
+    index.delete(txn);
+    txn.openTree(index.getName(), true);
+    txn.openTree(segmentsName, true);
+
+    update(null, range(1, threshold + 1));
+    assertThat(txn.getRecordCount(segmentsName)).isEqualTo(1);
+    assertThat(index.get(txn, valueOfUtf8("key")).size()).isEqualTo(threshold + 1);
+  }
+
+  @Test
+  public void testSegmentedKeyExceedingLimitIsUndefined() {
+    index = newSegmentedIndex("segmented", 2000, EnumSet.of(TRUSTED, COMPACTED));
+    index.open(txn, true);
+    final TreeName segmentsName = new TreeName("dc=example,dc=com", "segments.segmented");
+    final int threshold = DefaultIndex.getSegmentThreshold(2000);
+
+    update(newDefinedSet(), range(1, threshold + 1));
+    assertThat(txn.getRecordCount(segmentsName)).isEqualTo(1);
+
+    update(newDefinedSet(), range(100000, 100000 + 2000 - threshold));
+    assertThat(index.get(txn, valueOfUtf8("key")).isDefined()).isFalse();
+    assertThat(txn.getRecordCount(segmentsName)).isEqualTo(0);
+  }
+
+  @Test
+  public void testSegmentsTreeIsCreatedByFirstSegmentedKey() {
+    index = newSegmentedIndex("segmented", 100000, EnumSet.of(TRUSTED, COMPACTED));
+    index.open(txn, true);
+    final TreeName segmentsName = new TreeName("dc=example,dc=com", "segments.segmented");
+    final int threshold = DefaultIndex.getSegmentThreshold(100000);
+    assertThat(((DummyWriteableTransaction) txn).storage).doesNotContainKey(segmentsName);
+
+    update(newDefinedSet(), range(1, threshold));
+    assertThat(((DummyWriteableTransaction) txn).storage).doesNotContainKey(segmentsName);
+
+    update(newDefinedSet(), newDefinedSet(threshold + 1));
+    assertThat(txn.getRecordCount(segmentsName)).isEqualTo(1);
+    verify(state).addFlagsToIndex(txn, index.getName(), SEGMENTED);
+  }
+
+  @Test
+  public void testKeysAreNotSegmentedByDefault() {
+    index = newIndex("unsegmented", 100000, EnumSet.of(TRUSTED, COMPACTED));
+    index.open(txn, true);
+    final int threshold = DefaultIndex.getSegmentThreshold(100000);
+
+    update(newDefinedSet(), range(1, threshold + 1));
+    assertThat(getFromDb().byteAt(0)).isNotEqualTo((byte) 0xFD);
+    assertThat(index.get(txn, valueOfUtf8("key")).size()).isEqualTo(threshold + 1);
+    assertThat(((DummyWriteableTransaction) txn).storage)
+        .doesNotContainKey(new TreeName("dc=example,dc=com", "segments.unsegmented"));
+    verify(state, never()).addFlagsToIndex(any(WriteableTransaction.class), any(TreeName.class), eq(SEGMENTED));
+  }
+
+  @Test
+  public void testSmallLimitDoesNotSegment() {
+    update(newDefinedSet(), newDefinedSet(1, 2, 3));
+
+    assertThat(getFromDb().byteAt(0)).isNotEqualTo((byte) 0xFD);
+    assertIdsEquals(index.get(txn, valueOfUtf8("key")), 1, 2, 3);
+  }
+
+  private static EntryIDSet range(long first, long last) {
+    final long[] ids = new long[(int) (last - first + 1)];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = first + i;
+    }
+    return newDefinedSet(ids);
+  }
+
+  private ByteString firstValue(TreeName treeName) {
+    try (final Cursor<ByteString, ByteString> cursor = txn.openCursor(treeName)) {
+      return cursor.next() ? cursor.getValue() : null;
+    }
+  }
+
   private void update(EntryIDSet deletedIDSet, EntryIDSet addedIDSet) {
     index.update(txn, valueOfUtf8("key"), deletedIDSet, addedIDSet);
   }
@@ -115,14 +250,25 @@ public class DefaultIndexTest extends DirectoryServerTestCase
     return CODEC_V2.decode(valueOfUtf8("key"), getFromDb());
   }
 
-  private static DefaultIndex newIndex(String name, int indexLimit, EnumSet<IndexFlag> indexFlags)
+  private DefaultIndex newIndex(String name, int indexLimit, EnumSet<IndexFlag> indexFlags)
+  {
+    return newIndex(name, indexLimit, indexFlags, false);
+  }
+
+  private DefaultIndex newSegmentedIndex(String name, int indexLimit, EnumSet<IndexFlag> indexFlags)
+  {
+    return newIndex(name, indexLimit, indexFlags, true);
+  }
+
+  private DefaultIndex newIndex(String name, int indexLimit, EnumSet<IndexFlag> indexFlags,
+      boolean keySegmentation)
   {
-    final State state = mock(State.class);
+    state = mock(State.class);
     when(state.getIndexFlags(any(ReadableTransaction.class), any(TreeName.class))).thenReturn(indexFlags);
     final CryptoSuite cryptoSuite = mock(CryptoSuite.class);
     when(cryptoSuite.isEncrypted()).thenReturn(false);
     return new DefaultIndex(new TreeName("dc=example,dc=com", name), state, indexLimit, mock(EntryContainer.class),
-        cryptoSuite);
+        cryptoSuite, keySegmentation);
   }
 
   static final class DummyWriteableTransaction implements WriteableTransaction {
@@ -210,7 +356,7 @@ public class DefaultIndexTest extends DirectoryServerTestCase
 
           it = tree.tailMap(key.toByteString()).entrySet().iterator();
           if( it.hasNext() ) {
-            it.next();
+            current = it.next();
             return true;
           }
           return false;
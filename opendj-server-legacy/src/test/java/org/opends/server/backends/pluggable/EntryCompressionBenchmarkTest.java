@@ -0,0 +1,134 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.opends.server.TestCaseUtils.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.ldap.ByteStringBuilder;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.TestCaseUtils;
+import org.opends.server.backends.pluggable.spi.TreeName;
+import org.opends.server.types.Entry;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the size of user entries compressed one by one, without and with a trained dictionary. Run explicitly,
+ * with the slow tests.
+ */
+@SuppressWarnings("javadoc")
+public class EntryCompressionBenchmarkTest extends DirectoryServerTestCase
+{
+  private static final int ENTRIES = 2000;
+
+  @BeforeClass(alwaysRun = true)
+  public void startServer() throws Exception
+  {
+    TestCaseUtils.startServer();
+  }
+
+  @Test(groups = { "slow" })
+  public void benchmarkDictionaryCompression() throws Exception
+  {
+    final DataConfig dataConfig = new DataConfig.Builder().compress(true).compressWithDictionary(true).build();
+    final ID2Entry id2entry = new ID2Entry(new TreeName("o=test", "id2entry"), dataConfig);
+    id2entry.resetCompressionDictionaries(Collections.<Integer, ByteString> emptyMap(), null);
+
+    final List<Entry> entries = new ArrayList<>(ENTRIES);
+    final List<byte[]> samples = new ArrayList<>();
+    long encodedSize = 0;
+    for (int i = 0; i < ENTRIES; i++)
+    {
+      final Entry entry = newUser(i);
+      entries.add(entry);
+      final ByteStringBuilder encodedEntry = new ByteStringBuilder();
+      entry.encode(encodedEntry, dataConfig.getEntryEncodeConfig());
+      encodedSize += encodedEntry.length();
+      if (i % 2 == 0)
+      {
+        samples.add(encodedEntry.toByteArray());
+      }
+    }
+
+    final long plainSize = compressedSize(id2entry, dataConfig, entries);
+    long start = System.nanoTime();
+    assertThat(id2entry.getCompressionDictionaries().train(samples, new CompressionDictionaries.Store()
+    {
+      @Override
+      public void store(int dictionaryID, ByteString dictionary)
+      {
+        // Nothing to store
+      }
+
+      @Override
+      public void delete(int dictionaryID)
+      {
+        // Nothing to delete
+      }
+    })).isTrue();
+    final long trainingMillis = (System.nanoTime() - start) / 1000000;
+    final long dictionarySize = compressedSize(id2entry, dataConfig, entries);
+
+    System.out.println(String.format("entries=%d encoded=%d deflate=%d dictionary=%d (%d%%) training=%dms",
+        ENTRIES, encodedSize, plainSize, dictionarySize, dictionarySize * 100 / plainSize, trainingMillis));
+    assertThat(dictionarySize).isLessThan(plainSize);
+  }
+
+  private static long compressedSize(ID2Entry id2entry, DataConfig dataConfig, List<Entry> entries)
+      throws Exception
+  {
+    long size = 0;
+    for (Entry entry : entries)
+    {
+      size += id2entry.entryToDatabase(entry, dataConfig).length();
+    }
+    return size;
+  }
+
+  private static Entry newUser(int i) throws Exception
+  {
+    return entryFromLdifString(
+        "dn: uid=user." + i + ",ou=People,dc=example,dc=com\n"
+        + "objectClass: top\n"
+        + "objectClass: person\n"
+        + "objectClass: organizationalPerson\n"
+        + "objectClass: inetOrgPerson\n"
+        + "uid: user." + i + "\n"
+        + "cn: Aaren Atp " + i + "\n"
+        + "sn: Atp " + i + "\n"
+        + "givenName: Aaren\n"
+        + "initials: AA\n"
+        + "employeeNumber: " + i + "\n"
+        + "mail: user." + i + "@example.com\n"
+        + "userPassword: {SSHA}" + Integer.toHexString(i * 0x9E3779B1) + "abcdefghijklmnopqrstuvw==\n"
+        + "telephoneNumber: +1 685 " + (1000000 + i * 7919 % 1000000) + "\n"
+        + "homePhone: +1 225 " + (1000000 + i * 104729 % 1000000) + "\n"
+        + "mobile: +1 010 " + (1000000 + i * 15485863 % 1000000) + "\n"
+        + "street: " + (i * 31 % 10000) + " Spruce Street\n"
+        + "l: Panama City\n"
+        + "st: DE\n"
+        + "postalCode: " + (10000 + i * 37 % 90000) + "\n"
+        + "postalAddress: Aaren Atp$" + (i * 31 % 10000) + " Spruce Street$Panama City, DE  "
+        + (10000 + i * 37 % 90000) + "\n"
+        + "description: This is the description for Aaren Atp.\n");
+  }
+}
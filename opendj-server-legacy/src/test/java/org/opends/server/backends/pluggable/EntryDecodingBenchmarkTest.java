@@ -0,0 +1,115 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.opends.server.TestCaseUtils.*;
+
+import java.util.Collection;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.ldap.ByteStringBuilder;
+import org.forgerock.opendj.ldap.schema.AttributeType;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.TestCaseUtils;
+import org.opends.server.types.Entry;
+import org.opends.server.types.EntryEncodeConfig;
+import org.opends.server.types.SearchFilter;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the full decoding of large static groups with their partial decoding for matching a search on their
+ * common name. Run explicitly, with the slow tests.
+ */
+@SuppressWarnings("javadoc")
+public class EntryDecodingBenchmarkTest extends DirectoryServerTestCase
+{
+  private static final int WARM_UP = 20;
+  private static final int ITERATIONS = 100;
+
+  @BeforeClass(alwaysRun = true)
+  public void startServer() throws Exception
+  {
+    TestCaseUtils.startServer();
+  }
+
+  @Test(groups = { "slow" })
+  public void benchmarkGroupDecoding() throws Exception
+  {
+    final Collection<AttributeType> attributeTypes = MatchingAttributes.of(SearchFilter.createFilterFromString(
+        "(cn=group.0)"));
+    assertThat(attributeTypes).isNotNull();
+
+    // The compact encoding of the backends, then the plain one
+    for (EntryEncodeConfig config : new EntryEncodeConfig[] {
+      new EntryEncodeConfig(false, true, true), new EntryEncodeConfig() })
+    {
+      for (int members : new int[] { 10, 1000, 10000 })
+      {
+        benchmarkGroupDecoding(config, attributeTypes, members);
+      }
+    }
+  }
+
+  private void benchmarkGroupDecoding(EntryEncodeConfig config, Collection<AttributeType> attributeTypes,
+      int members) throws Exception
+  {
+    final ByteString encoded = encodeGroup(members, config);
+    assertThat(Entry.decode(encoded.asReader(), config.getCompressedSchema(), attributeTypes)
+        .getAllAttributes("uniqueMember")).isEmpty();
+
+    for (int i = 0; i < WARM_UP; i++)
+    {
+      Entry.decode(encoded.asReader(), config.getCompressedSchema());
+      Entry.decode(encoded.asReader(), config.getCompressedSchema(), attributeTypes);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+    {
+      Entry.decode(encoded.asReader(), config.getCompressedSchema());
+    }
+    final long fullNanos = (System.nanoTime() - start) / ITERATIONS;
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+    {
+      Entry.decode(encoded.asReader(), config.getCompressedSchema(), attributeTypes);
+    }
+    final long partialNanos = (System.nanoTime() - start) / ITERATIONS;
+
+    System.out.println(String.format("%-7s members=%6d bytes=%8d full=%7dus partial=%7dus",
+        config.compressAttributeDescriptions() ? "compact" : "plain", members, encoded.length(),
+        fullNanos / 1000, partialNanos / 1000));
+  }
+
+  private static ByteString encodeGroup(int members, EntryEncodeConfig config) throws Exception
+  {
+    final StringBuilder ldif = new StringBuilder()
+        .append("dn: cn=group.0,ou=Groups,o=test\n")
+        .append("objectClass: top\n")
+        .append("objectClass: groupOfUniqueNames\n")
+        .append("cn: group.0\n")
+        .append("description: A large static group\n");
+    for (int i = 0; i < members; i++)
+    {
+      ldif.append("uniqueMember: uid=user.").append(i).append(",ou=People,o=test\n");
+    }
+    final Entry group = entryFromLdifString(ldif.toString());
+    final ByteStringBuilder buffer = new ByteStringBuilder();
+    group.encode(buffer, config);
+    return buffer.toByteString();
+  }
+}
@@ -0,0 +1,305 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.opends.server.backends.pluggable.EntryIDSet.*;
+import static org.opends.server.backends.pluggable.Utils.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.ldap.ByteStringBuilder;
+import org.opends.server.DirectoryServerTestCase;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = { "precommit", "pluggablebackend", "unit" }, sequential=true)
+public class EntryIDBitmapTest extends DirectoryServerTestCase
+{
+  private final static ByteString KEY = ByteString.valueOfUtf8("test");
+
+  /** Sorted random IDs: sparse ones, dense ones, runs of consecutive ones, and all of them. */
+  static long[] newIDs(Random random, String distribution)
+  {
+    final TreeSet<Long> ids = new TreeSet<>();
+    switch (distribution)
+    {
+    case "sparse":
+      for (int i = 0; i < 2000; i++)
+      {
+        ids.add((long) random.nextInt(Integer.MAX_VALUE));
+      }
+      break;
+    case "dense":
+      final long base = random.nextInt(4) << 16;
+      for (int i = 0; i < 150000; i++)
+      {
+        ids.add(base + random.nextInt(3 << 16));
+      }
+      break;
+    case "runs":
+      long start = random.nextInt(1000);
+      for (int run = 0; run < 50; run++)
+      {
+        final int length = 1 + random.nextInt(5000);
+        for (int i = 0; i < length; i++)
+        {
+          ids.add(start + i);
+        }
+        start += length + random.nextInt(20000);
+      }
+      break;
+    default:
+      ids.addAll(toSet(newIDs(random, "sparse")));
+      ids.addAll(toSet(newIDs(random, "dense")));
+      ids.addAll(toSet(newIDs(random, "runs")));
+    }
+    final long[] array = new long[ids.size()];
+    int i = 0;
+    for (long id : ids)
+    {
+      array[i++] = id;
+    }
+    return array;
+  }
+
+  private static TreeSet<Long> toSet(long[] ids)
+  {
+    final TreeSet<Long> set = new TreeSet<>();
+    for (long id : ids)
+    {
+      set.add(id);
+    }
+    return set;
+  }
+
+  private static long[] toArray(TreeSet<Long> ids)
+  {
+    final long[] array = new long[ids.size()];
+    int i = 0;
+    for (long id : ids)
+    {
+      array[i++] = id;
+    }
+    return array;
+  }
+
+  @DataProvider(name = "distributions")
+  public static Object[][] distributions()
+  {
+    final String[] distributions = { "sparse", "dense", "runs", "mixed" };
+    final Object[][] pairs = new Object[distributions.length * distributions.length][];
+    int i = 0;
+    for (String a : distributions)
+    {
+      for (String b : distributions)
+      {
+        pairs[i++] = new Object[] { a, b };
+      }
+    }
+    return pairs;
+  }
+
+  @Test(dataProvider = "distributions")
+  public void testSetOperations(String distributionA, String distributionB)
+  {
+    final Random random = new Random(distributionA.hashCode() * 31 + distributionB.hashCode());
+    final long[] a = newIDs(random, distributionA);
+    final long[] b = newIDs(random, distributionB);
+    final EntryIDBitmap bitmapA = EntryIDBitmap.valueOf(a);
+    final EntryIDBitmap bitmapB = EntryIDBitmap.valueOf(b);
+
+    final TreeSet<Long> and = toSet(a);
+    and.retainAll(toSet(b));
+    final TreeSet<Long> or = toSet(a);
+    or.addAll(toSet(b));
+    final TreeSet<Long> andNot = toSet(a);
+    andNot.removeAll(toSet(b));
+
+    assertThat(bitmapA.and(bitmapB).toArray()).isEqualTo(toArray(and));
+    assertThat(bitmapA.or(bitmapB).toArray()).isEqualTo(toArray(or));
+    assertThat(bitmapA.andNot(bitmapB).toArray()).isEqualTo(toArray(andNot));
+    assertThat(bitmapA.and(bitmapB).size()).isEqualTo(and.size());
+    assertThat(bitmapA.or(bitmapB).size()).isEqualTo(or.size());
+
+    // Operands are left untouched
+    assertThat(bitmapA.toArray()).isEqualTo(a);
+    assertThat(bitmapB.toArray()).isEqualTo(b);
+  }
+
+  @Test(dataProvider = "distributions")
+  public void testEntryIDSetOperationsMatchArrayImplementation(String distributionA, String distributionB)
+  {
+    final Random random = new Random(distributionA.hashCode() * 17 + distributionB.hashCode());
+    final long[] a = newIDs(random, distributionA);
+    final long[] b = newIDs(random, distributionB);
+
+    for (int mask = 0; mask < 4; mask++)
+    {
+      final boolean bitmapA = (mask & 1) != 0;
+      final boolean bitmapB = (mask & 2) != 0;
+
+      EntryIDSet expected = newDefinedSet(a.clone());
+      expected.retainAll(newDefinedSet(b.clone()));
+      EntryIDSet actual = newSet(a, bitmapA);
+      actual.retainAll(newSet(b, bitmapB));
+      assertThat(actual.toLongArray()).isEqualTo(expected.toLongArray());
+
+      expected = newDefinedSet(a.clone());
+      expected.addAll(newDefinedSet(b.clone()));
+      actual = newSet(a, bitmapA);
+      actual.addAll(newSet(b, bitmapB));
+      assertThat(actual.toLongArray()).isEqualTo(expected.toLongArray());
+
+      expected = newDefinedSet(a.clone());
+      expected.removeAll(newDefinedSet(b.clone()));
+      actual = newSet(a, bitmapA);
+      actual.removeAll(newSet(b, bitmapB));
+      assertThat(actual.toLongArray()).isEqualTo(expected.toLongArray());
+
+      expected = newSetFromUnion(Arrays.asList(newDefinedSet(a.clone()), newDefinedSet(b.clone())));
+      actual = newSetFromUnion(Arrays.asList(newSet(a, bitmapA), newSet(b, bitmapB)));
+      assertThat(actual.toLongArray()).isEqualTo(expected.toLongArray());
+      assertThat(actual.size()).isEqualTo(expected.size());
+    }
+  }
+
+  private static EntryIDSet newSet(long[] ids, boolean bitmap)
+  {
+    return bitmap ? newBitmapSet(EntryIDBitmap.valueOf(ids)) : newDefinedSet(ids.clone());
+  }
+
+  @Test
+  public void testAddRemoveContains()
+  {
+    final Random random = new Random(0);
+    final TreeSet<Long> expected = new TreeSet<>();
+    final EntryIDBitmap bitmap = new EntryIDBitmap();
+    for (int i = 0; i < 100000; i++)
+    {
+      // Mostly adds in few partitions, so that containers turn into bitmaps
+      final long id = random.nextInt(3 << 16);
+      if (random.nextInt(3) == 0)
+      {
+        assertThat(bitmap.remove(id)).isEqualTo(expected.remove(id));
+      }
+      else
+      {
+        assertThat(bitmap.add(id)).isEqualTo(expected.add(id));
+      }
+      assertThat(bitmap.contains(id)).isEqualTo(expected.contains(id));
+    }
+    assertThat(bitmap.size()).isEqualTo(expected.size());
+    assertThat(bitmap.toArray()).isEqualTo(toArray(expected));
+    assertThat(bitmap.first()).isEqualTo(expected.first());
+    assertThat(bitmap.last()).isEqualTo(expected.last());
+    assertIdsEquals(bitmap.iterator(), toArray(expected));
+
+    for (long id : toArray(expected))
+    {
+      assertThat(bitmap.remove(id)).isTrue();
+    }
+    assertThat(bitmap.size()).isEqualTo(0);
+    assertThat(bitmap.getContainerCount()).isEqualTo(0);
+    assertThat(bitmap.iterator().hasNext()).isFalse();
+  }
+
+  @Test
+  public void testEntryIDSetAddRemove()
+  {
+    final EntryIDSet set = newBitmapSet(EntryIDBitmap.valueOf(new long[] { 6, 8, 10, 12 }));
+    assertThat(set.add(id(4))).isTrue();
+    assertThat(set.add(id(1L << 40))).isTrue();
+    assertThat(set.add(id(10))).isFalse();
+    assertIdsEquals(set, 4, 6, 8, 10, 12, 1L << 40);
+    assertThat(set.remove(id(8))).isTrue();
+    assertThat(set.remove(id(9))).isFalse();
+    assertIdsEquals(set, 4, 6, 10, 12, 1L << 40);
+    assertThat(set.contains(id(1L << 40))).isTrue();
+    assertThat(set.contains(id(8))).isFalse();
+    assertThat(set.toString()).isEqualTo("[COUNT:5]");
+  }
+
+  @Test
+  public void testRetainAllOnUndefinedCopiesBitmap()
+  {
+    final EntryIDSet bitmapSet = newBitmapSet(EntryIDBitmap.valueOf(new long[] { 1, 3, 5 }));
+    final EntryIDSet retained = newUndefinedSet();
+    retained.retainAll(bitmapSet);
+    retained.add(id(7));
+    assertIdsEquals(retained, 1, 3, 5, 7);
+    assertIdsEquals(bitmapSet, 1, 3, 5);
+  }
+
+  @DataProvider(name = "distribution")
+  public static Object[][] distribution()
+  {
+    return new Object[][] { { "sparse" }, { "dense" }, { "runs" }, { "mixed" } };
+  }
+
+  @Test(dataProvider = "distribution")
+  public void testCodecRoundTrip(String distribution)
+  {
+    final long[] ids = newIDs(new Random(distribution.hashCode()), distribution);
+    final ByteString encoded = CODEC_V4.encode(newDefinedSet(ids));
+    final EntryIDSet decoded = CODEC_V4.decode(KEY, encoded);
+    assertThat(decoded.toLongArray()).isEqualTo(ids);
+
+    // Encoding a decoded set gives the same bytes
+    assertThat(CODEC_V4.encode(decoded)).isEqualTo(encoded);
+
+    // Raw bitmap encoding
+    final ByteStringBuilder builder = new ByteStringBuilder();
+    EntryIDBitmap.valueOf(ids).encode(builder);
+    assertThat(EntryIDBitmap.decode(builder.asReader()).toArray()).isEqualTo(ids);
+  }
+
+  @Test
+  public void testCodecIsSmallerForDenseAndRuns()
+  {
+    for (String distribution : new String[] { "dense", "runs" })
+    {
+      final EntryIDSet set = newDefinedSet(newIDs(new Random(1), distribution));
+      assertThat(CODEC_V4.encode(set).length()).isLessThan(CODEC_V2.encode(set).length() / 2);
+    }
+    final EntryIDSet set = newDefinedSet(newIDs(new Random(1), "sparse"));
+    assertThat(CODEC_V4.encode(set).length()).isLessThanOrEqualTo(CODEC_V2.encode(set).length() * 2);
+  }
+
+  @Test
+  public void testCodecDecodesV2Values()
+  {
+    final long[] ids = newIDs(new Random(2), "mixed");
+    assertThat(CODEC_V4.decode(KEY, CODEC_V2.encode(newDefinedSet(ids))).toLongArray()).isEqualTo(ids);
+    assertIdsEquals(CODEC_V4.decode(KEY, CODEC_V2.encode(newDefinedSet(1, 2, 3))), 1, 2, 3);
+    assertThat(CODEC_V4.decode(KEY, CODEC_V2.encode(newUndefinedSet())).isDefined()).isFalse();
+
+    // Small sets are encoded as V2 values when smaller
+    assertThat(CODEC_V4.encode(newDefinedSet(1, 2, 3))).isEqualTo(CODEC_V2.encode(newDefinedSet(1, 2, 3)));
+  }
+
+  @Test
+  public void testCodecEmptyAndUndefined()
+  {
+    assertIdsEquals(CODEC_V4.decode(KEY, CODEC_V4.encode(newDefinedSet())));
+    assertThat(CODEC_V4.decode(KEY, CODEC_V4.encode(newUndefinedSet())).isDefined()).isFalse();
+    assertIdsEquals(CODEC_V4.decode(KEY, CODEC_V4.encode(newBitmapSet(new EntryIDBitmap()))));
+  }
+}
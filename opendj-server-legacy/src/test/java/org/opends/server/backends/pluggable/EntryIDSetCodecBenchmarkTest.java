@@ -0,0 +1,85 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.opends.server.backends.pluggable.EntryIDSet.*;
+
+import java.util.Random;
+
+import org.forgerock.opendj.ldap.ByteString;
+import org.opends.server.DirectoryServerTestCase;
+import org.opends.server.backends.pluggable.EntryIDSet.EntryIDSetCodec;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the size of the encoded sets, the decoding time and the intersection time of the V2 and V4 entry ID set
+ * codecs, for the distributions of {@link EntryIDBitmapTest}. Run explicitly, with the slow tests.
+ */
+@SuppressWarnings("javadoc")
+public class EntryIDSetCodecBenchmarkTest extends DirectoryServerTestCase
+{
+  private static final ByteString KEY = ByteString.valueOfUtf8("benchmark");
+  private static final int WARM_UP = 20;
+  private static final int ITERATIONS = 50;
+
+  @Test(groups = { "slow" })
+  public void benchmarkCodecs()
+  {
+    for (String distribution : new String[] { "sparse", "dense", "runs", "mixed" })
+    {
+      final Random random = new Random(distribution.hashCode());
+      final EntryIDSet a = newDefinedSet(EntryIDBitmapTest.newIDs(random, distribution));
+      final EntryIDSet b = newDefinedSet(EntryIDBitmapTest.newIDs(random, distribution));
+      final long[] expected = intersect(CODEC_V2, CODEC_V2.encode(a), CODEC_V2.encode(b)).toLongArray();
+      for (EntryIDSetCodec codec : new EntryIDSetCodec[] { CODEC_V2, CODEC_V4 })
+      {
+        final ByteString encodedA = codec.encode(a);
+        final ByteString encodedB = codec.encode(b);
+        assertThat(intersect(codec, encodedA, encodedB).toLongArray()).isEqualTo(expected);
+
+        for (int i = 0; i < WARM_UP; i++)
+        {
+          codec.decode(KEY, encodedA);
+          intersect(codec, encodedA, encodedB);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+          codec.decode(KEY, encodedA);
+        }
+        final long decodeNanos = (System.nanoTime() - start) / ITERATIONS;
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+          intersect(codec, encodedA, encodedB);
+        }
+        final long intersectNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        System.out.println(String.format("%-6s %-4s ids=%6d bytes=%7d decode=%6dus decode+intersect=%6dus",
+            distribution, codec == CODEC_V2 ? "V2" : "V4", a.size(), encodedA.length(),
+            decodeNanos / 1000, intersectNanos / 1000));
+      }
+    }
+  }
+
+  private static EntryIDSet intersect(EntryIDSetCodec codec, ByteString a, ByteString b)
+  {
+    final EntryIDSet set = codec.decode(KEY, a);
+    set.retainAll(codec.decode(KEY, b));
+    return set;
+  }
+}
@@ -12,6 +12,7 @@
  * information: "Portions Copyright [year] [name of copyright owner]".
  *
  * Copyright 2015 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -292,7 +293,7 @@ public class EntryIDSetTest extends DirectoryServerTestCase
 
   @DataProvider(name = "codecs")
   public static Object[][] codecs() {
-     return new Object[][] { { CODEC_V1 }, { CODEC_V2 } };
+     return new Object[][] { { CODEC_V1 }, { CODEC_V2 }, { CODEC_V4 } };
   }
 
 }
@@ -0,0 +1,81 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.backends.pluggable;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.opends.server.backends.pluggable.EntryIDSet.*;
+
+import org.opends.server.DirectoryServerTestCase;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = { "precommit", "pluggablebackend", "unit" }, sequential=true)
+public class IndexStatisticsTest extends DirectoryServerTestCase
+{
+  @Test
+  public void testUnknownUntilSampled()
+  {
+    final IndexStatistics statistics = new IndexStatistics();
+    assertThat(statistics.estimateKeySize(4000)).isEqualTo(IndexStatistics.UNKNOWN);
+    assertThat(statistics.isSampling()).isTrue();
+
+    statistics.record(newDefinedSet(1, 2, 3));
+    assertThat(statistics.estimateKeySize(4000)).isEqualTo(3);
+  }
+
+  @Test
+  public void testLimitExceededKeysCountAsLimit()
+  {
+    final IndexStatistics statistics = new IndexStatistics();
+    statistics.record(newDefinedSet(1, 2));
+    statistics.record(newDefinedSet(3, 4));
+    statistics.record(newUndefinedSet());
+    statistics.record(newDefinedSet(5, 6));
+    assertThat(statistics.estimateKeySize(102)).isEqualTo(27);
+    assertThat(statistics.getObservationCount()).isEqualTo(4);
+    assertThat(statistics.getLimitExceededCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testNothingRecordedWhenDisabled()
+  {
+    final IndexStatistics statistics = new IndexStatistics(false);
+    assertThat(statistics.isSampling()).isFalse();
+
+    statistics.record(newDefinedSet(1, 2, 3));
+    statistics.record(newUndefinedSet());
+    assertThat(statistics.estimateKeySize(4000)).isEqualTo(IndexStatistics.UNKNOWN);
+    assertThat(statistics.getObservationCount()).isZero();
+    assertThat(statistics.getLimitExceededCount()).isZero();
+  }
+
+  @Test
+  public void testSampleFollowsChanges()
+  {
+    final IndexStatistics statistics = new IndexStatistics();
+    for (int i = 0; i < IndexStatistics.SAMPLE_SIZE; i++)
+    {
+      statistics.record(newDefinedSet(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+    }
+    assertThat(statistics.estimateKeySize(4000)).isEqualTo(10);
+
+    for (int i = 0; i < 20 * IndexStatistics.SAMPLE_SIZE; i++)
+    {
+      statistics.record(newDefinedSet(1));
+    }
+    assertThat(statistics.estimateKeySize(4000)).isLessThanOrEqualTo(2);
+  }
+}
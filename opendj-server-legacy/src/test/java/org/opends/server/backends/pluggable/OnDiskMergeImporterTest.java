@@ -765,7 +765,7 @@ public class OnDiskMergeImporterTest extends DirectoryServerTestCase
 
     DummyIndex(int indexEntryLimit) throws StorageRuntimeException
     {
-      super(TreeName.valueOf("/dummy/dummy"), state, indexEntryLimit, entryContainer, cryptoSuite);
+      super(TreeName.valueOf("/dummy/dummy"), state, indexEntryLimit, entryContainer, cryptoSuite, false);
       open(Mockito.mock(WriteableTransaction.class), false);
     }
   }
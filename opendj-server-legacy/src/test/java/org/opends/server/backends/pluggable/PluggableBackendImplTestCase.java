@@ -12,13 +12,14 @@
  * information: "Portions Copyright [year] [name of copyright owner]".
  *
  * Copyright 2015-2016 ForgeRock AS.
- * Portions Copyright 2023-2025 3A Systems, LLC.
+ * Portions Copyright 2023-2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.forgerock.opendj.ldap.ModificationType.*;
 import static org.mockito.Mockito.*;
+import static org.opends.messages.BackendMessages.ERR_ENTRYIDSORTER_CANNOT_EXAMINE_ENTRY;
 import static org.opends.server.protocols.internal.InternalClientConnection.getRootConnection;
 import static org.opends.server.protocols.internal.Requests.newSearchRequest;
 import static org.opends.server.types.Attributes.create;
@@ -28,7 +29,9 @@ import static org.testng.Assert.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -39,28 +42,41 @@ import com.google.common.io.Resources;
 import org.forgerock.opendj.ldap.*;
 import org.forgerock.opendj.ldap.schema.AttributeType;
 import org.forgerock.opendj.ldap.schema.CoreSchema;
+import org.forgerock.opendj.config.server.ConfigChangeResult;
+import org.forgerock.opendj.config.server.ConfigurationAddListener;
+import org.forgerock.opendj.config.server.ConfigurationDeleteListener;
 import org.forgerock.opendj.server.config.meta.BackendIndexCfgDefn.IndexType;
 import org.forgerock.opendj.server.config.meta.BackendVLVIndexCfgDefn.Scope;
 import org.forgerock.opendj.server.config.server.BackendIndexCfg;
+import org.forgerock.opendj.server.config.meta.ConcurrentEntryCacheCfgDefn;
 import org.forgerock.opendj.server.config.server.BackendVLVIndexCfg;
+import org.forgerock.opendj.server.config.server.EntryCacheCfg;
 import org.forgerock.opendj.server.config.server.PluggableBackendCfg;
 import org.forgerock.util.Reject;
+import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.opends.server.DirectoryServerTestCase;
 import org.opends.server.TestCaseUtils;
 import org.opends.server.api.ClientConnection;
+import org.opends.server.api.EntryCache;
 import org.opends.server.api.LocalBackend.BackendOperation;
 import org.opends.server.backends.RebuildConfig;
 import org.opends.server.backends.RebuildConfig.RebuildMode;
 import org.opends.server.backends.VerifyConfig;
+import org.opends.server.backends.pluggable.AttributeIndex.MatchingRuleIndex;
 import org.opends.server.backends.pluggable.spi.*;
+import org.opends.server.controls.ServerSideSortRequestControl;
 import org.opends.server.controls.SubtreeDeleteControl;
 import org.opends.server.core.AddOperation;
 import org.opends.server.core.DeleteOperation;
 import org.opends.server.core.ModifyDNOperation;
 import org.opends.server.core.ModifyOperation;
 import org.opends.server.core.SearchOperation;
+import org.opends.server.extensions.ConcurrentEntryCache;
+import org.opends.server.extensions.DefaultEntryCache;
+import org.opends.server.extensions.InitializationUtils;
+import org.opends.server.plugins.InvocationCounterPlugin;
 import org.opends.server.core.ServerContext;
 import org.opends.server.protocols.internal.InternalClientConnection;
 import org.opends.server.protocols.internal.InternalSearchOperation;
@@ -75,6 +91,7 @@ import org.opends.server.types.Modification;
 import org.opends.server.types.RestoreConfig;
 import org.opends.server.types.SearchFilter;
 import org.opends.server.types.SearchResultEntry;
+import org.opends.server.util.LDIFReader;
 import org.opends.server.workflowelement.localbackend.LocalBackendSearchOperation;
 import org.testng.Reporter;
 import org.testng.annotations.AfterClass;
@@ -90,6 +107,7 @@ import org.testng.annotations.Test;
 public abstract class PluggableBackendImplTestCase<C extends PluggableBackendCfg> extends DirectoryServerTestCase
 {
   private BackendImpl<C> backend;
+  private C backendCfg;
   private List<Entry> topEntries;
   private List<Entry> entries;
   private List<Entry> workEntries;
@@ -139,11 +157,13 @@ public abstract class PluggableBackendImplTestCase<C extends PluggableBackendCfg
 
     testBaseDN = DN.valueOf("dc=test,dc=com");
 
-    C backendCfg = createBackendCfg();
+    backendCfg = createBackendCfg();
     when(backendCfg.dn()).thenReturn(testBaseDN);
     when(backendCfg.getBaseDN()).thenReturn(newTreeSet(testBaseDN));
     when(backendCfg.listBackendIndexes()).thenReturn(backendIndexes.keySet().toArray(new String[0]));
     when(backendCfg.listBackendVLVIndexes()).thenReturn(backendVlvIndexes);
+    // Decode the candidates of the indexed searches ahead of the searches
+    when(backendCfg.getSearchPrefetchThreads()).thenReturn(2);
 
     for (Map.Entry<String, IndexType[]> index : backendIndexes.entrySet())
     {
@@ -839,6 +859,156 @@ public abstract class PluggableBackendImplTestCase<C extends PluggableBackendCfg
     assertThat(runSearch(request, false)).hasSize(numberOfEntries);
   }
 
+  @Test
+  public void testAndSearchPlanReadsMostSelectiveIndexFirst() throws Exception
+  {
+    // Each uid key holds one entry while the sn presence key holds all of them
+    SearchRequest request = newSearchRequest(testBaseDN, SearchScope.WHOLE_SUBTREE, "(&(sn=*)(uid=user.0))")
+        .addAttribute(SuffixContainer.ATTR_DEBUG_SEARCH_INDEX);
+    List<SearchResultEntry> result = runSearch(request, false);
+    assertThat(result).hasSize(1);
+
+    String debug = result.get(0).parseAttribute(SuffixContainer.ATTR_DEBUG_SEARCH_INDEX).asString();
+    assertThat(debug).contains("[PLAN:(uid=user.0)~1 (sn=*)~");
+    assertThat(debug).contains("!SKIPPED]");
+  }
+
+  @Test
+  public void testIndexedSearchReturnsCandidatesInOrderWithinSizeLimit() throws Exception
+  {
+    // More candidates than a batch of the fetch pipeline, so they are decoded and matched ahead of the search
+    SearchRequest request = newSearchRequest(testBaseDN, SearchScope.WHOLE_SUBTREE, "sn=*");
+    List<SearchResultEntry> all = runSearch(request, false);
+    assertThat(all.size()).isGreaterThan(EntryFetchPipeline.BATCH_SIZE + 1);
+
+    request.setSizeLimit(EntryFetchPipeline.BATCH_SIZE + 1);
+    List<DN> limited = new ArrayList<>();
+    for (SearchResultEntry entry : runSearch(request, false))
+    {
+      limited.add(entry.getName());
+    }
+    List<DN> expected = new ArrayList<>();
+    for (SearchResultEntry entry : all.subList(0, EntryFetchPipeline.BATCH_SIZE + 1))
+    {
+      expected.add(entry.getName());
+    }
+    assertThat(limited).isEqualTo(expected);
+  }
+
+  @Test
+  public void testIndexedSearchSkipsCorruptCandidate() throws Exception
+  {
+    final SearchRequest request = newSearchRequest(testBaseDN, SearchScope.WHOLE_SUBTREE, "sn=*");
+    final List<SearchResultEntry> all = runSearch(request, false);
+    assertThat(all.size()).isGreaterThan(EntryFetchPipeline.BATCH_SIZE + 1);
+    final DN corruptDN = all.get(EntryFetchPipeline.BATCH_SIZE + 1).getName();
+    final EntryContainer entryContainer = backend.getRootContainer().getEntryContainer(testBaseDN);
+    final TreeName id2entryName = entryContainer.getID2Entry().getName();
+    final ByteString[] record = new ByteString[2];
+    backend.getRootContainer().getStorage().write(new WriteOperation()
+    {
+      @Override
+      public void run(WriteableTransaction txn) throws Exception
+      {
+        record[0] = entryContainer.getDN2ID().get(txn, corruptDN).toByteString();
+        record[1] = txn.read(id2entryName, record[0]);
+        txn.put(id2entryName, record[0], ByteString.valueOfBytes(new byte[] { (byte) 0xff }));
+      }
+    });
+    try
+    {
+      final List<SearchResultEntry> skipped = runSearch(request, false);
+      assertThat(skipped).hasSize(all.size() - 1);
+      for (SearchResultEntry entry : skipped)
+      {
+        assertThat((Object) entry.getName()).isNotEqualTo(corruptDN);
+      }
+    }
+    finally
+    {
+      backend.getRootContainer().getStorage().write(new WriteOperation()
+      {
+        @Override
+        public void run(WriteableTransaction txn) throws Exception
+        {
+          txn.put(id2entryName, record[0], record[1]);
+        }
+      });
+    }
+    assertThat(runSearch(request, false)).hasSize(all.size());
+  }
+
+  @Test
+  public void testSortedSearchFailsOnMissingCandidate() throws Exception
+  {
+    final SearchRequest request = newSearchRequest(testBaseDN, SearchScope.WHOLE_SUBTREE, "sn=*")
+        .addControl(new ServerSideSortRequestControl(true, "givenName"));
+    final List<SearchResultEntry> all = runSearch(request, false);
+    assertThat(all.size()).isGreaterThan(EntryFetchPipeline.BATCH_SIZE + 1);
+    final DN missingDN = all.get(EntryFetchPipeline.BATCH_SIZE + 1).getName();
+    final EntryContainer entryContainer = backend.getRootContainer().getEntryContainer(testBaseDN);
+    final TreeName id2entryName = entryContainer.getID2Entry().getName();
+    final ByteString[] record = new ByteString[2];
+    backend.getRootContainer().getStorage().write(new WriteOperation()
+    {
+      @Override
+      public void run(WriteableTransaction txn) throws Exception
+      {
+        record[0] = entryContainer.getDN2ID().get(txn, missingDN).toByteString();
+        record[1] = txn.read(id2entryName, record[0]);
+        txn.delete(id2entryName, record[0]);
+      }
+    });
+    try
+    {
+      runSearch(request, false);
+      fail("The sort should have failed on the missing candidate " + missingDN);
+    }
+    catch (DirectoryException e)
+    {
+      assertEquals(e.getMessageObject().ordinal(), ERR_ENTRYIDSORTER_CANNOT_EXAMINE_ENTRY.ordinal());
+      assertThat(e.getMessageObject().toString()).contains(new EntryID(record[0]).toString());
+    }
+    finally
+    {
+      backend.getRootContainer().getStorage().write(new WriteOperation()
+      {
+        @Override
+        public void run(WriteableTransaction txn) throws Exception
+        {
+          txn.put(id2entryName, record[0], record[1]);
+        }
+      });
+    }
+    assertThat(runSearch(request, false)).hasSize(all.size());
+  }
+
+  @DataProvider
+  protected Object[][] partiallyDecodedSearchFilters()
+  {
+    return new Object[][] {
+      // @formatter:off
+      { "(&(sn=*)(description=*Aaren Atp*))" }, // indexed candidates
+      { "(description=*Aaren Atp*)" },          // unindexed
+      // @formatter:on
+    };
+  }
+
+  @Test(dataProvider = "partiallyDecodedSearchFilters")
+  public void testSearchMatchedOnPartialEntriesReturnsFullEntries(String filter) throws Exception
+  {
+    // The candidates are matched on their description and sn only, but the returned entry must be complete
+    SearchRequest request = newSearchRequest(testBaseDN, SearchScope.WHOLE_SUBTREE, filter);
+    List<SearchResultEntry> result = runSearch(request, false);
+    assertThat(result).hasSize(1);
+
+    Entry entry = result.get(0);
+    for (String attribute : new String[] { "uid", "mail", "telephoneNumber", "givenName" })
+    {
+      assertThat(entry.getAllAttributes(attribute)).isNotEmpty();
+    }
+  }
+
   @Test
   public void testSearchIsConsideredUnindexedBasedOnLookThroughLimit() throws DirectoryException {
     final int nbEntries = topEntries.size() + entries.size() + workEntries.size();
@@ -921,6 +1091,85 @@ public abstract class PluggableBackendImplTestCase<C extends PluggableBackendCfg
     }
   }
 
+  @DataProvider
+  protected Object[][] invokeExportPlugins()
+  {
+    return new Object[][] { { false }, { true } };
+  }
+
+  @Test(dataProvider = "invokeExportPlugins")
+  public void testExportLDIFOfManyEntriesKeepsEntryIDOrder(boolean invokeExportPlugins) throws Exception
+  {
+    final DN exportDN = testBaseDN.child(DN.valueOf("ou=Export"));
+    final List<Entry> exportEntries = new ArrayList<>();
+    exportEntries.add(TestCaseUtils.makeEntry(
+        "dn: " + exportDN, "objectClass: top", "objectClass: organizationalUnit", "ou: Export"));
+    DN parentDN = exportDN;
+    for (int i = 0; i < 1000; i++)
+    {
+      // Every tenth entry is the parent of the next nine ones
+      if (i % 10 == 1)
+      {
+        parentDN = exportEntries.get(exportEntries.size() - 1).getName();
+      }
+      else if (i % 10 == 0)
+      {
+        parentDN = exportDN;
+      }
+      exportEntries.add(TestCaseUtils.makeEntry(
+          "dn: uid=export." + i + "," + parentDN,
+          "objectClass: top",
+          "objectClass: person",
+          "objectClass: organizationalPerson",
+          "objectClass: inetOrgPerson",
+          "objectClass: extensibleObject",
+          "uid: export." + i,
+          "cn: Export " + i,
+          "sn: " + i));
+    }
+    addEntriesToBackend(exportEntries);
+    try
+    {
+      ByteArrayOutputStream ldifOutputContent = new ByteArrayOutputStream();
+      InvocationCounterPlugin.resetLDIFExportCount();
+      try (final LDIFExportConfig exportConfig = new LDIFExportConfig(ldifOutputContent))
+      {
+        exportConfig.setIncludeBranches(Collections.singletonList(exportDN));
+        exportConfig.setInvokeExportPlugins(invokeExportPlugins);
+        backend.exportLDIF(exportConfig);
+      }
+      if (invokeExportPlugins)
+      {
+        // The plugins are invoked in order by the thread of the export
+        assertEquals(InvocationCounterPlugin.getLDIFExportCount(), exportEntries.size());
+        assertThat(InvocationCounterPlugin.getLDIFExportThreads()).containsOnly(Thread.currentThread());
+      }
+
+      final List<Entry> exportedEntries = new ArrayList<>();
+      try (final LDIFReader reader = new LDIFReader(
+          new LDIFImportConfig(new ByteArrayInputStream(ldifOutputContent.toByteArray()))))
+      {
+        Entry entry;
+        while ((entry = reader.readEntry(false)) != null)
+        {
+          exportedEntries.add(entry);
+        }
+      }
+      assertThat(exportedEntries).hasSameSizeAs(exportEntries);
+      for (int i = 0; i < exportEntries.size(); i++)
+      {
+        assertEquals(exportedEntries.get(i).getName(), exportEntries.get(i).getName());
+      }
+    }
+    finally
+    {
+      for (int i = exportEntries.size() - 1; i >= 0; i--)
+      {
+        backend.deleteEntry(exportEntries.get(i).getName(), mock(DeleteOperation.class));
+      }
+    }
+  }
+
   @Test
   public void testExportLDIFAndImportLDIF() throws Exception
   {
@@ -940,6 +1189,7 @@ public abstract class PluggableBackendImplTestCase<C extends PluggableBackendCfg
     // Import wants the backend to be configured but not initialized. Finalizing resets the status.
     assertTrue(backend.supports(BackendOperation.LDIF_IMPORT), "Import not supported");
     backend.finalizeBackend();
+    final File snapshotFile = writeEntryCacheSnapshot();
 
     ByteArrayInputStream ldifImportContent = new ByteArrayInputStream(ldifOutputContent.toByteArray());
     ByteArrayOutputStream rejectedEntries = new ByteArrayOutputStream();
@@ -952,6 +1202,7 @@ public abstract class PluggableBackendImplTestCase<C extends PluggableBackendCfg
       importConf.setThreadCount(0);
       backend.importLDIF(importConf, TestCaseUtils.getServerContext());
     }
+    assertFalse(snapshotFile.exists(), "The snapshot of the entry cache should have been deleted by the import");
     assertEquals(rejectedEntries.size(), 0,
                  "No entries should be rejected. Content was:\n" + rejectedEntries.toString());
 
@@ -986,6 +1237,173 @@ public abstract class PluggableBackendImplTestCase<C extends PluggableBackendCfg
     assertThat(backend.verifyBackend(config)).isEqualTo(0);
   }
 
+  @Test
+  public void testVerifyIndexReportsMissingKey() throws Exception
+  {
+    final EntryContainer entryContainer = backend.getRootContainer().getEntryContainers().iterator().next();
+    final AttributeType uidType = TestCaseUtils.getServerContext().getSchema().getAttributeType("uid");
+    final TreeName uidIndexName =
+        entryContainer.getAttributeIndex(uidType).getNameToIndexes().values().iterator().next().getName();
+    final ByteString[] removedRecord = new ByteString[2];
+    backend.getRootContainer().getStorage().write(new WriteOperation()
+    {
+      @Override
+      public void run(WriteableTransaction txn) throws Exception
+      {
+        try (final Cursor<ByteString, ByteString> cursor = txn.openCursor(uidIndexName))
+        {
+          assertTrue(cursor.next());
+          removedRecord[0] = cursor.getKey();
+          removedRecord[1] = cursor.getValue();
+        }
+        txn.delete(uidIndexName, removedRecord[0]);
+      }
+    });
+    try
+    {
+      VerifyConfig config = new VerifyConfig();
+      config.setBaseDN(testBaseDN);
+      config.addCompleteIndex("uid");
+      assertThat(backend.verifyBackend(config)).isGreaterThan(0);
+    }
+    finally
+    {
+      backend.getRootContainer().getStorage().write(new WriteOperation()
+      {
+        @Override
+        public void run(WriteableTransaction txn) throws Exception
+        {
+          txn.put(uidIndexName, removedRecord[0], removedRecord[1]);
+        }
+      });
+    }
+
+    VerifyConfig config = new VerifyConfig();
+    config.setBaseDN(testBaseDN);
+    config.addCompleteIndex("uid");
+    assertThat(backend.verifyBackend(config)).isEqualTo(0);
+  }
+
+  @Test
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public void testIndexAddedOnlineIsBuiltAndTrusted() throws Exception
+  {
+    final AttributeType givenNameType = TestCaseUtils.getServerContext().getSchema().getAttributeType("givenName");
+    final boolean confidentialityEnabled = backendCfg.isConfidentialityEnabled();
+    final BackendIndexCfg indexCfg = mock(BackendIndexCfg.class);
+    when(indexCfg.getIndexType()).thenReturn(newTreeSet(IndexType.EQUALITY));
+    when(indexCfg.getAttribute()).thenReturn(givenNameType);
+    when(indexCfg.getIndexEntryLimit()).thenReturn(4000);
+    when(indexCfg.isConfidentialityEnabled()).thenReturn(confidentialityEnabled);
+    final ArgumentCaptor<ConfigurationAddListener> addListener =
+        ArgumentCaptor.forClass(ConfigurationAddListener.class);
+    final ArgumentCaptor<ConfigurationDeleteListener> deleteListener =
+        ArgumentCaptor.forClass(ConfigurationDeleteListener.class);
+    verify(backendCfg, atLeastOnce()).addBackendIndexAddListener(addListener.capture());
+    verify(backendCfg, atLeastOnce()).addBackendIndexDeleteListener(deleteListener.capture());
+
+    final ConfigChangeResult ccr = addListener.getValue().applyConfigurationAdd(indexCfg);
+    final Entry oldEntry = backend.getEntry(entries.get(0).getName());
+    final Entry newEntry = oldEntry.duplicate(false);
+    try
+    {
+      assertThat(ccr.getResultCode()).isEqualTo(ResultCode.SUCCESS);
+      assertThat(ccr.adminActionRequired()).isFalse();
+
+      // Possibly updated while the index is being built
+      final List<Modification> mods = Arrays.asList(new Modification(ADD, create(givenNameType, "Online")));
+      newEntry.applyModifications(mods);
+      final ModifyOperation modifyOp = mock(ModifyOperation.class);
+      when(modifyOp.getModifications()).thenReturn(mods);
+      backend.replaceEntry(oldEntry, newEntry, modifyOp);
+
+      final AttributeIndex index =
+          backend.getRootContainer().getEntryContainer(testBaseDN).getAttributeIndex(givenNameType);
+      for (int i = 0; i < 100 && !index.isTrusted(); i++)
+      {
+        Thread.sleep(100);
+      }
+      assertTrue(index.isTrusted());
+
+      final VerifyConfig config = new VerifyConfig();
+      config.setBaseDN(testBaseDN);
+      config.addCompleteIndex("givenName");
+      config.addCleanIndex("givenName");
+      assertThat(backend.verifyBackend(config)).isEqualTo(0);
+
+      final List<Entry> returnedEntries = new ArrayList<>();
+      backend.search(createSearchOperation(testBaseDN, SearchScope.WHOLE_SUBTREE, "(givenName=Online)",
+          returnedEntries));
+      assertThat(returnedEntries).hasSize(1);
+    }
+    finally
+    {
+      final ModifyOperation modifyOp = mock(ModifyOperation.class);
+      when(modifyOp.getModifications()).thenReturn(
+          Arrays.asList(new Modification(DELETE, create(givenNameType, "Online"))));
+      backend.replaceEntry(newEntry, oldEntry, modifyOp);
+      deleteListener.getValue().applyConfigurationDelete(indexCfg);
+    }
+  }
+
+  @Test
+  public void testEntryCacheIsWarmedUpAfterRestart() throws Exception
+  {
+    final ConcurrentEntryCache entryCache = new ConcurrentEntryCache();
+    entryCache.initializeEntryCache(TestCaseUtils.getServerContext(), InitializationUtils.getConfiguration(
+        ConcurrentEntryCacheCfgDefn.getInstance(), TestCaseUtils.makeEntry(
+            "dn: cn=Concurrent,cn=Entry Caches,cn=config",
+            "objectClass: top",
+            "objectClass: ds-cfg-entry-cache",
+            "objectClass: ds-cfg-concurrent-entry-cache",
+            "cn: Concurrent",
+            "ds-cfg-enabled: true",
+            "ds-cfg-cache-level: 1",
+            "ds-cfg-java-class: org.opends.server.extensions.ConcurrentEntryCache")));
+    final EntryCache<?>[] cacheOrder = DefaultEntryCache.getCacheOrder();
+    final SortedMap<Integer, EntryCache<? extends EntryCacheCfg>> newCacheOrder = new TreeMap<>();
+    newCacheOrder.put(1, entryCache);
+    DefaultEntryCache.setCacheOrder(newCacheOrder);
+    try
+    {
+      final List<DN> cachedDNs = new ArrayList<>();
+      for (Entry entry : entries)
+      {
+        if (backend.getEntry(entry.getName()) != null)
+        {
+          cachedDNs.add(entry.getName());
+        }
+      }
+      assertThat(cachedDNs).isNotEmpty();
+      assertEquals(entryCache.getCacheCount().intValue(), cachedDNs.size());
+
+      // The snapshot of the cached entries is written when the backend is closed
+      backend.closeBackend();
+      entryCache.clear();
+      backend.openBackend();
+
+      for (int i = 0; i < 100 && entryCache.getCacheCount() < cachedDNs.size(); i++)
+      {
+        Thread.sleep(100);
+      }
+      for (DN dn : cachedDNs)
+      {
+        assertTrue(entryCache.containsEntry(dn), dn + " should have been loaded in the entry cache");
+      }
+      assertEquals(entryCache.getCacheCount().intValue(), cachedDNs.size());
+    }
+    finally
+    {
+      final SortedMap<Integer, EntryCache<? extends EntryCacheCfg>> oldCacheOrder = new TreeMap<>();
+      for (int i = 0; i < cacheOrder.length; i++)
+      {
+        oldCacheOrder.put(i, cacheOrder[i]);
+      }
+      DefaultEntryCache.setCacheOrder(oldCacheOrder);
+      entryCache.finalizeEntryCache();
+    }
+  }
+
   @Test
   public void testRebuildAllIndex() throws Exception
   {
@@ -1096,6 +1514,98 @@ public abstract class PluggableBackendImplTestCase<C extends PluggableBackendCfg
     assertThat(backend.verifyBackend(config)).isEqualTo(0);
   }
 
+  @Test
+  public void testRebuildDegradedIndexOnline() throws Exception
+  {
+    final EntryContainer entryContainer = backend.getRootContainer().getEntryContainers().iterator().next();
+    final AttributeIndex snIndex = entryContainer.getAttributeIndex(CoreSchema.getSNAttributeType());
+
+    // Degraded, with a key left over which the rebuild must remove
+    backend.getRootContainer().getStorage().write(new WriteOperation()
+    {
+      @Override
+      public void run(WriteableTransaction txn) throws Exception
+      {
+        for (MatchingRuleIndex idx : snIndex.getNameToIndexes().values())
+        {
+          idx.setTrusted(txn, false);
+          idx.build(txn, ByteString.valueOfUtf8("stale"), null, EntryIDSet.newDefinedSet(1));
+        }
+      }
+    });
+
+    final RebuildConfig rebuildConf = new RebuildConfig();
+    rebuildConf.setBaseDN(DN.valueOf("dc=test,dc=com"));
+    rebuildConf.setRebuildMode(RebuildMode.USER_DEFINED);
+    rebuildConf.addRebuildIndex("sn");
+    rebuildConf.addRebuildIndex("uid");
+    assertFalse(backend.rebuildBackendOnline(rebuildConf), "a trusted index is rebuilt offline");
+
+    rebuildConf.setRebuildMode(RebuildMode.ALL);
+    assertFalse(backend.rebuildBackendOnline(rebuildConf), "the system indexes are rebuilt offline");
+
+    rebuildConf.setRebuildMode(RebuildMode.DEGRADED);
+    assertTrue(backend.rebuildBackendOnline(rebuildConf));
+    assertTrue(snIndex.isTrusted());
+
+    final VerifyConfig config = new VerifyConfig();
+    config.setBaseDN(DN.valueOf("dc=test,dc=com"));
+    config.addCompleteIndex("sn");
+    config.addCleanIndex("sn");
+    assertThat(backend.verifyBackend(config)).isEqualTo(0);
+  }
+
+  @Test
+  public void testRebuildDeletesUnreferencedCompressionDictionaries() throws Exception
+  {
+    final EntryContainer entryContainer = backend.getRootContainer().getEntryContainers().iterator().next();
+    final TreeName id2entryTreeName = entryContainer.getID2Entry().getName();
+    final State state = new State(new TreeName(entryContainer.getTreePrefix(), SuffixContainer.STATE_INDEX_NAME));
+
+    // The entries are not compressed with a dictionary, so none of them references these ones
+    backend.getRootContainer().getStorage().write(new WriteOperation()
+    {
+      @Override
+      public void run(WriteableTransaction txn) throws Exception
+      {
+        state.putCompressionDictionary(txn, id2entryTreeName, 1, ByteString.valueOfUtf8("first"));
+        state.putCompressionDictionary(txn, id2entryTreeName, 2, ByteString.valueOfUtf8("second"));
+        for (Index idx : entryContainer.getAttributeIndex(CoreSchema.getSNAttributeType()).getNameToIndexes().values())
+        {
+          idx.setTrusted(txn, false);
+        }
+      }
+    });
+
+    RebuildConfig rebuildConf = new RebuildConfig();
+    rebuildConf.setBaseDN(DN.valueOf("dc=test,dc=com"));
+    rebuildConf.setRebuildMode(RebuildMode.DEGRADED);
+
+    backend.closeBackend();
+    backend.rebuildBackend(rebuildConf, TestCaseUtils.getServerContext());
+    backend.openBackend();
+
+    // The current dictionary is kept
+    final Storage storage = backend.getRootContainer().getStorage();
+    assertThat(storage.read(new ReadOperation<Map<Integer, ByteString>>()
+    {
+      @Override
+      public Map<Integer, ByteString> run(ReadableTransaction txn) throws Exception
+      {
+        return state.getCompressionDictionaries(txn, id2entryTreeName);
+      }
+    })).containsOnlyKeys(2);
+
+    storage.write(new WriteOperation()
+    {
+      @Override
+      public void run(WriteableTransaction txn) throws Exception
+      {
+        state.deleteCompressionDictionary(txn, id2entryTreeName, 2);
+      }
+    });
+  }
+
   @Test
   public void testVerifyID2ChildrenCount() throws Exception
   {
@@ -1146,7 +1656,18 @@ public abstract class PluggableBackendImplTestCase<C extends PluggableBackendCfg
     backend.createBackup(backupConf);
 
     assertTrue(backend.supports(BackendOperation.RESTORE), "Skip Restore");
+    final File snapshotFile = writeEntryCacheSnapshot();
     backend.restoreBackup(new RestoreConfig(backupDirectory, backupID, true));
+    assertFalse(snapshotFile.exists(), "The snapshot of the entry cache should have been deleted by the restore");
+  }
+
+  /** Writes a snapshot of the entry cache, as if the backend had been closed with cached entries. */
+  private File writeEntryCacheSnapshot() throws Exception
+  {
+    final File snapshotFile = backend.getEntryCacheSnapshotFile();
+    snapshotFile.getParentFile().mkdirs();
+    Files.write(snapshotFile.toPath(), new byte[] { 0x45, 0x43, 0x53, 0x01, 0x00 });
+    return snapshotFile;
   }
 
   @Test(expectedExceptions=ReadOnlyStorageException.class)
@@ -12,6 +12,7 @@
  * information: "Portions Copyright [year] [name of copyright owner]".
  *
  * Copyright 2015-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -21,9 +22,13 @@ import static org.mockito.Mockito.*;
 import static org.opends.server.backends.pluggable.State.IndexFlag.*;
 import static org.opends.server.util.CollectionUtils.*;
 
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.UUID;
 
 import org.forgerock.opendj.config.server.ConfigException;
+import org.forgerock.opendj.ldap.ByteString;
+import org.forgerock.opendj.ldap.ByteStringBuilder;
 import org.forgerock.opendj.ldap.DN;
 import org.forgerock.opendj.ldap.schema.CoreSchema;
 import org.forgerock.opendj.server.config.meta.BackendIndexCfgDefn.IndexType;
@@ -151,6 +156,18 @@ public class StateTest extends DirectoryServerTestCase
     assertThat(getFlags()).containsExactly();
   }
 
+  @Test
+  public void testUpdateFlags() throws Exception
+  {
+    addFlags(COMPACTED, TRUSTED);
+
+    updateFlags(EnumSet.of(BITMAP), EnumSet.of(TRUSTED));
+    assertThat(getFlags()).containsExactly(COMPACTED, BITMAP);
+
+    updateFlags(EnumSet.of(TRUSTED, BITMAP), EnumSet.noneOf(IndexFlag.class));
+    assertThat(getFlags()).containsExactly(TRUSTED, COMPACTED, BITMAP);
+  }
+
   @Test
   public void testDeleteRecord() throws Exception
   {
@@ -168,6 +185,63 @@ public class StateTest extends DirectoryServerTestCase
     assertThat(getFlags()).containsExactly(COMPACTED);
   }
 
+  @Test
+  public void testCompressionDictionaries() throws Exception
+  {
+    final TreeName id2entryTreeName = new TreeName("index-base-dn", "id2entry");
+    final TreeName otherTreeName = new TreeName("index-base-dn", "id2entry2");
+    assertThat(getCompressionDictionaries(id2entryTreeName)).isEmpty();
+
+    addFlags(TRUSTED);
+    putCompressionDictionary(id2entryTreeName, 2, ByteString.valueOfUtf8("second"));
+    putCompressionDictionary(otherTreeName, 1, ByteString.valueOfUtf8("other"));
+    putCompressionDictionary(id2entryTreeName, 1, ByteString.valueOfUtf8("first"));
+
+    assertThat(getCompressionDictionaries(id2entryTreeName)).containsExactly(
+        entry(1, ByteString.valueOfUtf8("first")), entry(2, ByteString.valueOfUtf8("second")));
+    assertThat(getCompressionDictionaries(otherTreeName)).containsExactly(
+        entry(1, ByteString.valueOfUtf8("other")));
+    assertThat(getFlags()).containsExactly(TRUSTED, DEFAULT_FLAG);
+  }
+
+  @Test
+  public void testCompressionDictionariesToString() throws Exception
+  {
+    final TreeName id2entryTreeName = new TreeName("index-base-dn", "id2entry");
+    final ByteString dictionaryKey =
+        new ByteStringBuilder().appendUtf8(id2entryTreeName + "#dictionary#").appendInt(3).toByteString();
+
+    assertThat(state.keyToString(dictionaryKey)).isEqualTo(id2entryTreeName + "#dictionary#3");
+    assertThat(state.keyToString(ByteString.valueOfUtf8(indexTreeName.toString()))).isEqualTo(indexTreeName.toString());
+    assertThat(state.valueToString(ByteString.valueOfUtf8("dictionary"))).isEqualTo("compression dictionary of 10 bytes");
+    assertThat(state.valueToString(ByteString.valueOfBytes(new byte[] { TRUSTED.mask }))).isEqualTo("TRUSTED");
+  }
+
+  private void putCompressionDictionary(final TreeName treeName, final int dictionaryID,
+      final ByteString dictionary) throws Exception
+  {
+    storage.write(new WriteOperation()
+    {
+      @Override
+      public void run(WriteableTransaction txn) throws Exception
+      {
+        state.putCompressionDictionary(txn, treeName, dictionaryID, dictionary);
+      }
+    });
+  }
+
+  private Map<Integer, ByteString> getCompressionDictionaries(final TreeName treeName) throws Exception
+  {
+    return storage.read(new ReadOperation<Map<Integer, ByteString>>()
+    {
+      @Override
+      public Map<Integer, ByteString> run(ReadableTransaction txn) throws Exception
+      {
+        return state.getCompressionDictionaries(txn, treeName);
+      }
+    });
+  }
+
   private PDBBackendCfg createBackendCfg() throws ConfigException, DirectoryException
   {
     String homeDirName = "pdb_test";
@@ -225,6 +299,19 @@ public class StateTest extends DirectoryServerTestCase
     });
   }
 
+  private void updateFlags(final EnumSet<IndexFlag> flagsToAdd, final EnumSet<IndexFlag> flagsToRemove)
+      throws Exception
+  {
+    storage.write(new WriteOperation()
+    {
+      @Override
+      public void run(WriteableTransaction txn) throws Exception
+      {
+        state.updateIndexFlags(txn, indexTreeName, flagsToAdd, flagsToRemove);
+      }
+    });
+  }
+
   private IndexFlag[] getFlags() throws Exception
   {
     return storage.read(new ReadOperation<IndexFlag[]>()
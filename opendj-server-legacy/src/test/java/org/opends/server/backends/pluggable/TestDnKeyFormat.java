@@ -13,7 +13,7 @@
  *
  * Copyright 2006-2009 Sun Microsystems, Inc.
  * Portions Copyright 2014-2016 ForgeRock AS.
- * Portions Copyright 2024 3A Systems, LLC.
+ * Portions Copyright 2024-2026 3A Systems, LLC.
  */
 package org.opends.server.backends.pluggable;
 
@@ -23,11 +23,18 @@ import static org.opends.server.util.StaticUtils.*;
 import static org.testng.Assert.*;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.forgerock.opendj.ldap.ByteString;
 import org.forgerock.opendj.ldap.ByteStringBuilder;
 import org.forgerock.opendj.ldap.DN;
+import org.forgerock.opendj.ldap.DecodeException;
 import org.forgerock.opendj.ldap.schema.AttributeType;
 import org.forgerock.opendj.ldap.schema.ObjectClass;
 import org.opends.server.DirectoryServerTestCase;
@@ -479,6 +486,125 @@ public class TestDnKeyFormat extends DirectoryServerTestCase {
     }
   }
 
+  /** Tests that a partial decoding only keeps the wanted attributes and their subtypes, for all encodings. */
+  @Test(dataProvider = "encodeConfigs")
+  public void testPartialEntryFromDatabase(EntryEncodeConfig config) throws Exception
+  {
+    ensureServerIsUpAndRunning();
+    final AttributeType nameType = getServerContext().getSchema().getAttributeType("name");
+    final List<AttributeType> attributeTypes = Arrays.asList(nameType);
+
+    try (final LDIFReader reader = new LDIFReader(new LDIFImportConfig(new ByteArrayInputStream(getBytes(ldifString)))))
+    {
+      Entry entry;
+      while ((entry = reader.readEntry(false)) != null)
+      {
+        ByteStringBuilder v2 = new ByteStringBuilder();
+        encodeV2(entry, v2, config);
+        ByteStringBuilder v3 = new ByteStringBuilder();
+        entry.encode(v3, config);
+        for (ByteStringBuilder encoded : Arrays.asList(v2, v3))
+        {
+          final Entry partialEntry = Entry.decode(encoded.asReader(), config.getCompressedSchema(), attributeTypes);
+          if (!config.excludeDN())
+          {
+            assertEquals(partialEntry.getName(), entry.getName());
+          }
+          assertEquals(partialEntry.getObjectClasses(), entry.getObjectClasses());
+
+          List<Attribute> expected = new ArrayList<>();
+          for (Attribute attribute : entry.getAllAttributes())
+          {
+            if (nameType.isSuperTypeOf(attribute.getAttributeDescription().getAttributeType()))
+            {
+              expected.add(attribute);
+            }
+          }
+          assertThat(expected).isNotEmpty();
+          assertThat(partialEntry.getAllAttributes()).containsOnlyElementsOf(expected).hasSameSizeAs(expected);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testEntryToAndFromDatabaseWithDictionary() throws Exception
+  {
+    ensureServerIsUpAndRunning();
+    final DataConfig dataConfig = new DataConfig.Builder().compress(true).compressWithDictionary(true).build();
+    final TreeName treeName = new TreeName("o=test", "id2entry");
+    final ID2Entry id2entry = new ID2Entry(treeName, dataConfig);
+    final Map<Integer, ByteString> storedDictionaries = new HashMap<>();
+    final CompressionDictionaries.Store store = new CompressionDictionaries.Store()
+    {
+      @Override
+      public void store(int dictionaryID, ByteString dictionary)
+      {
+        storedDictionaries.put(dictionaryID, dictionary);
+      }
+
+      @Override
+      public void delete(int dictionaryID)
+      {
+        storedDictionaries.remove(dictionaryID);
+      }
+    };
+    id2entry.resetCompressionDictionaries(Collections.<Integer, ByteString> emptyMap(), store);
+
+    final List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 200; i++)
+    {
+      final ByteStringBuilder encodedEntry = new ByteStringBuilder();
+      newUser(i).encode(encodedEntry, dataConfig.getEntryEncodeConfig());
+      samples.add(encodedEntry.toByteArray());
+    }
+    final Entry entry = newUser(1000);
+    final ByteString withoutDictionary = id2entry.entryToDatabase(entry, dataConfig);
+
+    assertTrue(id2entry.getCompressionDictionaries().train(samples, store));
+    assertThat(storedDictionaries).containsOnlyKeys(1);
+    final ByteString withDictionary = id2entry.entryToDatabase(entry, dataConfig);
+    assertThat(withDictionary.length()).isLessThan(withoutDictionary.length());
+    assertThat(ID2Entry.getDictionaryID(withDictionary)).isEqualTo(1);
+    assertThat(ID2Entry.getDictionaryID(withoutDictionary)).isEqualTo(-1);
+
+    // Entries compressed before and after the dictionary was trained can both be read
+    assertEquals(id2entry.entryFromDatabase(withoutDictionary, DirectoryServer.getDefaultCompressedSchema()), entry);
+    assertEquals(id2entry.entryFromDatabase(withDictionary, DirectoryServer.getDefaultCompressedSchema()), entry);
+
+    final ID2Entry reopened = new ID2Entry(treeName, dataConfig);
+    reopened.resetCompressionDictionaries(storedDictionaries, null);
+    assertEquals(reopened.entryFromDatabase(withDictionary, DirectoryServer.getDefaultCompressedSchema()), entry);
+
+    final ID2Entry withoutDictionaries = new ID2Entry(treeName, dataConfig);
+    assertThatThrownBy(new ThrowingCallable()
+    {
+      @Override
+      public void call() throws Throwable
+      {
+        withoutDictionaries.entryFromDatabase(withDictionary, DirectoryServer.getDefaultCompressedSchema());
+      }
+    }).isInstanceOf(DecodeException.class);
+  }
+
+  private static Entry newUser(int i) throws Exception
+  {
+    return entryFromLdifString(
+        "dn: uid=user." + i + ",ou=People,o=test\n"
+        + "objectClass: top\n"
+        + "objectClass: person\n"
+        + "objectClass: organizationalPerson\n"
+        + "objectClass: inetOrgPerson\n"
+        + "uid: user." + i + "\n"
+        + "cn: User " + i + "\n"
+        + "sn: " + i + "\n"
+        + "givenName: User\n"
+        + "mail: user." + i + "@example.com\n"
+        + "telephoneNumber: +1 555 " + (1000000 + i * 7919 % 1000000) + "\n"
+        + "l: Grenoble\n"
+        + "description: This is the description for User " + i + ".\n");
+  }
+
   @DataProvider
   private Object[][] findDnKeyParentData()
   {
@@ -0,0 +1,494 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.extensions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.opends.server.TestCaseUtils;
+import org.testng.annotations.BeforeClass;
+import org.forgerock.opendj.server.config.meta.*;
+import org.forgerock.opendj.server.config.server.ConcurrentEntryCacheCfg;
+import org.forgerock.opendj.ldap.DN;
+import org.opends.server.api.EntryCache;
+import org.opends.server.api.MonitorData;
+import org.opends.server.types.Attribute;
+import org.opends.server.types.Attributes;
+import org.opends.server.types.Entry;
+import org.opends.server.util.ServerConstants;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterGroups;
+import org.testng.annotations.BeforeGroups;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * A set of test cases for the concurrent entry cache implementation.
+ */
+@Test(groups = "entrycache", sequential=true)
+public class ConcurrentEntryCacheTestCase
+       extends CommonEntryCache<ConcurrentEntryCacheCfg>
+{
+  /**
+   * Initialize the entry cache test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @BeforeClass
+  public void entryCacheTestInit()
+         throws Exception
+  {
+    // Ensure that the server is running.
+    TestCaseUtils.startServer();
+
+    // Configure this entry cache.
+    Entry cacheConfigEntry = TestCaseUtils.makeEntry(
+      "dn: cn=Concurrent,cn=Entry Caches,cn=config",
+      "objectClass: ds-cfg-concurrent-entry-cache",
+      "objectClass: ds-cfg-entry-cache",
+      "objectClass: top",
+      "cn: Concurrent",
+      "ds-cfg-cache-level: 1",
+      "ds-cfg-java-class: org.opends.server.extensions.ConcurrentEntryCache",
+      "ds-cfg-enabled: true",
+      "ds-cfg-max-entries: " + super.MAXENTRIES);
+    super.configuration = InitializationUtils.getConfiguration(
+      ConcurrentEntryCacheCfgDefn.getInstance(), cacheConfigEntry);
+
+    // Initialize the cache.
+    super.cache = new ConcurrentEntryCache();
+    super.cache.initializeEntryCache(TestCaseUtils.getServerContext(), configuration);
+
+    // Make some dummy test entries.
+    super.testEntriesList = new ArrayList<>(super.NUMTESTENTRIES);
+    for(int i = 0; i < super.NUMTESTENTRIES; i++ ) {
+      super.testEntriesList.add(TestCaseUtils.makeEntry(
+        "dn: uid=test" + i + ".user" + i + ",ou=test" + i + ",o=test",
+        "objectClass: person",
+        "objectClass: inetorgperson",
+        "objectClass: top",
+        "objectClass: organizationalperson",
+        "postalAddress: somewhere in Testville" + i,
+        "street: Under Construction Street" + i,
+        "l: Testcounty" + i,
+        "st: Teststate" + i,
+        "telephoneNumber: +878 8378 8378" + i,
+        "mobile: +878 8378 8378" + i,
+        "homePhone: +878 8378 8378" + i,
+        "pager: +878 8378 8378" + i,
+        "mail: test" + i + ".user" + i + "@testdomain.net",
+        "postalCode: 8378" + i,
+        "userPassword: testpassword" + i,
+        "description: description for Test" + i + "User" + i,
+        "cn: Test" + i + "User" + i,
+        "sn: User" + i,
+        "givenName: Test" + i,
+        "initials: TST" + i,
+        "employeeNumber: 8378" + i,
+        "uid: test" + i + ".user" + i)
+      );
+    }
+  }
+
+
+
+  /**
+   * Finalize the entry cache test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @AfterClass
+  public void entryCacheTestFini()
+         throws Exception
+  {
+    super.cache.finalizeEntryCache();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testContainsEntry()
+         throws Exception
+  {
+    super.testContainsEntry();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testGetEntry1()
+         throws Exception
+  {
+    super.testGetEntry1();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testGetEntry2()
+         throws Exception
+  {
+    super.testGetEntry2();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testGetEntry3()
+         throws Exception
+  {
+    super.testGetEntry3();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testGetEntryID()
+         throws Exception
+  {
+    super.testGetEntryID();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testPutEntry()
+         throws Exception
+  {
+    super.testPutEntry();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testPutEntryIfAbsent()
+         throws Exception
+  {
+    super.testPutEntryIfAbsent();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testRemoveEntry()
+         throws Exception
+  {
+    super.testRemoveEntry();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testClear()
+         throws Exception
+  {
+    super.testClear();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testClearBackend()
+         throws Exception
+  {
+    super.testClearBackend();
+  }
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testHandleLowMemory()
+         throws Exception
+  {
+    assertNull(cache.toVerboseString(),
+      "Expected empty cache.  " + "Cache contents:" + ServerConstants.EOL +
+      cache.toVerboseString());
+
+    String b = TestCaseUtils.getServerContext().getBackendConfigManager()
+        .findLocalBackendForEntry(DN.valueOf("o=test")).getBackendID();
+
+    for(int i = 0; i < super.NUMTESTENTRIES; i++ ) {
+      super.cache.putEntry(super.testEntriesList.get(i), b, i);
+    }
+
+    super.cache.handleLowMemory();
+
+    // Make sure that the entries put previously on the
+    // cache are no longer there after handleLowMemory.
+    for(int i = 0; i < super.NUMTESTENTRIES; i++ ) {
+      assertFalse(super.cache.containsEntry(
+        super.testEntriesList.get(i).getName()), "Not expected to find " +
+        super.testEntriesList.get(i).getName() + " in the " +
+        "cache.  Cache contents:" + ServerConstants.EOL +
+        cache.toVerboseString());
+    }
+
+    // Clear the cache so that other tests can start from scratch.
+    super.cache.clear();
+  }
+
+
+
+  @BeforeGroups(groups = "testConcurrentCacheConcurrency")
+  public void cacheConcurrencySetup()
+         throws Exception
+  {
+    assertNull(cache.toVerboseString(),
+      "Expected empty cache.  " + "Cache contents:" + ServerConstants.EOL +
+      cache.toVerboseString());
+  }
+
+
+
+  @AfterGroups(groups = "testConcurrentCacheConcurrency")
+  public void cacheConcurrencyCleanup()
+         throws Exception
+  {
+    // Clear the cache so that other tests can start from scratch.
+    super.cache.clear();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test(groups = { "slow", "testConcurrentCacheConcurrency" },
+        threadPoolSize = 10,
+        invocationCount = 10,
+        timeOut = 60000)
+  @Override
+  public void testCacheConcurrency()
+         throws Exception
+  {
+    super.testCacheConcurrency();
+  }
+
+
+
+  /**
+   * Tests that entries read only once do not evict the entries read frequently.
+   */
+  @Test
+  public void testFrequentEntriesAreKept()
+         throws Exception
+  {
+    // Use a new cache, whose frequencies are not updated by the other tests.
+    ConcurrentEntryCache newCache = newCache("ds-cfg-max-entries: " + super.MAXENTRIES);
+    try {
+      String b = TestCaseUtils.getServerContext().getBackendConfigManager()
+          .findLocalBackendForEntry(DN.valueOf("o=test")).getBackendID();
+
+      for(int i = 0; i < super.MAXENTRIES; i++ ) {
+        newCache.putEntry(super.testEntriesList.get(i), b, i);
+        for (int j = 0; j < 3; j++) {
+          assertNotNull(newCache.getEntry(super.testEntriesList.get(i).getName()));
+        }
+      }
+
+      // Scan the other entries once: none of them is admitted.
+      for(int i = super.MAXENTRIES; i < super.NUMTESTENTRIES; i++ ) {
+        newCache.putEntry(super.testEntriesList.get(i), b, i);
+      }
+      for(int i = 0; i < super.NUMTESTENTRIES; i++ ) {
+        assertEquals(newCache.containsEntry(super.testEntriesList.get(i).getName()), i < super.MAXENTRIES,
+          super.testEntriesList.get(i).getName() + " Cache contents:" + ServerConstants.EOL +
+          newCache.toVerboseString());
+      }
+      assertEquals(monitorValue(newCache, "entryCacheAdmissionRejections"),
+          super.NUMTESTENTRIES - super.MAXENTRIES);
+
+      // An entry read more frequently replaces the least recently used entry.
+      Entry frequentEntry = super.testEntriesList.get(super.MAXENTRIES);
+      for (int j = 0; j < 5; j++) {
+        assertNull(newCache.getEntry(frequentEntry.getName()));
+      }
+      newCache.putEntry(frequentEntry, b, super.MAXENTRIES);
+      assertTrue(newCache.containsEntry(frequentEntry.getName()));
+      assertFalse(newCache.containsEntry(super.testEntriesList.get(0).getName()));
+      assertEquals(newCache.getEntryDN(b, super.MAXENTRIES), frequentEntry.getName());
+      assertNull(newCache.getEntryDN(b, 0));
+      assertEquals(monitorValue(newCache, "entryCacheEvictions"), 1);
+    } finally {
+      newCache.finalizeEntryCache();
+    }
+  }
+
+
+
+  /**
+   * Tests that an entry evicting several entries is compared with their frequencies together, and that they are not
+   * evicted if it is not admitted.
+   */
+  @Test
+  public void testVictimsAreComparedTogether()
+         throws Exception
+  {
+    // A single segment, holding three small entries.
+    ConcurrentEntryCache roomCache = newCache("ds-cfg-max-cache-size: 1 MB", "ds-cfg-max-entries: 100");
+    try {
+      String b = TestCaseUtils.getServerContext().getBackendConfigManager()
+          .findLocalBackendForEntry(DN.valueOf("o=test")).getBackendID();
+      List<Entry> smallEntries = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        Entry entry = newEntry("uid=small" + i + ",o=test", 300 * 1000);
+        roomCache.putEntry(entry, b, i);
+        assertNotNull(roomCache.getEntry(entry.getName()));
+        assertNotNull(roomCache.getEntry(entry.getName()));
+        smallEntries.add(entry);
+      }
+      assertEquals(roomCache.getCacheCount(), Long.valueOf(3));
+
+      // Used more often than each of the two entries it would evict, but not than both.
+      Entry largeEntry = newEntry("uid=large,o=test", 450 * 1000);
+      for (int j = 0; j < 4; j++) {
+        assertNull(roomCache.getEntry(largeEntry.getName()));
+      }
+      roomCache.putEntry(largeEntry, b, 3);
+      assertFalse(roomCache.containsEntry(largeEntry.getName()));
+      for (Entry entry : smallEntries) {
+        assertTrue(roomCache.containsEntry(entry.getName()));
+      }
+      assertEquals(monitorValue(roomCache, "entryCacheEvictions"), 0);
+
+      // Used more often than both.
+      for (int j = 0; j < 3; j++) {
+        assertNull(roomCache.getEntry(largeEntry.getName()));
+      }
+      roomCache.putEntry(largeEntry, b, 3);
+      assertTrue(roomCache.containsEntry(largeEntry.getName()));
+      assertFalse(roomCache.containsEntry(smallEntries.get(0).getName()));
+      assertFalse(roomCache.containsEntry(smallEntries.get(1).getName()));
+      assertTrue(roomCache.containsEntry(smallEntries.get(2).getName()));
+      assertEquals(monitorValue(roomCache, "entryCacheEvictions"), 2);
+    } finally {
+      roomCache.finalizeEntryCache();
+    }
+  }
+
+
+
+  /**
+   * Tests that the cache accepts reads of a null DN.
+   */
+  @Test
+  public void testNullDN()
+         throws Exception
+  {
+    assertFalse(cache.containsEntry(null));
+    assertNull(cache.getEntry(null));
+    assertEquals(cache.getEntryID(null), -1);
+  }
+
+
+
+  /**
+   * Tests that the cache is bounded by the estimated size of its entries.
+   */
+  @Test
+  public void testCacheSizeLimit()
+         throws Exception
+  {
+    ConcurrentEntryCache sizedCache = newCache("ds-cfg-max-cache-size: 1 MB");
+    try {
+      long entrySize = ConcurrentEntryCache.weigh(super.testEntriesList.get(0));
+      assertTrue(entrySize > 1000, "Unexpected entry size " + entrySize);
+
+      String b = TestCaseUtils.getServerContext().getBackendConfigManager()
+          .findLocalBackendForEntry(DN.valueOf("o=test")).getBackendID();
+      int nbEntries = (int) (2 * 1024 * 1024 / entrySize);
+      for (int i = 0; i < nbEntries; i++) {
+        Entry entry = super.testEntriesList.get(0).duplicate(false);
+        entry.setDN(DN.valueOf("uid=size" + i + ",o=test"));
+        sizedCache.putEntry(entry, b, i);
+      }
+
+      assertTrue(monitorValue(sizedCache, "currentEntryCacheSize") <= 1024 * 1024);
+      assertTrue(sizedCache.getCacheCount() > 0);
+      assertTrue(sizedCache.getCacheCount() < nbEntries);
+    } finally {
+      sizedCache.finalizeEntryCache();
+    }
+  }
+
+
+
+  private Entry newEntry(String dn, int descriptionLength)
+         throws Exception
+  {
+    Entry entry = super.testEntriesList.get(0).duplicate(false);
+    entry.setDN(DN.valueOf(dn));
+    char[] description = new char[descriptionLength];
+    Arrays.fill(description, 'x');
+    entry.replaceAttribute(Attributes.create("description", new String(description)));
+    return entry;
+  }
+
+
+
+  private static ConcurrentEntryCache newCache(String... configLines)
+         throws Exception
+  {
+    List<String> lines = new ArrayList<>(Arrays.asList(
+      "dn: cn=Concurrent,cn=Entry Caches,cn=config",
+      "objectClass: ds-cfg-concurrent-entry-cache",
+      "objectClass: ds-cfg-entry-cache",
+      "objectClass: top",
+      "cn: Concurrent",
+      "ds-cfg-cache-level: 1",
+      "ds-cfg-java-class: org.opends.server.extensions.ConcurrentEntryCache",
+      "ds-cfg-enabled: true"));
+    lines.addAll(Arrays.asList(configLines));
+    Entry cacheConfigEntry = TestCaseUtils.makeEntry(lines.toArray(new String[lines.size()]));
+    ConcurrentEntryCache newCache = new ConcurrentEntryCache();
+    newCache.initializeEntryCache(TestCaseUtils.getServerContext(), InitializationUtils.getConfiguration(
+      ConcurrentEntryCacheCfgDefn.getInstance(), cacheConfigEntry));
+    return newCache;
+  }
+
+
+
+  private static long monitorValue(EntryCache<?> entryCache, String attributeName)
+  {
+    MonitorData monitorData = entryCache.getMonitorData();
+    for (Attribute attribute : monitorData) {
+      if (attribute.getAttributeDescription().getNameOrOID().equalsIgnoreCase(attributeName)) {
+        return Long.parseLong(attribute.iterator().next().toString());
+      }
+    }
+    throw new AssertionError("Missing monitor attribute " + attributeName + " in " + monitorData);
+  }
+}
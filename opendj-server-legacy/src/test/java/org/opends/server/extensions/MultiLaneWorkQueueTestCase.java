@@ -0,0 +1,348 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.extensions;
+
+import static org.mockito.Mockito.*;
+import static org.opends.server.protocols.internal.InternalClientConnection.*;
+import static org.opends.server.protocols.internal.Requests.*;
+import static org.testng.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.forgerock.i18n.LocalizableMessage;
+import org.forgerock.opendj.ldap.DN;
+import org.forgerock.opendj.ldap.ResultCode;
+import org.forgerock.opendj.ldap.SearchScope;
+import org.forgerock.opendj.server.config.meta.MultiLaneWorkQueueCfgDefn;
+import org.forgerock.opendj.server.config.server.MultiLaneWorkQueueCfg;
+import org.opends.server.TestCaseUtils;
+import org.opends.server.api.MonitorData;
+import org.opends.server.api.MonitorProvider;
+import org.opends.server.core.DirectoryServer;
+import org.opends.server.extensions.MultiLaneWorkQueue.Lane;
+import org.opends.server.monitors.MultiLaneWorkQueueMonitor;
+import org.opends.server.plugins.DelayPreOpPlugin;
+import org.opends.server.protocols.internal.InternalSearchOperation;
+import org.opends.server.protocols.internal.SearchRequest;
+import org.opends.server.types.Attribute;
+import org.opends.server.types.Entry;
+import org.opends.server.types.Operation;
+import org.opends.server.types.OperationType;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/** A set of test cases for the multi-lane work queue. */
+public class MultiLaneWorkQueueTestCase
+       extends ExtensionsTestCase
+{
+  /**
+   * Ensures that the Directory Server is running.
+   *
+   * @throws Exception
+   *           If an unexpected problem occurs.
+   */
+  @BeforeClass
+  public void startServer() throws Exception
+  {
+    TestCaseUtils.startServer();
+    TestCaseUtils.initializeTestBackend(true);
+  }
+
+  /** Tests the lanes in which the operations are queued. */
+  @Test
+  public void testOperationLanes() throws Exception
+  {
+    assertEquals(Lane.of(mockOperation(OperationType.BIND)), Lane.BIND);
+    assertEquals(Lane.of(mockOperation(OperationType.MODIFY)), Lane.WRITE);
+    assertEquals(Lane.of(mockOperation(OperationType.EXTENDED)), Lane.WRITE);
+    assertEquals(Lane.of(mockOperation(OperationType.COMPARE)), Lane.READ);
+
+    assertEquals(Lane.of(newSearch("o=test", SearchScope.BASE_OBJECT, "(objectClass=*)", true)), Lane.INTERNAL);
+    assertEquals(Lane.of(newSearch("o=test", SearchScope.BASE_OBJECT, "(objectClass=*)", false)), Lane.READ);
+    assertEquals(Lane.of(newSearch("o=test", SearchScope.WHOLE_SUBTREE, "(uid=user.1)", false)), Lane.READ);
+    assertEquals(Lane.of(newSearch("o=test", SearchScope.WHOLE_SUBTREE, "(&(objectClass=person)(uid=user.1))",
+        false)), Lane.READ);
+    assertEquals(Lane.of(newSearch("o=test", SearchScope.WHOLE_SUBTREE, "(|(uid=user.1)(cn=*user*))", false)),
+        Lane.EXPENSIVE_READ);
+    assertEquals(Lane.of(newSearch("o=test", SearchScope.WHOLE_SUBTREE, "(objectClass=person)", false)),
+        Lane.EXPENSIVE_READ);
+    assertEquals(Lane.of(newSearch("o=test", SearchScope.SINGLE_LEVEL, "(description=*)", false)),
+        Lane.EXPENSIVE_READ);
+  }
+
+  /** Tests that the worker threads are distributed among the lanes in proportion to their shares. */
+  @Test
+  public void testDistributeWorkerThreads()
+  {
+    // Indexed by lane ordinal: bind, write, read, internal, expensive-read
+    int[] shares = { 2, 2, 3, 1, 2 };
+    assertEquals(countWorkerThreads(MultiLaneWorkQueue.distribute(10, shares)), new int[] { 2, 2, 3, 1, 2 });
+    assertEquals(countWorkerThreads(MultiLaneWorkQueue.distribute(20, shares)), new int[] { 4, 4, 6, 2, 4 });
+    assertEquals(Arrays.asList(MultiLaneWorkQueue.distribute(2, shares)), Arrays.asList(Lane.READ, Lane.BIND));
+    assertEquals(countWorkerThreads(MultiLaneWorkQueue.distribute(3, new int[] { 0, 0, 0, 0, 1 })),
+        new int[] { 0, 0, 0, 0, 3 });
+  }
+
+  /**
+   * Tests that the worker threads of the other lanes process the pending operations of a lane without worker threads,
+   * and that the monitor reports the operations of each lane.
+   */
+  @Test
+  public void testWorkStealing() throws Exception
+  {
+    MonitorProvider<?> serverMonitor = DirectoryServer.getMonitorProviders().get("work queue");
+    MultiLaneWorkQueue workQueue = newWorkQueue(2, "bind:1");
+    try
+    {
+      assertEquals(workQueue.getLaneStatistics(Lane.BIND).getNumWorkerThreads(), 2);
+      assertEquals(workQueue.getLaneStatistics(Lane.READ).getNumWorkerThreads(), 0);
+
+      List<InternalSearchOperation> searches = new ArrayList<>();
+      for (int i = 0; i < 10; i++)
+      {
+        InternalSearchOperation search = newSearch("o=test", SearchScope.BASE_OBJECT, "(objectClass=*)", false);
+        workQueue.submitOperation(search);
+        searches.add(search);
+      }
+      assertTrue(workQueue.waitUntilIdle(10000));
+      for (InternalSearchOperation search : searches)
+      {
+        assertEquals(search.getResultCode(), ResultCode.SUCCESS);
+      }
+
+      MonitorData monitorData = DirectoryServer.getMonitorProviders().get("work queue").getMonitorData();
+      assertEquals(getMonitorValue(monitorData, "readLaneRequestsSubmitted"), "10");
+      assertEquals(getMonitorValue(monitorData, "readLaneRequestBacklog"), "0");
+      assertEquals(getMonitorValue(monitorData, "expensiveReadLaneRequestsSubmitted"), "0");
+      assertEquals(getMonitorValue(monitorData, MultiLaneWorkQueueMonitor.ATTR_OPS_SUBMITTED), "10");
+    }
+    finally
+    {
+      finalizeWorkQueue(workQueue, serverMonitor);
+    }
+  }
+
+  /**
+   * Tests that the expensive searches do not occupy the worker threads of the other lanes, which keep processing
+   * their operations.
+   */
+  @Test
+  public void testExpensiveReadsAreIsolated() throws Exception
+  {
+    MonitorProvider<?> serverMonitor = DirectoryServer.getMonitorProviders().get("work queue");
+    MultiLaneWorkQueue workQueue = newWorkQueue(2, "read:1", "expensive-read:1");
+    try
+    {
+      InternalSearchOperation slowSearch1 = newSlowSearch(3000);
+      InternalSearchOperation slowSearch2 = newSlowSearch(3000);
+      workQueue.submitOperation(slowSearch1);
+      workQueue.submitOperation(slowSearch2);
+      Thread.sleep(500);
+      // The worker thread of the read lane must not steal the second expensive search.
+      assertEquals(workQueue.getLaneStatistics(Lane.EXPENSIVE_READ).getBacklog(), 1);
+
+      long startTime = System.currentTimeMillis();
+      InternalSearchOperation search = newSearch("o=test", SearchScope.BASE_OBJECT, "(objectClass=*)", false);
+      workQueue.submitOperation(search);
+      while (search.getResultCode() != ResultCode.SUCCESS)
+      {
+        assertTrue(System.currentTimeMillis() - startTime < 2000, "The cheap search was delayed");
+        Thread.sleep(10);
+      }
+      assertEquals(workQueue.getLaneStatistics(Lane.EXPENSIVE_READ).getBacklog(), 1);
+
+      assertTrue(workQueue.waitUntilIdle(15000));
+      assertEquals(slowSearch2.getResultCode(), ResultCode.SUCCESS);
+      assertTrue(workQueue.getLaneStatistics(Lane.EXPENSIVE_READ).getMaxWaitTime() >= 2000);
+    }
+    finally
+    {
+      finalizeWorkQueue(workQueue, serverMonitor);
+    }
+  }
+
+  /**
+   * Tests that an operation submitted without blocking is rejected when its lane is full, while the other lanes keep
+   * accepting operations.
+   */
+  @Test
+  public void testTrySubmitToFullLane() throws Exception
+  {
+    MonitorProvider<?> serverMonitor = DirectoryServer.getMonitorProviders().get("work queue");
+    MultiLaneWorkQueue workQueue = newWorkQueue(2, 1, "read:1", "expensive-read:1");
+    try
+    {
+      InternalSearchOperation slowSearch1 = newSlowSearch(1000);
+      InternalSearchOperation slowSearch2 = newSlowSearch(1000);
+      assertTrue(workQueue.trySubmitOperation(slowSearch1));
+      Thread.sleep(500);
+      assertTrue(workQueue.trySubmitOperation(slowSearch2));
+      assertEquals(workQueue.getLaneStatistics(Lane.EXPENSIVE_READ).getBacklog(), 1);
+
+      assertFalse(workQueue.trySubmitOperation(newSlowSearch(1000)));
+      assertEquals(workQueue.getOpsRejectedDueToQueueFull(), 1);
+      assertEquals(workQueue.getLaneStatistics(Lane.EXPENSIVE_READ).getBacklog(), 1);
+
+      InternalSearchOperation search = newSearch("o=test", SearchScope.BASE_OBJECT, "(objectClass=*)", false);
+      assertTrue(workQueue.trySubmitOperation(search));
+
+      assertTrue(workQueue.waitUntilIdle(10000));
+      assertEquals(slowSearch2.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(search.getResultCode(), ResultCode.SUCCESS);
+      MonitorData monitorData = DirectoryServer.getMonitorProviders().get("work queue").getMonitorData();
+      assertEquals(getMonitorValue(monitorData, MultiLaneWorkQueueMonitor.ATTR_OPS_REJECTED_QUEUE_FULL), "1");
+      assertEquals(getMonitorValue(monitorData, MultiLaneWorkQueueMonitor.ATTR_OPS_SUBMITTED), "3");
+    }
+    finally
+    {
+      finalizeWorkQueue(workQueue, serverMonitor);
+    }
+  }
+
+  /** Tests that the lanes and worker threads can be changed online. */
+  @Test
+  public void testChangeConfiguration() throws Exception
+  {
+    MonitorProvider<?> serverMonitor = DirectoryServer.getMonitorProviders().get("work queue");
+    MultiLaneWorkQueue workQueue = newWorkQueue(4, "bind:1", "read:1");
+    try
+    {
+      assertEquals(workQueue.getLaneStatistics(Lane.BIND).getNumWorkerThreads(), 2);
+
+      List<LocalizableMessage> unacceptableReasons = new ArrayList<>();
+      assertFalse(workQueue.isConfigurationChangeAcceptable(newConfiguration(4, "bind:0"), unacceptableReasons));
+      assertFalse(workQueue.isConfigurationChangeAcceptable(
+          newConfiguration(4, "bind:1", "bind:2"), unacceptableReasons));
+      assertEquals(unacceptableReasons.size(), 2);
+
+      MultiLaneWorkQueueCfg configuration = newConfiguration(3, "write:1", "internal:2");
+      assertTrue(workQueue.isConfigurationChangeAcceptable(configuration, unacceptableReasons));
+      workQueue.applyConfigurationChange(configuration);
+      assertEquals(workQueue.getNumWorkerThreads(), 3);
+      assertEquals(workQueue.getLaneStatistics(Lane.BIND).getNumWorkerThreads(), 0);
+      assertEquals(workQueue.getLaneStatistics(Lane.WRITE).getNumWorkerThreads(), 1);
+      assertEquals(workQueue.getLaneStatistics(Lane.INTERNAL).getNumWorkerThreads(), 2);
+
+      InternalSearchOperation search = newSearch("o=test", SearchScope.BASE_OBJECT, "(objectClass=*)", false);
+      workQueue.submitOperation(search);
+      assertTrue(workQueue.waitUntilIdle(10000));
+      assertEquals(search.getResultCode(), ResultCode.SUCCESS);
+    }
+    finally
+    {
+      finalizeWorkQueue(workQueue, serverMonitor);
+    }
+  }
+
+  private MultiLaneWorkQueueCfg newConfiguration(int numWorkerThreads, String... laneShares) throws Exception
+  {
+    return newConfiguration(numWorkerThreads, 1000, laneShares);
+  }
+
+  private MultiLaneWorkQueueCfg newConfiguration(int numWorkerThreads, int maxCapacity, String... laneShares)
+      throws Exception
+  {
+    List<String> lines = new ArrayList<>(Arrays.asList(
+        "dn: cn=Work Queue,cn=config",
+        "objectClass: top",
+        "objectClass: ds-cfg-work-queue",
+        "objectClass: ds-cfg-multi-lane-work-queue",
+        "cn: Work Queue",
+        "ds-cfg-java-class: org.opends.server.extensions.MultiLaneWorkQueue",
+        "ds-cfg-num-worker-threads: " + numWorkerThreads,
+        "ds-cfg-max-work-queue-capacity: " + maxCapacity));
+    for (String laneShare : laneShares)
+    {
+      lines.add("ds-cfg-lane-worker-share: " + laneShare);
+    }
+    Entry entry = TestCaseUtils.makeEntry(lines.toArray(new String[lines.size()]));
+    return InitializationUtils.getConfiguration(MultiLaneWorkQueueCfgDefn.getInstance(), entry);
+  }
+
+  private MultiLaneWorkQueue newWorkQueue(int numWorkerThreads, String... laneShares) throws Exception
+  {
+    return newWorkQueue(numWorkerThreads, 1000, laneShares);
+  }
+
+  private MultiLaneWorkQueue newWorkQueue(int numWorkerThreads, int maxCapacity, String... laneShares)
+      throws Exception
+  {
+    MultiLaneWorkQueue workQueue = new MultiLaneWorkQueue();
+    workQueue.initializeWorkQueue(newConfiguration(numWorkerThreads, maxCapacity, laneShares));
+    return workQueue;
+  }
+
+  /** Stops the work queue and restores the monitor of the server work queue, which has the same name. */
+  private void finalizeWorkQueue(MultiLaneWorkQueue workQueue, MonitorProvider<?> serverMonitor)
+  {
+    workQueue.finalizeWorkQueue(LocalizableMessage.raw("Test finished"));
+    if (serverMonitor != null)
+    {
+      DirectoryServer.registerMonitorProvider(serverMonitor);
+    }
+  }
+
+  private InternalSearchOperation newSearch(String baseDN, SearchScope scope, String filter, boolean internal)
+      throws Exception
+  {
+    SearchRequest request = newSearchRequest(DN.valueOf(baseDN), scope, filter);
+    InternalSearchOperation search =
+        new InternalSearchOperation(getRootConnection(), nextOperationID(), nextMessageID(), request);
+    search.setInternalOperation(internal);
+    return search;
+  }
+
+  private InternalSearchOperation newSlowSearch(long delay) throws Exception
+  {
+    SearchRequest request = newSearchRequest(DN.valueOf("o=test"), SearchScope.WHOLE_SUBTREE, "(objectClass=*)")
+        .addControl(DelayPreOpPlugin.createDelayControlList(delay));
+    InternalSearchOperation search =
+        new InternalSearchOperation(getRootConnection(), nextOperationID(), nextMessageID(), request);
+    search.setInternalOperation(false);
+    return search;
+  }
+
+  private Operation mockOperation(OperationType operationType)
+  {
+    Operation operation = mock(Operation.class);
+    when(operation.getOperationType()).thenReturn(operationType);
+    return operation;
+  }
+
+  private int[] countWorkerThreads(Lane[] lanes)
+  {
+    int[] counts = new int[Lane.values().length];
+    for (Lane lane : lanes)
+    {
+      counts[lane.ordinal()]++;
+    }
+    return counts;
+  }
+
+  private String getMonitorValue(MonitorData monitorData, String name)
+  {
+    for (Attribute attribute : monitorData)
+    {
+      if (attribute.getAttributeDescription().getNameOrOID().equalsIgnoreCase(name))
+      {
+        return attribute.iterator().next().toString();
+      }
+    }
+    return null;
+  }
+}
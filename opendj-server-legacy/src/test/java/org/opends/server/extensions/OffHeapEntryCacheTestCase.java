@@ -0,0 +1,504 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.extensions;
+
+import java.util.ArrayList;
+
+import org.opends.server.TestCaseUtils;
+import org.testng.annotations.BeforeClass;
+import org.forgerock.opendj.server.config.meta.*;
+import org.forgerock.opendj.server.config.server.OffHeapEntryCacheCfg;
+import org.forgerock.opendj.ldap.DN;
+import org.opends.server.api.EntryCache;
+import org.opends.server.api.MonitorData;
+import org.opends.server.types.Attribute;
+import org.opends.server.types.Attributes;
+import org.opends.server.types.Entry;
+import org.opends.server.util.ServerConstants;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterGroups;
+import org.testng.annotations.BeforeGroups;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * A set of test cases for the off-heap entry cache implementation.
+ */
+@Test(groups = "entrycache", sequential=true)
+public class OffHeapEntryCacheTestCase
+       extends CommonEntryCache<OffHeapEntryCacheCfg>
+{
+  /**
+   * Initialize the entry cache test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @BeforeClass
+  public void entryCacheTestInit()
+         throws Exception
+  {
+    // Ensure that the server is running.
+    TestCaseUtils.startServer();
+
+    // Configure this entry cache.
+    Entry cacheConfigEntry = TestCaseUtils.makeEntry(
+      "dn: cn=Off-Heap,cn=Entry Caches,cn=config",
+      "objectClass: ds-cfg-off-heap-entry-cache",
+      "objectClass: ds-cfg-entry-cache",
+      "objectClass: top",
+      "cn: Off-Heap",
+      "ds-cfg-cache-level: 1",
+      "ds-cfg-java-class: org.opends.server.extensions.OffHeapEntryCache",
+      "ds-cfg-enabled: true",
+      "ds-cfg-max-cache-size: 1 MB");
+    super.configuration = InitializationUtils.getConfiguration(
+      OffHeapEntryCacheCfgDefn.getInstance(), cacheConfigEntry);
+
+    // Initialize the cache.
+    super.cache = new OffHeapEntryCache();
+    super.cache.initializeEntryCache(TestCaseUtils.getServerContext(), configuration);
+
+    // Make some dummy test entries.
+    super.testEntriesList = new ArrayList<>(super.NUMTESTENTRIES);
+    for(int i = 0; i < super.NUMTESTENTRIES; i++ ) {
+      super.testEntriesList.add(TestCaseUtils.makeEntry(
+        "dn: uid=test" + i + ".user" + i + ",ou=test" + i + ",o=test",
+        "objectClass: person",
+        "objectClass: inetorgperson",
+        "objectClass: top",
+        "objectClass: organizationalperson",
+        "postalAddress: somewhere in Testville" + i,
+        "street: Under Construction Street" + i,
+        "l: Testcounty" + i,
+        "st: Teststate" + i,
+        "telephoneNumber: +878 8378 8378" + i,
+        "mobile: +878 8378 8378" + i,
+        "homePhone: +878 8378 8378" + i,
+        "pager: +878 8378 8378" + i,
+        "mail: test" + i + ".user" + i + "@testdomain.net",
+        "postalCode: 8378" + i,
+        "userPassword: testpassword" + i,
+        "description: description for Test" + i + "User" + i,
+        "cn: Test" + i + "User" + i,
+        "sn: User" + i,
+        "givenName: Test" + i,
+        "initials: TST" + i,
+        "employeeNumber: 8378" + i,
+        "uid: test" + i + ".user" + i)
+      );
+    }
+  }
+
+
+
+  /**
+   * Finalize the entry cache test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @AfterClass
+  public void entryCacheTestFini()
+         throws Exception
+  {
+    super.cache.finalizeEntryCache();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testContainsEntry()
+         throws Exception
+  {
+    super.testContainsEntry();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testGetEntry1()
+         throws Exception
+  {
+    super.testGetEntry1();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testGetEntry2()
+         throws Exception
+  {
+    super.testGetEntry2();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testGetEntry3()
+         throws Exception
+  {
+    super.testGetEntry3();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testGetEntryID()
+         throws Exception
+  {
+    super.testGetEntryID();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testPutEntry()
+         throws Exception
+  {
+    super.testPutEntry();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testPutEntryIfAbsent()
+         throws Exception
+  {
+    super.testPutEntryIfAbsent();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testRemoveEntry()
+         throws Exception
+  {
+    super.testRemoveEntry();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testClear()
+         throws Exception
+  {
+    super.testClear();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testClearBackend()
+         throws Exception
+  {
+    super.testClearBackend();
+  }
+
+  /** {@inheritDoc} */
+  @Test
+  @Override
+  public void testHandleLowMemory()
+         throws Exception
+  {
+    assertNull(cache.toVerboseString(),
+      "Expected empty cache.  " + "Cache contents:" + ServerConstants.EOL +
+      cache.toVerboseString());
+
+    String b = TestCaseUtils.getServerContext().getBackendConfigManager()
+        .findLocalBackendForEntry(DN.valueOf("o=test")).getBackendID();
+
+    for(int i = 0; i < super.NUMTESTENTRIES; i++ ) {
+      super.cache.putEntry(super.testEntriesList.get(i), b, i);
+    }
+
+    super.cache.handleLowMemory();
+
+    // Make sure that the entries put previously on the
+    // cache are no longer there after handleLowMemory.
+    for(int i = 0; i < super.NUMTESTENTRIES; i++ ) {
+      assertFalse(super.cache.containsEntry(
+        super.testEntriesList.get(i).getName()), "Not expected to find " +
+        super.testEntriesList.get(i).getName() + " in the " +
+        "cache.  Cache contents:" + ServerConstants.EOL +
+        cache.toVerboseString());
+    }
+
+    // Clear the cache so that other tests can start from scratch.
+    super.cache.clear();
+  }
+
+
+
+  @BeforeGroups(groups = "testOffHeapCacheConcurrency")
+  public void cacheConcurrencySetup()
+         throws Exception
+  {
+    assertNull(cache.toVerboseString(),
+      "Expected empty cache.  " + "Cache contents:" + ServerConstants.EOL +
+      cache.toVerboseString());
+  }
+
+
+
+  @AfterGroups(groups = "testOffHeapCacheConcurrency")
+  public void cacheConcurrencyCleanup()
+         throws Exception
+  {
+    // Clear the cache so that other tests can start from scratch.
+    super.cache.clear();
+  }
+
+
+
+  /** {@inheritDoc} */
+  @Test(groups = { "slow", "testOffHeapCacheConcurrency" },
+        threadPoolSize = 10,
+        invocationCount = 10,
+        timeOut = 60000)
+  @Override
+  public void testCacheConcurrency()
+         throws Exception
+  {
+    super.testCacheConcurrency();
+  }
+
+
+
+  /**
+   * Tests that the cached entries are decoded identical to the entries put in the cache.
+   */
+  @Test
+  public void testCachedEntriesAreDecoded()
+         throws Exception
+  {
+    assertNull(cache.toVerboseString(),
+      "Expected empty cache.  " + "Cache contents:" + ServerConstants.EOL +
+      cache.toVerboseString());
+
+    String b = TestCaseUtils.getServerContext().getBackendConfigManager()
+        .findLocalBackendForEntry(DN.valueOf("o=test")).getBackendID();
+    try {
+      for(int i = 0; i < super.NUMTESTENTRIES; i++ ) {
+        super.cache.putEntry(super.testEntriesList.get(i), b, i);
+      }
+      for(int i = 0; i < super.NUMTESTENTRIES; i++ ) {
+        Entry entry = super.cache.getEntry(b, i);
+        assertNotNull(entry);
+        assertNotSame(entry, super.testEntriesList.get(i));
+        assertEquals(entry, super.testEntriesList.get(i));
+        assertEquals(entry.toLDIFString(), super.testEntriesList.get(i).toLDIFString());
+      }
+    } finally {
+      super.cache.clear();
+    }
+  }
+
+
+
+  /**
+   * Tests that the cache accepts reads and removals of a null DN.
+   */
+  @Test
+  public void testNullDN()
+         throws Exception
+  {
+    assertFalse(cache.containsEntry(null));
+    assertNull(cache.getEntry(null));
+    assertEquals(cache.getEntryID(null), -1);
+    cache.removeEntry(null);
+  }
+
+
+
+  /**
+   * Tests that the cache is bounded by its maximum size, and evicts the entries which have not been read recently.
+   */
+  @Test
+  public void testClockEviction()
+         throws Exception
+  {
+    OffHeapEntryCache sizedCache = newCache("ds-cfg-max-cache-size: 1 MB");
+    try {
+      String b = TestCaseUtils.getServerContext().getBackendConfigManager()
+          .findLocalBackendForEntry(DN.valueOf("o=test")).getBackendID();
+      int nbEntries = 4096;
+      for (int i = 0; i < nbEntries; i++) {
+        sizedCache.putEntry(newEntry(i), b, i);
+        // Keep reading the first entry
+        assertNotNull(sizedCache.getEntry(newEntry(0).getName()));
+      }
+
+      assertTrue(monitorValue(sizedCache, "entryCacheAllocatedSize") <= 1024 * 1024);
+      long cacheCount = sizedCache.getCacheCount();
+      assertTrue(cacheCount > 0);
+      assertTrue(cacheCount < nbEntries);
+      assertEquals(monitorValue(sizedCache, "entryCacheEvictions"), nbEntries - cacheCount);
+      assertTrue(sizedCache.containsEntry(newEntry(0).getName()));
+      assertEquals(sizedCache.getEntryDN(b, 0), newEntry(0).getName());
+      assertTrue(sizedCache.containsEntry(newEntry(nbEntries - 1).getName()));
+      assertFalse(sizedCache.containsEntry(newEntry(1).getName()));
+      assertNull(sizedCache.getEntryDN(b, 1));
+      assertNull(sizedCache.getEntry(newEntry(1).getName()));
+
+      sizedCache.clear();
+      assertEquals(sizedCache.getCacheCount().longValue(), 0);
+      assertNull(sizedCache.toVerboseString());
+    } finally {
+      sizedCache.finalizeEntryCache();
+    }
+    assertEquals(monitorValue(sizedCache, "entryCacheAllocatedSize"), 0);
+  }
+
+
+
+  /**
+   * Tests that an entry of a size class without any slab is cached once the cache is full of entries of another size.
+   */
+  @Test
+  public void testSlabRebalancing()
+         throws Exception
+  {
+    OffHeapEntryCache sizedCache = newCache("ds-cfg-max-cache-size: 1 MB");
+    try {
+      String b = TestCaseUtils.getServerContext().getBackendConfigManager()
+          .findLocalBackendForEntry(DN.valueOf("o=test")).getBackendID();
+      int nbEntries = 4096;
+      for (int i = 0; i < nbEntries; i++) {
+        sizedCache.putEntry(newEntry(i), b, i);
+      }
+      assertTrue(monitorValue(sizedCache, "entryCacheEvictions") > 0);
+      long evictions = monitorValue(sizedCache, "entryCacheEvictions");
+      long cacheCount = sizedCache.getCacheCount();
+
+      Entry entry = newEntry(nbEntries);
+      StringBuilder description = new StringBuilder();
+      for (int i = 0; i < 2000; i++) {
+        description.append('x');
+      }
+      entry.replaceAttribute(Attributes.create("description", description.toString()));
+      sizedCache.putEntry(entry, b, nbEntries);
+
+      assertTrue(sizedCache.containsEntry(entry.getName()));
+      assertEquals(sizedCache.getEntry(entry.getName()), entry);
+      assertEquals(monitorValue(sizedCache, "entryCacheSlabRebalances"), 1);
+      assertEquals(monitorValue(sizedCache, "entryCacheAdmissionRejections"), 0);
+      assertTrue(monitorValue(sizedCache, "entryCacheAllocatedSize") <= 1024 * 1024);
+      long slabEvictions = monitorValue(sizedCache, "entryCacheEvictions") - evictions;
+      assertTrue(slabEvictions > 0);
+      assertEquals(sizedCache.getCacheCount().longValue(), cacheCount - slabEvictions + 1);
+
+      // The small entries are still cached in the remaining slabs
+      sizedCache.putEntry(newEntry(0), b, 0);
+      assertTrue(sizedCache.containsEntry(newEntry(0).getName()));
+      assertTrue(sizedCache.containsEntry(entry.getName()));
+    } finally {
+      sizedCache.finalizeEntryCache();
+    }
+    assertEquals(monitorValue(sizedCache, "entryCacheAllocatedSize"), 0);
+  }
+
+
+
+  /**
+   * Tests that the entries too large for the largest slots are not cached.
+   */
+  @Test
+  public void testLargeEntriesAreNotCached()
+         throws Exception
+  {
+    OffHeapEntryCache sizedCache = newCache("ds-cfg-max-cache-size: 1 MB");
+    try {
+      String b = TestCaseUtils.getServerContext().getBackendConfigManager()
+          .findLocalBackendForEntry(DN.valueOf("o=test")).getBackendID();
+      Entry entry = newEntry(0);
+      StringBuilder description = new StringBuilder();
+      for (int i = 0; i < 300 * 1024; i++) {
+        description.append('x');
+      }
+      entry.replaceAttribute(Attributes.create("description", description.toString()));
+      sizedCache.putEntry(entry, b, 0);
+
+      assertFalse(sizedCache.containsEntry(entry.getName()));
+      assertEquals(monitorValue(sizedCache, "entryCacheAdmissionRejections"), 1);
+      assertEquals(monitorValue(sizedCache, "entryCacheAllocatedSize"), 0);
+    } finally {
+      sizedCache.finalizeEntryCache();
+    }
+  }
+
+
+
+  private Entry newEntry(int i)
+  {
+    Entry entry = super.testEntriesList.get(0).duplicate(false);
+    entry.setDN(DN.valueOf("uid=size" + i + ",o=test"));
+    return entry;
+  }
+
+
+
+  private static OffHeapEntryCache newCache(String configLine)
+         throws Exception
+  {
+    Entry cacheConfigEntry = TestCaseUtils.makeEntry(
+      "dn: cn=Off-Heap,cn=Entry Caches,cn=config",
+      "objectClass: ds-cfg-off-heap-entry-cache",
+      "objectClass: ds-cfg-entry-cache",
+      "objectClass: top",
+      "cn: Off-Heap",
+      "ds-cfg-cache-level: 1",
+      "ds-cfg-java-class: org.opends.server.extensions.OffHeapEntryCache",
+      "ds-cfg-enabled: true",
+      configLine);
+    OffHeapEntryCache newCache = new OffHeapEntryCache();
+    newCache.initializeEntryCache(TestCaseUtils.getServerContext(), InitializationUtils.getConfiguration(
+      OffHeapEntryCacheCfgDefn.getInstance(), cacheConfigEntry));
+    return newCache;
+  }
+
+
+
+  private static long monitorValue(EntryCache<?> entryCache, String attributeName)
+  {
+    MonitorData monitorData = entryCache.getMonitorData();
+    for (Attribute attribute : monitorData) {
+      if (attribute.getAttributeDescription().getNameOrOID().equalsIgnoreCase(attributeName)) {
+        return Long.parseLong(attribute.iterator().next().toString());
+      }
+    }
+    throw new AssertionError("Missing monitor attribute " + attributeName + " in " + monitorData);
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * The contents of this file are subject to the terms of the Common Development and
+ * Distribution License (the License). You may not use this file except in compliance with the
+ * License.
+ *
+ * You can obtain a copy of the License at legal/CDDLv1.0.txt. See the License for the
+ * specific language governing permission and limitations under the License.
+ *
+ * When distributing Covered Software, include this CDDL Header Notice in each file and include
+ * the License file at legal/CDDLv1.0.txt. If applicable, add the following below the CDDL
+ * Header, with the fields enclosed by brackets [] replaced by your own identifying
+ * information: "Portions Copyright [year] [name of copyright owner]".
+ *
+ * Copyright 2026 3A Systems, LLC.
+ */
+package org.opends.server.extensions;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+import org.forgerock.opendj.ldap.ResultCode;
+import org.forgerock.opendj.server.config.server.WorkQueueCfg;
+import org.opends.server.TestCaseUtils;
+import org.opends.server.api.ClientConnection;
+import org.opends.server.types.AuthenticationInfo;
+import org.opends.server.types.DirectoryException;
+import org.opends.server.types.Operation;
+import org.opends.server.types.OperationType;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/** A set of test cases for the work queue admission control. */
+public class WorkQueueAdmissionControllerTestCase
+       extends ExtensionsTestCase
+{
+  private static final long TARGET_DELAY = 20;
+  private static final long INTERVAL = 50;
+
+  private ClientConnection connection1;
+  private ClientConnection connection2;
+  private ClientConnection connection3;
+  /** Authenticated as the same user as connection 1. */
+  private ClientConnection connection4;
+
+  /**
+   * Ensures that the Directory Server is running.
+   *
+   * @throws Exception
+   *           If an unexpected problem occurs.
+   */
+  @BeforeClass
+  public void startServer() throws Exception
+  {
+    TestCaseUtils.startServer();
+
+    AuthenticationInfo user1 = new AuthenticationInfo(TestCaseUtils.makeEntry(
+        "dn: uid=user.1,o=test",
+        "objectClass: top",
+        "objectClass: person",
+        "uid: user.1",
+        "cn: User 1",
+        "sn: 1"), false);
+    AuthenticationInfo user2 = new AuthenticationInfo(TestCaseUtils.makeEntry(
+        "dn: uid=user.2,o=test",
+        "objectClass: top",
+        "objectClass: person",
+        "uid: user.2",
+        "cn: User 2",
+        "sn: 2"), false);
+    connection1 = mockConnection(1, user1);
+    connection2 = mockConnection(2, user2);
+    connection3 = mockConnection(3, new AuthenticationInfo());
+    connection4 = mockConnection(4, user1);
+  }
+
+  /** Tests that no operation is rejected when the admission control is disabled. */
+  @Test
+  public void testDisabled() throws Exception
+  {
+    WorkQueueAdmissionController controller = newController(0);
+    for (int i = 0; i < 3; i++)
+    {
+      Operation operation = mockOperation(connection1, OperationType.SEARCH);
+      controller.admit(operation);
+      Thread.sleep(INTERVAL);
+      controller.dequeued(operation);
+    }
+    assertFalse(controller.isOverloaded());
+    assertEquals(controller.getOpsRejected(), 0);
+  }
+
+  /**
+   * Tests that the server becomes overloaded only when the operations keep waiting longer than the target delay
+   * during the interval, and is no longer overloaded as soon as an operation waits less.
+   */
+  @Test
+  public void testOverloadDetection() throws Exception
+  {
+    WorkQueueAdmissionController controller = newController(TARGET_DELAY);
+    Operation[] operations = admitOperations(controller, connection1, 3);
+    Thread.sleep(2 * TARGET_DELAY);
+    controller.dequeued(operations[0]);
+    assertFalse(controller.isOverloaded(), "A single slow operation must not overload the server");
+    Thread.sleep(INTERVAL + 10);
+    controller.dequeued(operations[1]);
+    assertTrue(controller.isOverloaded());
+    assertEquals(controller.getOverloadPeriods(), 1);
+
+    // Connection 1 has the only queued operation, and connection 2 has none.
+    assertRejected(controller, mockOperation(connection1, OperationType.MODIFY));
+    Operation search = mockOperation(connection2, OperationType.SEARCH);
+    controller.admit(search);
+    // Binds are never rejected.
+    Operation bind = mockOperation(connection1, OperationType.BIND);
+    controller.admit(bind);
+
+    controller.dequeued(operations[2]);
+    assertTrue(controller.isOverloaded());
+    // A quickly processed operation ends the overload.
+    controller.dequeued(bind);
+    assertFalse(controller.isOverloaded());
+    controller.dequeued(search);
+    assertEquals(controller.getOpsRejected(), 1);
+  }
+
+  /** Tests that the server is no longer overloaded once the work queue is drained, whatever the way. */
+  @Test
+  public void testOverloadEndsWhenDrained() throws Exception
+  {
+    WorkQueueAdmissionController controller = newController(TARGET_DELAY);
+    Operation[] operations = admitOperations(controller, connection1, 4);
+    Thread.sleep(2 * TARGET_DELAY);
+    controller.dequeued(operations[0]);
+    Thread.sleep(INTERVAL + 10);
+    controller.dequeued(operations[1]);
+    assertTrue(controller.isOverloaded());
+    assertRejected(controller, mockOperation(connection1, OperationType.SEARCH));
+
+    controller.dequeued(operations[2]);
+    assertTrue(controller.isOverloaded());
+    // The last queued operation is abandoned.
+    controller.release(operations[3]);
+    assertFalse(controller.isOverloaded());
+
+    Operation search = mockOperation(connection1, OperationType.SEARCH);
+    controller.admit(search);
+    controller.dequeued(search);
+    assertFalse(controller.isOverloaded());
+
+    // The pending operations are forgotten when the work queue is finalized.
+    operations = admitOperations(controller, connection1, 3);
+    Thread.sleep(2 * TARGET_DELAY);
+    controller.dequeued(operations[0]);
+    Thread.sleep(INTERVAL + 10);
+    controller.dequeued(operations[1]);
+    assertTrue(controller.isOverloaded());
+    controller.releaseAll();
+    assertFalse(controller.isOverloaded());
+    controller.admit(mockOperation(connection1, OperationType.SEARCH));
+    assertEquals(controller.getOpsRejected(), 1);
+    assertEquals(controller.getOverloadPeriods(), 2);
+  }
+
+  /**
+   * Tests that only the client connections and the users which have at least their fair share of the queued operations
+   * are rejected while the server is overloaded.
+   */
+  @Test
+  public void testFairness() throws Exception
+  {
+    WorkQueueAdmissionController controller = newController(TARGET_DELAY);
+    Operation[] operations = admitOperations(controller, connection1, 5);
+    controller.admit(mockOperation(connection2, OperationType.SEARCH));
+    Thread.sleep(2 * TARGET_DELAY);
+    controller.dequeued(operations[0]);
+    Thread.sleep(INTERVAL + 10);
+    controller.dequeued(operations[1]);
+    assertTrue(controller.isOverloaded());
+
+    // Connection 1 has 3 queued operations, and connection 2 has 1: the fair share is 2.
+    assertRejected(controller, mockOperation(connection1, OperationType.SEARCH));
+    controller.admit(mockOperation(connection2, OperationType.SEARCH));
+    controller.admit(mockOperation(connection3, OperationType.SEARCH));
+    // Connection 4 has no queued operations, but its user has 3 out of 5 queued operations of users.
+    assertRejected(controller, mockOperation(connection4, OperationType.ADD));
+    // Internal operations are never rejected.
+    Operation internal = mockOperation(connection1, OperationType.SEARCH);
+    when(internal.isInternalOperation()).thenReturn(true);
+    controller.admit(internal);
+
+    // Once the queued operations of connection 1 are processed, its share is fair again.
+    controller.dequeued(operations[2]);
+    controller.dequeued(operations[3]);
+    controller.release(internal);
+    controller.release(operations[4]);
+    assertTrue(controller.isOverloaded());
+    controller.admit(mockOperation(connection4, OperationType.ADD));
+    assertEquals(controller.getOpsRejected(), 2);
+  }
+
+  private WorkQueueAdmissionController newController(long targetDelay)
+  {
+    WorkQueueCfg configuration = mock(WorkQueueCfg.class);
+    when(configuration.getAdmissionControlTargetDelay()).thenReturn(targetDelay);
+    when(configuration.getAdmissionControlInterval()).thenReturn(INTERVAL);
+    WorkQueueAdmissionController controller = new WorkQueueAdmissionController();
+    controller.setConfiguration(configuration);
+    return controller;
+  }
+
+  private Operation[] admitOperations(WorkQueueAdmissionController controller, ClientConnection connection, int count)
+      throws DirectoryException
+  {
+    Operation[] operations = new Operation[count];
+    for (int i = 0; i < count; i++)
+    {
+      operations[i] = mockOperation(connection, OperationType.SEARCH);
+      controller.admit(operations[i]);
+    }
+    return operations;
+  }
+
+  private void assertRejected(WorkQueueAdmissionController controller, Operation operation)
+  {
+    try
+    {
+      controller.admit(operation);
+      fail("The operation should have been rejected");
+    }
+    catch (DirectoryException e)
+    {
+      assertEquals(e.getResultCode(), ResultCode.BUSY);
+    }
+  }
+
+  private ClientConnection mockConnection(long connectionID, AuthenticationInfo authenticationInfo)
+  {
+    ClientConnection connection = mock(ClientConnection.class);
+    when(connection.getConnectionID()).thenReturn(connectionID);
+    when(connection.getAuthenticationInfo()).thenReturn(authenticationInfo);
+    return connection;
+  }
+
+  private Operation mockOperation(ClientConnection connection, OperationType operationType)
+  {
+    Operation operation = mock(Operation.class);
+    when(operation.getClientConnection()).thenReturn(connection);
+    when(operation.getOperationType()).thenReturn(operationType);
+    return operation;
+  }
+}
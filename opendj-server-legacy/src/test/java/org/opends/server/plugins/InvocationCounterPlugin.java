@@ -13,6 +13,7 @@
  *
  * Copyright 2006-2008 Sun Microsystems, Inc.
  * Portions Copyright 2014-2016 ForgeRock AS.
+ * Portions Copyright 2026 3A Systems, LLC.
  */
 package org.opends.server.plugins;
 
@@ -20,6 +21,7 @@ package org.opends.server.plugins;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.forgerock.opendj.server.config.server.PluginCfg;
@@ -78,6 +80,7 @@ public class InvocationCounterPlugin
   private static AtomicInteger postDisconnectCounter  = new AtomicInteger(0);
   private static AtomicInteger ldifImportCounter      = new AtomicInteger(0);
   private static AtomicInteger ldifExportCounter      = new AtomicInteger(0);
+  private static Set<Thread>   ldifExportThreads      = ConcurrentHashMap.newKeySet();
   private static boolean       startupCalled;
   private static boolean       shutdownCalled;
 
@@ -936,6 +939,7 @@ public class InvocationCounterPlugin
                                        Entry entry)
   {
     ldifExportCounter.incrementAndGet();
+    ldifExportThreads.add(Thread.currentThread());
     return PluginResult.ImportLDIF.continueEntryProcessing();
   }
 
@@ -962,11 +966,26 @@ public class InvocationCounterPlugin
    */
   public static int resetLDIFExportCount()
   {
+    ldifExportThreads.clear();
     return ldifExportCounter.getAndSet(0);
   }
 
 
 
+  /**
+   * Retrieves the threads which have called the LDIF export plugins since the
+   * last reset.
+   *
+   * @return  The threads which have called the LDIF export plugins since the
+   *          last reset.
+   */
+  public static Set<Thread> getLDIFExportThreads()
+  {
+    return ldifExportThreads;
+  }
+
+
+
   /**
    * Resets all of the invocation counters.  This does not impact the startup
    * or shutdown flag.